@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Module;
+import com.google.inject.util.Modules;
+import com.sportradar.unifiedodds.sdk.cfg.OddsFeedConfiguration;
+import com.sportradar.unifiedodds.sdk.di.MasterInjectionModule;
+
+/**
+ * An {@link OddsFeed} whose dependencies reaching outside of the process are replaced by the provided module,
+ * used by the load generator to run the complete SDK against the in-memory feed and the loopback Sports API
+ */
+public class LoopbackOddsFeed extends OddsFeed {
+    private LoopbackOddsFeed(SDKInternalConfiguration config, Injector injector) {
+        super(config, injector);
+    }
+
+    /**
+     * Creates a new feed instance with the bindings of the provided module overriding the default SDK bindings
+     *
+     * @param listener {@link SDKGlobalEventsListener} that handles global feed events
+     * @param config {@link OddsFeedConfiguration}, the configuration class used to configure the new feed
+     * @param overridingModule the module whose bindings override the default SDK bindings
+     * @return the new feed instance
+     */
+    public static LoopbackOddsFeed create(SDKGlobalEventsListener listener, OddsFeedConfiguration config, Module overridingModule) {
+        Preconditions.checkNotNull(listener);
+        Preconditions.checkNotNull(config);
+        Preconditions.checkNotNull(overridingModule);
+
+        SDKInternalConfiguration internalConfig = new SDKInternalConfiguration(config, new SDKConfigurationPropertiesReader(), new SDKConfigurationYamlReader());
+        Injector injector = Guice.createInjector(Modules.override(new MasterInjectionModule(listener, internalConfig, null)).with(overridingModule));
+
+        return new LoopbackOddsFeed(internalConfig, injector);
+    }
+}
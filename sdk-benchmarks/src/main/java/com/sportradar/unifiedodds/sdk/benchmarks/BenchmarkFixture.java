@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sportradar.uf.sportsapi.datamodel.DescMarket;
+import com.sportradar.uf.sportsapi.datamodel.MarketDescriptions;
+import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.NamedValueCache;
+import com.sportradar.unifiedodds.sdk.caching.NamedValuesProvider;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
+import com.sportradar.unifiedodds.sdk.caching.markets.InvariantMarketDescriptionCache;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionCache;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProviderImpl;
+import com.sportradar.unifiedodds.sdk.caching.markets.VariantDescriptionCache;
+import com.sportradar.unifiedodds.sdk.entities.Competitor;
+import com.sportradar.unifiedodds.sdk.entities.Match;
+import com.sportradar.unifiedodds.sdk.entities.TeamCompetitor;
+import com.sportradar.unifiedodds.sdk.impl.DataProvider;
+import com.sportradar.unifiedodds.sdk.impl.ObservableDataProvider;
+import com.sportradar.unifiedodds.sdk.impl.SDKTaskScheduler;
+import com.sportradar.unifiedodds.sdk.impl.markets.mappings.MappingValidatorFactoryImpl;
+import com.sportradar.utils.SdkHelper;
+import com.sportradar.utils.URN;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Builds the SDK components surrounding the benchmarked code paths. The market description caches are populated
+ * from the <code>corpus/market_descriptions.en.xml</code> resource, so the benchmarks do not access the Sports API.
+ * The remaining caches and entities are stub-only mocks, which do not record their invocations.
+ */
+public final class BenchmarkFixture {
+    /**
+     * The locale in which the market descriptions are provided
+     */
+    public static final Locale LOCALE = Locale.ENGLISH;
+
+    /**
+     * The sport of the recorded events
+     */
+    public static final URN SPORT_ID = URN.parse("sr:sport:1");
+
+    private static final String MARKET_DESCRIPTIONS_RESOURCE = "market_descriptions.en.xml";
+
+    private BenchmarkFixture() {
+    }
+
+    /**
+     * Builds the internal SDK configuration
+     *
+     * @param streamingMessageParserEnabled an indication if the streaming message parser should be enabled
+     * @return the SDK configuration
+     */
+    public static SDKInternalConfiguration configuration(boolean streamingMessageParserEnabled) {
+        SDKInternalConfiguration configuration = stub(SDKInternalConfiguration.class);
+        when(configuration.getDefaultLocale()).thenReturn(LOCALE);
+        when(configuration.getDesiredLocales()).thenReturn(Collections.singletonList(LOCALE));
+        when(configuration.getExceptionHandlingStrategy()).thenReturn(ExceptionHandlingStrategy.Catch);
+        when(configuration.isStreamingMessageParserEnabled()).thenReturn(streamingMessageParserEnabled);
+        return configuration;
+    }
+
+    /**
+     * Builds an invariant market description cache holding the market descriptions of the corpus
+     *
+     * @return the populated invariant market description cache
+     */
+    public static InvariantMarketDescriptionCache invariantMarketCache() {
+        Cache<String, MarketDescriptionCI> cache = CacheBuilder.newBuilder().build();
+        MappingValidatorFactoryImpl mappingValidatorFactory = new MappingValidatorFactoryImpl();
+        for (DescMarket market : readMarketDescriptions().getMarket()) {
+            cache.put(String.valueOf(market.getId()), new MarketDescriptionCI(market, mappingValidatorFactory, LOCALE, SdkHelper.InVariantMarketListCache));
+        }
+
+        return invariantMarketCache(cache);
+    }
+
+    /**
+     * Builds an invariant market description cache without any market descriptions, the cache does not fetch them
+     *
+     * @return the empty invariant market description cache
+     */
+    public static InvariantMarketDescriptionCache emptyInvariantMarketCache() {
+        return invariantMarketCache(CacheBuilder.newBuilder().build());
+    }
+
+    /**
+     * Builds the market description provider serving the market descriptions of the provided invariant market cache,
+     * the corpus holds no variant markets
+     *
+     * @param invariantMarketCache the invariant market description cache
+     * @return the market description provider
+     */
+    public static MarketDescriptionProvider marketDescriptionProvider(InvariantMarketDescriptionCache invariantMarketCache) {
+        return new MarketDescriptionProviderImpl(invariantMarketCache, stub(MarketDescriptionCache.class), stub(VariantDescriptionCache.class));
+    }
+
+    /**
+     * Builds a named values provider which defines all the values
+     *
+     * @return the named values provider
+     */
+    public static NamedValuesProvider namedValuesProvider() {
+        NamedValueCache namedValues = stub(NamedValueCache.class);
+        when(namedValues.isValueDefined(anyInt())).thenReturn(true);
+
+        NamedValuesProvider provider = stub(NamedValuesProvider.class);
+        when(provider.getBetStopReasons()).thenReturn(namedValues);
+        when(provider.getBettingStatuses()).thenReturn(namedValues);
+        when(provider.getVoidReasons()).thenReturn(namedValues);
+        return provider;
+    }
+
+    /**
+     * Builds the match of a recorded message
+     *
+     * @param matchId the identifier of the match
+     * @return the match with the home and away competitors
+     */
+    public static Match match(URN matchId) {
+        TeamCompetitor home = competitor(URN.parse("sr:competitor:" + (matchId.getId() * 2)), "Home " + matchId.getId());
+        TeamCompetitor away = competitor(URN.parse("sr:competitor:" + (matchId.getId() * 2 + 1)), "Away " + matchId.getId());
+
+        Match match = stub(Match.class);
+        when(match.getId()).thenReturn(matchId);
+        when(match.getSportId()).thenReturn(SPORT_ID);
+        when(match.getHomeCompetitor()).thenReturn(home);
+        when(match.getAwayCompetitor()).thenReturn(away);
+        when(match.getCompetitors()).thenReturn(Arrays.<Competitor>asList(home, away));
+        return match;
+    }
+
+    /**
+     * @return the locales in which the benchmarked names are rendered
+     */
+    public static List<Locale> locales() {
+        return Collections.singletonList(LOCALE);
+    }
+
+    /**
+     * Creates a stub-only mock of the provided type
+     *
+     * @param type the mocked type
+     * @param <T> the mocked type
+     * @return the mock which does not record its invocations
+     */
+    public static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static InvariantMarketDescriptionCache invariantMarketCache(Cache<String, MarketDescriptionCI> cache) {
+        return new InvariantMarketDescriptionCache(
+                cache,
+                stub(DataProvider.class),
+                stub(ObservableDataProvider.class),
+                new MappingValidatorFactoryImpl(),
+                stub(SDKTaskScheduler.class),
+                locales());
+    }
+
+    private static TeamCompetitor competitor(URN id, String name) {
+        TeamCompetitor competitor = stub(TeamCompetitor.class);
+        when(competitor.getId()).thenReturn(id);
+        when(competitor.getName(any(Locale.class))).thenReturn(name);
+        return competitor;
+    }
+
+    private static MarketDescriptions readMarketDescriptions() {
+        try {
+            return (MarketDescriptions) JAXBContext.newInstance("com.sportradar.uf.sportsapi.datamodel")
+                    .createUnmarshaller()
+                    .unmarshal(new ByteArrayInputStream(MessageCorpus.readResource(MARKET_DESCRIPTIONS_RESOURCE)));
+        } catch (JAXBException e) {
+            throw new IllegalStateException("The market descriptions could not be read", e);
+        }
+    }
+}
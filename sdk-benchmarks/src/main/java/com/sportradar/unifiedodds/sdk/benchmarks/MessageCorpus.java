@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.benchmarks;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The recorded feed messages replayed by the benchmarks. The corpus is listed in the <code>corpus/messages.txt</code>
+ * resource, each line holds the routing key on which the message was received and the resource holding its payload.
+ * The identifiers and timestamps of the recorded messages are anonymized.
+ */
+public final class MessageCorpus {
+    private static final String CORPUS_FOLDER = "corpus/";
+    private static final String INDEX_RESOURCE = CORPUS_FOLDER + "messages.txt";
+
+    private static volatile JAXBContext messagesJaxbContext;
+
+    private final List<RecordedMessage> messages;
+
+    private MessageCorpus(List<RecordedMessage> messages) {
+        this.messages = Collections.unmodifiableList(messages);
+    }
+
+    /**
+     * Loads the recorded messages listed in the corpus index
+     *
+     * @return the loaded corpus
+     */
+    public static MessageCorpus load() {
+        List<RecordedMessage> messages = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(openResource(INDEX_RESOURCE), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] parts = line.split("\\s+");
+                Preconditions.checkState(parts.length == 2, "Malformed corpus index entry: %s", line);
+                messages.add(new RecordedMessage(parts[0], parts[1], readResource(parts[1])));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("The message corpus could not be loaded", e);
+        }
+
+        return new MessageCorpus(messages);
+    }
+
+    /**
+     * @return all the recorded messages in the order in which they are listed in the index
+     */
+    public List<RecordedMessage> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Returns the recorded message stored in the provided resource
+     *
+     * @param resource the name of the resource holding the message payload, e.g. <code>odds_change_live.xml</code>
+     * @return the recorded message
+     */
+    public RecordedMessage getMessage(String resource) {
+        Preconditions.checkNotNull(resource);
+
+        return messages.stream()
+                .filter(m -> m.getResource().equals(resource))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("The corpus does not hold the message " + resource));
+    }
+
+    /**
+     * Reads the provided corpus resource
+     *
+     * @param resource the name of the resource in the corpus folder
+     * @return the content of the resource
+     */
+    public static byte[] readResource(String resource) {
+        try (InputStream stream = openResource(CORPUS_FOLDER + resource)) {
+            return ByteStreams.toByteArray(stream);
+        } catch (IOException e) {
+            throw new IllegalStateException("The corpus resource " + resource + " could not be read", e);
+        }
+    }
+
+    /**
+     * Creates a new JAXB {@link Unmarshaller} of the feed messages, the unmarshaller is not thread safe
+     *
+     * @return a new feed messages {@link Unmarshaller}
+     */
+    public static Unmarshaller createMessageUnmarshaller() {
+        try {
+            if (messagesJaxbContext == null) {
+                messagesJaxbContext = JAXBContext.newInstance("com.sportradar.uf.datamodel");
+            }
+            return messagesJaxbContext.createUnmarshaller();
+        } catch (JAXBException e) {
+            throw new IllegalStateException("The feed messages JAXB context could not be created", e);
+        }
+    }
+
+    private static InputStream openResource(String name) {
+        InputStream stream = MessageCorpus.class.getClassLoader().getResourceAsStream(name);
+        Preconditions.checkState(stream != null, "Missing corpus resource %s", name);
+        return stream;
+    }
+
+    /**
+     * A recorded feed message
+     */
+    public static final class RecordedMessage {
+        private final String routingKey;
+        private final String resource;
+        private final byte[] body;
+
+        private RecordedMessage(String routingKey, String resource, byte[] body) {
+            this.routingKey = routingKey;
+            this.resource = resource;
+            this.body = body;
+        }
+
+        /**
+         * @return the routing key on which the message was received
+         */
+        public String getRoutingKey() {
+            return routingKey;
+        }
+
+        /**
+         * @return the name of the resource holding the message payload
+         */
+        public String getResource() {
+            return resource;
+        }
+
+        /**
+         * @return the raw message payload
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * Unmarshals the message with the provided JAXB unmarshaller
+         *
+         * @param unmarshaller the feed messages {@link Unmarshaller}
+         * @return the unmarshalled message
+         */
+        public UnmarshalledMessage unmarshal(Unmarshaller unmarshaller) {
+            try {
+                return (UnmarshalledMessage) unmarshaller.unmarshal(new ByteArrayInputStream(body));
+            } catch (JAXBException e) {
+                throw new IllegalStateException("The recorded message " + resource + " could not be unmarshalled", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.MessageInterest;
+import com.sportradar.unifiedodds.sdk.benchmarks.BenchmarkFixture;
+import com.sportradar.unifiedodds.sdk.benchmarks.MessageCorpus;
+import com.sportradar.unifiedodds.sdk.impl.traffic.TrafficRecorder;
+import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import com.sportradar.utils.URN;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the consumption of the recorded messages by the {@link ChannelMessageConsumerImpl}: the routing key
+ * parsing, the deserialization (JAXB or the streaming parser) and the dispatch to the session message consumer
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChannelMessageConsumerBenchmark {
+    @Param({"false", "true"})
+    public boolean streamingParser;
+
+    @Param({"odds_change_live.xml", "bet_settlement.xml", "fixture_change.xml"})
+    public String message;
+
+    private ChannelMessageConsumerImpl channelMessageConsumer;
+    private MessageCorpus.RecordedMessage recordedMessage;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        recordedMessage = MessageCorpus.load().getMessage(message);
+
+        SDKProducerManager producerManager = BenchmarkFixture.stub(SDKProducerManager.class);
+        when(producerManager.isProducerEnabled(anyInt())).thenReturn(true);
+
+        channelMessageConsumer = new ChannelMessageConsumerImpl(
+                MessageCorpus.createMessageUnmarshaller(),
+                new RegexRoutingKeyParser(),
+                BenchmarkFixture.configuration(streamingParser),
+                producerManager,
+                new ReentrantLock(),
+                TrafficRecorder.DISABLED,
+                null,
+                new StreamingFeedMessageParser());
+        channelMessageConsumer.open(new BlackholeMessageConsumer(blackhole));
+    }
+
+    @Benchmark
+    public void onMessageReceived() {
+        channelMessageConsumer.onMessageReceived(recordedMessage.getRoutingKey(), recordedMessage.getBody(), null, System.currentTimeMillis());
+    }
+
+    /**
+     * A {@link MessageConsumer} passing the consumed messages to the JMH {@link Blackhole}
+     */
+    private static final class BlackholeMessageConsumer implements MessageConsumer {
+        private final Blackhole blackhole;
+
+        private BlackholeMessageConsumer(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onMessageReceived(UnmarshalledMessage unmarshalledMessage, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
+            blackhole.consume(unmarshalledMessage);
+            blackhole.consume(routingKeyInfo);
+        }
+
+        @Override
+        public void onMessageDeserializationFailed(byte[] rawMessage, URN eventId) {
+            throw new IllegalStateException("The recorded message could not be deserialized");
+        }
+
+        @Override
+        public String getConsumerDescription() {
+            return "benchmark";
+        }
+
+        @Override
+        public MessageInterest getMessageInterest() {
+            return MessageInterest.AllMessages;
+        }
+
+        @Override
+        public void onRawFeedMessageReceived(RoutingKeyInfo routingKey, UnmarshalledMessage feedMessage, MessageTimestamp timestamp, MessageInterest messageInterest) {
+            blackhole.consume(feedMessage);
+        }
+    }
+}
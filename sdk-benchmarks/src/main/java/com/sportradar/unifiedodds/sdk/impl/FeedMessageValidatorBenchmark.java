@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.benchmarks.BenchmarkFixture;
+import com.sportradar.unifiedodds.sdk.benchmarks.MessageCorpus;
+import com.sportradar.unifiedodds.sdk.caching.markets.InvariantMarketDescriptionCache;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation of the recorded messages by the {@link FeedMessageValidatorImpl}. The market specifiers
+ * are validated either against the precompiled specifiers index of the invariant market cache or, when the markets
+ * are not indexed, against the market descriptors provided by the market description provider.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeedMessageValidatorBenchmark {
+    @Param({"indexed", "descriptor"})
+    public String specifiersValidation;
+
+    @Param({"odds_change_live.xml", "odds_change_prematch.xml", "bet_settlement.xml"})
+    public String message;
+
+    private FeedMessageValidatorImpl validator;
+    private UnmarshalledMessage unmarshalledMessage;
+    private RoutingKeyInfo routingKeyInfo;
+
+    @Setup
+    public void setup() {
+        MessageCorpus.RecordedMessage recordedMessage = MessageCorpus.load().getMessage(message);
+        unmarshalledMessage = recordedMessage.unmarshal(MessageCorpus.createMessageUnmarshaller());
+        routingKeyInfo = new RegexRoutingKeyParser().getRoutingKeyInfo(recordedMessage.getRoutingKey());
+
+        InvariantMarketDescriptionCache invariantMarketCache = BenchmarkFixture.invariantMarketCache();
+        InvariantMarketDescriptionCache validatorMarketCache;
+        switch (specifiersValidation) {
+            case "indexed":
+                validatorMarketCache = invariantMarketCache;
+                break;
+            case "descriptor":
+                // no market is indexed, so all the specifiers are validated against the market descriptors
+                validatorMarketCache = BenchmarkFixture.emptyInvariantMarketCache();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported specifiers validation: " + specifiersValidation);
+        }
+
+        validator = new FeedMessageValidatorImpl(
+                BenchmarkFixture.marketDescriptionProvider(invariantMarketCache),
+                BenchmarkFixture.configuration(false),
+                BenchmarkFixture.namedValuesProvider(),
+                validatorMarketCache);
+
+        if (validator.validate(unmarshalledMessage, routingKeyInfo) != ValidationResult.Success) {
+            throw new IllegalStateException("The recorded message " + message + " is not valid");
+        }
+    }
+
+    @Benchmark
+    public ValidationResult validate() {
+        return validator.validate(unmarshalledMessage, routingKeyInfo);
+    }
+}
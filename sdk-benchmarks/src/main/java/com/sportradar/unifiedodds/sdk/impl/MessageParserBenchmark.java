@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.benchmarks.MessageCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the JAXB message unmarshaller and the {@link StreamingFeedMessageParser} on the
+ * recorded messages supported by the streaming parser
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageParserBenchmark {
+    @Param({"odds_change_live.xml", "odds_change_prematch.xml", "bet_stop.xml", "bet_settlement.xml", "alive.xml"})
+    public String message;
+
+    private byte[] body;
+    private Unmarshaller unmarshaller;
+    private StreamingFeedMessageParser streamingParser;
+
+    @Setup
+    public void setup() {
+        body = MessageCorpus.load().getMessage(message).getBody();
+        unmarshaller = MessageCorpus.createMessageUnmarshaller();
+        streamingParser = new StreamingFeedMessageParser();
+    }
+
+    @Benchmark
+    public Object jaxb() throws JAXBException {
+        return unmarshaller.unmarshal(new ByteArrayInputStream(body));
+    }
+
+    @Benchmark
+    public Object streaming() throws XMLStreamException {
+        return streamingParser.parse(body);
+    }
+}
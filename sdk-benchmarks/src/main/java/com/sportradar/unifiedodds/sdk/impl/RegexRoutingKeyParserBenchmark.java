@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.benchmarks.MessageCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of the routing keys of all the recorded messages by the {@link RegexRoutingKeyParser}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegexRoutingKeyParserBenchmark {
+    private RegexRoutingKeyParser routingKeyParser;
+    private String[] routingKeys;
+
+    @Setup
+    public void setup() {
+        routingKeyParser = new RegexRoutingKeyParser();
+        routingKeys = MessageCorpus.load().getMessages().stream()
+                .map(MessageCorpus.RecordedMessage::getRoutingKey)
+                .toArray(String[]::new);
+    }
+
+    @Benchmark
+    public void getRoutingKeyInfo(Blackhole blackhole) {
+        for (String routingKey : routingKeys) {
+            blackhole.consume(routingKeyParser.getRoutingKeyInfo(routingKey));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.dto;
+
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.uf.datamodel.UFSportEventStatus;
+import com.sportradar.unifiedodds.sdk.benchmarks.MessageCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of the {@link SportEventStatusDTO} from the sport event status of a recorded odds change
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SportEventStatusDTOBenchmark {
+    @Param({"odds_change_live.xml", "odds_change_prematch.xml"})
+    public String message;
+
+    private UFSportEventStatus sportEventStatus;
+
+    @Setup
+    public void setup() {
+        UFOddsChange oddsChange = (UFOddsChange) MessageCorpus.load().getMessage(message).unmarshal(MessageCorpus.createMessageUnmarshaller());
+        sportEventStatus = oddsChange.getSportEventStatus();
+    }
+
+    @Benchmark
+    public SportEventStatusDTO construct() {
+        return new SportEventStatusDTO(sportEventStatus);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.uf.datamodel.UFOddsChangeMarket;
+import com.sportradar.unifiedodds.sdk.benchmarks.BenchmarkFixture;
+import com.sportradar.unifiedodds.sdk.benchmarks.MessageCorpus;
+import com.sportradar.unifiedodds.sdk.entities.Match;
+import com.sportradar.utils.URN;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the rendering of the market and outcome names of a recorded odds change by the {@link NameProviderImpl}.
+ * The names are either served by the {@link RenderedNameCache}, as for the repeated odds changes of an event, or
+ * rendered from the market descriptions, as for the first odds change of an event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameProviderBenchmark {
+    @Param({"true", "false"})
+    public boolean cachedNames;
+
+    @Param({"odds_change_live.xml", "odds_change_prematch.xml"})
+    public String message;
+
+    private final List<Locale> locales = BenchmarkFixture.locales();
+    private RenderedNameCache renderedNameCache;
+    private List<NameProvider> nameProviders;
+    private List<List<String>> outcomeIds;
+
+    @Setup
+    public void setup() {
+        UFOddsChange oddsChange = (UFOddsChange) MessageCorpus.load().getMessage(message).unmarshal(MessageCorpus.createMessageUnmarshaller());
+        Match match = BenchmarkFixture.match(URN.parse(oddsChange.getEventId()));
+
+        renderedNameCache = NameProviderFixture.renderedNameCache();
+        NameProviderFactory nameProviderFactory = NameProviderFixture.nameProviderFactory(
+                BenchmarkFixture.marketDescriptionProvider(BenchmarkFixture.invariantMarketCache()),
+                renderedNameCache);
+
+        nameProviders = new ArrayList<>();
+        outcomeIds = new ArrayList<>();
+        for (UFOddsChangeMarket market : oddsChange.getOdds().getMarket()) {
+            List<String> marketOutcomeIds = market.getOutcome().stream()
+                    .map(UFOddsChangeMarket.UFOutcome::getId)
+                    .collect(Collectors.toList());
+            nameProviders.add(nameProviderFactory.buildNameProvider(match, market.getId(), parseSpecifiers(market.getSpecifiers()), oddsChange.getProduct(), marketOutcomeIds));
+            outcomeIds.add(marketOutcomeIds);
+        }
+    }
+
+    @Benchmark
+    public void renderNames(Blackhole blackhole) {
+        if (!cachedNames) {
+            renderedNameCache.invalidateAll();
+        }
+
+        for (int i = 0; i < nameProviders.size(); i++) {
+            NameProvider nameProvider = nameProviders.get(i);
+            blackhole.consume(nameProvider.getMarketNames(locales));
+            for (String outcomeId : outcomeIds.get(i)) {
+                blackhole.consume(nameProvider.getOutcomeNames(outcomeId, locales));
+            }
+        }
+    }
+
+    private static Map<String, String> parseSpecifiers(String specifiers) {
+        Map<String, String> result = new HashMap<>();
+        if (specifiers == null) {
+            return result;
+        }
+
+        for (String specifier : specifiers.split("\\|")) {
+            String[] parts = specifier.split("=", 2);
+            result.put(parts[0], parts[1]);
+        }
+        return result;
+    }
+}
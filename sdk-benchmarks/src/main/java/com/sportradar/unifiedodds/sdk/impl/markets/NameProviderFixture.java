@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import com.sportradar.unifiedodds.sdk.benchmarks.BenchmarkFixture;
+import com.sportradar.unifiedodds.sdk.caching.ProfileCache;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
+import com.sportradar.unifiedodds.sdk.impl.UnifiedOddsStatistics;
+
+/**
+ * Builds the name providers of the benchmarks, the rendered name cache is created here since its constructors are
+ * not part of the public API
+ */
+public final class NameProviderFixture {
+    private NameProviderFixture() {
+    }
+
+    /**
+     * @return a new empty rendered name cache
+     */
+    public static RenderedNameCache renderedNameCache() {
+        return new RenderedNameCache(new UnifiedOddsStatistics());
+    }
+
+    /**
+     * Builds the name provider factory rendering the names of the provided market descriptions, the corpus markets
+     * do not reference any player or competitor profiles
+     *
+     * @param marketDescriptionProvider the provider of the market descriptions
+     * @param renderedNameCache the cache of the rendered names
+     * @return the name provider factory
+     */
+    public static NameProviderFactory nameProviderFactory(MarketDescriptionProvider marketDescriptionProvider, RenderedNameCache renderedNameCache) {
+        ProfileCache profileCache = BenchmarkFixture.stub(ProfileCache.class);
+        return new NameProviderFactoryImpl(
+                marketDescriptionProvider,
+                profileCache,
+                new NameExpressionFactoryImpl(new OperandFactoryImpl(), profileCache),
+                BenchmarkFixture.configuration(false),
+                renderedNameCache);
+    }
+}
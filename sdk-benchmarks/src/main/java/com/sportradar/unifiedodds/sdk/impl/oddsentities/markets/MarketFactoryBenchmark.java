@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.oddsentities.markets;
+
+import com.sportradar.uf.datamodel.UFOddsChange;
+import com.sportradar.uf.datamodel.UFOddsChangeMarket;
+import com.sportradar.unifiedodds.sdk.benchmarks.BenchmarkFixture;
+import com.sportradar.unifiedodds.sdk.benchmarks.MessageCorpus;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
+import com.sportradar.unifiedodds.sdk.entities.Match;
+import com.sportradar.unifiedodds.sdk.impl.markets.NameProviderFixture;
+import com.sportradar.utils.URN;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the building of the markets with odds of a recorded odds change by the {@link MarketFactoryImpl},
+ * the market and outcome names are rendered lazily and are not part of the measurement
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarketFactoryBenchmark {
+    @Param({"odds_change_live.xml", "odds_change_prematch.xml"})
+    public String message;
+
+    private MarketFactoryImpl marketFactory;
+    private Match match;
+    private int producerId;
+    private List<UFOddsChangeMarket> markets;
+
+    @Setup
+    public void setup() {
+        UFOddsChange oddsChange = (UFOddsChange) MessageCorpus.load().getMessage(message).unmarshal(MessageCorpus.createMessageUnmarshaller());
+        match = BenchmarkFixture.match(URN.parse(oddsChange.getEventId()));
+        producerId = oddsChange.getProduct();
+        markets = oddsChange.getOdds().getMarket();
+
+        MarketDescriptionProvider marketDescriptionProvider = BenchmarkFixture.marketDescriptionProvider(BenchmarkFixture.invariantMarketCache());
+        marketFactory = new MarketFactoryImpl(
+                marketDescriptionProvider,
+                NameProviderFixture.nameProviderFactory(marketDescriptionProvider, NameProviderFixture.renderedNameCache()),
+                BenchmarkFixture.namedValuesProvider(),
+                BenchmarkFixture.configuration(false));
+
+        for (UFOddsChangeMarket market : markets) {
+            if (!marketFactory.buildMarketWithOdds(match, market, producerId).isPresent()) {
+                throw new IllegalStateException("The market " + market.getId() + " of the recorded message " + message + " could not be built");
+            }
+        }
+    }
+
+    @Benchmark
+    public void buildMarketWithOdds(Blackhole blackhole) {
+        for (UFOddsChangeMarket market : markets) {
+            blackhole.consume(marketFactory.buildMarketWithOdds(match, market, producerId));
+        }
+    }
+}
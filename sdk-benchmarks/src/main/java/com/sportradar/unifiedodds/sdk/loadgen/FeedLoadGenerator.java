@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.LoopbackOddsFeed;
+import com.sportradar.unifiedodds.sdk.MessageInterest;
+import com.sportradar.unifiedodds.sdk.OddsFeed;
+import com.sportradar.unifiedodds.sdk.cfg.OddsFeedConfiguration;
+import com.sportradar.unifiedodds.sdk.exceptions.InitException;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * HOW-TO:
+ * - build the benchmarks module with the <i>benchmarks</i> profile: mvn -P benchmarks package
+ * - run the generator: java -Dloadgen.rate=20000 -cp sdk-benchmarks/target/benchmarks.jar com.sportradar.unifiedodds.sdk.loadgen.FeedLoadGenerator
+ * - the <code>loadgen.*</code> system properties are listed in {@link LoadSettings#fromSystemProperties()}
+ *
+ * The generator runs the complete SDK - a session with the configured sport partitions, the recovery manager and
+ * the caches - against an in-memory feed and a loopback Sports API, synthesizes the traffic of the configured
+ * producers and reports the sustained throughput, the latencies of the processing stages and the allocation rate.
+ * With the default unthrottled rate the report shows the max throughput of the session on the current hardware,
+ * with a fixed rate it shows the latencies and the allocations at the expected production load.
+ */
+public class FeedLoadGenerator {
+    private static final String LOOPBACK_HOST = "loadgen.local";
+    private static final long PRODUCERS_UP_TIMEOUT_SECONDS = 60;
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final LoadSettings settings;
+    private final LoadMetrics metrics;
+    private final InMemoryBroker broker;
+    private final TrafficGenerator trafficGenerator;
+    private final LoopbackSportsApi sportsApi;
+    private final ProducerStatusTracker producerStatus;
+    private final PrintStream out;
+
+    /**
+     * Initializes a new instance of the {@link FeedLoadGenerator}
+     *
+     * @param settings the settings of the generated load
+     * @param out the stream the reports are printed to
+     */
+    public FeedLoadGenerator(LoadSettings settings, PrintStream out) {
+        Preconditions.checkNotNull(settings);
+        Preconditions.checkNotNull(out);
+
+        this.settings = settings;
+        this.out = out;
+        this.metrics = new LoadMetrics();
+        this.broker = new InMemoryBroker(settings.getQueueCapacity());
+        this.trafficGenerator = new TrafficGenerator(settings, broker, metrics);
+        this.sportsApi = new LoopbackSportsApi(settings, LOOPBACK_HOST, trafficGenerator);
+        this.producerStatus = new ProducerStatusTracker();
+    }
+
+    public static void main(String[] args) throws InitException, IOException, InterruptedException {
+        new FeedLoadGenerator(LoadSettings.fromSystemProperties(), System.out).run();
+    }
+
+    /**
+     * Opens the feed, waits for the recoveries of the producers, generates the load for the configured
+     * warmup and duration and prints the reports
+     *
+     * @throws InitException if the feed could not be opened
+     * @throws IOException if the feed could not be closed
+     * @throws InterruptedException if the run was interrupted
+     */
+    public void run() throws InitException, IOException, InterruptedException {
+        out.println("Generating load with " + settings);
+
+        OddsFeed feed = LoopbackOddsFeed.create(producerStatus, buildConfiguration(),
+                new LoadGeneratorModule(broker, metrics, new LoopbackHttpClient(sportsApi)));
+        feed.getSessionBuilder()
+                .setListener(new MeasuringOddsFeedListener(metrics, settings.isRenderNames()))
+                .setMessageInterest(MessageInterest.AllMessages)
+                .setSportPartitions(settings.getSportPartitions())
+                .build();
+
+        try {
+            feed.open();
+            trafficGenerator.startAlives();
+            if (!producerStatus.awaitProducersUp(settings.getProducers(), PRODUCERS_UP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The producers " + settings.getProducers() + " were not recovered within "
+                        + PRODUCERS_UP_TIMEOUT_SECONDS + " seconds");
+            }
+
+            trafficGenerator.startEvents();
+            generate();
+        } finally {
+            trafficGenerator.stop();
+            feed.close();
+        }
+    }
+
+    /**
+     * Publishes the traffic for the warmup and the measured duration, prints the progress reports and the
+     * summary of the measured duration
+     */
+    private void generate() throws InterruptedException {
+        int totalSeconds = settings.getWarmupSeconds() + settings.getDurationSeconds();
+        long startedAt = System.nanoTime();
+
+        LoadSample previous = LoadSample.take(metrics, broker);
+        LoadSample measurementStart = settings.getWarmupSeconds() == 0 ? previous : null;
+
+        for (int second = 1; second <= totalSeconds; second++) {
+            long remaining = startedAt + TimeUnit.SECONDS.toNanos(second) - System.nanoTime();
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            }
+
+            if (second % settings.getReportIntervalSeconds() == 0 || second == settings.getWarmupSeconds()) {
+                LoadSample current = LoadSample.take(metrics, broker);
+                printProgress(second, previous, current);
+                previous = current;
+
+                if (second == settings.getWarmupSeconds()) {
+                    measurementStart = current;
+                }
+            }
+        }
+
+        printSummary(measurementStart, LoadSample.take(metrics, broker));
+    }
+
+    private OddsFeedConfiguration buildConfiguration() {
+        List<Integer> disabledProducers = SyntheticProducer.getCatalogue().keySet().stream()
+                .filter(id -> !settings.getProducers().contains(id))
+                .collect(Collectors.toList());
+
+        return OddsFeed.getOddsFeedConfigurationBuilder()
+                .setAccessToken("loadgen")
+                .selectCustom()
+                .setApiHost(LOOPBACK_HOST)
+                .setMessagingHost(LOOPBACK_HOST)
+                .useApiSsl(false)
+                .useMessagingSsl(false)
+                .setDefaultLocale(Locale.ENGLISH)
+                .setDisabledProducers(disabledProducers)
+                .build();
+    }
+
+    private void printProgress(int second, LoadSample previous, LoadSample current) {
+        double seconds = current.secondsSince(previous);
+        LatencyHistogram.Snapshot processed = current.processedSince(previous, SyntheticMessageType.ODDS_CHANGE);
+
+        out.println(String.format("[%4ds] %-9s published %,9.0f msg/s | delivered %,9.0f msg/s | queued %,7d | odds_change processed p50 %s p99 %s | alloc %,8.1f MB/s | gc %d (%d ms)",
+                second,
+                second <= settings.getWarmupSeconds() ? "warmup" : "measuring",
+                current.eventMessagesPublishedSince(previous) / seconds,
+                current.eventMessagesDeliveredSince(previous) / seconds,
+                current.getQueuedMessages(),
+                formatLatency(processed.getPercentile(0.5)),
+                formatLatency(processed.getPercentile(0.99)),
+                current.processAllocatedBytesSince(previous) / seconds / (1024 * 1024),
+                current.gcCountSince(previous),
+                current.gcTimeMillisSince(previous)));
+    }
+
+    private void printSummary(LoadSample start, LoadSample end) {
+        double seconds = end.secondsSince(start);
+
+        out.println();
+        out.println(String.format("Summary of %.1f measured seconds", seconds));
+        out.println(String.format("  sustained throughput %,.0f msg/s (%,d event messages delivered, %,d published)",
+                end.eventMessagesDeliveredSince(start) / seconds,
+                end.eventMessagesDeliveredSince(start),
+                end.eventMessagesPublishedSince(start)));
+        for (SyntheticMessageType type : SyntheticMessageType.values()) {
+            out.println(String.format("    %-17s %,12d delivered %,10.0f msg/s", type.getRoutingKeyName(),
+                    end.deliveredSince(start, type), end.deliveredSince(start, type) / seconds));
+        }
+
+        out.println("  latency                        p50        p90        p99      p99.9        max");
+        printLatency("queued", end.queuedSince(start));
+        for (SyntheticMessageType type : SyntheticMessageType.values()) {
+            printLatency("processed " + type.getRoutingKeyName(), end.processedSince(start, type));
+        }
+        printLatency("dispatched (ms precision)", end.dispatchedSince(start));
+        if (settings.getSportPartitions() > 1) {
+            out.println("    the messages are processed by the sport partitions, the processed latencies and the allocations"
+                    + " of the delivery thread cover only the hand-over, the dispatched latency covers the processing");
+        }
+
+        if (metrics.isAllocationMeasured()) {
+            out.println("  allocations");
+            for (SyntheticMessageType type : SyntheticMessageType.values()) {
+                long delivered = end.deliveredSince(start, type);
+                if (delivered > 0) {
+                    out.println(String.format("    %-17s %,12d bytes/msg (delivery thread)", type.getRoutingKeyName(),
+                            end.allocatedBytesSince(start, type) / delivered));
+                }
+            }
+            out.println(String.format("    %-17s %,12.1f MB/s", "process",
+                    end.processAllocatedBytesSince(start) / seconds / (1024 * 1024)));
+        } else {
+            out.println("  allocations are not measured, the JVM does not support the thread allocation counters");
+        }
+
+        out.println(String.format("  gc %d collections, %d ms (%.2f%% of the time)",
+                end.gcCountSince(start), end.gcTimeMillisSince(start), end.gcTimeMillisSince(start) / (seconds * 10)));
+        out.println("  sports api requests " + sportsApi.getRequestCounts());
+        out.println(String.format("  unparsable messages %d, producer downs %d, publisher blocked %d times, listener received %,d messages",
+                metrics.getUnparsableMessages(),
+                producerStatus.getProducerDowns(),
+                metrics.getPublisherBlocked(),
+                metrics.getListenerMessages()));
+    }
+
+    private void printLatency(String stage, LatencyHistogram.Snapshot latency) {
+        if (latency.getCount() == 0) {
+            return;
+        }
+
+        StringBuilder line = new StringBuilder(String.format("    %-26s", stage));
+        for (double percentile : PERCENTILES) {
+            line.append(String.format(" %10s", formatLatency(latency.getPercentile(percentile))));
+        }
+        line.append(String.format(" %10s", formatLatency(latency.getMax())));
+        out.println(line);
+    }
+
+    private static String formatLatency(long nanos) {
+        if (nanos < TimeUnit.MILLISECONDS.toNanos(1)) {
+            return String.format("%.1f us", nanos / 1_000.0);
+        }
+        return String.format("%.2f ms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.rabbitmq.client.AMQP;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * An in-memory replacement of the feed topic exchange. The published messages are queued to all the opened
+ * {@link InMemoryRabbitMqChannel}s with a matching binding, each channel receives a message at most once
+ * regardless of the number of its matching bindings.
+ */
+public class InMemoryBroker {
+    private final int queueCapacity;
+    private final List<InMemoryRabbitMqChannel> channels = new CopyOnWriteArrayList<>();
+
+    /**
+     * The channels a routing key is routed to, cleared whenever a channel or a binding is added or removed
+     */
+    private final ConcurrentMap<String, List<InMemoryRabbitMqChannel>> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Initializes a new instance of the {@link InMemoryBroker}
+     *
+     * @param queueCapacity the max number of messages waiting in the queue of a single channel
+     */
+    public InMemoryBroker(int queueCapacity) {
+        Preconditions.checkArgument(queueCapacity > 0);
+
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Publishes the provided message to the queues of the channels bound to its routing key. The publisher is
+     * blocked while any of the target queues is full, the same as by the broker flow control.
+     *
+     * @param routingKey the routing key of the message
+     * @param type the type of the message
+     * @param body the message payload
+     * @return the number of the channels the message was queued to
+     * @throws InterruptedException if the publisher was interrupted while waiting for a full queue
+     */
+    public int publish(String routingKey, SyntheticMessageType type, byte[] body) throws InterruptedException {
+        Preconditions.checkNotNull(routingKey);
+        Preconditions.checkNotNull(type);
+        Preconditions.checkNotNull(body);
+
+        List<InMemoryRabbitMqChannel> targets = routes.computeIfAbsent(routingKey, this::route);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        long sentAt = System.currentTimeMillis();
+        AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder()
+                .headers(ImmutableMap.of("timestamp_in_ms", sentAt))
+                .build();
+        InMemoryRabbitMqChannel.QueuedMessage message =
+                new InMemoryRabbitMqChannel.QueuedMessage(routingKey, type, body, properties, System.nanoTime());
+
+        for (InMemoryRabbitMqChannel target : targets) {
+            target.enqueue(message);
+        }
+        return targets.size();
+    }
+
+    /**
+     * @return the number of the messages waiting in the queues of all the opened channels
+     */
+    public int getQueuedMessages() {
+        return channels.stream().mapToInt(InMemoryRabbitMqChannel::getQueuedMessages).sum();
+    }
+
+    /**
+     * @return the number of the opened channels
+     */
+    public int getChannelCount() {
+        return channels.size();
+    }
+
+    int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    void register(InMemoryRabbitMqChannel channel) {
+        channels.add(channel);
+        routes.clear();
+    }
+
+    void unregister(InMemoryRabbitMqChannel channel) {
+        channels.remove(channel);
+        routes.clear();
+    }
+
+    void onBindingsChanged() {
+        routes.clear();
+    }
+
+    private List<InMemoryRabbitMqChannel> route(String routingKey) {
+        return channels.stream()
+                .filter(channel -> channel.isBoundTo(routingKey))
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Checks if the provided routing key matches the topic binding key, the <code>*</code> in the binding
+     * key matches exactly one word and the <code>#</code> matches zero or more words
+     *
+     * @param bindingKey the binding key of the queue
+     * @param routingKey the routing key of the message
+     * @return <code>true</code> if the routing key matches the binding key; <code>false</code> otherwise
+     */
+    static boolean matches(String bindingKey, String routingKey) {
+        return matches(bindingKey.split("\\."), 0, routingKey.split("\\."), 0);
+    }
+
+    private static boolean matches(String[] binding, int b, String[] routing, int r) {
+        if (b == binding.length) {
+            return r == routing.length;
+        }
+
+        if (binding[b].equals("#")) {
+            for (int skipped = r; skipped <= routing.length; skipped++) {
+                if (matches(binding, b + 1, routing, skipped)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        return r < routing.length
+                && (binding[b].equals("*") || binding[b].equals(routing[r]))
+                && matches(binding, b + 1, routing, r + 1);
+    }
+}
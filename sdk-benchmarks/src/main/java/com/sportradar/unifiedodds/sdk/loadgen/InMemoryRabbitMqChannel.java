@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.Inject;
+import com.rabbitmq.client.AMQP;
+import com.sportradar.unifiedodds.sdk.impl.ChannelMessageConsumer;
+import com.sportradar.unifiedodds.sdk.impl.RabbitMqChannel;
+import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link RabbitMqChannel} implementation receiving the messages from the {@link InMemoryBroker} instead of
+ * a RabbitMQ broker. The channel queue is consumed by a dedicated thread which passes the messages to the
+ * {@link ChannelMessageConsumer} the same way as the consumer thread of the {@link com.sportradar.unifiedodds.sdk.impl.RabbitMqChannelImpl},
+ * the queue wait, the consumer duration and the allocations of each delivery are recorded to the {@link LoadMetrics}.
+ */
+public class InMemoryRabbitMqChannel implements RabbitMqChannel {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryRabbitMqChannel.class);
+
+    private static final AtomicInteger CHANNEL_COUNTER = new AtomicInteger();
+
+    private final InMemoryBroker broker;
+    private final LoadMetrics metrics;
+    private final Map<String, String> sdkMdcContextDescription;
+    private final List<String> routingKeys = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<QueuedMessage> queue;
+
+    private volatile boolean opened;
+    private ChannelMessageConsumer channelMessageConsumer;
+    private Thread deliveryThread;
+
+    /**
+     * Initializes a new instance of the {@link InMemoryRabbitMqChannel}
+     *
+     * @param broker the broker publishing the messages to the channel
+     * @param metrics the metrics recording the deliveries of the channel
+     * @param whoAmIReader a {@link WhoAmIReader} used to access current SDK instance context information
+     */
+    @Inject
+    public InMemoryRabbitMqChannel(InMemoryBroker broker, LoadMetrics metrics, WhoAmIReader whoAmIReader) {
+        Preconditions.checkNotNull(broker);
+        Preconditions.checkNotNull(metrics);
+        Preconditions.checkNotNull(whoAmIReader);
+
+        this.broker = broker;
+        this.metrics = metrics;
+        this.sdkMdcContextDescription = whoAmIReader.getAssociatedSdkMdcContextMap();
+        this.queue = new ArrayBlockingQueue<>(broker.getQueueCapacity());
+    }
+
+    /**
+     * Opens the current channel and binds its queue to the provided routing keys
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be binded
+     * @param channelMessageConsumer - a {@link ChannelMessageConsumer} which consumes the received payloads
+     * @param messageInterest message interest this channel is linked to
+     */
+    @Override
+    public synchronized void open(List<String> routingKeys, ChannelMessageConsumer channelMessageConsumer, String messageInterest) {
+        Preconditions.checkNotNull(routingKeys);
+        Preconditions.checkArgument(!routingKeys.isEmpty());
+        Preconditions.checkNotNull(channelMessageConsumer);
+
+        if (opened) {
+            return;
+        }
+
+        this.routingKeys.addAll(routingKeys);
+        this.channelMessageConsumer = channelMessageConsumer;
+        this.opened = true;
+
+        deliveryThread = new Thread(this::deliver, "InMemoryChannel-" + messageInterest + "-" + CHANNEL_COUNTER.incrementAndGet());
+        deliveryThread.setDaemon(true);
+        deliveryThread.start();
+
+        broker.register(this);
+        logger.info("In-memory channel opened, messageInterest: {}, routingKeys: {}", messageInterest, routingKeys);
+    }
+
+    /**
+     * Binds the provided routing keys to the queue of the opened channel
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be binded
+     */
+    @Override
+    public synchronized void bindRoutingKeys(List<String> routingKeys) {
+        Preconditions.checkNotNull(routingKeys);
+        Preconditions.checkState(opened, "The channel is not opened");
+
+        for (String routingKey : routingKeys) {
+            if (!this.routingKeys.contains(routingKey)) {
+                this.routingKeys.add(routingKey);
+            }
+        }
+        broker.onBindingsChanged();
+    }
+
+    /**
+     * Unbinds the provided routing keys from the queue of the opened channel
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be unbinded
+     */
+    @Override
+    public synchronized void unbindRoutingKeys(List<String> routingKeys) {
+        Preconditions.checkNotNull(routingKeys);
+        Preconditions.checkState(opened, "The channel is not opened");
+
+        this.routingKeys.removeAll(routingKeys);
+        broker.onBindingsChanged();
+    }
+
+    /**
+     * Closes the channel, the messages still waiting in its queue are discarded
+     */
+    @Override
+    public synchronized void close() {
+        if (!opened) {
+            return;
+        }
+
+        opened = false;
+        broker.unregister(this);
+        deliveryThread.interrupt();
+        queue.clear();
+    }
+
+    /**
+     * Indicates if the associated channel instance is opened
+     *
+     * @return - <code>true</code> if the channel is opened; <code>false</code> otherwise
+     */
+    @Override
+    public boolean isOpened() {
+        return opened;
+    }
+
+    boolean isBoundTo(String routingKey) {
+        for (String bindingKey : routingKeys) {
+            if (InMemoryBroker.matches(bindingKey, routingKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void enqueue(QueuedMessage message) throws InterruptedException {
+        if (!queue.offer(message)) {
+            metrics.onPublisherBlocked();
+            while (opened && !queue.offer(message, 100, TimeUnit.MILLISECONDS)) {
+                // the queue is full, the publisher is blocked until the channel consumes the queued messages
+            }
+        }
+    }
+
+    int getQueuedMessages() {
+        return queue.size();
+    }
+
+    /**
+     * Passes the queued messages to the channel consumer until the channel is closed
+     */
+    private void deliver() {
+        while (opened) {
+            QueuedMessage message;
+            try {
+                message = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            long deliveryStarted = System.nanoTime();
+            long allocatedBefore = metrics.currentThreadAllocatedBytes();
+            MDC.setContextMap(sdkMdcContextDescription);
+            try {
+                channelMessageConsumer.onMessageReceived(message.routingKey, message.body, message.properties, System.currentTimeMillis());
+            } catch (Exception e) {
+                logger.error("An exception occurred while processing the in-memory message. Routing key: '{}'", message.routingKey, e);
+            }
+            MDC.clear();
+
+            metrics.onMessageDelivered(
+                    message.type,
+                    deliveryStarted - message.publishedNanos,
+                    System.nanoTime() - deliveryStarted,
+                    metrics.currentThreadAllocatedBytes() - allocatedBefore);
+        }
+    }
+
+    /**
+     * A message waiting in the queue of the channel, the same instance is queued to all the channels the
+     * message is routed to
+     */
+    static final class QueuedMessage {
+        private final String routingKey;
+        private final SyntheticMessageType type;
+        private final byte[] body;
+        private final AMQP.BasicProperties properties;
+        private final long publishedNanos;
+
+        QueuedMessage(String routingKey, SyntheticMessageType type, byte[] body, AMQP.BasicProperties properties, long publishedNanos) {
+            this.routingKey = routingKey;
+            this.type = type;
+            this.body = body;
+            this.properties = properties;
+            this.publishedNanos = publishedNanos;
+        }
+    }
+}
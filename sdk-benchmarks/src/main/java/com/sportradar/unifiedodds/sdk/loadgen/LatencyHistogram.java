@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies. The values are counted in log-linear buckets - each power of two is
+ * split into 16 buckets, so the reported percentiles are within about 6% of the recorded values, and the
+ * recording does not allocate, so it does not distort the measured allocation rate.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records the provided latency, the negative latencies are recorded as 0
+     *
+     * @param latencyNanos the latency in nanoseconds
+     */
+    public void record(long latencyNanos) {
+        long value = Math.max(0, latencyNanos);
+        counts.incrementAndGet(bucketOf(value));
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns a snapshot of the values recorded so far
+     *
+     * @return the snapshot of the histogram
+     */
+    public Snapshot snapshot() {
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return new Snapshot(snapshot, max.get());
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the highest value counted in the provided bucket
+     */
+    private static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = SUB_BUCKETS + bucket % SUB_BUCKETS;
+        return ((subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * An immutable snapshot of the {@link LatencyHistogram}
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long max;
+        private final long count;
+
+        private Snapshot(long[] counts, long max) {
+            this.counts = counts;
+            this.max = max;
+
+            long total = 0;
+            for (long bucketCount : counts) {
+                total += bucketCount;
+            }
+            this.count = total;
+        }
+
+        /**
+         * Returns the values recorded after the provided earlier snapshot of the same histogram. The max of the
+         * difference is the upper bound of its highest bucket, since the histogram does not track the max per
+         * interval, unless the max recorded so far is lower.
+         *
+         * @param earlier the earlier snapshot of the same histogram
+         * @return the snapshot of the values recorded after the earlier snapshot
+         */
+        public Snapshot since(Snapshot earlier) {
+            Preconditions.checkNotNull(earlier);
+
+            long[] difference = new long[counts.length];
+            long differenceMax = 0;
+            for (int i = 0; i < counts.length; i++) {
+                difference[i] = counts[i] - earlier.counts[i];
+                if (difference[i] > 0) {
+                    differenceMax = Math.min(highestValueOf(i), max);
+                }
+            }
+            return new Snapshot(difference, differenceMax);
+        }
+
+        /**
+         * @return the number of the recorded values
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the max recorded value in nanoseconds
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Returns the value below which the provided share of the recorded values fall
+         *
+         * @param percentile the percentile, between 0 and 1
+         * @return the percentile in nanoseconds or 0 if no value was recorded
+         */
+        public long getPercentile(double percentile) {
+            Preconditions.checkArgument(percentile > 0 && percentile <= 1);
+
+            if (count == 0) {
+                return 0;
+            }
+
+            long rank = (long) Math.ceil(percentile * count);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueOf(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.AbstractModule;
+import com.google.inject.name.Names;
+import com.sportradar.unifiedodds.sdk.impl.RabbitMqChannel;
+import org.apache.http.impl.client.CloseableHttpClient;
+
+/**
+ * A Guice module overriding the SDK bindings which reach outside of the process - the channels receive the
+ * messages from the {@link InMemoryBroker} and all the HTTP clients are replaced by the {@link LoopbackHttpClient}
+ */
+public class LoadGeneratorModule extends AbstractModule {
+    private final InMemoryBroker broker;
+    private final LoadMetrics metrics;
+    private final LoopbackHttpClient httpClient;
+
+    /**
+     * Initializes a new instance of the {@link LoadGeneratorModule}
+     *
+     * @param broker the broker the channels are registered to
+     * @param metrics the metrics recording the deliveries of the channels
+     * @param httpClient the client serving the API requests of the SDK
+     */
+    public LoadGeneratorModule(InMemoryBroker broker, LoadMetrics metrics, LoopbackHttpClient httpClient) {
+        Preconditions.checkNotNull(broker);
+        Preconditions.checkNotNull(metrics);
+        Preconditions.checkNotNull(httpClient);
+
+        this.broker = broker;
+        this.metrics = metrics;
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    protected void configure() {
+        bind(InMemoryBroker.class).toInstance(broker);
+        bind(LoadMetrics.class).toInstance(metrics);
+        bind(RabbitMqChannel.class).to(InMemoryRabbitMqChannel.class);
+
+        bind(CloseableHttpClient.class).toInstance(httpClient);
+        bind(CloseableHttpClient.class).annotatedWith(Names.named("FastHttpClient")).toInstance(httpClient);
+        bind(CloseableHttpClient.class).annotatedWith(Names.named("RecoveryHttpClient")).toInstance(httpClient);
+    }
+}
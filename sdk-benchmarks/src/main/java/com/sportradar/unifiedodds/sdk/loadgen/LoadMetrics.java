@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a load generator run. The latencies are recorded per processing stage:
+ * <ul>
+ *     <li>queued - from the publishing of a message until the channel starts its delivery</li>
+ *     <li>processed - the delivery to the session, which deserializes, validates and processes the message and
+ *     dispatches it to the listener, unless the session is partitioned and hands the message over to a partition thread</li>
+ *     <li>dispatched - from the publishing until the listener is invoked, as reported by the message timestamps
+ *     with millisecond precision, so it includes the partition hand-over</li>
+ * </ul>
+ * The allocations of the deliveries are measured on the delivery threads, the allocations of the whole process
+ * are the sum of the allocations of the live threads.
+ */
+public class LoadMetrics {
+    private final Map<SyntheticMessageType, LongAdder> published = counters();
+    private final Map<SyntheticMessageType, LongAdder> delivered = counters();
+    private final Map<SyntheticMessageType, LongAdder> allocatedBytes = counters();
+    private final Map<SyntheticMessageType, LatencyHistogram> processed = new EnumMap<>(SyntheticMessageType.class);
+    private final LatencyHistogram queued = new LatencyHistogram();
+    private final LatencyHistogram dispatched = new LatencyHistogram();
+    private final LongAdder listenerMessages = new LongAdder();
+    private final LongAdder unparsableMessages = new LongAdder();
+    private final LongAdder publisherBlocked = new LongAdder();
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final long allocationMeasurementOverhead;
+
+    public LoadMetrics() {
+        for (SyntheticMessageType type : SyntheticMessageType.values()) {
+            processed.put(type, new LatencyHistogram());
+        }
+
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threadMXBean = (com.sun.management.ThreadMXBean) bean;
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+            allocationMeasurementOverhead = measureAllocationOverhead();
+        } else {
+            threadMXBean = null;
+            allocationMeasurementOverhead = 0;
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the JVM supports the measurement of the allocations
+     */
+    public boolean isAllocationMeasured() {
+        return threadMXBean != null;
+    }
+
+    void onMessagePublished(SyntheticMessageType type) {
+        published.get(type).increment();
+    }
+
+    void onPublisherBlocked() {
+        publisherBlocked.increment();
+    }
+
+    void onMessageDelivered(SyntheticMessageType type, long queuedNanos, long processedNanos, long deliveryAllocatedBytes) {
+        delivered.get(type).increment();
+        queued.record(queuedNanos);
+        processed.get(type).record(processedNanos);
+        allocatedBytes.get(type).add(Math.max(0, deliveryAllocatedBytes - allocationMeasurementOverhead));
+    }
+
+    void onListenerInvoked(long sentAt, long dispatchedAt) {
+        listenerMessages.increment();
+        dispatched.record(TimeUnit.MILLISECONDS.toNanos(dispatchedAt - sentAt));
+    }
+
+    void onUnparsableMessage() {
+        unparsableMessages.increment();
+    }
+
+    /**
+     * @return the bytes allocated so far by the current thread or 0 if the allocations are not measured
+     */
+    long currentThreadAllocatedBytes() {
+        return threadMXBean == null ? 0 : threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * @return the bytes allocated so far by all the live threads or 0 if the allocations are not measured
+     */
+    public long getProcessAllocatedBytes() {
+        if (threadMXBean == null) {
+            return 0;
+        }
+
+        long total = 0;
+        for (long allocated : threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds())) {
+            total += Math.max(0, allocated);
+        }
+        return total;
+    }
+
+    /**
+     * @return the number of the garbage collections so far
+     */
+    public long getGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    /**
+     * @return the time spent in the garbage collections so far (in milliseconds)
+     */
+    public long getGcTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    public long getPublished(SyntheticMessageType type) {
+        return published.get(type).sum();
+    }
+
+    public long getDelivered(SyntheticMessageType type) {
+        return delivered.get(type).sum();
+    }
+
+    /**
+     * @param type the message type
+     * @return the bytes allocated by the deliveries of the messages of the provided type
+     */
+    public long getAllocatedBytes(SyntheticMessageType type) {
+        return allocatedBytes.get(type).sum();
+    }
+
+    public LatencyHistogram getQueued() {
+        return queued;
+    }
+
+    public LatencyHistogram getProcessed(SyntheticMessageType type) {
+        return processed.get(type);
+    }
+
+    public LatencyHistogram getDispatched() {
+        return dispatched;
+    }
+
+    /**
+     * @return the number of the event messages received by the listener
+     */
+    public long getListenerMessages() {
+        return listenerMessages.sum();
+    }
+
+    /**
+     * @return the number of the messages the session reported as unparsable, any such message means that the
+     * synthesized traffic does not match the loopback Sports API
+     */
+    public long getUnparsableMessages() {
+        return unparsableMessages.sum();
+    }
+
+    /**
+     * @return the number of times the publisher was blocked by a full channel queue
+     */
+    public long getPublisherBlocked() {
+        return publisherBlocked.sum();
+    }
+
+    /**
+     * Measures the bytes allocated by reading the allocated bytes of the current thread, which are subtracted
+     * from the measured allocations of each delivery
+     */
+    private long measureAllocationOverhead() {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 1_000; i++) {
+            long before = currentThreadAllocatedBytes();
+            long after = currentThreadAllocatedBytes();
+            overhead = Math.min(overhead, after - before);
+        }
+        return overhead;
+    }
+
+    private static Map<SyntheticMessageType, LongAdder> counters() {
+        Map<SyntheticMessageType, LongAdder> counters = new EnumMap<>(SyntheticMessageType.class);
+        for (SyntheticMessageType type : SyntheticMessageType.values()) {
+            counters.put(type, new LongAdder());
+        }
+        return counters;
+    }
+}
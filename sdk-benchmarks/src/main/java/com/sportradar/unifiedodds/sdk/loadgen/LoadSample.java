@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A point-in-time sample of the {@link LoadMetrics}, the reported rates and latencies are the differences between
+ * two samples, so the warmup is excluded from the final report
+ */
+final class LoadSample {
+    private final long takenAtNanos;
+    private final Map<SyntheticMessageType, Long> published = new EnumMap<>(SyntheticMessageType.class);
+    private final Map<SyntheticMessageType, Long> delivered = new EnumMap<>(SyntheticMessageType.class);
+    private final Map<SyntheticMessageType, Long> allocatedBytes = new EnumMap<>(SyntheticMessageType.class);
+    private final Map<SyntheticMessageType, LatencyHistogram.Snapshot> processed = new EnumMap<>(SyntheticMessageType.class);
+    private final LatencyHistogram.Snapshot queued;
+    private final LatencyHistogram.Snapshot dispatched;
+    private final long processAllocatedBytes;
+    private final long gcCount;
+    private final long gcTimeMillis;
+    private final int queuedMessages;
+
+    private LoadSample(LoadMetrics metrics, InMemoryBroker broker) {
+        this.takenAtNanos = System.nanoTime();
+        for (SyntheticMessageType type : SyntheticMessageType.values()) {
+            published.put(type, metrics.getPublished(type));
+            delivered.put(type, metrics.getDelivered(type));
+            allocatedBytes.put(type, metrics.getAllocatedBytes(type));
+            processed.put(type, metrics.getProcessed(type).snapshot());
+        }
+        this.queued = metrics.getQueued().snapshot();
+        this.dispatched = metrics.getDispatched().snapshot();
+        this.processAllocatedBytes = metrics.getProcessAllocatedBytes();
+        this.gcCount = metrics.getGcCount();
+        this.gcTimeMillis = metrics.getGcTimeMillis();
+        this.queuedMessages = broker.getQueuedMessages();
+    }
+
+    static LoadSample take(LoadMetrics metrics, InMemoryBroker broker) {
+        Preconditions.checkNotNull(metrics);
+        Preconditions.checkNotNull(broker);
+
+        return new LoadSample(metrics, broker);
+    }
+
+    double secondsSince(LoadSample earlier) {
+        return (takenAtNanos - earlier.takenAtNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    long publishedSince(LoadSample earlier, SyntheticMessageType type) {
+        return published.get(type) - earlier.published.get(type);
+    }
+
+    long deliveredSince(LoadSample earlier, SyntheticMessageType type) {
+        return delivered.get(type) - earlier.delivered.get(type);
+    }
+
+    long allocatedBytesSince(LoadSample earlier, SyntheticMessageType type) {
+        return allocatedBytes.get(type) - earlier.allocatedBytes.get(type);
+    }
+
+    /**
+     * @return the number of the event messages published after the earlier sample
+     */
+    long eventMessagesPublishedSince(LoadSample earlier) {
+        long total = 0;
+        for (SyntheticMessageType type : SyntheticMessageType.values()) {
+            if (isEventMessage(type)) {
+                total += publishedSince(earlier, type);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @return the number of the event messages delivered after the earlier sample
+     */
+    long eventMessagesDeliveredSince(LoadSample earlier) {
+        long total = 0;
+        for (SyntheticMessageType type : SyntheticMessageType.values()) {
+            if (isEventMessage(type)) {
+                total += deliveredSince(earlier, type);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @return the processing latencies of the messages of the provided type delivered after the earlier sample
+     */
+    LatencyHistogram.Snapshot processedSince(LoadSample earlier, SyntheticMessageType type) {
+        return processed.get(type).since(earlier.processed.get(type));
+    }
+
+    LatencyHistogram.Snapshot queuedSince(LoadSample earlier) {
+        return queued.since(earlier.queued);
+    }
+
+    LatencyHistogram.Snapshot dispatchedSince(LoadSample earlier) {
+        return dispatched.since(earlier.dispatched);
+    }
+
+    long processAllocatedBytesSince(LoadSample earlier) {
+        return processAllocatedBytes - earlier.processAllocatedBytes;
+    }
+
+    long gcCountSince(LoadSample earlier) {
+        return gcCount - earlier.gcCount;
+    }
+
+    long gcTimeMillisSince(LoadSample earlier) {
+        return gcTimeMillis - earlier.gcTimeMillis;
+    }
+
+    int getQueuedMessages() {
+        return queuedMessages;
+    }
+
+    static boolean isEventMessage(SyntheticMessageType type) {
+        return type == SyntheticMessageType.ODDS_CHANGE
+                || type == SyntheticMessageType.BET_STOP
+                || type == SyntheticMessageType.BET_SETTLEMENT;
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The settings of the {@link FeedLoadGenerator} - the size and the mix of the synthesized traffic, the publishing
+ * rate and the duration of the run
+ */
+public class LoadSettings {
+    private final List<Integer> producers;
+    private final int eventCount;
+    private final int marketCount;
+    private final int outcomeCount;
+    private final int rate;
+    private final int betStopInterval;
+    private final int settlementInterval;
+    private final int aliveIntervalSeconds;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int reportIntervalSeconds;
+    private final int queueCapacity;
+    private final int sportPartitions;
+    private final boolean renderNames;
+
+    private LoadSettings(Builder builder) {
+        this.producers = ImmutableList.copyOf(builder.producers);
+        this.eventCount = builder.eventCount;
+        this.marketCount = builder.marketCount;
+        this.outcomeCount = builder.outcomeCount;
+        this.rate = builder.rate;
+        this.betStopInterval = builder.betStopInterval;
+        this.settlementInterval = builder.settlementInterval;
+        this.aliveIntervalSeconds = builder.aliveIntervalSeconds;
+        this.warmupSeconds = builder.warmupSeconds;
+        this.durationSeconds = builder.durationSeconds;
+        this.reportIntervalSeconds = builder.reportIntervalSeconds;
+        this.queueCapacity = builder.queueCapacity;
+        this.sportPartitions = builder.sportPartitions;
+        this.renderNames = builder.renderNames;
+    }
+
+    /**
+     * Returns a new {@link Builder} initialized with the default settings - 100 events of the live and the prematch
+     * producer, 20 markets with 3 outcomes in each odds change, published as fast as the session consumes them
+     * for 10 seconds of warmup and 60 measured seconds
+     *
+     * @return a new {@link Builder} instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the settings read from the <code>loadgen.*</code> system properties, the settings which are not
+     * provided keep their default values
+     *
+     * @return the settings read from the system properties
+     */
+    public static LoadSettings fromSystemProperties() {
+        Builder builder = builder();
+
+        String producers = System.getProperty("loadgen.producers");
+        if (producers != null) {
+            builder.setProducers(Arrays.stream(producers.split(","))
+                    .map(String::trim)
+                    .map(Integer::valueOf)
+                    .collect(Collectors.toList()));
+        }
+
+        return builder
+                .setEventCount(Integer.getInteger("loadgen.events", builder.eventCount))
+                .setMarketCount(Integer.getInteger("loadgen.markets", builder.marketCount))
+                .setOutcomeCount(Integer.getInteger("loadgen.outcomes", builder.outcomeCount))
+                .setRate(Integer.getInteger("loadgen.rate", builder.rate))
+                .setBetStopInterval(Integer.getInteger("loadgen.betStopInterval", builder.betStopInterval))
+                .setSettlementInterval(Integer.getInteger("loadgen.settlementInterval", builder.settlementInterval))
+                .setAliveIntervalSeconds(Integer.getInteger("loadgen.aliveInterval", builder.aliveIntervalSeconds))
+                .setWarmupSeconds(Integer.getInteger("loadgen.warmup", builder.warmupSeconds))
+                .setDurationSeconds(Integer.getInteger("loadgen.duration", builder.durationSeconds))
+                .setReportIntervalSeconds(Integer.getInteger("loadgen.reportInterval", builder.reportIntervalSeconds))
+                .setQueueCapacity(Integer.getInteger("loadgen.queueCapacity", builder.queueCapacity))
+                .setSportPartitions(Integer.getInteger("loadgen.sportPartitions", builder.sportPartitions))
+                .setRenderNames(Boolean.parseBoolean(System.getProperty("loadgen.renderNames", String.valueOf(builder.renderNames))))
+                .build();
+    }
+
+    /**
+     * @return the identifiers of the producers whose traffic is synthesized, the events are split evenly among them
+     */
+    public List<Integer> getProducers() {
+        return producers;
+    }
+
+    /**
+     * @return the number of the sport events in the synthesized traffic
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * @return the number of the markets in each odds change
+     */
+    public int getMarketCount() {
+        return marketCount;
+    }
+
+    /**
+     * @return the number of the outcomes of each market
+     */
+    public int getOutcomeCount() {
+        return outcomeCount;
+    }
+
+    /**
+     * @return the number of the event messages published per second, 0 if the messages are published as fast as
+     * the session consumes them
+     */
+    public int getRate() {
+        return rate;
+    }
+
+    /**
+     * @return the number of the odds changes of an event after which a bet stop is published
+     */
+    public int getBetStopInterval() {
+        return betStopInterval;
+    }
+
+    /**
+     * @return the number of the odds changes of an event after which its markets are settled
+     */
+    public int getSettlementInterval() {
+        return settlementInterval;
+    }
+
+    /**
+     * @return the interval between the alive messages of a producer (in seconds)
+     */
+    public int getAliveIntervalSeconds() {
+        return aliveIntervalSeconds;
+    }
+
+    /**
+     * @return how long the traffic is published before the measurement starts (in seconds)
+     */
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    /**
+     * @return how long the traffic is measured (in seconds)
+     */
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    /**
+     * @return the interval between the progress reports (in seconds)
+     */
+    public int getReportIntervalSeconds() {
+        return reportIntervalSeconds;
+    }
+
+    /**
+     * @return the max number of messages waiting in the queue of a single channel, the publisher is blocked
+     * while the queue is full
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * @return the number of the sport partitions of the session
+     */
+    public int getSportPartitions() {
+        return sportPartitions;
+    }
+
+    /**
+     * @return an indication if the listener renders the market and outcome names of the received messages
+     */
+    public boolean isRenderNames() {
+        return renderNames;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadSettings{" +
+                "producers=" + producers +
+                ", eventCount=" + eventCount +
+                ", marketCount=" + marketCount +
+                ", outcomeCount=" + outcomeCount +
+                ", rate=" + rate +
+                ", betStopInterval=" + betStopInterval +
+                ", settlementInterval=" + settlementInterval +
+                ", aliveIntervalSeconds=" + aliveIntervalSeconds +
+                ", warmupSeconds=" + warmupSeconds +
+                ", durationSeconds=" + durationSeconds +
+                ", reportIntervalSeconds=" + reportIntervalSeconds +
+                ", queueCapacity=" + queueCapacity +
+                ", sportPartitions=" + sportPartitions +
+                ", renderNames=" + renderNames +
+                '}';
+    }
+
+    /**
+     * A builder of the {@link LoadSettings}
+     */
+    public static class Builder {
+        private List<Integer> producers = Arrays.asList(1, 3);
+        private int eventCount = 100;
+        private int marketCount = 20;
+        private int outcomeCount = 3;
+        private int rate = 0;
+        private int betStopInterval = 10;
+        private int settlementInterval = 100;
+        private int aliveIntervalSeconds = 10;
+        private int warmupSeconds = 10;
+        private int durationSeconds = 60;
+        private int reportIntervalSeconds = 5;
+        private int queueCapacity = 10_000;
+        private int sportPartitions = 1;
+        private boolean renderNames = false;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the producers whose traffic is synthesized, the events are split evenly among them and each
+         * producer publishes its own alive messages
+         *
+         * @param producers the producer identifiers, see {@link SyntheticProducer#getCatalogue()}
+         * @return the current {@link Builder} instance
+         */
+        public Builder setProducers(List<Integer> producers) {
+            Preconditions.checkNotNull(producers);
+            Preconditions.checkArgument(!producers.isEmpty(), "at least one producer is required");
+            Preconditions.checkArgument(SyntheticProducer.getCatalogue().keySet().containsAll(producers),
+                    "unsupported producers %s, the supported producers are %s", producers, SyntheticProducer.getCatalogue().keySet());
+
+            this.producers = producers;
+            return this;
+        }
+
+        /**
+         * Sets the number of the sport events in the synthesized traffic, the event messages are published
+         * for the events in turns
+         *
+         * @param eventCount the number of events (at least 1)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setEventCount(int eventCount) {
+            Preconditions.checkArgument(eventCount >= 1, "eventCount must be positive");
+
+            this.eventCount = eventCount;
+            return this;
+        }
+
+        /**
+         * Sets the number of the markets in each odds change
+         *
+         * @param marketCount the number of markets (at least 1)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setMarketCount(int marketCount) {
+            Preconditions.checkArgument(marketCount >= 1, "marketCount must be positive");
+
+            this.marketCount = marketCount;
+            return this;
+        }
+
+        /**
+         * Sets the number of the outcomes of each market
+         *
+         * @param outcomeCount the number of outcomes (at least 2)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setOutcomeCount(int outcomeCount) {
+            Preconditions.checkArgument(outcomeCount >= 2, "outcomeCount must be at least 2");
+
+            this.outcomeCount = outcomeCount;
+            return this;
+        }
+
+        /**
+         * Sets the number of the event messages published per second. With 0 the messages are published
+         * as fast as the session consumes them, so the report shows the max sustained throughput.
+         *
+         * @param rate the messages per second (0 or positive)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setRate(int rate) {
+            Preconditions.checkArgument(rate >= 0, "rate must not be negative");
+
+            this.rate = rate;
+            return this;
+        }
+
+        /**
+         * Sets the number of the odds changes of an event after which a bet stop is published
+         *
+         * @param betStopInterval the number of odds changes (at least 1)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setBetStopInterval(int betStopInterval) {
+            Preconditions.checkArgument(betStopInterval >= 1, "betStopInterval must be positive");
+
+            this.betStopInterval = betStopInterval;
+            return this;
+        }
+
+        /**
+         * Sets the number of the odds changes of an event after which all its markets are settled
+         *
+         * @param settlementInterval the number of odds changes (at least 1)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setSettlementInterval(int settlementInterval) {
+            Preconditions.checkArgument(settlementInterval >= 1, "settlementInterval must be positive");
+
+            this.settlementInterval = settlementInterval;
+            return this;
+        }
+
+        /**
+         * Sets the interval between the alive messages of a producer, the producers are flagged down by the SDK if
+         * the interval exceeds the configured max inactivity
+         *
+         * @param aliveIntervalSeconds the interval in seconds (at least 1)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setAliveIntervalSeconds(int aliveIntervalSeconds) {
+            Preconditions.checkArgument(aliveIntervalSeconds >= 1, "aliveIntervalSeconds must be positive");
+
+            this.aliveIntervalSeconds = aliveIntervalSeconds;
+            return this;
+        }
+
+        /**
+         * Sets how long the traffic is published before the measurement starts, so the caches are filled
+         * and the code is compiled by the time the traffic is measured
+         *
+         * @param warmupSeconds the warmup in seconds (0 or positive)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setWarmupSeconds(int warmupSeconds) {
+            Preconditions.checkArgument(warmupSeconds >= 0, "warmupSeconds must not be negative");
+
+            this.warmupSeconds = warmupSeconds;
+            return this;
+        }
+
+        /**
+         * Sets how long the traffic is measured
+         *
+         * @param durationSeconds the duration in seconds (at least 1)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setDurationSeconds(int durationSeconds) {
+            Preconditions.checkArgument(durationSeconds >= 1, "durationSeconds must be positive");
+
+            this.durationSeconds = durationSeconds;
+            return this;
+        }
+
+        /**
+         * Sets the interval between the progress reports
+         *
+         * @param reportIntervalSeconds the interval in seconds (at least 1)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setReportIntervalSeconds(int reportIntervalSeconds) {
+            Preconditions.checkArgument(reportIntervalSeconds >= 1, "reportIntervalSeconds must be positive");
+
+            this.reportIntervalSeconds = reportIntervalSeconds;
+            return this;
+        }
+
+        /**
+         * Sets the max number of messages waiting in the queue of a single channel. Once the queue is full,
+         * the publisher is blocked until the session consumes the queued messages.
+         *
+         * @param queueCapacity the queue capacity (at least 1)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setQueueCapacity(int queueCapacity) {
+            Preconditions.checkArgument(queueCapacity >= 1, "queueCapacity must be positive");
+
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the number of the sport partitions of the session, see
+         * {@link com.sportradar.unifiedodds.sdk.OddsFeedSessionBuilder#setSportPartitions(int)}
+         *
+         * @param sportPartitions the number of partitions (at least 1)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setSportPartitions(int sportPartitions) {
+            Preconditions.checkArgument(sportPartitions >= 1, "sportPartitions must be positive");
+
+            this.sportPartitions = sportPartitions;
+            return this;
+        }
+
+        /**
+         * Sets if the listener renders the market and outcome names of the received messages, the names
+         * of the competitors are then fetched from the loopback Sports API
+         *
+         * @param renderNames <code>true</code> if the names should be rendered
+         * @return the current {@link Builder} instance
+         */
+        public Builder setRenderNames(boolean renderNames) {
+            this.renderNames = renderNames;
+            return this;
+        }
+
+        public LoadSettings build() {
+            return new LoadSettings(this);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.HttpContext;
+
+import java.net.URI;
+import java.util.Date;
+
+/**
+ * A {@link CloseableHttpClient} which passes the requests to the {@link LoopbackSportsApi} instead of sending them
+ * over the network. It replaces all the HTTP clients of the SDK, so the API requests of the data providers, the
+ * bookmaker details reader and the recovery manager are all served from memory.
+ */
+public class LoopbackHttpClient extends CloseableHttpClient {
+    private final LoopbackSportsApi sportsApi;
+
+    /**
+     * Initializes a new instance of the {@link LoopbackHttpClient}
+     *
+     * @param sportsApi the API serving the requests
+     */
+    public LoopbackHttpClient(LoopbackSportsApi sportsApi) {
+        Preconditions.checkNotNull(sportsApi);
+
+        this.sportsApi = sportsApi;
+    }
+
+    @Override
+    protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context) {
+        URI uri = request instanceof HttpUriRequest
+                ? ((HttpUriRequest) request).getURI()
+                : URI.create(request.getRequestLine().getUri());
+
+        LoopbackSportsApi.Reply reply = sportsApi.handle(request.getRequestLine().getMethod(), uri);
+
+        LoopbackHttpResponse response = new LoopbackHttpResponse(reply.getStatusCode());
+        response.setHeader("Date", DateUtils.formatDate(new Date()));
+        response.setEntity(new StringEntity(reply.getBody(), ContentType.APPLICATION_XML));
+        return response;
+    }
+
+    /**
+     * The client is shared by all the HTTP client bindings of the SDK, so it is not closed with the feed
+     */
+    @Override
+    public void close() {
+        // nothing to release
+    }
+
+    /**
+     * @deprecated the legacy parameters are deprecated by the {@link org.apache.http.client.HttpClient}
+     */
+    @Override
+    @Deprecated
+    public org.apache.http.params.HttpParams getParams() {
+        throw new UnsupportedOperationException("The loopback client does not support the legacy parameters");
+    }
+
+    /**
+     * @deprecated the legacy connection manager is deprecated by the {@link org.apache.http.client.HttpClient}
+     */
+    @Override
+    @Deprecated
+    public org.apache.http.conn.ClientConnectionManager getConnectionManager() {
+        throw new UnsupportedOperationException("The loopback client does not support the legacy connection manager");
+    }
+
+    private static final class LoopbackHttpResponse extends BasicHttpResponse implements CloseableHttpResponse {
+        private LoopbackHttpResponse(int statusCode) {
+            super(HttpVersion.HTTP_1_1, statusCode, null);
+        }
+
+        @Override
+        public void close() {
+            // the entity is held in memory
+        }
+    }
+}
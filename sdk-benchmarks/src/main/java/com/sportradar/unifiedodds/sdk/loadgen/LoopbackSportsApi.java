@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.Resources;
+import org.apache.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves the Sports API requests of the SDK from memory. The market descriptions match the markets of the
+ * synthesized odds changes, the summaries and the competitor profiles of the synthesized events are built on
+ * request, the date schedules are empty and the recovery requests are ended by a snapshot complete published
+ * by the {@link TrafficGenerator}.
+ * The requests of the endpoints which are not served are answered with 404 and logged, since they mean that
+ * the processing of the synthesized traffic differs from the processing of the production traffic.
+ */
+public class LoopbackSportsApi {
+    private static final Logger logger = LoggerFactory.getLogger(LoopbackSportsApi.class);
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String SPORTS_API_NAMESPACE = "http://schemas.sportradar.com/sportsapi/v1/unified";
+
+    private static final Map<Integer, String> SPORT_NAMES = ImmutableMap.<Integer, String>builder()
+            .put(1, "Soccer")
+            .put(2, "Basketball")
+            .put(4, "Ice Hockey")
+            .put(5, "Tennis")
+            .put(20, "Table Tennis")
+            .put(23, "Volleyball")
+            .build();
+
+    private static final Pattern LOCALIZED_DESCRIPTION = Pattern.compile("/v1/descriptions/[a-z]{2}/(markets|variants|match_status)\\.xml");
+    private static final Pattern SUMMARY = Pattern.compile("/v1/sports/[a-z]{2}/sport_events/sr:match:(\\d+)/summary\\.xml");
+    private static final Pattern DATE_SCHEDULE = Pattern.compile("/v1/sports/[a-z]{2}/schedules/\\d{4}-\\d{2}-\\d{2}/schedule\\.xml");
+    private static final Pattern COMPETITOR_PROFILE = Pattern.compile("/v1/sports/[a-z]{2}/competitors/sr:competitor:(\\d+)/profile\\.xml");
+    private static final Pattern RECOVERY = Pattern.compile("/v1/([a-z_]+)/(recovery|odds/events/[^/]+|stateful_messages/events/[^/]+)/initiate_request");
+    private static final Pattern REQUEST_ID = Pattern.compile("(?:^|&)request_id=(\\d+)");
+
+    private final TrafficGenerator trafficGenerator;
+    private final String producers;
+    private final String markets;
+    private final String bettingStatus;
+    private final String betStopReasons;
+    private final String voidReasons;
+    private final String matchStatus;
+    private final Map<String, Integer> producersByApiPath;
+    private final ConcurrentMap<String, LongAdder> requests = new ConcurrentHashMap<>();
+
+    /**
+     * Initializes a new instance of the {@link LoopbackSportsApi}
+     *
+     * @param settings the settings of the synthesized traffic
+     * @param apiHost the API host configured to the SDK, used in the producer API URLs
+     * @param trafficGenerator the generator publishing the snapshot completes of the requested recoveries
+     */
+    public LoopbackSportsApi(LoadSettings settings, String apiHost, TrafficGenerator trafficGenerator) {
+        Preconditions.checkNotNull(settings);
+        Preconditions.checkNotNull(apiHost);
+        Preconditions.checkNotNull(trafficGenerator);
+
+        this.trafficGenerator = trafficGenerator;
+        this.producers = buildProducers(apiHost);
+        this.markets = buildMarkets(settings.getMarketCount(), settings.getOutcomeCount());
+        this.bettingStatus = loadResource("betting_status.xml");
+        this.betStopReasons = loadResource("betstop_reasons.xml");
+        this.voidReasons = loadResource("void_reasons.xml");
+        this.matchStatus = loadResource("match_status.xml");
+
+        ImmutableMap.Builder<String, Integer> byApiPath = ImmutableMap.builder();
+        SyntheticProducer.getCatalogue().values().forEach(p -> byApiPath.put(p.getApiPath(), p.getId()));
+        this.producersByApiPath = byApiPath.build();
+    }
+
+    /**
+     * @return the number of the served requests by the endpoint, the requests which were not served are
+     * counted as <i>not_found</i>
+     */
+    public Map<String, Long> getRequestCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        requests.forEach((endpoint, count) -> counts.put(endpoint, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Serves the provided request
+     *
+     * @param method the HTTP method of the request
+     * @param uri the URI of the request
+     * @return the reply to the request
+     */
+    Reply handle(String method, URI uri) {
+        String path = uri.getPath();
+        String query = uri.getRawQuery() == null ? "" : uri.getRawQuery();
+
+        if ("POST".equals(method)) {
+            Matcher recovery = RECOVERY.matcher(path);
+            Matcher requestId = REQUEST_ID.matcher(query);
+            if (recovery.matches() && producersByApiPath.containsKey(recovery.group(1)) && requestId.find()) {
+                trafficGenerator.onRecoveryRequested(producersByApiPath.get(recovery.group(1)), Long.parseLong(requestId.group(1)));
+                return reply(recovery.group(2).equals("recovery") ? "recovery" : "event_recovery", HttpStatus.SC_ACCEPTED,
+                        XML_DECLARATION + "<response response_code=\"ACCEPTED\"><action>Request for " + recovery.group(2) + " accepted</action></response>");
+            }
+            return notFound(method, uri);
+        }
+
+        switch (path) {
+            case "/v1/users/whoami.xml":
+                return reply("whoami", HttpStatus.SC_OK, XML_DECLARATION + "<bookmaker_details response_code=\"OK\" expire_at=\""
+                        + Instant.now().plus(365, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS)
+                        + "\" bookmaker_id=\"1\" virtual_host=\"/loadgen\"/>");
+            case "/v1/descriptions/producers.xml":
+                return reply("producers", HttpStatus.SC_OK, producers);
+            case "/v1/descriptions/betting_status.xml":
+                return reply("betting_status", HttpStatus.SC_OK, bettingStatus);
+            case "/v1/descriptions/betstop_reasons.xml":
+                return reply("betstop_reasons", HttpStatus.SC_OK, betStopReasons);
+            case "/v1/descriptions/void_reasons.xml":
+                return reply("void_reasons", HttpStatus.SC_OK, voidReasons);
+            default:
+                break;
+        }
+
+        Matcher description = LOCALIZED_DESCRIPTION.matcher(path);
+        if (description.matches()) {
+            switch (description.group(1)) {
+                case "markets":
+                    return reply("markets", HttpStatus.SC_OK, markets);
+                case "variants":
+                    return reply("variants", HttpStatus.SC_OK, XML_DECLARATION + "<variant_descriptions response_code=\"OK\"/>");
+                default:
+                    return reply("match_status", HttpStatus.SC_OK, matchStatus);
+            }
+        }
+
+        Matcher summary = SUMMARY.matcher(path);
+        if (summary.matches() && SyntheticEvent.sportOf(Long.parseLong(summary.group(1))) != -1) {
+            return reply("summary", HttpStatus.SC_OK, buildSummary(Long.parseLong(summary.group(1))));
+        }
+
+        Matcher profile = COMPETITOR_PROFILE.matcher(path);
+        if (profile.matches() && SyntheticEvent.sportOf(Long.parseLong(profile.group(1)) / 2) != -1) {
+            return reply("competitor_profile", HttpStatus.SC_OK, buildCompetitorProfile(Long.parseLong(profile.group(1))));
+        }
+
+        if (DATE_SCHEDULE.matcher(path).matches()) {
+            // the synthesized events are not scheduled, they are built only when the session requests their summaries
+            return reply("schedule", HttpStatus.SC_OK, XML_DECLARATION + "<schedule xmlns=\"" + SPORTS_API_NAMESPACE
+                    + "\" generated_at=\"" + Instant.now().truncatedTo(ChronoUnit.SECONDS) + "\"/>");
+        }
+
+        return notFound(method, uri);
+    }
+
+    private Reply reply(String endpoint, int statusCode, String body) {
+        requests.computeIfAbsent(endpoint, e -> new LongAdder()).increment();
+        return new Reply(statusCode, body);
+    }
+
+    private Reply notFound(String method, URI uri) {
+        logger.warn("The loopback Sports API does not serve the requested endpoint: {} {}", method, uri);
+        return reply("not_found", HttpStatus.SC_NOT_FOUND,
+                XML_DECLARATION + "<response response_code=\"NOT_FOUND\"><message>Not served by the loopback Sports API</message></response>");
+    }
+
+    private static String buildProducers(String apiHost) {
+        StringBuilder sb = new StringBuilder(XML_DECLARATION).append("<producers response_code=\"OK\">");
+        for (SyntheticProducer producer : SyntheticProducer.getCatalogue().values()) {
+            sb.append("<producer active=\"true\" api_url=\"http://").append(apiHost).append("/v1/").append(producer.getApiPath())
+                    .append("/\" description=\"").append(producer.getDescription())
+                    .append("\" name=\"").append(producer.getName())
+                    .append("\" id=\"").append(producer.getId())
+                    .append("\" scope=\"").append(producer.getScope())
+                    .append("\" stateful_recovery_window_in_minutes=\"180\"/>");
+        }
+        return sb.append("</producers>").toString();
+    }
+
+    /**
+     * Builds the descriptions of the synthesized markets, the first and the last outcome of each market are named
+     * after the competitors, so the rendering of their names requires the competitor profiles
+     */
+    private static String buildMarkets(int marketCount, int outcomeCount) {
+        StringBuilder sb = new StringBuilder(XML_DECLARATION).append("<market_descriptions response_code=\"OK\">");
+        for (int market = 1; market <= marketCount; market++) {
+            sb.append("<market groups=\"all\" name=\"Market ").append(market).append("\" id=\"").append(market).append("\"><outcomes>");
+            for (int outcome = 1; outcome <= outcomeCount; outcome++) {
+                String name = outcome == 1
+                        ? "{$competitor1}"
+                        : outcome == outcomeCount ? "{$competitor2}" : "Outcome " + outcome;
+                sb.append("<outcome id=\"").append(outcome).append("\" name=\"").append(name).append("\"/>");
+            }
+            sb.append("</outcomes></market>");
+        }
+        return sb.append("</market_descriptions>").toString();
+    }
+
+    private static String buildSummary(long matchId) {
+        int sportId = SyntheticEvent.sportOf(matchId);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        return XML_DECLARATION + "<match_summary xmlns=\"" + SPORTS_API_NAMESPACE + "\" generated_at=\"" + now + "\">"
+                + "<sport_event id=\"sr:match:" + matchId + "\" scheduled=\"" + now.truncatedTo(ChronoUnit.HOURS) + "\" start_time_tbd=\"false\">"
+                + "<tournament id=\"sr:tournament:" + sportId + "\" name=\"Synthetic " + SPORT_NAMES.get(sportId) + " League\">"
+                + "<sport id=\"sr:sport:" + sportId + "\" name=\"" + SPORT_NAMES.get(sportId) + "\"/>"
+                + "<category id=\"sr:category:" + sportId + "\" name=\"Synthetic\"/>"
+                + "</tournament><competitors>"
+                + competitor(matchId * 2, "home")
+                + competitor(matchId * 2 + 1, "away")
+                + "</competitors></sport_event>"
+                + "<sport_event_status status=\"not_started\"/>"
+                + "</match_summary>";
+    }
+
+    private static String buildCompetitorProfile(long competitorId) {
+        int sportId = SyntheticEvent.sportOf(competitorId / 2);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        return XML_DECLARATION + "<competitor_profile xmlns=\"" + SPORTS_API_NAMESPACE + "\" generated_at=\"" + now + "\">"
+                + "<competitor id=\"sr:competitor:" + competitorId + "\" name=\"Competitor " + competitorId + "\" abbreviation=\"C" + competitorId % 1000 + "\">"
+                + "<sport id=\"sr:sport:" + sportId + "\" name=\"" + SPORT_NAMES.get(sportId) + "\"/>"
+                + "<category id=\"sr:category:" + sportId + "\" name=\"Synthetic\"/>"
+                + "</competitor></competitor_profile>";
+    }
+
+    private static String competitor(long competitorId, String qualifier) {
+        return "<competitor id=\"sr:competitor:" + competitorId + "\" name=\"Competitor " + competitorId
+                + "\" abbreviation=\"C" + competitorId % 1000 + "\" qualifier=\"" + qualifier + "\"/>";
+    }
+
+    private static String loadResource(String name) {
+        try {
+            return Resources.toString(Resources.getResource("loadgen/" + name), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load the loopback Sports API resource " + name, e);
+        }
+    }
+
+    /**
+     * A reply of the {@link LoopbackSportsApi}
+     */
+    static final class Reply {
+        private final int statusCode;
+        private final String body;
+
+        private Reply(int statusCode, String body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+        int getStatusCode() {
+            return statusCode;
+        }
+
+        String getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.OddsFeedListener;
+import com.sportradar.unifiedodds.sdk.OddsFeedSession;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.oddsentities.BetCancel;
+import com.sportradar.unifiedodds.sdk.oddsentities.BetSettlement;
+import com.sportradar.unifiedodds.sdk.oddsentities.BetStop;
+import com.sportradar.unifiedodds.sdk.oddsentities.FixtureChange;
+import com.sportradar.unifiedodds.sdk.oddsentities.MarketWithOdds;
+import com.sportradar.unifiedodds.sdk.oddsentities.MarketWithSettlement;
+import com.sportradar.unifiedodds.sdk.oddsentities.Message;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsChange;
+import com.sportradar.unifiedodds.sdk.oddsentities.OddsDisplayType;
+import com.sportradar.unifiedodds.sdk.oddsentities.OutcomeOdds;
+import com.sportradar.unifiedodds.sdk.oddsentities.OutcomeSettlement;
+import com.sportradar.unifiedodds.sdk.oddsentities.RollbackBetCancel;
+import com.sportradar.unifiedodds.sdk.oddsentities.RollbackBetSettlement;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnparsableMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link OddsFeedListener} which consumes the received messages the way a typical client does - it reads
+ * the odds of all the outcomes and optionally renders the market and outcome names - and records the dispatch
+ * latency of each message to the {@link LoadMetrics}
+ */
+public class MeasuringOddsFeedListener implements OddsFeedListener {
+    private static final Logger logger = LoggerFactory.getLogger(MeasuringOddsFeedListener.class);
+
+    private final LoadMetrics metrics;
+    private final boolean renderNames;
+
+    /**
+     * Initializes a new instance of the {@link MeasuringOddsFeedListener}
+     *
+     * @param metrics the metrics recording the dispatched messages
+     * @param renderNames <code>true</code> if the market and outcome names should be rendered
+     */
+    public MeasuringOddsFeedListener(LoadMetrics metrics, boolean renderNames) {
+        Preconditions.checkNotNull(metrics);
+
+        this.metrics = metrics;
+        this.renderNames = renderNames;
+    }
+
+    @Override
+    public void onOddsChange(OddsFeedSession sender, OddsChange<SportEvent> oddsChanges) {
+        for (MarketWithOdds market : oddsChanges.getMarkets()) {
+            if (renderNames) {
+                market.getName();
+            }
+            for (OutcomeOdds outcome : market.getOutcomeOdds()) {
+                outcome.getOdds(OddsDisplayType.Decimal);
+                if (renderNames) {
+                    outcome.getName();
+                }
+            }
+        }
+        onDispatched(oddsChanges);
+    }
+
+    @Override
+    public void onBetStop(OddsFeedSession sender, BetStop<SportEvent> betStop) {
+        betStop.getGroups();
+        onDispatched(betStop);
+    }
+
+    @Override
+    public void onBetSettlement(OddsFeedSession sender, BetSettlement<SportEvent> clearBets) {
+        for (MarketWithSettlement market : clearBets.getMarkets()) {
+            if (renderNames) {
+                market.getName();
+            }
+            for (OutcomeSettlement outcome : market.getOutcomeSettlements()) {
+                outcome.getOutcomeResult();
+                if (renderNames) {
+                    outcome.getName();
+                }
+            }
+        }
+        onDispatched(clearBets);
+    }
+
+    @Override
+    public void onRollbackBetSettlement(OddsFeedSession sender, RollbackBetSettlement<SportEvent> rollbackBetSettlement) {
+        onDispatched(rollbackBetSettlement);
+    }
+
+    @Override
+    public void onBetCancel(OddsFeedSession sender, BetCancel<SportEvent> betCancel) {
+        onDispatched(betCancel);
+    }
+
+    @Override
+    public void onRollbackBetCancel(OddsFeedSession sender, RollbackBetCancel<SportEvent> rbBetCancel) {
+        onDispatched(rbBetCancel);
+    }
+
+    @Override
+    public void onFixtureChange(OddsFeedSession sender, FixtureChange<SportEvent> fixtureChange) {
+        onDispatched(fixtureChange);
+    }
+
+    @Override
+    @Deprecated
+    public void onUnparseableMessage(OddsFeedSession sender, byte[] rawMessage, SportEvent event) {
+        // the unparsable messages are handled by the non-deprecated callback
+    }
+
+    /**
+     * The listener interface declares the raw {@link UnparsableMessage}, a parameterized type would not override it
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void onUnparsableMessage(OddsFeedSession sender, UnparsableMessage unparsableMessage) {
+        metrics.onUnparsableMessage();
+        logger.warn("The session could not process a synthesized message: {}", unparsableMessage.getEvent());
+    }
+
+    @Override
+    public void onUserUnhandledException(OddsFeedSession sender, Exception exception) {
+        logger.warn("The listener failed to consume a message", exception);
+    }
+
+    private void onDispatched(Message message) {
+        metrics.onListenerInvoked(message.getTimestamps().getSent(), message.getTimestamps().getDispatched());
+    }
+}
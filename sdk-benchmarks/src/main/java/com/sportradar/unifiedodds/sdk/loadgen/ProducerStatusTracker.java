@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.SDKGlobalEventsListener;
+import com.sportradar.unifiedodds.sdk.oddsentities.ProducerDown;
+import com.sportradar.unifiedodds.sdk.oddsentities.ProducerStatus;
+import com.sportradar.unifiedodds.sdk.oddsentities.ProducerUp;
+import com.sportradar.utils.URN;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link SDKGlobalEventsListener} tracking the status of the producers, a producer going down while the load
+ * is generated means that the session can not keep up with the synthesized traffic
+ */
+public class ProducerStatusTracker implements SDKGlobalEventsListener {
+    private static final Logger logger = LoggerFactory.getLogger(ProducerStatusTracker.class);
+
+    private final Set<Integer> upProducers = ConcurrentHashMap.newKeySet();
+    private final LongAdder producerDowns = new LongAdder();
+
+    /**
+     * Waits until all the provided producers are up
+     *
+     * @param producerIds the identifiers of the producers
+     * @param timeout the max time to wait
+     * @param unit the unit of the timeout
+     * @return <code>true</code> if all the producers are up; <code>false</code> if the timeout elapsed
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    public synchronized boolean awaitProducersUp(Collection<Integer> producerIds, long timeout, TimeUnit unit) throws InterruptedException {
+        Preconditions.checkNotNull(producerIds);
+        Preconditions.checkNotNull(unit);
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!upProducers.containsAll(producerIds)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of times a producer was marked down after it was up
+     */
+    public long getProducerDowns() {
+        return producerDowns.sum();
+    }
+
+    @Override
+    public void onProducerStatusChange(ProducerStatus producerStatus) {
+        int producerId = producerStatus.getProducer().getId();
+        if (producerStatus.isDown()) {
+            if (upProducers.remove(producerId)) {
+                producerDowns.increment();
+                logger.warn("Producer {} is down, reason: {}", producerId, producerStatus.getProducerStatusReason());
+            }
+        } else {
+            synchronized (this) {
+                upProducers.add(producerId);
+                notifyAll();
+            }
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void onProducerDown(ProducerDown producerDown) {
+        // the status is tracked by the onProducerStatusChange
+    }
+
+    @Override
+    @Deprecated
+    public void onProducerUp(ProducerUp producerUp) {
+        // the status is tracked by the onProducerStatusChange
+    }
+
+    @Override
+    public void onConnectionDown() {
+        logger.warn("The connection to the in-memory feed is down");
+    }
+
+    @Override
+    public void onEventRecoveryCompleted(URN eventId, long requestId) {
+        // the synthesized events are not recovered
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * A sport event of the synthesized traffic, its routing keys are built once since the same keys are used by all
+ * its messages
+ */
+final class SyntheticEvent {
+    /**
+     * The sports of the events, so the traffic is spread over the sport partitions of the session
+     */
+    private static final int[] SPORTS = {1, 2, 4, 5, 20, 23};
+
+    private static final long FIRST_EVENT_ID = 10_000_000;
+
+    private final long matchId;
+    private final String id;
+    private final int sportId;
+    private final SyntheticProducer producer;
+    private final String oddsChangeRoutingKey;
+    private final String betStopRoutingKey;
+    private final String betSettlementRoutingKey;
+    private long messageNumber;
+
+    private SyntheticEvent(long matchId, int sportId, SyntheticProducer producer) {
+        this.matchId = matchId;
+        this.id = "sr:match:" + matchId;
+        this.sportId = sportId;
+        this.producer = producer;
+
+        String priority = producer.isLive() ? "hi" : "lo";
+        this.oddsChangeRoutingKey = routingKey(priority, SyntheticMessageType.ODDS_CHANGE);
+        this.betStopRoutingKey = routingKey(priority, SyntheticMessageType.BET_STOP);
+        this.betSettlementRoutingKey = routingKey("lo", SyntheticMessageType.BET_SETTLEMENT);
+    }
+
+    /**
+     * Creates the event with the provided index, the events are assigned to the sports and the producers in turns
+     *
+     * @param index the index of the event
+     * @param settings the settings of the load generator
+     * @return the event with the provided index
+     */
+    static SyntheticEvent create(int index, LoadSettings settings) {
+        Preconditions.checkArgument(index >= 0);
+        Preconditions.checkNotNull(settings);
+
+        SyntheticProducer producer = SyntheticProducer.getCatalogue().get(settings.getProducers().get(index % settings.getProducers().size()));
+        return new SyntheticEvent(FIRST_EVENT_ID + index, SPORTS[index % SPORTS.length], producer);
+    }
+
+    /**
+     * Returns the sport of the event with the provided match identifier, used by the loopback Sports API
+     * to describe the events
+     *
+     * @param matchId the numeric identifier of the match
+     * @return the sport identifier or -1 if the match does not belong to the synthesized events
+     */
+    static int sportOf(long matchId) {
+        if (matchId < FIRST_EVENT_ID) {
+            return -1;
+        }
+        return SPORTS[(int) ((matchId - FIRST_EVENT_ID) % SPORTS.length)];
+    }
+
+    long getMatchId() {
+        return matchId;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    int getSportId() {
+        return sportId;
+    }
+
+    SyntheticProducer getProducer() {
+        return producer;
+    }
+
+    String getRoutingKey(SyntheticMessageType type) {
+        switch (type) {
+            case ODDS_CHANGE:
+                return oddsChangeRoutingKey;
+            case BET_STOP:
+                return betStopRoutingKey;
+            case BET_SETTLEMENT:
+                return betSettlementRoutingKey;
+            default:
+                throw new IllegalArgumentException("Unsupported event message type: " + type);
+        }
+    }
+
+    /**
+     * @return the number of the event messages published before the current one
+     */
+    long nextMessageNumber() {
+        return messageNumber++;
+    }
+
+    private String routingKey(String priority, SyntheticMessageType type) {
+        String scope = producer.isLive() ? "-.live" : "pre.-";
+        return priority + "." + scope + "." + type.getRoutingKeyName() + "." + sportId + ".sr:match." + matchId + ".-";
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+/**
+ * The types of the feed messages synthesized by the {@link TrafficGenerator}
+ */
+public enum SyntheticMessageType {
+    ODDS_CHANGE("odds_change"),
+    BET_STOP("bet_stop"),
+    BET_SETTLEMENT("bet_settlement"),
+    ALIVE("alive"),
+    SNAPSHOT_COMPLETE("snapshot_complete");
+
+    private final String routingKeyName;
+
+    SyntheticMessageType(String routingKeyName) {
+        this.routingKeyName = routingKeyName;
+    }
+
+    /**
+     * @return the name of the message type as used in the routing keys and the message root elements
+     */
+    public String getRoutingKeyName() {
+        return routingKeyName;
+    }
+}
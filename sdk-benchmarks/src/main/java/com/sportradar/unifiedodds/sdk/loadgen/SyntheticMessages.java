@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * Builds the payloads of the synthesized feed messages. The odds changes carry the configured number of markets
+ * and outcomes with random odds, the markets are described by the loopback Sports API, so the messages pass the
+ * validation of the session. The instances are not thread-safe, each publishing thread uses its own.
+ */
+final class SyntheticMessages {
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final double MARGIN = 0.95;
+
+    private final int marketCount;
+    private final int outcomeCount;
+    private final SplittableRandom random;
+    private final StringBuilder builder = new StringBuilder(4096);
+    private final double[] probabilities;
+
+    SyntheticMessages(int marketCount, int outcomeCount, long seed) {
+        Preconditions.checkArgument(marketCount > 0);
+        Preconditions.checkArgument(outcomeCount > 1);
+
+        this.marketCount = marketCount;
+        this.outcomeCount = outcomeCount;
+        this.random = new SplittableRandom(seed);
+        this.probabilities = new double[outcomeCount];
+    }
+
+    /**
+     * Builds an odds change of the provided event with a sport event status and all the markets
+     *
+     * @param event the event of the odds change
+     * @param messageNumber the number of the event messages published so far, used to advance the match clock
+     * @param timestamp the generation timestamp of the message
+     * @return the message payload
+     */
+    byte[] oddsChange(SyntheticEvent event, long messageNumber, long timestamp) {
+        StringBuilder sb = start("odds_change", event.getProducer().getId(), event, timestamp);
+        sb.append('>');
+
+        if (event.getProducer().isLive()) {
+            long minute = 1 + messageNumber % 90;
+            sb.append("<sport_event_status status=\"1\" reporting=\"1\" match_status=\"").append(minute <= 45 ? 6 : 7)
+                    .append("\" home_score=\"").append(messageNumber / 200 % 4)
+                    .append("\" away_score=\"").append(messageNumber / 300 % 3)
+                    .append("\"><clock match_time=\"").append(minute).append(":00\"/></sport_event_status>");
+        } else {
+            sb.append("<sport_event_status status=\"0\" match_status=\"0\"/>");
+        }
+
+        sb.append("<odds>");
+        for (int market = 1; market <= marketCount; market++) {
+            sb.append("<market status=\"1\" id=\"").append(market).append("\">");
+            drawProbabilities();
+            for (int outcome = 1; outcome <= outcomeCount; outcome++) {
+                double probability = probabilities[outcome - 1];
+                sb.append("<outcome id=\"").append(outcome).append("\" odds=\"");
+                appendDecimal(sb, Math.max(1.01, MARGIN / probability), 2);
+                sb.append("\" probabilities=\"");
+                appendDecimal(sb, probability, 5);
+                sb.append("\" active=\"1\"/>");
+            }
+            sb.append("</market>");
+        }
+        sb.append("</odds></odds_change>");
+
+        return payload();
+    }
+
+    /**
+     * Builds a bet stop of all the markets of the provided event
+     *
+     * @param event the stopped event
+     * @param timestamp the generation timestamp of the message
+     * @return the message payload
+     */
+    byte[] betStop(SyntheticEvent event, long timestamp) {
+        start("bet_stop", event.getProducer().getId(), event, timestamp).append(" groups=\"all\"/>");
+        return payload();
+    }
+
+    /**
+     * Builds a bet settlement of all the markets of the provided event, a random outcome of each market wins
+     *
+     * @param event the settled event
+     * @param timestamp the generation timestamp of the message
+     * @return the message payload
+     */
+    byte[] betSettlement(SyntheticEvent event, long timestamp) {
+        StringBuilder sb = start("bet_settlement", event.getProducer().getId(), event, timestamp);
+        sb.append(" certainty=\"2\"><outcomes>");
+        for (int market = 1; market <= marketCount; market++) {
+            sb.append("<market id=\"").append(market).append("\">");
+            int winner = 1 + random.nextInt(outcomeCount);
+            for (int outcome = 1; outcome <= outcomeCount; outcome++) {
+                sb.append("<outcome id=\"").append(outcome).append("\" result=\"").append(outcome == winner ? 1 : 0).append("\"/>");
+            }
+            sb.append("</market>");
+        }
+        sb.append("</outcomes></bet_settlement>");
+
+        return payload();
+    }
+
+    /**
+     * Builds an alive of the provided producer
+     *
+     * @param producerId the producer identifier
+     * @param timestamp the generation timestamp of the message
+     * @return the message payload
+     */
+    byte[] alive(int producerId, long timestamp) {
+        start("alive", producerId, null, timestamp).append(" subscribed=\"1\"/>");
+        return payload();
+    }
+
+    /**
+     * Builds the snapshot complete which ends the recovery with the provided request identifier
+     *
+     * @param producerId the identifier of the recovered producer
+     * @param requestId the identifier of the recovery request
+     * @param timestamp the generation timestamp of the message
+     * @return the message payload
+     */
+    byte[] snapshotComplete(int producerId, long requestId, long timestamp) {
+        start("snapshot_complete", producerId, null, timestamp).append(" request_id=\"").append(requestId).append("\"/>");
+        return payload();
+    }
+
+    private StringBuilder start(String rootElement, int producerId, SyntheticEvent event, long timestamp) {
+        builder.setLength(0);
+        builder.append(XML_DECLARATION).append('<').append(rootElement).append(" product=\"").append(producerId).append('"');
+        if (event != null) {
+            builder.append(" event_id=\"").append(event.getId()).append('"');
+        }
+        return builder.append(" timestamp=\"").append(timestamp).append('"');
+    }
+
+    private byte[] payload() {
+        return builder.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Draws random outcome probabilities of a market, which add up to 1
+     */
+    private void drawProbabilities() {
+        double total = 0;
+        for (int i = 0; i < outcomeCount; i++) {
+            probabilities[i] = 1 + random.nextInt(100);
+            total += probabilities[i];
+        }
+        for (int i = 0; i < outcomeCount; i++) {
+            probabilities[i] /= total;
+        }
+    }
+
+    /**
+     * Appends the provided positive value with the provided number of decimals, without the formatting overhead of
+     * {@link String#format(String, Object...)}
+     */
+    private static void appendDecimal(StringBuilder sb, double value, int decimals) {
+        long scale = 1;
+        for (int i = 0; i < decimals; i++) {
+            scale *= 10;
+        }
+
+        long scaled = Math.round(value * scale);
+        sb.append(scaled / scale).append('.');
+        String fraction = Long.toString(scaled % scale);
+        for (int i = fraction.length(); i < decimals; i++) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+/**
+ * A producer whose traffic can be synthesized by the {@link FeedLoadGenerator}, the producers are served
+ * by the loopback Sports API and their messages are routed the same way as the messages of the real producers
+ */
+public final class SyntheticProducer {
+    private static final Map<Integer, SyntheticProducer> CATALOGUE = ImmutableMap.of(
+            1, new SyntheticProducer(1, "LO", "Live Odds", "liveodds", "live", true),
+            3, new SyntheticProducer(3, "Ctrl", "Betradar Ctrl", "pre", "prematch", false),
+            4, new SyntheticProducer(4, "BetPal", "BetPal", "betpal", "live", true),
+            5, new SyntheticProducer(5, "PremiumCricket", "Premium Cricket", "premium_cricket", "live|prematch", true));
+
+    private final int id;
+    private final String name;
+    private final String description;
+    private final String apiPath;
+    private final String scope;
+    private final boolean live;
+
+    private SyntheticProducer(int id, String name, String description, String apiPath, String scope, boolean live) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.apiPath = apiPath;
+        this.scope = scope;
+        this.live = live;
+    }
+
+    /**
+     * @return the producers which can be synthesized, by their identifiers
+     */
+    public static Map<Integer, SyntheticProducer> getCatalogue() {
+        return CATALOGUE;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return the path segment of the producer API, the recovery requests are issued under it
+     */
+    public String getApiPath() {
+        return apiPath;
+    }
+
+    /**
+     * @return the scope of the producer as listed by the producers endpoint
+     */
+    public String getScope() {
+        return scope;
+    }
+
+    /**
+     * @return <code>true</code> if the producer publishes the messages of the live events with the high priority,
+     * <code>false</code> if it publishes the prematch messages with the low priority
+     */
+    public boolean isLive() {
+        return live;
+    }
+
+    @Override
+    public String toString() {
+        return name + "(" + id + ")";
+    }
+}
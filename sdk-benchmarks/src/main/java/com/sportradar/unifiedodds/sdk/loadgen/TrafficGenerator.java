@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.loadgen;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Synthesizes the feed traffic and publishes it to the {@link InMemoryBroker}. The event messages are published
+ * by a single thread which visits the events in turns - each visit publishes an odds change, a bet stop or
+ * a bet settlement depending on the number of the event messages published so far. The alives of the producers
+ * and the snapshot completes ending the recoveries requested by the SDK are published by a separate thread.
+ */
+public class TrafficGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(TrafficGenerator.class);
+
+    private static final String ALIVE_ROUTING_KEY = "-.-.-.alive.-.-.-.-";
+    private static final String SNAPSHOT_COMPLETE_ROUTING_KEY = "-.-.-.snapshot_complete.-.-.-.-";
+
+    /**
+     * The delay of the snapshot complete after the recovery request, so the request is completed by the SDK
+     * before the recovery is ended
+     */
+    private static final long SNAPSHOT_COMPLETE_DELAY_MILLIS = 100;
+
+    private final LoadSettings settings;
+    private final InMemoryBroker broker;
+    private final LoadMetrics metrics;
+    private final List<SyntheticEvent> events;
+    private final ScheduledExecutorService systemMessagesExecutor;
+    private final SyntheticMessages systemMessages;
+
+    private volatile boolean running;
+    private Thread publisherThread;
+
+    /**
+     * Initializes a new instance of the {@link TrafficGenerator}
+     *
+     * @param settings the settings defining the synthesized traffic
+     * @param broker the broker the messages are published to
+     * @param metrics the metrics recording the published messages
+     */
+    public TrafficGenerator(LoadSettings settings, InMemoryBroker broker, LoadMetrics metrics) {
+        Preconditions.checkNotNull(settings);
+        Preconditions.checkNotNull(broker);
+        Preconditions.checkNotNull(metrics);
+
+        this.settings = settings;
+        this.broker = broker;
+        this.metrics = metrics;
+        this.events = IntStream.range(0, settings.getEventCount())
+                .mapToObj(i -> SyntheticEvent.create(i, settings))
+                .collect(Collectors.toList());
+        this.systemMessagesExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("LoadGenerator-SystemMessages").setDaemon(true).build());
+        this.systemMessages = new SyntheticMessages(settings.getMarketCount(), settings.getOutcomeCount(), 0);
+    }
+
+    /**
+     * Starts publishing the alives of the configured producers, the first alives are published immediately so the
+     * SDK requests the recoveries of the producers
+     */
+    public void startAlives() {
+        for (int producerId : settings.getProducers()) {
+            systemMessagesExecutor.scheduleAtFixedRate(
+                    () -> publish(ALIVE_ROUTING_KEY, SyntheticMessageType.ALIVE, systemMessages.alive(producerId, System.currentTimeMillis())),
+                    0,
+                    settings.getAliveIntervalSeconds(),
+                    TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Starts publishing the event messages, at the configured rate or as fast as the session consumes them
+     */
+    public synchronized void startEvents() {
+        Preconditions.checkState(publisherThread == null, "The event messages are already published");
+
+        running = true;
+        publisherThread = new Thread(this::publishEvents, "LoadGenerator-Publisher");
+        publisherThread.setDaemon(true);
+        publisherThread.start();
+    }
+
+    /**
+     * Stops publishing all the messages
+     */
+    public synchronized void stop() {
+        running = false;
+        systemMessagesExecutor.shutdownNow();
+        if (publisherThread != null) {
+            publisherThread.interrupt();
+            try {
+                publisherThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Ends the recovery requested by the SDK with a snapshot complete, the synthesized events are not included
+     * in the recovery since they are published continuously
+     *
+     * @param producerId the identifier of the recovered producer
+     * @param requestId the identifier of the recovery request
+     */
+    void onRecoveryRequested(int producerId, long requestId) {
+        systemMessagesExecutor.schedule(
+                () -> publish(SNAPSHOT_COMPLETE_ROUTING_KEY, SyntheticMessageType.SNAPSHOT_COMPLETE,
+                        systemMessages.snapshotComplete(producerId, requestId, System.currentTimeMillis())),
+                SNAPSHOT_COMPLETE_DELAY_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void publishEvents() {
+        SyntheticMessages messages = new SyntheticMessages(settings.getMarketCount(), settings.getOutcomeCount(), 1);
+        RateLimiter rateLimiter = settings.getRate() > 0 ? RateLimiter.create(settings.getRate()) : null;
+
+        int next = 0;
+        while (running) {
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+
+            SyntheticEvent event = events.get(next);
+            next = (next + 1) % events.size();
+
+            long messageNumber = event.nextMessageNumber();
+            SyntheticMessageType type = typeOf(messageNumber);
+            long timestamp = System.currentTimeMillis();
+
+            byte[] body;
+            switch (type) {
+                case BET_SETTLEMENT:
+                    body = messages.betSettlement(event, timestamp);
+                    break;
+                case BET_STOP:
+                    body = messages.betStop(event, timestamp);
+                    break;
+                default:
+                    body = messages.oddsChange(event, messageNumber, timestamp);
+                    break;
+            }
+
+            if (!publish(event.getRoutingKey(type), type, body)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the type of the event message with the provided number, the settlements take precedence over the
+     * bet stops when both intervals are reached by the same message
+     */
+    private SyntheticMessageType typeOf(long messageNumber) {
+        long published = messageNumber + 1;
+        if (published % settings.getSettlementInterval() == 0) {
+            return SyntheticMessageType.BET_SETTLEMENT;
+        }
+        if (published % settings.getBetStopInterval() == 0) {
+            return SyntheticMessageType.BET_STOP;
+        }
+        return SyntheticMessageType.ODDS_CHANGE;
+    }
+
+    /**
+     * Publishes the provided message
+     *
+     * @return <code>false</code> if the publisher was interrupted; <code>true</code> otherwise
+     */
+    private boolean publish(String routingKey, SyntheticMessageType type, byte[] body) {
+        try {
+            broker.publish(routingKey, type, body);
+            metrics.onMessagePublished(type);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to publish the synthesized {} message, routingKey: {}", type, routingKey, e);
+            return true;
+        }
+    }
+}
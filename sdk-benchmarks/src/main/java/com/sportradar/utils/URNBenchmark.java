@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of the identifiers found in the recorded messages and the Sports API responses
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class URNBenchmark {
+    private final String[] identifiers = {
+            "sr:match:1000001",
+            "sr:sport:1",
+            "sr:competitor:2000002",
+            "sr:player:3000003",
+            "sr:season:4000004",
+            "sr:simple_tournament:5000005",
+            "vf:match:6000006",
+            "sr:race_event:7000007"
+    };
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(URN.parse(identifier));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk;
+
+import com.google.common.base.Preconditions;
+
+import java.time.Duration;
+
+/**
+ * A deadline of the fast api requests (summary, competitor profile, player profile and variant description endpoint)
+ * made by the current thread. The deadline is active until it is closed, a nested deadline can only shorten the enclosing one.
+ * <pre>
+ * try (ApiCallDeadline ignored = ApiCallDeadline.start(Duration.ofMillis(500))) {
+ *     String name = match.getName(Locale.ENGLISH);
+ * }
+ * </pre>
+ * The SDK starts a deadline before dispatching a feed message when {@link OperationManager#getFastHttpClientDispatchDeadline()} is set.
+ */
+public final class ApiCallDeadline implements AutoCloseable {
+    private static final ThreadLocal<ApiCallDeadline> current = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    private final ApiCallDeadline enclosing;
+
+    private ApiCallDeadline(long deadlineNanos, ApiCallDeadline enclosing) {
+        this.deadlineNanos = deadlineNanos;
+        this.enclosing = enclosing;
+    }
+
+    /**
+     * Starts a new deadline of the fast api requests made by the current thread
+     *
+     * @param timeout the time available to the requests made before the returned deadline is closed
+     * @return the started deadline which must be closed by the same thread
+     */
+    public static ApiCallDeadline start(Duration timeout) {
+        Preconditions.checkNotNull(timeout);
+        Preconditions.checkArgument(!timeout.isNegative());
+
+        ApiCallDeadline enclosing = current.get();
+        long deadlineNanos = System.nanoTime() + timeout.toNanos();
+        if (enclosing != null && enclosing.deadlineNanos - deadlineNanos < 0) {
+            deadlineNanos = enclosing.deadlineNanos;
+        }
+
+        ApiCallDeadline deadline = new ApiCallDeadline(deadlineNanos, enclosing);
+        current.set(deadline);
+        return deadline;
+    }
+
+    /**
+     * Returns the time remaining until the deadline of the current thread expires
+     *
+     * @return the remaining time, {@link Duration#ZERO} if the deadline expired or a null reference if the current thread has no deadline
+     */
+    public static Duration getRemaining() {
+        ApiCallDeadline deadline = current.get();
+        if (deadline == null) {
+            return null;
+        }
+
+        long remainingNanos = deadline.deadlineNanos - System.nanoTime();
+        return remainingNanos > 0 ? Duration.ofNanos(remainingNanos) : Duration.ZERO;
+    }
+
+    /**
+     * Closes the deadline and restores the enclosing one
+     */
+    @Override
+    public void close() {
+        if (enclosing == null) {
+            current.remove();
+        } else {
+            current.set(enclosing);
+        }
+    }
+}
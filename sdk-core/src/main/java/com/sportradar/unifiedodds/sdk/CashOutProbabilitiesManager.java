@@ -8,6 +8,7 @@ import com.sportradar.unifiedodds.sdk.entities.SportEvent;
 import com.sportradar.unifiedodds.sdk.oddsentities.CashOutProbabilities;
 import com.sportradar.utils.URN;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -58,4 +59,28 @@ public interface CashOutProbabilitiesManager {
      * @return a {@link CashOutProbabilities} providing the probabilities of the associated event/market combination
      */
     <T extends SportEvent> CashOutProbabilities<T> getCashOutProbabilities(URN eventId, int marketId, Map<String, String> specifiers, Locale locale);
+
+    /**
+     * Returns a {@link List} of {@link CashOutProbabilities} instances providing the cashout probabilities for the provided requests
+     * (the provided data is translated in the default language). The requests are fetched concurrently, identical requests
+     * are fetched only once.
+     *
+     * @param requests the {@link List} of {@link CashOutProbabilitiesRequest}s for which the probabilities should be provided
+     * @param <T> a SportEvent inherited instance
+     * @return a {@link List} of {@link CashOutProbabilities} in the same order as the provided requests (entries which
+     *         could not be provided are null references)
+     */
+    <T extends SportEvent> List<CashOutProbabilities<T>> getCashOutProbabilities(List<CashOutProbabilitiesRequest> requests);
+
+    /**
+     * Returns a {@link List} of {@link CashOutProbabilities} instances providing the cashout probabilities for the provided requests.
+     * The requests are fetched concurrently, identical requests are fetched only once.
+     *
+     * @param requests the {@link List} of {@link CashOutProbabilitiesRequest}s for which the probabilities should be provided
+     * @param locale the {@link Locale} in which to provide the data
+     * @param <T> a SportEvent inherited instance
+     * @return a {@link List} of {@link CashOutProbabilities} in the same order as the provided requests (entries which
+     *         could not be provided are null references)
+     */
+    <T extends SportEvent> List<CashOutProbabilities<T>> getCashOutProbabilities(List<CashOutProbabilitiesRequest> requests, Locale locale);
 }
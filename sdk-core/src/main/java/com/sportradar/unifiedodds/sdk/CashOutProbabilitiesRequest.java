@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedMap;
+import com.sportradar.utils.URN;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Identifies a single cash out probabilities request (event or event/market/specifiers combination) used
+ * with the batch methods of the {@link CashOutProbabilitiesManager}
+ */
+public final class CashOutProbabilitiesRequest {
+    private final URN eventId;
+    private final Integer marketId;
+    private final Map<String, String> specifiers;
+    private final String requestParam;
+
+    private CashOutProbabilitiesRequest(URN eventId, Integer marketId, Map<String, String> specifiers) {
+        Preconditions.checkNotNull(eventId);
+
+        this.eventId = eventId;
+        this.marketId = marketId;
+        this.specifiers = specifiers == null || specifiers.isEmpty()
+                ? Collections.emptyMap()
+                : ImmutableSortedMap.copyOf(specifiers);
+        this.requestParam = buildRequestParam();
+    }
+
+    /**
+     * Constructs a request for the probabilities of all the markets of the specified event
+     *
+     * @param eventId the {@link URN} identifier of the event
+     * @return a new {@link CashOutProbabilitiesRequest} instance
+     */
+    public static CashOutProbabilitiesRequest forEvent(URN eventId) {
+        return new CashOutProbabilitiesRequest(eventId, null, null);
+    }
+
+    /**
+     * Constructs a request for the probabilities of the specified market on the associated event
+     *
+     * @param eventId the {@link URN} identifier of the event
+     * @param marketId the market identifier
+     * @param specifiers a {@link Map} containing market specifiers or a null reference if market has no specifiers
+     * @return a new {@link CashOutProbabilitiesRequest} instance
+     */
+    public static CashOutProbabilitiesRequest forMarket(URN eventId, int marketId, Map<String, String> specifiers) {
+        return new CashOutProbabilitiesRequest(eventId, marketId, specifiers);
+    }
+
+    /**
+     * Returns the {@link URN} identifier of the associated event
+     *
+     * @return the {@link URN} identifier of the associated event
+     */
+    public URN getEventId() {
+        return eventId;
+    }
+
+    /**
+     * Returns the requested market identifier or a null reference if the probabilities of all the markets are requested
+     *
+     * @return the requested market identifier or a null reference if the probabilities of all the markets are requested
+     */
+    public Integer getMarketId() {
+        return marketId;
+    }
+
+    /**
+     * Returns an unmodifiable {@link Map} of the requested market specifiers (sorted by specifier name)
+     *
+     * @return an unmodifiable {@link Map} of the requested market specifiers
+     */
+    public Map<String, String> getSpecifiers() {
+        return specifiers;
+    }
+
+    /**
+     * Returns the API request parameter identifying this request, the value is also used as the request cache key
+     *
+     * @return the API request parameter identifying this request
+     */
+    public String getRequestParam() {
+        return requestParam;
+    }
+
+    private String buildRequestParam() {
+        if (marketId == null) {
+            return eventId.toString();
+        }
+
+        String param = eventId.toString() + "/" + marketId;
+        if (!specifiers.isEmpty()) {
+            StringJoiner sj = new StringJoiner("|");
+            specifiers.forEach((key, value) -> sj.add(key + "=" + value));
+
+            param = param + "/" + sj.toString();
+        }
+
+        return param;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CashOutProbabilitiesRequest)) {
+            return false;
+        }
+        return requestParam.equals(((CashOutProbabilitiesRequest) o).requestParam);
+    }
+
+    @Override
+    public int hashCode() {
+        return requestParam.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CashOutProbabilitiesRequest{" + requestParam + "}";
+    }
+}
@@ -6,6 +6,7 @@ import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
 import com.sportradar.unifiedodds.sdk.entities.FixtureChange;
 import com.sportradar.unifiedodds.sdk.entities.ResultChange;
 import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.impl.SdkExecutors;
 import com.sportradar.unifiedodds.sdk.impl.SportsInfoManagerImpl;
 import com.sportradar.utils.URN;
 import org.slf4j.Logger;
@@ -16,7 +17,6 @@ import org.yaml.snakeyaml.error.Mark;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -62,16 +62,18 @@ public class EventChangeManagerImpl implements EventChangeManager {
     @Inject
     EventChangeManagerImpl(SportsInfoManager sportsInfoManager,
                            SportEventCache sportEventCache,
-                           SDKInternalConfiguration configuration) {
+                           SDKInternalConfiguration configuration,
+                           SdkExecutors sdkExecutors) {
         Preconditions.checkNotNull(sportsInfoManager);
         Preconditions.checkNotNull(sportEventCache);
         Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(sdkExecutors);
 
         this.sportsInfoManager = (SportsInfoManagerImpl) sportsInfoManager;
         this.sportEventCache = sportEventCache;
         this.configuration = configuration;
-        this.fixtureTaskScheduler = Executors.newScheduledThreadPool(1);
-        this.resultTaskScheduler = Executors.newScheduledThreadPool(1);
+        this.fixtureTaskScheduler = sdkExecutors.newScheduledExecutor("FixtureChanges", "-fc-t-%d", 1);
+        this.resultTaskScheduler = sdkExecutors.newScheduledExecutor("ResultChanges", "-rc-t-%d", 1);
 
         setFixtureChangeInterval(Duration.ofMinutes(60));
         setResultChangeInterval(Duration.ofMinutes(60));
@@ -184,16 +186,19 @@ public class EventChangeManagerImpl implements EventChangeManager {
             clientInteractionLogger.info("Stopping periodical fetching of fixture and result changes.");
             isRunning = false;
         }
-        fixtureTaskScheduler.shutdownNow();
-        resultTaskScheduler.shutdownNow();
+        // the schedulers are released with the rest of the SDK executors when the feed is closed
+        if (fixtureFuture != null) {
+            fixtureFuture.cancel(true);
+            fixtureFuture = null;
+        }
+        if (resultFuture != null) {
+            resultFuture.cancel(true);
+            resultFuture = null;
+        }
     }
 
     private void restartScheduler(ScheduledExecutorService service, boolean isFixture) {
         try {
-            if(service.isShutdown()){
-                if(isFixture) fixtureFuture = null; else resultFuture = null;
-                service = Executors.newScheduledThreadPool(1);
-            }
             if(isFixture) {
                 if(fixtureFuture == null) {
                     fixtureFuture = service.scheduleAtFixedRate(() -> fetchFixtures(), 1, this.fixtureUpdateInterval.getSeconds(), TimeUnit.SECONDS);
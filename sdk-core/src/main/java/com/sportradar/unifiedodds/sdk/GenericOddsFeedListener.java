@@ -8,9 +8,9 @@ import com.sportradar.unifiedodds.sdk.entities.SportEvent;
 import com.sportradar.unifiedodds.sdk.oddsentities.*;
 
 /**
- * Internally used generic interface used as a base for interfaces exposed to the SDK user
+ * Generic interface used as a base for the listener interfaces exposed to the SDK user
  */
-interface GenericOddsFeedListener<T extends SportEvent> {
+public interface GenericOddsFeedListener<T extends SportEvent> {
 
     /**
      * Any kind of odds update, or betstop signal results in an OddsChanges Message.
@@ -28,6 +28,7 @@ import com.sportradar.unifiedodds.sdk.exceptions.InvalidBookmakerDetailsExceptio
 import com.sportradar.unifiedodds.sdk.extended.OddsFeedExtListener;
 import com.sportradar.unifiedodds.sdk.impl.*;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
+import com.sportradar.unifiedodds.sdk.impl.traffic.TrafficRecorder;
 import com.sportradar.unifiedodds.sdk.replay.ReplayManager;
 import com.sportradar.utils.URN;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -37,8 +38,6 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
 /**
@@ -397,7 +396,9 @@ public class OddsFeed {
                         systemMessagesSession.open(
                                 Lists.newArrayList(MessageInterest.SystemAliveMessages.getRoutingKeys()),
                                 MessageInterest.SystemAliveMessages,
+                                null,
                                 firstCreatedSession.oddsFeedListener,
+                                firstCreatedSession.specificListeners,
                                 oddsFeedExtListener
                         );
                     }
@@ -406,8 +407,11 @@ public class OddsFeed {
                         sessionData.session.open(
                                 sessionRoutingKeys.get(sessionData.hashCode()),
                                 sessionData.messageInterest,
+                                sessionData.eventIds,
                                 sessionData.oddsFeedListener,
-                                oddsFeedExtListener
+                                sessionData.specificListeners,
+                                oddsFeedExtListener,
+                                sessionData.sportPartitions
                         );
                     }
 
@@ -490,14 +494,16 @@ public class OddsFeed {
             logger.warn("Error during close - SDKTaskScheduler", ex);
         }
         try{
-            injector.getInstance(Key.get(ScheduledExecutorService.class, Names.named("DedicatedRecoveryManagerExecutor"))).shutdownNow();
+            // the recorder writer completes before its executor is handed back
+            injector.getInstance(TrafficRecorder.class).close();
         } catch(Exception ex) {
-            logger.warn("Error during close - ScheduledExecutorService", ex);
+            logger.warn("Error during close - TrafficRecorder", ex);
         }
         try{
-            injector.getInstance(Key.get(ExecutorService.class, Names.named("DedicatedRabbitMqExecutor"))).shutdownNow();
+            // hands the recovery, AMQP, cash out, fast http, entity loader, traffic recorder and scheduler executors back to the provider
+            injector.getInstance(SdkExecutors.class).releaseAll();
         } catch(Exception ex) {
-            logger.warn("Error during close - ExecutorService", ex);
+            logger.warn("Error during close - SdkExecutors", ex);
         }
         try{
             InternalCachesProvider internalCachesProvider = injector.getInstance(Key.get(InternalCachesProvider.class));
@@ -569,11 +575,11 @@ public class OddsFeed {
         return Guice.createInjector(new MasterInjectionModule(listener, this.oddsFeedConfiguration, customisableSDKModule));
     }
 
-    private void createSession(OddsFeedSessionImpl session, MessageInterest oddsInterest, Set<URN> eventIds, OddsFeedListener oddsFeedListener) {
+    private void createSession(OddsFeedSessionImpl session, MessageInterest oddsInterest, Set<URN> eventIds, OddsFeedListener oddsFeedListener, Set<GenericOddsFeedListener> specificListeners, int sportPartitions) {
         if (this.feedOpened){
             throw new IllegalStateException("Sessions can not be created once the feed has been opened");
         } else {
-            SessionData sessionData = new SessionData(session, oddsInterest, eventIds, oddsFeedListener);
+            SessionData sessionData = new SessionData(session, oddsInterest, eventIds, oddsFeedListener, specificListeners, sportPartitions);
 
             createdSessionData.add(sessionData);
         }
@@ -598,12 +604,16 @@ public class OddsFeed {
         private final MessageInterest messageInterest;
         private final Set<URN> eventIds;
         private final OddsFeedListener oddsFeedListener;
+        private final Set<GenericOddsFeedListener> specificListeners;
+        private final int sportPartitions;
 
-        SessionData(OddsFeedSessionImpl session, MessageInterest messageInterest, Set<URN> eventIds, OddsFeedListener oddsFeedListener) {
+        SessionData(OddsFeedSessionImpl session, MessageInterest messageInterest, Set<URN> eventIds, OddsFeedListener oddsFeedListener, Set<GenericOddsFeedListener> specificListeners, int sportPartitions) {
             this.session = session;
+            this.sportPartitions = sportPartitions;
             this.messageInterest = messageInterest;
             this.eventIds = eventIds;
             this.oddsFeedListener = oddsFeedListener;
+            this.specificListeners = specificListeners == null ? Collections.emptySet() : specificListeners;
         }
     }
 
@@ -613,6 +623,7 @@ public class OddsFeed {
         private MessageInterest msgInterestLevel;
         private HashSet<URN> eventIds;
         private HashSet<GenericOddsFeedListener> specificOddsFeedListeners;
+        private int sportPartitions = 1;
 
         OddsFeedSessionBuilderImpl(OddsFeed oddsFeed) {
             this.oddsFeed = oddsFeed;
@@ -667,16 +678,27 @@ public class OddsFeed {
             return setSpecificEventsOnly(Collections.singleton(specificEventsOnly));
         }
 
+        @Override
+        public OddsFeedSessionBuilder setSportPartitions(int sportPartitions) {
+            Preconditions.checkArgument(sportPartitions > 0, "sportPartitions must be positive");
+
+            this.sportPartitions = sportPartitions;
+            return this;
+        }
+
         @Override
         public OddsFeedSession build() {
-            // TODO @eti: handle specific event listeners
+            Preconditions.checkState(mainOddsFeedListener != null || (specificOddsFeedListeners != null && !specificOddsFeedListeners.isEmpty()),
+                    "The session requires a main listener or at least one sport specific listener");
+
             OddsFeedSessionImpl session = injector.getInstance(OddsFeedSessionImpl.class);
-            this.oddsFeed.createSession(session, msgInterestLevel, eventIds, mainOddsFeedListener);
+            this.oddsFeed.createSession(session, msgInterestLevel, eventIds, mainOddsFeedListener, specificOddsFeedListeners, sportPartitions);
 
             this.msgInterestLevel = null;
             this.eventIds = null;
             this.mainOddsFeedListener = null;
             this.specificOddsFeedListeners = null;
+            this.sportPartitions = 1;
 
             return session;
         }
@@ -15,7 +15,12 @@ import java.util.stream.Collectors;
 /**
  * An utility class that handles session routing key assignment
  */
-class OddsFeedRoutingKeyBuilder {
+public class OddsFeedRoutingKeyBuilder {
+    /**
+     * The routing key pattern used to receive the messages of a specific event
+     */
+    private static final String EVENT_ROUTING_KEY_TEMPLATE = "#.%s:%s.%d";
+
     /**
      * The routing key pattern used to receive snapshot complete messages
      */
@@ -76,10 +81,40 @@ class OddsFeedRoutingKeyBuilder {
         return result;
     }
 
+    /**
+     * Builds the routing keys used to receive the messages of the provided events, used to change
+     * the subscriptions of the {@link MessageInterest#SpecifiedMatchesOnly} sessions once the feed is opened
+     *
+     * @param eventIds - the identifiers of the events for which the routing keys should be built
+     * @param oddsFeedConfiguration - the associated feed SDK configuration instance
+     * @return - a {@link List} of routing keys used to receive the messages of the provided events
+     */
+    public static List<String> generateEventKeys(Collection<URN> eventIds, SDKInternalConfiguration oddsFeedConfiguration) {
+        Preconditions.checkNotNull(eventIds);
+        Preconditions.checkNotNull(oddsFeedConfiguration);
+
+        List<String> result = new ArrayList<>();
+        for (URN eventId : eventIds) {
+            String basicRoutingKey = getEventRoutingKey(eventId);
+            if (oddsFeedConfiguration.getSdkNodeId() != null) {
+                result.add(basicRoutingKey + "." + oddsFeedConfiguration.getSdkNodeId() + ".#");
+                result.add(basicRoutingKey + ".-.#");
+            } else {
+                result.add(basicRoutingKey + ".#");
+            }
+        }
+
+        return result.stream().distinct().collect(Collectors.toList());
+    }
+
     private static List<String> getBasicRoutingKeys(MessageInterest messageInterest, Set<URN> eventIds) {
         return messageInterest != MessageInterest.SpecifiedMatchesOnly ?
                 messageInterest.getRoutingKeys() :
-                eventIds.stream().map(e -> String.format("#.%s:%s.%d", e.getPrefix(), e.getType(), e.getId())).collect(Collectors.toList());
+                eventIds.stream().map(OddsFeedRoutingKeyBuilder::getEventRoutingKey).collect(Collectors.toList());
+    }
+
+    private static String getEventRoutingKey(URN eventId) {
+        return String.format(EVENT_ROUTING_KEY_TEMPLATE, eventId.getPrefix(), eventId.getType(), eventId.getId());
     }
 
     private static void validateInterestCombination(Map<Integer, Entry<MessageInterest, Set<URN>>> sessionsData) {
@@ -4,6 +4,10 @@
 
 package com.sportradar.unifiedodds.sdk;
 
+import com.sportradar.utils.URN;
+
+import java.util.Set;
+
 /**
  * This is the representation of one stream/session/connection to the Sportradar Odds Messages (It
  * is possible to have one or more such session simultaneously listening to the same or different
@@ -13,5 +17,33 @@ package com.sportradar.unifiedodds.sdk;
  *
  */
 public interface OddsFeedSession {
+    /**
+     * Subscribes the session to the messages of the provided events without reopening the feed. The subscriptions
+     * are retained across the channel restarts. Note that the SDK does not request a recovery of the added events,
+     * this can be done with the {@link EventRecoveryRequestIssuer} if needed.
+     *
+     * Supported only by the opened sessions built with the {@link OddsFeedSessionBuilder#setSpecificEventsOnly(Set)}
+     *
+     * @param eventIds the identifiers of the events which should be added to the session subscriptions
+     * @throws IllegalStateException if the session is not opened or it was not built for specific events only
+     */
+    void addEventSubscriptions(Set<URN> eventIds);
+
+    /**
+     * Removes the provided events from the session subscriptions without reopening the feed.
+     *
+     * Supported only by the opened sessions built with the {@link OddsFeedSessionBuilder#setSpecificEventsOnly(Set)}
+     *
+     * @param eventIds the identifiers of the events which should be removed from the session subscriptions
+     * @throws IllegalStateException if the session is not opened or it was not built for specific events only
+     */
+    void removeEventSubscriptions(Set<URN> eventIds);
 
+    /**
+     * Returns the identifiers of the events to which the session is currently subscribed
+     *
+     * @return the identifiers of the events to which the session is currently subscribed, or an empty {@link Set}
+     *         if the session was not built for specific events only
+     */
+    Set<URN> getEventSubscriptions();
 }
@@ -25,7 +25,9 @@ public interface OddsFeedSessionBuilder {
     OddsFeedSessionBuilder setMessageInterest(MessageInterest msgInterest);
 
     /**
-     * ** NOT IMPLEMENTED YET **
+     * Sets a sport specific listener (e.g. {@link SoccerOddsFeedListener}) which receives the messages of its sport
+     * instead of the main listener. The main listener can be omitted if at least one specific listener is provided,
+     * in which case the messages of other sports are not dispatched (and the associated entities are not built).
      *
      * @param specificOddsFeedListeners the listeners that are type specific(soccer,...),
      *                                 these specific listeners are called instead of the main listener
@@ -34,7 +36,9 @@ public interface OddsFeedSessionBuilder {
     OddsFeedSessionBuilder setSpecificListeners(HashSet<GenericOddsFeedListener> specificOddsFeedListeners);
 
     /**
-     * ** NOT IMPLEMENTED YET **
+     * Sets a sport specific listener (e.g. {@link SoccerOddsFeedListener}) which receives the messages of its sport
+     * instead of the main listener. The main listener can be omitted if at least one specific listener is provided,
+     * in which case the messages of other sports are not dispatched (and the associated entities are not built).
      *
      * @param specificOddsFeedListener the listeners that are type specific(soccer,...),
      *                                 these specific listeners are called instead of the main listener
@@ -60,6 +64,19 @@ public interface OddsFeedSessionBuilder {
         return null;
     }
 
+    /**
+     * Splits the messages of the session into the provided number of partitions by their sport. Each partition
+     * deserializes and processes its messages on its own thread, so the messages of different sports are
+     * processed in parallel, while the messages of a sport event keep their order. The listeners of
+     * a partitioned session must therefore be thread-safe.
+     *
+     * @param sportPartitions the number of the sport partitions, 1 (the default) processes all the messages on a single thread
+     * @return the current session builder
+     */
+    default OddsFeedSessionBuilder setSportPartitions(int sportPartitions) {
+        throw new UnsupportedOperationException("The session builder does not support sport partitions");
+    }
+
     /**
      * This function creates the newly configured session using the supplied message interest and listeners
      *
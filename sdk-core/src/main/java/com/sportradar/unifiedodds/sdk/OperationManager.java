@@ -23,6 +23,14 @@ public final class OperationManager
     private static int rabbitConnectionTimeout;
     private static int rabbitHeartbeat;
     private static Duration fastHttpClientTimeout;
+    private static Duration cashOutProbabilitiesCacheTimeout;
+    private static Duration fastHttpClientDispatchDeadline;
+    private static boolean fastHttpClientHedging;
+    private static int apiCircuitBreakerFailureThreshold;
+    private static Duration apiCircuitBreakerOpenDuration;
+    private static int bulkEventLoadParallelism;
+    private static Duration dateScheduleCacheTimeout;
+    private static Duration channelSilenceTimeout;
 
     /**
      * Gets the sport event status cache timeout - how long status is cached
@@ -80,6 +88,67 @@ public final class OperationManager
      */
     public static Duration getFastHttpClientTimeout() { return fastHttpClientTimeout; }
 
+    /**
+     * Gets the cash out probabilities cache timeout - how long fetched probabilities are reused for identical requests
+     * Can be between 0 ms and 5000 ms - default 0 ms (absolute expiration, 0 means only concurrent identical requests are merged)
+     * @return the cash out probabilities cache timeout
+     */
+    public static Duration getCashOutProbabilitiesCacheTimeout() { return cashOutProbabilitiesCacheTimeout; }
+
+    /**
+     * Gets the deadline of all fast api requests made while a single feed message is dispatched to the listeners
+     * Can be between 0 ms and 30000 ms - default 0 ms (0 means the requests are limited only by the fast HttpClient timeout)
+     * @return the deadline of all fast api requests made while a single feed message is dispatched
+     */
+    public static Duration getFastHttpClientDispatchDeadline() { return fastHttpClientDispatchDeadline; }
+
+    /**
+     * Gets a value indicating whether a slow fast api GET request is hedged with a second attempt (default: false)
+     * The second attempt is sent once the request takes longer than 95% of the recent requests and the first received response is used
+     * @return true if slow fast api requests are hedged, otherwise false
+     */
+    public static boolean getFastHttpClientHedging() { return fastHttpClientHedging; }
+
+    /**
+     * Gets the number of consecutive failed fast api requests (timeouts, I/O errors or server errors) after which
+     * the following requests fail immediately until the circuit breaker open duration elapses
+     * Can be between 0 and 100 - default 0 (0 means the circuit breaker is disabled)
+     * @return the number of consecutive failed fast api requests which opens the circuit breaker
+     */
+    public static int getApiCircuitBreakerFailureThreshold() { return apiCircuitBreakerFailureThreshold; }
+
+    /**
+     * Gets how long the fast api requests fail immediately once the circuit breaker opens, after that a single trial request is allowed
+     * Can be between 1 second and 10 minutes - default 30 seconds
+     * @return how long the fast api requests fail immediately once the circuit breaker opens
+     */
+    public static Duration getApiCircuitBreakerOpenDuration() { return apiCircuitBreakerOpenDuration; }
+
+    /**
+     * Gets the max number of sport events which are loaded concurrently when a list of sport events is built
+     * (e.g. getCompetitionsFor, getLiveCompetitions, getListOfSportEvents), also used as the max number of the
+     * concurrent profile requests when the player and competitor names of a market are pre-fetched
+     * Can be between 1 and 100 - default 8 (1 means the events are loaded one after another)
+     * @return the max number of sport events loaded concurrently
+     */
+    public static int getBulkEventLoadParallelism() { return bulkEventLoadParallelism; }
+
+    /**
+     * Gets the date schedule cache timeout - how long the event ids of an already loaded date schedule are provided
+     * from the cached sport events instead of requesting the schedule again
+     * Can be between 0 min and 24 hours - default 0 min (absolute expiration, 0 means the schedule is always requested)
+     * @return the date schedule cache timeout
+     */
+    public static Duration getDateScheduleCacheTimeout() { return dateScheduleCacheTimeout; }
+
+    /**
+     * Gets how long a feed channel may stay without any received message before it is recreated
+     * (the channels are checked every 20 seconds)
+     * Can be between 20 seconds and 60 minutes - default 180 seconds
+     * @return the time without messages after which a feed channel is recreated
+     */
+    public static Duration getChannelSilenceTimeout() { return channelSilenceTimeout; }
+
     /**
      * Initialization of default values of the OperationManager
      */
@@ -93,6 +162,14 @@ public final class OperationManager
         rabbitConnectionTimeout = 30; // ConnectionFactory.DEFAULT_CONNECTION_TIMEOUT / 1000;
         rabbitHeartbeat = ConnectionFactory.DEFAULT_HEARTBEAT;
         fastHttpClientTimeout = Duration.ofSeconds(5);
+        cashOutProbabilitiesCacheTimeout = Duration.ZERO;
+        fastHttpClientDispatchDeadline = Duration.ZERO;
+        fastHttpClientHedging = false;
+        apiCircuitBreakerFailureThreshold = 0;
+        apiCircuitBreakerOpenDuration = Duration.ofSeconds(30);
+        bulkEventLoadParallelism = 8;
+        dateScheduleCacheTimeout = Duration.ZERO;
+        channelSilenceTimeout = Duration.ofSeconds(180);
     }
 
     /**
@@ -238,4 +315,151 @@ public final class OperationManager
         String msg = String.format("Invalid timeout value for FastHttpClientTimeout: %s ms.", timeout.toMillis());
         throw new IllegalArgumentException(msg);
     }
+
+    /**
+     * Sets the cash out probabilities cache timeout (in milliseconds). Must be set before feed instance is created.
+     * @param timeout timeout value
+     */
+    public static void setCashOutProbabilitiesCacheTimeout(Duration timeout)
+    {
+        if(timeout == null) {
+            String msg = "Missing timeout value for CashOutProbabilitiesCacheTimeout";
+            throw new IllegalArgumentException(msg);
+        }
+
+        if (timeout.toMillis() >= 0 && timeout.toMillis() <= 5000) {
+            cashOutProbabilitiesCacheTimeout = timeout;
+            InteractionLog.info("Set CashOutProbabilitiesCacheTimeout to {} ms.", timeout.toMillis());
+            return;
+        }
+
+        String msg = String.format("Invalid timeout value for CashOutProbabilitiesCacheTimeout: %s ms.", timeout.toMillis());
+        throw new IllegalArgumentException(msg);
+    }
+
+    /**
+     * Sets the deadline of all fast api requests made while a single feed message is dispatched to the listeners (in milliseconds)
+     * @param deadline deadline value, 0 disables the deadline
+     */
+    public static void setFastHttpClientDispatchDeadline(Duration deadline)
+    {
+        if(deadline == null) {
+            String msg = "Missing deadline value for FastHttpClientDispatchDeadline";
+            throw new IllegalArgumentException(msg);
+        }
+
+        if (deadline.toMillis() >= 0 && deadline.toMillis() <= 30000) {
+            fastHttpClientDispatchDeadline = deadline;
+            InteractionLog.info("Set FastHttpClientDispatchDeadline to {} ms.", deadline.toMillis());
+            return;
+        }
+
+        String msg = String.format("Invalid deadline value for FastHttpClientDispatchDeadline: %s ms.", deadline.toMillis());
+        throw new IllegalArgumentException(msg);
+    }
+
+    /**
+     * Sets the value indicating whether a slow fast api GET request is hedged with a second attempt. Must be set before feed instance is created.
+     * @param hedging true if slow fast api requests should be hedged, otherwise false
+     */
+    public static void setFastHttpClientHedging(boolean hedging)
+    {
+        fastHttpClientHedging = hedging;
+        InteractionLog.info("Set FastHttpClientHedging to {}.", hedging);
+    }
+
+    /**
+     * Sets the number of consecutive failed fast api requests which opens the circuit breaker. Must be set before feed instance is created.
+     * @param threshold threshold value, 0 disables the circuit breaker
+     */
+    public static void setApiCircuitBreakerFailureThreshold(int threshold)
+    {
+        if (threshold >= 0 && threshold <= 100) {
+            apiCircuitBreakerFailureThreshold = threshold;
+            InteractionLog.info("Set ApiCircuitBreakerFailureThreshold to {}.", threshold);
+            return;
+        }
+
+        String msg = String.format("Invalid value for ApiCircuitBreakerFailureThreshold: %s.", threshold);
+        throw new IllegalArgumentException(msg);
+    }
+
+    /**
+     * Sets how long the fast api requests fail immediately once the circuit breaker opens. Must be set before feed instance is created.
+     * @param duration duration value
+     */
+    public static void setApiCircuitBreakerOpenDuration(Duration duration)
+    {
+        if(duration == null) {
+            String msg = "Missing duration value for ApiCircuitBreakerOpenDuration";
+            throw new IllegalArgumentException(msg);
+        }
+
+        if (duration.getSeconds() >= 1 && duration.compareTo(Duration.ofMinutes(10)) <= 0) {
+            apiCircuitBreakerOpenDuration = duration;
+            InteractionLog.info("Set ApiCircuitBreakerOpenDuration to {} s.", duration.getSeconds());
+            return;
+        }
+
+        String msg = String.format("Invalid duration value for ApiCircuitBreakerOpenDuration: %s s.", duration.getSeconds());
+        throw new IllegalArgumentException(msg);
+    }
+
+    /**
+     * Sets the max number of sport events which are loaded concurrently when a list of sport events is built
+     * @param parallelism parallelism value, 1 loads the events one after another
+     */
+    public static void setBulkEventLoadParallelism(int parallelism)
+    {
+        if (parallelism >= 1 && parallelism <= 100) {
+            bulkEventLoadParallelism = parallelism;
+            InteractionLog.info("Set BulkEventLoadParallelism to {}.", parallelism);
+            return;
+        }
+
+        String msg = String.format("Invalid value for BulkEventLoadParallelism: %s.", parallelism);
+        throw new IllegalArgumentException(msg);
+    }
+
+    /**
+     * Sets the date schedule cache timeout
+     * @param timeout timeout value
+     */
+    public static void setDateScheduleCacheTimeout(Duration timeout)
+    {
+        if(timeout == null) {
+            String msg = "Missing timeout value for DateScheduleCacheTimeout";
+            throw new IllegalArgumentException(msg);
+        }
+
+        if (!timeout.isNegative() && timeout.compareTo(Duration.ofHours(24)) <= 0) {
+            dateScheduleCacheTimeout = timeout;
+            InteractionLog.info("Set DateScheduleCacheTimeout to {} min.", timeout.toMinutes());
+            return;
+        }
+
+        String msg = String.format("Invalid timeout value for DateScheduleCacheTimeout: %s min.", timeout.toMinutes());
+        throw new IllegalArgumentException(msg);
+    }
+
+    /**
+     * Sets how long a feed channel may stay without any received message before it is recreated
+     * @param timeout timeout value
+     */
+    public static void setChannelSilenceTimeout(Duration timeout)
+    {
+        if(timeout == null) {
+            String msg = "Missing timeout value for ChannelSilenceTimeout";
+            throw new IllegalArgumentException(msg);
+        }
+
+        if (timeout.getSeconds() >= 20 && timeout.compareTo(Duration.ofMinutes(60)) <= 0) {
+            channelSilenceTimeout = timeout;
+            InteractionLog.info("Set ChannelSilenceTimeout to {} s.", timeout.getSeconds());
+            return;
+        }
+
+        String msg = String.format("Invalid timeout value for ChannelSilenceTimeout: %s s.", timeout.getSeconds());
+        throw new IllegalArgumentException(msg);
+    }
 }
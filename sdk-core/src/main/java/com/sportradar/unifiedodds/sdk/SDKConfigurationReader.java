@@ -221,6 +221,77 @@ public abstract class SDKConfigurationReader {
                 .orElse(Collections.emptySet());
     }
 
+    public Optional<String> readTrafficRecorderDirectory() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.trafficRecorderDirectory"))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty());
+    }
+
+    public Optional<Integer> readTrafficRecorderSegmentSizeMb() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.trafficRecorderSegmentSizeMb"))
+                .map(value -> {
+                    try {
+                        int size = Integer.parseInt(value);
+                        if (size < 1 || size > 1024) {
+                            throw new IllegalArgumentException("The provided uf.sdk.trafficRecorderSegmentSizeMb must be between 1 and 1024, value: " + value);
+                        }
+                        return size;
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The provided uf.sdk.trafficRecorderSegmentSizeMb is not a valid number, value: " + value);
+                    }
+                });
+    }
+
+    public Optional<Integer> readTrafficRecorderMaxSegments() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.trafficRecorderMaxSegments"))
+                .map(value -> {
+                    try {
+                        int segments = Integer.parseInt(value);
+                        if (segments < 1) {
+                            throw new IllegalArgumentException("The provided uf.sdk.trafficRecorderMaxSegments must be a positive number, value: " + value);
+                        }
+                        return segments;
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The provided uf.sdk.trafficRecorderMaxSegments is not a valid number, value: " + value);
+                    }
+                });
+    }
+
+    public Optional<Boolean> readTrafficRecorderCompression() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.trafficRecorderCompression"))
+                .map(value -> value.equals("true"));
+    }
+
+    public Optional<Boolean> readStreamingMessageParser() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.streamingMessageParser"))
+                .map(value -> value.equals("true"));
+    }
+
+    public Optional<Boolean> readManualAcknowledgements() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.manualAcknowledgements"))
+                .map(value -> value.equals("true"));
+    }
+
+    public Optional<Boolean> readSharedCacheScope() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.sharedCacheScope"))
+                .map(value -> value.equals("true"));
+    }
+
+    public Optional<Integer> readChannelPrefetchCount() {
+        return Optional.ofNullable(sdkProperties.get("uf.sdk.channelPrefetchCount"))
+                .map(value -> {
+                    try {
+                        int prefetchCount = Integer.parseInt(value);
+                        if (prefetchCount < 1 || prefetchCount > 65535) {
+                            throw new IllegalArgumentException("The provided uf.sdk.channelPrefetchCount must be between 1 and 65535, value: " + value);
+                        }
+                        return prefetchCount;
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("The provided uf.sdk.channelPrefetchCount is not a valid number, value: " + value);
+                    }
+                });
+    }
+
     public Optional<Integer> readMinIntervalBetweenRecoveryRequests() {
         return Optional.ofNullable(sdkProperties.get("uf.sdk.minIntervalBetweenRecoveryRequests")).map(value -> {
             try {
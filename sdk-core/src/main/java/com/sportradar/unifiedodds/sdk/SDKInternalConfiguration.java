@@ -8,6 +8,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.sportradar.unifiedodds.sdk.cfg.Environment;
 import com.sportradar.unifiedodds.sdk.cfg.OddsFeedConfiguration;
+import com.sportradar.unifiedodds.sdk.cfg.SdkExecutorProvider;
 
 import java.util.*;
 
@@ -43,6 +44,15 @@ public class SDKInternalConfiguration {
     private final int httpClientMaxConnPerRoute;
     private final int recoveryHttpClientMaxConnTotal;
     private final int recoveryHttpClientMaxConnPerRoute;
+    private final SdkExecutorProvider executorProvider;
+    private final String trafficRecorderDirectory;
+    private final int trafficRecorderSegmentSizeMb;
+    private final int trafficRecorderMaxSegments;
+    private final boolean trafficRecorderCompression;
+    private final boolean streamingMessageParser;
+    private final boolean manualAcknowledgements;
+    private final int channelPrefetchCount;
+    private final boolean sharedCacheScope;
 
     SDKInternalConfiguration(OddsFeedConfiguration cfg,
                              SDKConfigurationPropertiesReader sdkConfigurationPropertiesReader,
@@ -84,6 +94,7 @@ public class SDKInternalConfiguration {
         recoveryHttpClientTimeout = cfg.getRecoveryHttpClientTimeout();
         recoveryHttpClientMaxConnTotal = cfg.getRecoveryHttpClientMaxConnTotal();
         recoveryHttpClientMaxConnPerRoute = cfg.getRecoveryHttpClientMaxConnPerRoute();
+        executorProvider = cfg.getExecutorProvider();
 
         cleanTrafficLogEntries = sdkConfigurationPropertiesReader.readCleanTrafficLogEntries()
                 .orElse(sdkConfigurationYamlReader.readCleanTrafficLogEntries()
@@ -92,6 +103,31 @@ public class SDKInternalConfiguration {
                 .orElse(sdkConfigurationYamlReader.readSimpleVariantCaching()
                         .orElse(false));
 
+        trafficRecorderDirectory = sdkConfigurationPropertiesReader.readTrafficRecorderDirectory()
+                .orElse(sdkConfigurationYamlReader.readTrafficRecorderDirectory()
+                        .orElse(null));
+        trafficRecorderSegmentSizeMb = sdkConfigurationPropertiesReader.readTrafficRecorderSegmentSizeMb()
+                .orElse(sdkConfigurationYamlReader.readTrafficRecorderSegmentSizeMb()
+                        .orElse(64));
+        trafficRecorderMaxSegments = sdkConfigurationPropertiesReader.readTrafficRecorderMaxSegments()
+                .orElse(sdkConfigurationYamlReader.readTrafficRecorderMaxSegments()
+                        .orElse(10));
+        trafficRecorderCompression = sdkConfigurationPropertiesReader.readTrafficRecorderCompression()
+                .orElse(sdkConfigurationYamlReader.readTrafficRecorderCompression()
+                        .orElse(false));
+        streamingMessageParser = sdkConfigurationPropertiesReader.readStreamingMessageParser()
+                .orElse(sdkConfigurationYamlReader.readStreamingMessageParser()
+                        .orElse(false));
+        manualAcknowledgements = sdkConfigurationPropertiesReader.readManualAcknowledgements()
+                .orElse(sdkConfigurationYamlReader.readManualAcknowledgements()
+                        .orElse(false));
+        channelPrefetchCount = sdkConfigurationPropertiesReader.readChannelPrefetchCount()
+                .orElse(sdkConfigurationYamlReader.readChannelPrefetchCount()
+                        .orElse(500));
+        sharedCacheScope = sdkConfigurationPropertiesReader.readSharedCacheScope()
+                .orElse(sdkConfigurationYamlReader.readSharedCacheScope()
+                        .orElse(false));
+
         schedulerTasksToSkip = new HashSet<>();
         schedulerTasksToSkip.addAll(sdkConfigurationPropertiesReader.readSchedulerTasksToSkip());
         schedulerTasksToSkip.addAll(sdkConfigurationYamlReader.readSchedulerTasksToSkip());
@@ -256,6 +292,82 @@ public class SDKInternalConfiguration {
         return cleanTrafficLogEntries;
     }
 
+    /**
+     * Returns the directory in which the received traffic is recorded into binary segment files
+     *
+     * @return the traffic recorder directory or a null reference if the traffic is logged by the traffic loggers
+     */
+    public String getTrafficRecorderDirectory() {
+        return trafficRecorderDirectory;
+    }
+
+    /**
+     * Returns the size of a single traffic recorder segment file(megabytes)
+     *
+     * @return the size of a single traffic recorder segment file(megabytes)
+     */
+    public int getTrafficRecorderSegmentSizeMb() {
+        return trafficRecorderSegmentSizeMb;
+    }
+
+    /**
+     * Returns the max number of the kept traffic recorder segment files, the oldest are deleted
+     *
+     * @return the max number of the kept traffic recorder segment files
+     */
+    public int getTrafficRecorderMaxSegments() {
+        return trafficRecorderMaxSegments;
+    }
+
+    /**
+     * Indicates if the recorded payloads should be compressed
+     *
+     * @return <code>true</code> if the recorded payloads should be compressed; otherwise <code>false</code>
+     */
+    public boolean isTrafficRecorderCompressionEnabled() {
+        return trafficRecorderCompression;
+    }
+
+    /**
+     * Indicates if the odds_change, bet_stop, bet_settlement and alive messages should be parsed by
+     * the streaming parser instead of the JAXB unmarshaller
+     *
+     * @return <code>true</code> if the streaming parser should be used; otherwise <code>false</code>
+     */
+    public boolean isStreamingMessageParserEnabled() {
+        return streamingMessageParser;
+    }
+
+    /**
+     * Indicates if the feed messages should be acknowledged once they are dispatched, instead of being
+     * acknowledged automatically by the broker on delivery
+     *
+     * @return <code>true</code> if the manual acknowledgements are enabled; otherwise <code>false</code>
+     */
+    public boolean isManualAcknowledgementsEnabled() {
+        return manualAcknowledgements;
+    }
+
+    /**
+     * Returns the max number of unacknowledged messages delivered on a single channel, used only with
+     * the manual acknowledgements
+     *
+     * @return the channel prefetch count
+     */
+    public int getChannelPrefetchCount() {
+        return channelPrefetchCount;
+    }
+
+    /**
+     * Indicates if the sports, market descriptions and profiles caches should be shared with the other feed instances
+     * in the same JVM which use the same API host, desired locales, default locale and exception handling strategy
+     *
+     * @return <code>true</code> if the caches should be shared; otherwise <code>false</code>
+     */
+    public boolean isSharedCacheScopeEnabled() {
+        return sharedCacheScope;
+    }
+
     /**
      * Indicates the timeout which should be used on HTTP requests(seconds)
      *
@@ -337,6 +449,15 @@ public class SDKInternalConfiguration {
         return recoveryHttpClientMaxConnPerRoute;
     }
 
+    /**
+     * Returns the {@link SdkExecutorProvider} which provides the executors used by the SDK
+     *
+     * @return the {@link SdkExecutorProvider} which provides the executors used by the SDK
+     */
+    public SdkExecutorProvider getExecutorProvider() {
+        return executorProvider;
+    }
+
     /**
      * Updates the API host - this method can be used only while in replay mode, no other SDK modes support this
      *
@@ -371,12 +492,18 @@ public class SDKInternalConfiguration {
                 .add("exceptionHandlingStrategy=" + exceptionHandlingStrategy)
                 .add("sdkNodeId=" + sdkNodeId)
                 .add("cleanTrafficLogEntries=" + cleanTrafficLogEntries)
+                .add("trafficRecorderDirectory='" + trafficRecorderDirectory + "'")
+                .add("streamingMessageParser=" + streamingMessageParser)
+                .add("manualAcknowledgements=" + manualAcknowledgements)
+                .add("channelPrefetchCount=" + channelPrefetchCount)
+                .add("sharedCacheScope=" + sharedCacheScope)
                 .add("httpClientTimeout=" + httpClientTimeout)
                 .add("httpClientMaxConnTotal=" + httpClientMaxConnTotal)
                 .add("httpClientMaxConnPerRoute=" + httpClientMaxConnPerRoute)
                 .add("recoveryHttpClientTimeout=" + recoveryHttpClientTimeout)
                 .add("recoveryHttpClientMaxConnTotal=" + recoveryHttpClientMaxConnTotal)
                 .add("recoveryHttpClientMaxConnPerRoute=" + recoveryHttpClientMaxConnPerRoute)
+                .add("executorProvider=" + executorProvider.getClass().getSimpleName())
                 .add("disabledProducers=" + disabledProducers)
                 .add("simpleVariantCaching=" + simpleVariantCaching)
                 .add("schedulerTasksToSkip=" + schedulerTasksToSkip)
@@ -88,6 +88,17 @@ public interface SportEntityFactory {
      */
     List<Competition> buildSportEvents(List<URN> ids, List<Locale> locales) throws ObjectNotFoundException;
 
+    /**
+     * Builds an immutable snapshot of the {@link Match} associated with the provided {@link URN}, the data
+     * required by the snapshot is loaded in a single pass
+     *
+     * @param id the {@link URN} specifying the identifier of the match
+     * @param locales a {@link List} of locales specifying the languages used in the returned instance
+     * @return the constructed snapshot
+     * @throws ObjectNotFoundException if the requested match could not be provided or the identifier does not belong to a match
+     */
+    Match buildMatchSnapshot(URN id, List<Locale> locales) throws ObjectNotFoundException;
+
     /**
      * Builds a {@link Competitor} instance associated with the provided {@link URN}
      *
@@ -14,6 +14,7 @@ import java.util.Date;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 /**
  * Defines methods implemented by classes used to provide sport related data (sports, tournaments, competitions, ...)
@@ -341,6 +342,31 @@ public interface SportsInfoManager {
         return null;
     }
 
+    /**
+     * Streams all the events returned by the list sport events endpoint, page by page. While a page is being consumed,
+     * the next page is already requested, so only a couple of pages are held in memory regardless of the schedule size.
+     * The returned {@link Stream} should be closed if it is not consumed to the end.
+     *
+     * @param pageSize how many records to request in a single page (max: 1000)
+     * @return a {@link Stream} of sport events
+     */
+    default Stream<Competition> streamListOfSportEvents(int pageSize) {
+        return null;
+    }
+
+    /**
+     * Streams all the events returned by the list sport events endpoint, page by page. While a page is being consumed,
+     * the next page is already requested, so only a couple of pages are held in memory regardless of the schedule size.
+     * The returned {@link Stream} should be closed if it is not consumed to the end.
+     *
+     * @param pageSize how many records to request in a single page (max: 1000)
+     * @param locale   the {@link Locale} in which to provide the data
+     * @return a {@link Stream} of sport events
+     */
+    default Stream<Competition> streamListOfSportEvents(int pageSize, Locale locale) {
+        return null;
+    }
+
     /**
      * Returns all the available tournaments for a specific sport
      * (the returned data is translated in the default locale configured with the {@link OddsFeedConfiguration})
@@ -421,4 +447,31 @@ public interface SportsInfoManager {
      * @return the list of {@link TimelineEvent} for the sport event
      */
     default List<TimelineEvent> getTimelineEvents(URN id, Locale locale) { return null; }
+
+    /**
+     * Returns an immutable snapshot of the specified match, all the values of the snapshot are loaded when it is
+     * created so reading them does not access the caches
+     * (the returned data is translated in the configured {@link Locale}s using the {@link OddsFeedConfiguration})
+     * <p>
+     * The snapshots are only available for matches, the identifiers of the other sport events (e.g. stages or
+     * tournaments) are handled as sport events which could not be found
+     *
+     * @param id - an {@link URN} identifier specifying the match requested
+     * @return - an immutable snapshot of the specified match
+     */
+    default Match getMatchSnapshot(URN id) { return null; }
+
+    /**
+     * Returns an immutable snapshot of the specified match, all the values of the snapshot are loaded when it is
+     * created so reading them does not access the caches
+     * (the returned data is translated in the specified {@link Locale}s)
+     * <p>
+     * The snapshots are only available for matches, the identifiers of the other sport events (e.g. stages or
+     * tournaments) are handled as sport events which could not be found
+     *
+     * @param id - an {@link URN} identifier specifying the match requested
+     * @param locales - the {@link Locale}s in which to provide the data
+     * @return - an immutable snapshot of the specified match
+     */
+    default Match getMatchSnapshot(URN id, List<Locale> locales) { return null; }
 }
@@ -115,6 +115,13 @@ public interface CompetitorCI extends CacheItem {
      */
     List<Locale> getCultureCompetitorProfileFetched();
 
+    /**
+     * Returns the list of locales in which the competitor data is cached
+     *
+     * @return the list of cached locales
+     */
+    List<Locale> getCachedLocales();
+
     /**
      * Returns state/province of the country
      *
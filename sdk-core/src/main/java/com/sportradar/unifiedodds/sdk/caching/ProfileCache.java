@@ -8,6 +8,7 @@ import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundExcep
 import com.sportradar.unifiedodds.sdk.exceptions.internal.IllegalCacheStateException;
 import com.sportradar.utils.URN;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 
@@ -34,6 +35,17 @@ public interface ProfileCache {
      */
     CompetitorCI getCompetitorProfile(URN id, List<Locale> locales) throws IllegalCacheStateException, CacheItemNotFoundException;
 
+    /**
+     * Ensures that the player and competitor profiles associated with the provided {@link URN}s are cached in the
+     * provided locales, so the names of a whole market can be built without a request for each profile
+     *
+     * @param ids - the unique {@link URN} identifiers of the players and competitors
+     * @param locales - a {@link List} of locales in which the data is required
+     * @param possibleAssociatedCompetitorIds - a list of possible associated competitors, their profiles are fetched
+     *                                        first since they contain the profiles of their players
+     */
+    void prefetchProfiles(Collection<URN> ids, List<Locale> locales, List<URN> possibleAssociatedCompetitorIds);
+
     /**
      * Purges the associated competitor cache item
      *
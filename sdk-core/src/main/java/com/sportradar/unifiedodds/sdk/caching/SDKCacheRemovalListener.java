@@ -20,6 +20,7 @@ public class SDKCacheRemovalListener<K, V> implements RemovalListener<K, V> {
     private final String cacheName;
     private final boolean useDebugLog;
     private boolean logRemoval;
+    private volatile RemovalListener<K, V> removalHandler;
 
     public SDKCacheRemovalListener(String cacheName) {
         this(cacheName, false);
@@ -34,6 +35,11 @@ public class SDKCacheRemovalListener<K, V> implements RemovalListener<K, V> {
 
     @Override
     public void onRemoval(RemovalNotification<K, V> notification) {
+        RemovalListener<K, V> handler = removalHandler;
+        if (handler != null) {
+            handler.onRemoval(notification);
+        }
+
         if(!logRemoval){
             return;
         }
@@ -50,4 +56,13 @@ public class SDKCacheRemovalListener<K, V> implements RemovalListener<K, V> {
     public void EnableLogRemoval(boolean logRemoval){
         this.logRemoval = logRemoval;
     }
+
+    /**
+     * Sets the handler notified about each removal from the cache, regardless of the removal logging
+     *
+     * @param removalHandler the handler notified about the removals or a null reference
+     */
+    public void setRemovalHandler(RemovalListener<K, V> removalHandler) {
+        this.removalHandler = removalHandler;
+    }
 }
@@ -26,6 +26,15 @@ public interface SportEventCache {
      */
     SportEventCI getEventCacheItem(URN id) throws CacheItemNotFoundException;
 
+    /**
+     * Returns an indication if the cache item associated with the provided {@link URN} is already cached
+     * (the cache item is not loaded if it is missing)
+     *
+     * @param id the {@link URN} specifying the event
+     * @return <code>true</code> if the cache item is cached; otherwise <code>false</code>
+     */
+    boolean isEventCached(URN id);
+
     /**
      * Returns a {@link List} containing id's of sport events, which belong to a specific tournament
      *
@@ -46,6 +55,16 @@ public interface SportEventCache {
      */
     List<URN> getEventIds(Date date, Locale locale) throws IllegalCacheStateException;
 
+    /**
+     * Returns a {@link List} containing id's of the cached sport events, which are scheduled in the provided time range
+     * (no api request is invoked)
+     *
+     * @param from the start of the time range (inclusive)
+     * @param to the end of the time range (exclusive)
+     * @return a {@link List} of the cached sport events scheduled in the provided time range, ordered by the scheduled time
+     */
+    List<URN> getCachedEventIds(Date from, Date to);
+
     /**
      * Purges an item from the {@link SportEventCache}
      *
@@ -446,6 +446,7 @@ public class DataRouterManagerImpl implements DataRouterManager {
                 return;
             }
 
+            // not revalidated conditionally, the list repopulates the tournaments expired from the sport event cache
             SAPITournamentsEndpoint endpoint;
             try {
                 endpoint = tournamentsListProvider.getData(locale);
@@ -477,11 +478,17 @@ public class DataRouterManagerImpl implements DataRouterManager {
 
             SAPISportsEndpoint endpoint;
             try {
-                endpoint = sportsListProvider.getData(locale);
+                endpoint = sportsListProvider.getDataIfModified(locale);
             } catch (DataProviderException e) {
                 throw new CommunicationException(String.format("Error execution all sports request for locale=%s", locale), e);
             }
 
+            if (endpoint == null) {
+                logger.info("The all sports list for locale={} was not modified since the last refresh", locale);
+                sportsListDataFetched.add(locale);
+                return;
+            }
+
             dispatchReceivedRawApiData(sportsListProvider.getFinalUrl(locale, ""), endpoint);
 
             dataRouter.onSportsListFetched(endpoint, locale);
@@ -511,6 +518,7 @@ public class DataRouterManagerImpl implements DataRouterManager {
                 return Collections.emptyList();
             }
 
+            // not revalidated conditionally, the list repopulates the lotteries expired from the sport event cache
             SAPILotteries endpoint;
             try {
                 endpoint = lotteriesListProvider.getData(locale);
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+/**
+ * An immutable snapshot of values identified by small integer identifiers. Values with identifiers
+ * in the dense range are stored in an array indexed by the identifier, the others are looked up in a map.
+ *
+ * @param <T> the type of the stored values
+ */
+public final class IdIndexedValues<T> {
+    /**
+     * The biggest identifier stored in the array, the named value and market ids are expected to be far below
+     */
+    private static final int MAX_DENSE_ID = 4096;
+
+    private static final IdIndexedValues<?> EMPTY = new IdIndexedValues<>(ImmutableMap.of());
+
+    private final Object[] dense;
+    private final Map<Integer, T> values;
+
+    private IdIndexedValues(Map<Integer, T> values) {
+        this.values = ImmutableMap.copyOf(values);
+
+        int maxDenseId = -1;
+        for (Integer id : values.keySet()) {
+            if (id >= 0 && id <= MAX_DENSE_ID && id > maxDenseId) {
+                maxDenseId = id;
+            }
+        }
+
+        this.dense = new Object[maxDenseId + 1];
+        values.forEach((id, value) -> {
+            if (id >= 0 && id < dense.length) {
+                dense[id] = value;
+            }
+        });
+    }
+
+    /**
+     * Returns an empty snapshot
+     *
+     * @param <T> the type of the stored values
+     * @return an empty snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> IdIndexedValues<T> empty() {
+        return (IdIndexedValues<T>) EMPTY;
+    }
+
+    /**
+     * Builds a new snapshot containing the provided values
+     *
+     * @param values the values which should be stored in the snapshot
+     * @param <T> the type of the stored values
+     * @return a new snapshot containing the provided values
+     */
+    public static <T> IdIndexedValues<T> of(Map<Integer, T> values) {
+        Preconditions.checkNotNull(values);
+
+        return new IdIndexedValues<>(values);
+    }
+
+    /**
+     * Returns the value associated with the provided identifier
+     *
+     * @param id the identifier of the value
+     * @return the value associated with the provided identifier or a null reference if the value is not defined
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int id) {
+        if (id >= 0 && id < dense.length) {
+            return (T) dense[id];
+        }
+
+        return id > MAX_DENSE_ID || id < 0 ? values.get(id) : null;
+    }
+
+    /**
+     * Returns an immutable {@link Map} view of the stored values
+     *
+     * @return an immutable {@link Map} view of the stored values
+     */
+    public Map<Integer, T> asMap() {
+        return values;
+    }
+
+    /**
+     * Returns the number of the stored values
+     *
+     * @return the number of the stored values
+     */
+    public int size() {
+        return values.size();
+    }
+}
@@ -8,23 +8,22 @@ import com.google.common.base.Preconditions;
 import com.sportradar.unifiedodds.sdk.caching.LocalizedNamedValueCache;
 import com.sportradar.unifiedodds.sdk.caching.ci.NamedValueCI;
 import com.sportradar.unifiedodds.sdk.entities.LocalizedNamedValue;
-import com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderException;
 import com.sportradar.unifiedodds.sdk.impl.DataProvider;
 import com.sportradar.unifiedodds.sdk.impl.SDKTaskScheduler;
 import com.sportradar.unifiedodds.sdk.impl.entities.LocalizedNamedValueImpl;
-import com.sportradar.utils.SdkHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Locale;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
- * An implementation of {@link LocalizedNamedValueCache} used to cache {@link LocalizedNamedValue} items
+ * An implementation of {@link LocalizedNamedValueCache} used to cache {@link LocalizedNamedValue} items.
+ *
+ * The translations are served from an immutable snapshot which is replaced only after the data was fetched, so
+ * the readers never wait for the API requests once the requested locales were fetched. Requests for undefined
+ * values trigger a background refresh, limited by a {@link RefreshBackoff}.
  */
 public class LocalizedNamedValueCacheImpl implements LocalizedNamedValueCache {
     /**
@@ -32,30 +31,35 @@ public class LocalizedNamedValueCacheImpl implements LocalizedNamedValueCache {
      */
     private static final Logger cacheLog = LoggerFactory.getLogger(LocalizedNamedValueCacheImpl.class);
 
+    /**
+     * The result of a fetch indicating that the cached translations of the locale did not change
+     */
+    private static final Map<Integer, String> NOT_MODIFIED = Collections.emptyMap();
+
     /**
      * A {@link DataProvider} which is used to get new data
      */
     private final DataProvider dataProvider;
 
     /**
-     * A {@link List} of all supported {@link Locale}
+     * The {@link SDKTaskScheduler} used to perform the background refreshes
      */
-    private final List<Locale> defaultLocales;
+    private final SDKTaskScheduler scheduler;
 
     /**
-     * A {@link ConcurrentHashMap} storing the translated values
+     * A {@link List} of all supported {@link Locale}
      */
-    private final ConcurrentHashMap<Integer, ConcurrentHashMap<Locale, String>> namedValues;
+    private final List<Locale> defaultLocales;
 
     /**
-     * A {@link List } of {@link Locale} that are already fetched
+     * The {@link RefreshBackoff} limiting the fetch attempts triggered by the readers
      */
-    private final List<Locale> fetchedLocales;
+    private final RefreshBackoff refreshBackoff;
 
     /**
-     * The {@link Object} used to synchronize the access
+     * The snapshot of the fetched translations
      */
-    private final Object lock = new Object();
+    private volatile Translations translations;
 
     /**
      * Initializes a new instance of {@link LocalizedNamedValueCacheImpl}
@@ -66,13 +70,14 @@ public class LocalizedNamedValueCacheImpl implements LocalizedNamedValueCache {
      */
     public LocalizedNamedValueCacheImpl(DataProvider dataProvider, SDKTaskScheduler scheduler, List<Locale> defaultLocales) {
         Preconditions.checkNotNull(dataProvider);
+        Preconditions.checkNotNull(scheduler);
         Preconditions.checkNotNull(defaultLocales);
 
         this.dataProvider = dataProvider;
+        this.scheduler = scheduler;
         this.defaultLocales = defaultLocales;
-
-        this.namedValues = new ConcurrentHashMap<>();
-        this.fetchedLocales = Collections.synchronizedList(new ArrayList<>());
+        this.refreshBackoff = new RefreshBackoff(30, 600, TimeUnit.SECONDS);
+        this.translations = new Translations(Collections.emptySet(), IdIndexedValues.empty());
 
         scheduler.scheduleAtFixedRate("LocalizedNamedValueRefreshTask", this::onTimerElapsed, 24, 24, TimeUnit.HOURS);
     }
@@ -92,22 +97,18 @@ public class LocalizedNamedValueCacheImpl implements LocalizedNamedValueCache {
             locales = defaultLocales;
         }
 
-        ConcurrentHashMap<Locale, String> cachedTranslations;
-        synchronized (lock) {
-            List<Locale> missingLocales = SdkHelper.findMissingLocales(fetchedLocales, locales);
-
-            if (!missingLocales.isEmpty()) {
-                getInternal(missingLocales);
-            }
-
-            cachedTranslations = namedValues.get(id);
+        Translations current = translations;
+        if (!current.locales.containsAll(locales)) {
+            current = fetchMissingLocales(locales);
         }
 
+        ConcurrentHashMap<Locale, String> cachedTranslations = current.values.get(id);
         if (cachedTranslations == null) {
+            onValueMissing();
             return new LocalizedNamedValueImpl(id, null, null);
         }
 
-        return new LocalizedNamedValueImpl(id, cachedTranslations, locales.stream().findFirst().orElse(defaultLocales.get(0)));
+        return new LocalizedNamedValueImpl(id, cachedTranslations, locales.get(0));
     }
 
     /**
@@ -118,69 +119,197 @@ public class LocalizedNamedValueCacheImpl implements LocalizedNamedValueCache {
      */
     @Override
     public boolean isValueDefined(int id) {
-        boolean exists;
-        synchronized (lock) {
-            if (fetchedLocales.isEmpty()) {
-                getInternal(Collections.singletonList(defaultLocales.stream().findFirst().orElse(Locale.ENGLISH)));
-            }
-            exists = namedValues.containsKey(id);
+        Translations current = translations;
+        if (current.locales.isEmpty()) {
+            current = fetchMissingLocales(Collections.singletonList(defaultLocales.stream().findFirst().orElse(Locale.ENGLISH)));
+        }
+
+        if (current.values.get(id) != null) {
+            return true;
         }
-        return exists;
+
+        onValueMissing();
+        return false;
     }
 
     /**
-     * Performs several calls of the {@link this#fetchAndMerge(Locale)}
+     * Fetches the locales which were not fetched yet, the attempts are limited by the {@link #refreshBackoff}
      *
-     * @param locales - a {@link List} of {@link Locale} in which the data should be retrieved
+     * @param locales - a {@link List} of {@link Locale} in which the data is required
+     * @return the current snapshot of the translations
      */
-    private void getInternal(List<Locale> locales) {
-        try {
-            locales.forEach(this::fetchAndMerge);
-        } catch (Exception ex) {
-            cacheLog.warn("An exception occurred while attempting to retrieve named values. [{}] Exception:", dataProvider, ex);
+    private synchronized Translations fetchMissingLocales(List<Locale> locales) {
+        Translations current = translations;
+        List<Locale> missingLocales = new ArrayList<>();
+        for (Locale locale : locales) {
+            if (!current.locales.contains(locale)) {
+                missingLocales.add(locale);
+            }
+        }
+
+        if (missingLocales.isEmpty() || !refreshBackoff.tryAcquire()) {
+            return current;
+        }
+
+        boolean fetchFailed = false;
+        for (Locale locale : missingLocales) {
+            Map<Integer, String> fetched = fetch(locale);
+            if (fetched == null) {
+                fetchFailed = true;
+            } else {
+                current = current.merge(locale, fetched);
+            }
+        }
+
+        translations = current;
+        onFetchCompleted(fetchFailed);
+        return current;
+    }
+
+    /**
+     * Schedules a background refresh if the requested value is not defined, the refresh attempts are
+     * limited by the {@link #refreshBackoff}
+     */
+    private void onValueMissing() {
+        if (!translations.locales.isEmpty() && refreshBackoff.tryAcquire()) {
+            scheduler.startOneTimeTask("LocalizedNamedValueMissingValueRefreshTask", this::onTimerElapsed);
         }
     }
 
     /**
-     * Fetches localized values using the provided {@link DataProvider}, the fetched data is
-     * than merged in the local cache
+     * Fetches localized values using the provided {@link DataProvider}, the values of an already fetched
+     * locale are re-downloaded only if they changed since the previous fetch
      *
      * @param locale - a {@link Locale} specifying the language in which the data should be fetched
+     * @return the fetched translations, {@link #NOT_MODIFIED} if the cached translations did not change
+     *         or a null reference if the fetch failed
      */
-    private void fetchAndMerge(Locale locale) {
+    private Map<Integer, String> fetch(Locale locale) {
         Preconditions.checkNotNull(locale);
 
         Object fetch;
         try {
-            fetch = dataProvider.getData(locale);
-        } catch (DataProviderException e) {
+            fetch = dataProvider.getDataIfModified(locale);
+            if (fetch == null) {
+                if (translations.locales.contains(locale)) {
+                    cacheLog.info("{} not modified for locale {}, the current values are kept", dataProvider, locale);
+                    return NOT_MODIFIED;
+                }
+                fetch = dataProvider.getData(locale);
+            }
+        } catch (Exception e) {
             cacheLog.warn("Error fetching Localized named values [{}] Exception:", dataProvider, e);
-            return;
+            return null;
         }
 
         List<NamedValueCI> namedValueCIS = NamedValueCI.mapToNamedValuesCI(fetch);
-        namedValueCIS.forEach(fetchedVal -> {
-            ConcurrentHashMap<Locale, String> storedData =
-                    namedValues.computeIfAbsent(fetchedVal.getId(), k -> new ConcurrentHashMap<>());
-
-            storedData.put(locale, fetchedVal.getDescription());
-        });
-
-        fetchedLocales.add(locale);
+        Map<Integer, String> result = new HashMap<>(namedValueCIS.size());
+        namedValueCIS.forEach(fetchedVal -> result.put(fetchedVal.getId(), fetchedVal.getDescription()));
 
         cacheLog.info("{} {} retrieved for locale {}", namedValueCIS.size(), fetch.getClass().getName(), locale);
+        return result;
+    }
+
+    private void onFetchCompleted(boolean fetchFailed) {
+        if (fetchFailed) {
+            refreshBackoff.onFailure();
+        } else {
+            refreshBackoff.onSuccess();
+        }
     }
 
     /**
-     * Timer scheduled for every 24h to refresh named values
+     * Timer scheduled for every 24h to refresh named values, the current translations are served until
+     * the refresh is completed and are kept for the locales which failed to refresh or did not change
      */
     private synchronized void onTimerElapsed() {
         try {
-            fetchedLocales.clear();
-            namedValues.clear();
-            defaultLocales.forEach(this::fetchAndMerge);
+            Translations current = translations;
+            Set<Locale> locales = new LinkedHashSet<>(defaultLocales);
+            locales.addAll(current.locales);
+
+            Map<Locale, Map<Integer, String>> fetchedLocales = new LinkedHashMap<>();
+            boolean modified = false;
+            boolean fetchFailed = false;
+            for (Locale locale : locales) {
+                Map<Integer, String> fetched = fetch(locale);
+                fetchedLocales.put(locale, fetched);
+                if (fetched == null) {
+                    fetchFailed = true;
+                } else if (fetched != NOT_MODIFIED) {
+                    modified = true;
+                }
+            }
+
+            if (modified) {
+                Translations refreshed = new Translations(Collections.emptySet(), IdIndexedValues.empty());
+                for (Map.Entry<Locale, Map<Integer, String>> entry : fetchedLocales.entrySet()) {
+                    Locale locale = entry.getKey();
+                    Map<Integer, String> fetched = entry.getValue();
+                    if (fetched != null && fetched != NOT_MODIFIED) {
+                        refreshed = refreshed.merge(locale, fetched);
+                    } else if (current.locales.contains(locale)) {
+                        refreshed = refreshed.merge(locale, current.getTranslations(locale));
+                    }
+                }
+                translations = refreshed;
+            }
+
+            onFetchCompleted(fetchFailed);
         } catch (Exception ex) {
             cacheLog.warn("An exception occurred while attempting to retrieve localized named values with the scheduled timer. [{}] Exception:", dataProvider, ex);
         }
     }
+
+    /**
+     * An immutable snapshot of the translations fetched for a set of locales. The translation maps are not
+     * modified once the snapshot is published.
+     */
+    private static final class Translations {
+        private final Set<Locale> locales;
+        private final IdIndexedValues<ConcurrentHashMap<Locale, String>> values;
+
+        private Translations(Set<Locale> locales, IdIndexedValues<ConcurrentHashMap<Locale, String>> values) {
+            this.locales = locales;
+            this.values = values;
+        }
+
+        /**
+         * Builds a new snapshot which contains the current translations and the provided translations of the locale
+         *
+         * @param locale the {@link Locale} of the provided translations
+         * @param localeTranslations the translations of the locale mapped by value identifiers
+         * @return a new snapshot containing the merged translations
+         */
+        private Translations merge(Locale locale, Map<Integer, String> localeTranslations) {
+            Map<Integer, ConcurrentHashMap<Locale, String>> merged = new HashMap<>();
+            values.asMap().forEach((id, translated) -> {
+                ConcurrentHashMap<Locale, String> copy = new ConcurrentHashMap<>(translated);
+                copy.remove(locale);
+                if (!copy.isEmpty()) {
+                    merged.put(id, copy);
+                }
+            });
+            localeTranslations.forEach((id, description) -> {
+                if (description != null) {
+                    merged.computeIfAbsent(id, k -> new ConcurrentHashMap<>()).put(locale, description);
+                }
+            });
+
+            Set<Locale> mergedLocales = new HashSet<>(locales);
+            mergedLocales.add(locale);
+            return new Translations(Collections.unmodifiableSet(mergedLocales), IdIndexedValues.of(merged));
+        }
+
+        private Map<Integer, String> getTranslations(Locale locale) {
+            Map<Integer, String> result = new HashMap<>();
+            values.asMap().forEach((id, translated) -> {
+                String description = translated.get(locale);
+                if (description != null) {
+                    result.put(id, description);
+                }
+            });
+            return result;
+        }
+    }
 }
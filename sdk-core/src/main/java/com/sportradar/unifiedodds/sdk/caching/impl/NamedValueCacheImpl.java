@@ -15,12 +15,17 @@ import com.sportradar.unifiedodds.sdk.impl.entities.NamedValueImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
- * The default implementation of the {@link NamedValueCache} used to cache {@link NamedValue} objects
+ * The default implementation of the {@link NamedValueCache} used to cache {@link NamedValue} objects.
+ *
+ * The values are served from an immutable snapshot which is replaced only after a successful refresh, so
+ * the readers never wait for the API requests once the initial data was fetched. Requests for undefined
+ * values trigger a background refresh, limited by a {@link RefreshBackoff}.
  */
 public class NamedValueCacheImpl implements NamedValueCache {
     /**
@@ -34,14 +39,19 @@ public class NamedValueCacheImpl implements NamedValueCache {
     private final DataProvider dataProvider;
 
     /**
-     * A {@link ConcurrentHashMap} that contains the retrieved {@link NamedValue} instances
+     * The {@link SDKTaskScheduler} used to perform the background refreshes
      */
-    private final ConcurrentHashMap<Integer, String> namedValues;
+    private final SDKTaskScheduler scheduler;
 
     /**
-     * A value indicating whether the data was already fetched
+     * The {@link RefreshBackoff} limiting the refresh attempts triggered by the readers
      */
-    private boolean dataFetched = false;
+    private final RefreshBackoff refreshBackoff;
+
+    /**
+     * The snapshot of the retrieved {@link NamedValue} instances, a null reference until the data is fetched
+     */
+    private volatile IdIndexedValues<NamedValue> namedValues;
 
     /**
      * Initializes a new instance of {@link NamedValueCacheImpl}
@@ -51,9 +61,11 @@ public class NamedValueCacheImpl implements NamedValueCache {
      */
     public NamedValueCacheImpl(DataProvider dataProvider, SDKTaskScheduler scheduler) {
         Preconditions.checkNotNull(dataProvider);
+        Preconditions.checkNotNull(scheduler);
 
         this.dataProvider = dataProvider;
-        this.namedValues = new ConcurrentHashMap<>();
+        this.scheduler = scheduler;
+        this.refreshBackoff = new RefreshBackoff(30, 600, TimeUnit.SECONDS);
 
         scheduler.scheduleAtFixedRate("NamedValueRefreshTask", this::onTimerElapsed, 24, 24, TimeUnit.HOURS);
     }
@@ -67,16 +79,13 @@ public class NamedValueCacheImpl implements NamedValueCache {
      */
     @Override
     public NamedValue getNamedValue(int id) {
-        if (!dataFetched) {
-            dataFetched = fetchAndMerge();
-        }
-
-        String description = namedValues.get(id);
-        if (description == null) {
+        NamedValue namedValue = getNamedValues().get(id);
+        if (namedValue == null) {
+            onValueMissing();
             return new NamedValueImpl(id);
         }
 
-        return new NamedValueImpl(id, description);
+        return namedValue;
     }
 
     /**
@@ -87,41 +96,93 @@ public class NamedValueCacheImpl implements NamedValueCache {
      */
     @Override
     public boolean isValueDefined(int id) {
-        if (!dataFetched) {
-            dataFetched = fetchAndMerge();
+        if (getNamedValues().get(id) != null) {
+            return true;
         }
 
-        return namedValues.containsKey(id);
+        onValueMissing();
+        return false;
     }
 
     /**
-     * Fetches and merges {@link NamedValue} provided by the {@link this#dataProvider}
+     * Returns the current snapshot, the initial data is fetched by the first caller
+     *
+     * @return the current snapshot of the {@link NamedValue} instances
+     */
+    private IdIndexedValues<NamedValue> getNamedValues() {
+        IdIndexedValues<NamedValue> values = namedValues;
+        if (values != null) {
+            return values;
+        }
+
+        return fetchInitialValues();
+    }
+
+    /**
+     * Fetches the initial data, subsequent attempts after a failure are limited by the {@link #refreshBackoff}
+     *
+     * @return the current snapshot of the {@link NamedValue} instances
+     */
+    private synchronized IdIndexedValues<NamedValue> fetchInitialValues() {
+        if (namedValues == null && refreshBackoff.tryAcquire()) {
+            fetchAndSwap();
+        }
+
+        IdIndexedValues<NamedValue> values = namedValues;
+        return values == null ? IdIndexedValues.empty() : values;
+    }
+
+    /**
+     * Schedules a background refresh if the requested value is not defined, the refresh attempts are
+     * limited by the {@link #refreshBackoff}
+     */
+    private void onValueMissing() {
+        if (namedValues != null && refreshBackoff.tryAcquire()) {
+            scheduler.startOneTimeTask("NamedValueMissingValueRefreshTask", this::onTimerElapsed);
+        }
+    }
+
+    /**
+     * Fetches the {@link NamedValue} provided by the {@link this#dataProvider} and replaces the current snapshot,
+     * the data is re-downloaded only if it changed since the previous fetch
      *
      * @return - <code>true</code> if the operation was successful; otherwise false;
      */
-    private synchronized boolean fetchAndMerge(){
+    private synchronized boolean fetchAndSwap(){
         Object fetch;
         try {
-            fetch = dataProvider.getData();
+            fetch = dataProvider.getDataIfModified();
+            if (fetch == null) {
+                if (namedValues != null) {
+                    refreshBackoff.onSuccess();
+                    cacheLog.info("{} not modified, the current values are kept", dataProvider);
+                    return true;
+                }
+                fetch = dataProvider.getData();
+            }
         } catch (DataProviderException e) {
             cacheLog.warn("There was an error while fetching the namedValue cache list, ex:", e);
+            refreshBackoff.onFailure();
             return false;
         }
 
         List<NamedValueCI> namedValueCIS = NamedValueCI.mapToNamedValuesCI(fetch);
-        namedValueCIS.forEach(fetchedVal -> namedValues.put(fetchedVal.getId(), fetchedVal.getDescription()));
+        Map<Integer, NamedValue> fetchedValues = new HashMap<>(namedValueCIS.size());
+        namedValueCIS.forEach(fetchedVal -> fetchedValues.put(fetchedVal.getId(), new NamedValueImpl(fetchedVal.getId(), fetchedVal.getDescription())));
+
+        namedValues = IdIndexedValues.of(fetchedValues);
+        refreshBackoff.onSuccess();
 
         cacheLog.info("{} {} retrieved", namedValueCIS.size(), fetch.getClass().getName());
         return true;
     }
 
     /**
-     * Timer scheduled for every 24h to refresh named values
+     * Timer scheduled for every 24h to refresh named values, the current values are served until the refresh succeeds
      */
-    private synchronized void onTimerElapsed() {
+    private void onTimerElapsed() {
         try {
-            namedValues.clear();
-            fetchAndMerge();
+            fetchAndSwap();
         } catch (Exception ex) { // so timer does not die
             cacheLog.warn("An exception occurred while attempting to retrieve named values with the scheduled timer. [{}] Exception was: {}", dataProvider, ex);
         }
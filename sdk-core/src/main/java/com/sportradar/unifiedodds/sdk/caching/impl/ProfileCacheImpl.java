@@ -6,14 +6,17 @@ package com.sportradar.unifiedodds.sdk.caching.impl;
 
 import com.google.common.base.Equivalence;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
 import com.google.common.base.Strings;
 import com.google.common.cache.Cache;
 import com.sportradar.uf.sportsapi.datamodel.*;
+import com.sportradar.unifiedodds.sdk.OperationManager;
 import com.sportradar.unifiedodds.sdk.caching.*;
 import com.sportradar.unifiedodds.sdk.caching.exportable.*;
 import com.sportradar.unifiedodds.sdk.caching.impl.ci.CacheItemFactory;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.impl.ParallelLoader;
 import com.sportradar.unifiedodds.sdk.impl.UnifiedFeedConstants;
 import com.sportradar.utils.SdkHelper;
 import com.sportradar.utils.URN;
@@ -23,11 +26,16 @@ import org.slf4j.LoggerFactory;
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -65,22 +73,30 @@ public class ProfileCacheImpl implements ProfileCache, DataRouterListener, Expor
      */
     private final CacheItemFactory cacheItemFactory;
 
+    /**
+     * The {@link ParallelLoader} used to fetch the prefetched profiles concurrently
+     */
+    private final ParallelLoader parallelLoader;
+
     public ProfileCacheImpl(CacheItemFactory cacheItemFactory,
                              DataRouterManager dataRouterManager,
                              Cache<URN, PlayerProfileCI> playerCache,
                              Cache<URN, CompetitorCI> competitorCache,
-                             Cache<URN, CompetitorCI> simpleTeamCache) {
+                             Cache<URN, CompetitorCI> simpleTeamCache,
+                             ExecutorService profileLoaderExecutor) {
         Preconditions.checkNotNull(cacheItemFactory);
         Preconditions.checkNotNull(dataRouterManager);
         Preconditions.checkNotNull(playerCache);
         Preconditions.checkNotNull(competitorCache);
         Preconditions.checkNotNull(simpleTeamCache);
+        Preconditions.checkNotNull(profileLoaderExecutor);
 
         this.cacheItemFactory = cacheItemFactory;
         this.dataRouterManager = dataRouterManager;
         this.playerCache = playerCache;
         this.competitorCache = competitorCache;
         this.simpleTeamCache = simpleTeamCache;
+        this.parallelLoader = new ParallelLoader(profileLoaderExecutor);
     }
 
     /**
@@ -174,6 +190,57 @@ public class ProfileCacheImpl implements ProfileCache, DataRouterListener, Expor
         }
     }
 
+    /**
+     * Ensures that the player and competitor profiles associated with the provided {@link URN}s are cached in the
+     * provided locales. The profiles of the possible associated competitors are fetched first, since they contain the
+     * profiles of their players, the profiles which are still missing afterwards are fetched concurrently (limited by
+     * {@link OperationManager#getBulkEventLoadParallelism()}). The failed requests are ignored, the missing data is
+     * requested again once the profile is accessed.
+     *
+     * @param ids the unique {@link URN} identifiers of the players and competitors
+     * @param locales a {@link List} of locales in which the data is required
+     * @param possibleAssociatedCompetitorIds a list of possible associated competitors
+     */
+    @Override
+    public void prefetchProfiles(Collection<URN> ids, List<Locale> locales, List<URN> possibleAssociatedCompetitorIds) {
+        Preconditions.checkNotNull(ids);
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkArgument(!locales.isEmpty());
+
+        Map<URN, List<Locale>> missingProfiles = findMissingProfiles(ids, locales);
+        if (missingProfiles.isEmpty()) {
+            return;
+        }
+
+        Stopwatch timer = Stopwatch.createStarted();
+        int requests = 0;
+        boolean playersMissing = missingProfiles.keySet().stream().anyMatch(ProfileCacheImpl::isPlayer);
+        if (playersMissing && possibleAssociatedCompetitorIds != null && !possibleAssociatedCompetitorIds.isEmpty()) {
+            Map<URN, List<Locale>> missingCompetitorProfiles = new LinkedHashMap<>();
+            for (URN competitorId : possibleAssociatedCompetitorIds) {
+                CompetitorCI competitorCI = provideRightCompetitorCacheFor(competitorId).getIfPresent(competitorId);
+                List<Locale> missingLocales = competitorCI == null
+                        ? locales
+                        : SdkHelper.findMissingLocales(competitorCI.getCultureCompetitorProfileFetched(), locales);
+                if (!missingLocales.isEmpty()) {
+                    missingCompetitorProfiles.put(competitorId, missingLocales);
+                }
+            }
+
+            if (!missingCompetitorProfiles.isEmpty()) {
+                logger.debug("Pre-fetching competitor profiles {} for {} missing profiles", missingCompetitorProfiles.keySet(), missingProfiles.size());
+                requests += fetchProfiles(missingCompetitorProfiles);
+                missingProfiles = findMissingProfiles(missingProfiles.keySet(), locales);
+            }
+        }
+
+        if (!missingProfiles.isEmpty()) {
+            requests += fetchProfiles(missingProfiles);
+        }
+
+        logger.debug("Pre-fetched profiles for {} ids with {} requests in {} ms", ids.size(), requests, timer.stop().elapsed(TimeUnit.MILLISECONDS));
+    }
+
     /**
      * Purges the associated competitor cache item
      *
@@ -198,6 +265,69 @@ public class ProfileCacheImpl implements ProfileCache, DataRouterListener, Expor
         playerCache.invalidate(playerId);
     }
 
+    /**
+     * Finds the profiles which are not cached in all the provided locales
+     *
+     * @param ids the identifiers of the players and competitors
+     * @param locales the {@link Locale}s in which the data is required
+     * @return the identifiers of the missing profiles with their missing locales
+     */
+    private Map<URN, List<Locale>> findMissingProfiles(Collection<URN> ids, List<Locale> locales) {
+        Map<URN, List<Locale>> missingProfiles = new LinkedHashMap<>();
+        for (URN id : ids) {
+            if (missingProfiles.containsKey(id)) {
+                continue;
+            }
+
+            List<Locale> cachedLocales;
+            if (isPlayer(id)) {
+                PlayerProfileCI playerProfileCI = playerCache.getIfPresent(id);
+                cachedLocales = playerProfileCI == null ? null : playerProfileCI.getCachedLocales();
+            } else {
+                CompetitorCI competitorCI = provideRightCompetitorCacheFor(id).getIfPresent(id);
+                cachedLocales = competitorCI == null ? null : competitorCI.getCachedLocales();
+            }
+
+            List<Locale> missingLocales = cachedLocales == null ? locales : SdkHelper.findMissingLocales(cachedLocales, locales);
+            if (!missingLocales.isEmpty()) {
+                missingProfiles.put(id, missingLocales);
+            }
+        }
+        return missingProfiles;
+    }
+
+    /**
+     * Fetches the provided profiles concurrently, the received data is added to the cache by the data router
+     *
+     * @param profiles the identifiers of the profiles with the locales which should be fetched
+     * @return the number of the issued requests
+     */
+    private int fetchProfiles(Map<URN, List<Locale>> profiles) {
+        List<ParallelLoader.LoadTask> tasks = new ArrayList<>();
+        profiles.forEach((id, profileLocales) -> {
+            for (Locale locale : profileLocales) {
+                tasks.add(() -> requestProfile(id, locale));
+            }
+        });
+
+        parallelLoader.runAll(tasks, OperationManager.getBulkEventLoadParallelism());
+        return tasks.size();
+    }
+
+    private void requestProfile(URN id, Locale locale) throws CommunicationException {
+        if (isPlayer(id)) {
+            dataRouterManager.requestPlayerProfileEndpoint(locale, id, null);
+        } else if (id.isSimpleTeam() || id.toString().startsWith(UnifiedFeedConstants.OUTCOMETEXT_VARIANT_VALUE)) {
+            dataRouterManager.requestSimpleTeamEndpoint(locale, id, null);
+        } else {
+            dataRouterManager.requestCompetitorEndpoint(locale, id, null);
+        }
+    }
+
+    private static boolean isPlayer(URN id) {
+        return "player".equalsIgnoreCase(id.getType());
+    }
+
     /**
      * Ensures that the provided competitors are pre-fetched
      *
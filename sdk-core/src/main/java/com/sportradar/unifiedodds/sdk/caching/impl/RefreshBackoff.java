@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the rate of the cache refresh attempts. After each attempt the next one is allowed only once the
+ * current delay elapses, the delay is doubled after every failed attempt (up to the max delay) and
+ * reset to the min delay after a successful one.
+ */
+final class RefreshBackoff {
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private long currentDelayNanos;
+    private long nextAttemptNanos;
+
+    /**
+     * Initializes a new instance of {@link RefreshBackoff}, the first attempt is allowed immediately
+     *
+     * @param minDelay the delay between the attempts after a successful refresh
+     * @param maxDelay the max delay between the failed attempts
+     * @param unit the {@link TimeUnit} of the provided delays
+     */
+    RefreshBackoff(long minDelay, long maxDelay, TimeUnit unit) {
+        Preconditions.checkArgument(minDelay > 0);
+        Preconditions.checkArgument(maxDelay >= minDelay);
+        Preconditions.checkNotNull(unit);
+
+        this.minDelayNanos = unit.toNanos(minDelay);
+        this.maxDelayNanos = unit.toNanos(maxDelay);
+        this.currentDelayNanos = minDelayNanos;
+        this.nextAttemptNanos = System.nanoTime();
+    }
+
+    /**
+     * Checks if a refresh attempt is currently allowed and if so, reserves it
+     *
+     * @return <code>true</code> if the caller may attempt the refresh; otherwise <code>false</code>
+     */
+    synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        if (now - nextAttemptNanos < 0) {
+            return false;
+        }
+
+        nextAttemptNanos = now + currentDelayNanos;
+        return true;
+    }
+
+    /**
+     * Resets the delay after a successful refresh
+     */
+    synchronized void onSuccess() {
+        currentDelayNanos = minDelayNanos;
+        nextAttemptNanos = System.nanoTime() + currentDelayNanos;
+    }
+
+    /**
+     * Increases the delay after a failed refresh
+     */
+    synchronized void onFailure() {
+        currentDelayNanos = Math.min(currentDelayNanos * 2, maxDelayNanos);
+        nextAttemptNanos = System.nanoTime() + currentDelayNanos;
+    }
+}
@@ -7,9 +7,12 @@ package com.sportradar.unifiedodds.sdk.caching.impl;
 import com.google.common.base.Equivalence;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
 import com.google.inject.Inject;
 import com.sportradar.uf.sportsapi.datamodel.*;
 import com.sportradar.unifiedodds.sdk.BookingManager;
+import com.sportradar.unifiedodds.sdk.OperationManager;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.caching.*;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableCI;
@@ -26,7 +29,10 @@ import com.sportradar.utils.URN;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -64,6 +70,16 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
      */
     private final Locale defaultLocale;
 
+    /**
+     * The index of the cached sport events by their scheduled time
+     */
+    private final SportEventScheduleIndex scheduleIndex = new SportEventScheduleIndex();
+
+    /**
+     * The event ids of the requested date schedules, keyed by the requested date (yyyy-MM-dd)
+     */
+    private final Map<String, LoadedDateSchedule> loadedDateSchedules = new ConcurrentHashMap<>();
+
     @Inject
     SportEventCacheImpl(CacheItemFactory cacheItemFactory,
                         MappingTypeProvider mappingTypeProvider,
@@ -107,6 +123,19 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         }
     }
 
+    /**
+     * Returns an indication if the cache item associated with the provided {@link URN} is already cached
+     *
+     * @param id the {@link URN} specifying the event
+     * @return <code>true</code> if the cache item is cached; otherwise <code>false</code>
+     */
+    @Override
+    public boolean isEventCached(URN id) {
+        Preconditions.checkNotNull(id);
+
+        return sportEventsCache.getIfPresent(id) != null;
+    }
+
     /**
      * Returns a {@link List} containing id's of sport events, which belong to a specific tournament
      *
@@ -131,7 +160,8 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
 
     /**
      * Returns a {@link List} containing id's of sport events, which are scheduled for a specific date - if provided;
-     * otherwise a {@link List} of currently live events is returned
+     * otherwise a {@link List} of currently live events is returned. If the schedule of the date was already requested
+     * within the {@link OperationManager#getDateScheduleCacheTimeout()}, the id's are provided from the cached sport events
      *
      * @param date an optional {@link Date} for which the data is provided
      * @param locale the locale to fetch the data
@@ -141,13 +171,27 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
     @Override
     public List<URN> getEventIds(Date date, Locale locale) throws IllegalCacheStateException {
         logger.debug("Providing event IDs for {}", date == null ? "live" : date);
+        String scheduleDate = date == null ? null : new SimpleDateFormat("yyyy-MM-dd").format(date);
+        if (scheduleDate != null) {
+            List<URN> cachedIds = getCachedDateScheduleEventIds(scheduleDate);
+            if (cachedIds != null) {
+                logger.debug("Providing event IDs for {} from the cached sport events", scheduleDate);
+                return cachedIds;
+            }
+        }
+
         try {
+            List<URN> eventIds;
             if(locale == null) {
-                return dataRouterManager.requestEventsFor(defaultLocale, date);
+                eventIds = dataRouterManager.requestEventsFor(defaultLocale, date);
             }
             else{
-                return dataRouterManager.requestEventsFor(locale, date);
+                eventIds = dataRouterManager.requestEventsFor(locale, date);
+            }
+            if (scheduleDate != null && eventIds != null) {
+                loadedDateSchedules.put(scheduleDate, new LoadedDateSchedule(eventIds));
             }
+            return eventIds;
         } catch (CommunicationException e) {
             throw new IllegalCacheStateException("Error occurred while fetching date schedule for " + (date == null ? "live" : date), e);
         }
@@ -166,6 +210,37 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
 
         logger.debug("Purging CI[{}]", id);
         sportEventsCache.invalidate(id);
+        scheduleIndex.remove(id);
+    }
+
+    /**
+     * Removes the sport events which are no longer cached, e.g. because they expired, from the schedule index
+     *
+     * @param notification the notification about the removal of a cache item
+     */
+    public void onCacheItemRemoved(RemovalNotification<URN, SportEventCI> notification) {
+        if (notification.getCause() == RemovalCause.REPLACED || notification.getKey() == null) {
+            return;
+        }
+
+        // the event might have been cached again before the removal was notified
+        scheduleIndex.removeIf(notification.getKey(), id -> sportEventsCache.getIfPresent(id) == null);
+    }
+
+    /**
+     * Returns a {@link List} containing id's of the cached sport events, which are scheduled in the provided time range
+     * (no api request is invoked)
+     *
+     * @param from the start of the time range (inclusive)
+     * @param to the end of the time range (exclusive)
+     * @return a {@link List} of the cached sport events scheduled in the provided time range, ordered by the scheduled time
+     */
+    @Override
+    public List<URN> getCachedEventIds(Date from, Date to) {
+        Preconditions.checkNotNull(from);
+        Preconditions.checkNotNull(to);
+
+        return getCachedEventsBetween(from, to).stream().map(SportEventCI::getId).collect(Collectors.toList());
     }
 
     @Override
@@ -201,6 +276,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
                 saveParentStage(URN.parse(parentStage.getId()), parentStage, data.getTournament(), dataLocale);
             }
         }
+        updateScheduleIndex(id);
     }
 
     /**
@@ -229,6 +305,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         else{
             stagePresent.merge(parentStage, dataLocale);
         }
+        updateScheduleIndex(parentId);
     }
 
     @Override
@@ -255,6 +332,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         } else {
             ifPresent.merge(data, dataLocale);
         }
+        updateScheduleIndex(id);
     }
 
     @Override
@@ -283,6 +361,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         } else {
             ifPresent.merge(data, dataLocale);
         }
+        updateScheduleIndex(id);
     }
 
     @Override
@@ -330,6 +409,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
                 saveParentStage(URN.parse(parentStage.getId()), parentStage, data.getSportEvent().getTournament(), dataLocale);
             }
         }
+        updateScheduleIndex(id);
     }
 
     @Override
@@ -349,6 +429,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         } else {
             ifPresent.merge(data, dataLocale);
         }
+        updateScheduleIndex(id);
     }
 
     @Override
@@ -391,6 +472,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
                 saveParentStage(URN.parse(parentStage.getId()), parentStage, data.getTournament(), dataLocale);
             }
         }
+        updateScheduleIndex(id);
     }
 
     @Override
@@ -419,6 +501,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         } else {
             ifPresent.merge(data, locale);
         }
+        updateScheduleIndex(id);
     }
 
     @Override
@@ -454,6 +537,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         if (ifPresent != null) {
             ifPresent.merge(data, dataLocale);
         }
+        updateScheduleIndex(id);
     }
 
     @Override
@@ -493,6 +577,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         } else {
             ifPresent.merge(data, dataLocale);
         }
+        updateScheduleIndex(id);
     }
 
     @Override
@@ -513,6 +598,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         } else {
             ifPresent.merge(data, dataLocale);
         }
+        updateScheduleIndex(id);
     }
 
     @Override
@@ -533,6 +619,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         } else {
             ifPresent.merge(data, dataLocale);
         }
+        updateScheduleIndex(id);
     }
 
     /**
@@ -571,24 +658,26 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
     public Integer deleteSportEventsFromCache(Date before) {
         Preconditions.checkNotNull(before);
 
-        long startCount = sportEventsCache.size();
-        List<SportEventCI> cacheItems = sportEventsCache.asMap().values().stream().collect(Collectors.toList());
-        for (SportEventCI ci : cacheItems) {
-            if(ci.getScheduledRaw() != null){
-                if(ci.getScheduledRaw().before(before)){
-                    sportEventsCache.invalidate(ci.getId());
-                }
+        // only the events indexed before the provided date are checked, the rest of the cache is not touched
+        int deleted = 0;
+        for (URN id : scheduleIndex.getCandidatesBefore(before)) {
+            SportEventCI ci = sportEventsCache.getIfPresent(id);
+            if (ci == null) {
+                scheduleIndex.remove(id);
+                continue;
             }
-            else if (ci.getScheduledEndRaw() != null){
-                if(ci.getScheduledEndRaw().before(before)){
-                    sportEventsCache.invalidate(ci.getId());
-                }
+
+            Date scheduled = provideIndexedDate(ci);
+            if (scheduled != null && scheduled.before(before)) {
+                sportEventsCache.invalidate(id);
+                scheduleIndex.remove(id);
+                deleted++;
+            } else {
+                scheduleIndex.index(id, scheduled);
             }
         }
-        long endCount = sportEventsCache.size();
-        long diff = startCount - endCount;
-        logger.info("Deleted {} items from cache [before={}].", diff, before);
-        return (int)diff;
+        logger.info("Deleted {} items from cache [before={}].", deleted, before);
+        return deleted;
     }
 
     private SportEventCI provideEventCI(URN id) throws CacheItemNotFoundException, IllegalCacheStateException {
@@ -664,6 +753,58 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         } else {
             ifPresent.merge(data, dataLocale);
         }
+        updateScheduleIndex(tournamentId);
+    }
+
+    private void updateScheduleIndex(URN id) {
+        SportEventCI ci = sportEventsCache.getIfPresent(id);
+        if (ci != null) {
+            scheduleIndex.index(id, provideIndexedDate(ci));
+        }
+    }
+
+    private List<URN> getCachedDateScheduleEventIds(String scheduleDate) {
+        Duration timeout = OperationManager.getDateScheduleCacheTimeout();
+        LoadedDateSchedule schedule = loadedDateSchedules.get(scheduleDate);
+        if (schedule == null) {
+            return null;
+        }
+        if (timeout.isZero() || System.currentTimeMillis() - schedule.loadedAt > timeout.toMillis()) {
+            loadedDateSchedules.remove(scheduleDate, schedule);
+            return null;
+        }
+
+        // the schedule can only be provided if none of its events was purged or evicted in the meantime
+        for (URN id : schedule.eventIds) {
+            if (sportEventsCache.getIfPresent(id) == null) {
+                loadedDateSchedules.remove(scheduleDate, schedule);
+                return null;
+            }
+        }
+        return new ArrayList<>(schedule.eventIds);
+    }
+
+    private List<SportEventCI> getCachedEventsBetween(Date from, Date to) {
+        List<SportEventCI> cachedEvents = new ArrayList<>();
+        for (URN id : scheduleIndex.getCandidatesBetween(from, to)) {
+            SportEventCI ci = sportEventsCache.getIfPresent(id);
+            if (ci == null) {
+                // evicted by the cache expiration
+                scheduleIndex.remove(id);
+                continue;
+            }
+
+            Date scheduled = provideIndexedDate(ci);
+            if (scheduled != null && !scheduled.before(from) && scheduled.before(to)) {
+                cachedEvents.add(ci);
+            }
+        }
+        cachedEvents.sort(Comparator.comparing(SportEventCacheImpl::provideIndexedDate).thenComparing(ci -> ci.getId().toString()));
+        return cachedEvents;
+    }
+
+    private static Date provideIndexedDate(SportEventCI ci) {
+        return ci.getScheduledRaw() != null ? ci.getScheduledRaw() : ci.getScheduledEndRaw();
     }
 
     private Class provideMappingType(URN id) throws IllegalCacheStateException {
@@ -706,6 +847,7 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
                 sportEventsCache.put(id, sportEvent);
             else
                 ifPresent.merge(exportable, null);
+            updateScheduleIndex(id);
         });
     }
 
@@ -726,4 +868,17 @@ public class SportEventCacheImpl implements SportEventCache, DataRouterListener,
         }
         return status;
     }
+
+    /**
+     * The event ids provided by a date schedule request
+     */
+    private static final class LoadedDateSchedule {
+        private final List<URN> eventIds;
+        private final long loadedAt;
+
+        LoadedDateSchedule(List<URN> eventIds) {
+            this.eventIds = new ArrayList<>(eventIds);
+            this.loadedAt = System.currentTimeMillis();
+        }
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.utils.URN;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * A secondary index of the cached sport events, bucketed by the hour in which the events are scheduled.
+ * The index only provides candidates - the callers must check the actual scheduled time of the cache item,
+ * since the boundary buckets also hold events outside of the requested range.
+ */
+class SportEventScheduleIndex {
+    private static final long BUCKET_LENGTH_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * The indexed events, grouped by the start of the hour bucket
+     */
+    private final NavigableMap<Long, Set<URN>> buckets = new TreeMap<>();
+
+    /**
+     * The bucket in which each event is currently indexed
+     */
+    private final Map<URN, Long> indexedBuckets = new HashMap<>();
+
+    /**
+     * Indexes the provided event by the provided scheduled time. If the scheduled time is not available,
+     * the event is removed from the index.
+     *
+     * @param id the {@link URN} of the event
+     * @param scheduled the time when the event is scheduled or a null reference
+     */
+    synchronized void index(URN id, Date scheduled) {
+        Preconditions.checkNotNull(id);
+
+        if (scheduled == null) {
+            remove(id);
+            return;
+        }
+
+        long bucket = bucketOf(scheduled.getTime());
+        Long previousBucket = indexedBuckets.put(id, bucket);
+        if (previousBucket != null) {
+            if (previousBucket == bucket) {
+                return;
+            }
+            removeFromBucket(previousBucket, id);
+        }
+        buckets.computeIfAbsent(bucket, k -> new HashSet<>()).add(id);
+    }
+
+    /**
+     * Removes the provided event from the index
+     *
+     * @param id the {@link URN} of the event
+     */
+    synchronized void remove(URN id) {
+        Long bucket = indexedBuckets.remove(id);
+        if (bucket != null) {
+            removeFromBucket(bucket, id);
+        }
+    }
+
+    /**
+     * Removes the provided event from the index if the provided condition is met. The condition is evaluated while
+     * the index is locked, so an event indexed again concurrently is not removed by a stale condition.
+     *
+     * @param id the {@link URN} of the event
+     * @param condition the condition which must be met by the event to be removed
+     */
+    synchronized void removeIf(URN id, Predicate<URN> condition) {
+        Preconditions.checkNotNull(condition);
+
+        if (indexedBuckets.containsKey(id) && condition.test(id)) {
+            remove(id);
+        }
+    }
+
+    /**
+     * Returns the events which might be scheduled before the provided time
+     *
+     * @param before the time before which the events are scheduled
+     * @return the events indexed in the buckets starting before the provided time
+     */
+    synchronized List<URN> getCandidatesBefore(Date before) {
+        Preconditions.checkNotNull(before);
+
+        return collect(buckets.headMap(before.getTime(), false));
+    }
+
+    /**
+     * Returns the events which might be scheduled in the provided time range
+     *
+     * @param from the start of the range (inclusive)
+     * @param to the end of the range (exclusive)
+     * @return the events indexed in the buckets overlapping the provided range
+     */
+    synchronized List<URN> getCandidatesBetween(Date from, Date to) {
+        Preconditions.checkNotNull(from);
+        Preconditions.checkNotNull(to);
+
+        if (!from.before(to)) {
+            return Collections.emptyList();
+        }
+        return collect(buckets.subMap(bucketOf(from.getTime()), true, to.getTime(), false));
+    }
+
+    /**
+     * Returns the number of indexed events
+     *
+     * @return the number of indexed events
+     */
+    synchronized int size() {
+        return indexedBuckets.size();
+    }
+
+    private void removeFromBucket(long bucket, URN id) {
+        Set<URN> ids = buckets.get(bucket);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                buckets.remove(bucket);
+            }
+        }
+    }
+
+    private static List<URN> collect(NavigableMap<Long, Set<URN>> range) {
+        List<URN> result = new ArrayList<>();
+        range.values().forEach(result::addAll);
+        return result;
+    }
+
+    private static long bucketOf(long time) {
+        return Math.floorDiv(time, BUCKET_LENGTH_MILLIS) * BUCKET_LENGTH_MILLIS;
+    }
+}
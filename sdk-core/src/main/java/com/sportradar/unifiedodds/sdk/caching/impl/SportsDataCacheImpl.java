@@ -7,6 +7,7 @@ package com.sportradar.unifiedodds.sdk.caching.impl;
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import com.sportradar.uf.sportsapi.datamodel.*;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.caching.*;
@@ -49,23 +50,32 @@ public class SportsDataCacheImpl implements SportsDataCache, DataRouterListener,
      */
     private final DataRouterManager dataRouterManager;
 
+    /**
+     * The locales in which the complete sports and categories lists are already loaded, shared with the other feed
+     * instances using the same caches, so a joining feed instance does not fetch the lists again
+     */
+    private final Set<Locale> loadedLocales;
+
 
     @Inject
     SportsDataCacheImpl(Cache<URN, SportCI> sportsCache,
                         Cache<URN, CategoryCI> categoriesCache,
                         CacheItemFactory cacheItemFactory,
                         SDKInternalConfiguration configuration,
-                        DataRouterManager dataRouterManager) {
+                        DataRouterManager dataRouterManager,
+                        @Named("SportsDataLoadedLocales") Set<Locale> loadedLocales) {
         Preconditions.checkNotNull(sportsCache);
         Preconditions.checkNotNull(categoriesCache);
         Preconditions.checkNotNull(cacheItemFactory);
         Preconditions.checkNotNull(configuration);
         Preconditions.checkNotNull(dataRouterManager);
+        Preconditions.checkNotNull(loadedLocales);
 
         this.sportsCache = sportsCache;
         this.categoriesCache = categoriesCache;
         this.cacheItemFactory = cacheItemFactory;
         this.dataRouterManager = dataRouterManager;
+        this.loadedLocales = loadedLocales;
     }
 
     /**
@@ -307,6 +317,9 @@ public class SportsDataCacheImpl implements SportsDataCache, DataRouterListener,
      */
     private void ensureLocalesPreFetched(List<Locale> locales) throws IllegalCacheStateException {
         for (Locale locale : locales) {
+            if (loadedLocales.contains(locale)) {
+                continue;
+            }
             try {
                 dataRouterManager.requestAllTournamentsForAllSportsEndpoint(locale);
                 dataRouterManager.requestAllSportsEndpoint(locale);
@@ -318,6 +331,7 @@ public class SportsDataCacheImpl implements SportsDataCache, DataRouterListener,
             } catch (CommunicationException e) {
                 logger.warn("Lotteries endpoint request failed while ensuring cache integrity", e);
             }
+            loadedLocales.add(locale);
         }
     }
 
@@ -466,6 +466,11 @@ class CompetitorCIImpl implements CompetitorCI, ExportableCacheItem {
     @Override
     public List<Locale> getCultureCompetitorProfileFetched() { return cultureCompetitorProfileFetched; }
 
+    @Override
+    public List<Locale> getCachedLocales() {
+        return new ArrayList<>(cachedLocales);
+    }
+
     /**
      * Determines whether the current instance has translations for the specified languages
      *
@@ -23,9 +23,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -45,6 +48,7 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
     private final List<Locale> fetchedLocales;
     private final ReentrantLock fetchLock = new ReentrantLock();
     private boolean hasTimerElapsedOnce;
+    private volatile MarketSpecifiersIndex specifiersIndex = MarketSpecifiersIndex.EMPTY;
 
     public InvariantMarketDescriptionCache(Cache<String, MarketDescriptionCI> cache,
                                            DataProvider<MarketDescriptions> dataProvider,
@@ -64,7 +68,11 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
         this.additionalMappingsProvider = additionalMappingsProvider;
         this.mappingValidatorFactory = mappingValidatorFactory;
         this.prefetchLocales = prefetchLocales;
-        this.fetchedLocales = new ArrayList<>();
+        this.fetchedLocales = new ArrayList<>(findCachedLocales(cache, prefetchLocales));
+        if (!fetchedLocales.isEmpty()) {
+            // the cache is shared with another feed instance which already fetched the descriptions
+            rebuildSpecifiersIndex();
+        }
 
         scheduler.scheduleAtFixedRate("InvariantMarketCacheRefreshTask", this::onTimerElapsed, 5, 60 * 60 * 6L, TimeUnit.SECONDS);
 
@@ -101,6 +109,7 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
     public void deleteCacheItem(int marketId, String variant) {
         String processingCacheItemId = String.valueOf(marketId);
         cache.invalidate(processingCacheItemId);
+        rebuildSpecifiersIndex();
     }
 
     @Override
@@ -123,7 +132,26 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the index of the specifiers required by the cached markets, rebuilt whenever the cache content changes
+     *
+     * @return the index of the specifiers required by the cached markets
+     */
+    public MarketSpecifiersIndex getSpecifiersIndex() {
+        return specifiersIndex;
+    }
+
     private void onTimerElapsed() {
+        refresh(true);
+    }
+
+    /**
+     * Refreshes the cached market descriptions. After the initial load, a conditional refresh first revalidates
+     * the descriptions of all locales and skips the refresh if none of them changed.
+     *
+     * @param conditional <code>true</code> if the unchanged descriptions should not be refreshed; otherwise <code>false</code>
+     */
+    private void refresh(boolean conditional) {
         logger.info("Executing invariant market cache refresh");
 
         List<Locale> locales2fetch;
@@ -138,11 +166,19 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
                 locales2fetch.stream().map(Locale::getLanguage).collect(Collectors.joining(",")));
         fetchLock.lock();
         try {
-            if (hasTimerElapsedOnce) {
-                fetchedLocales.clear();
-            }
-            if (!locales2fetch.isEmpty()) {
-                fetchMissingData(locales2fetch);
+            Map<Locale, MarketDescriptions> modifiedData = conditional && !locales2fetch.isEmpty()
+                    ? fetchModifiedData(locales2fetch)
+                    : Collections.emptyMap();
+            if (hasTimerElapsedOnce && conditional && modifiedData.isEmpty()) {
+                logger.info("Invariant market descriptions for [{}] were not modified, refresh skipped",
+                        locales2fetch.stream().map(Locale::getLanguage).collect(Collectors.joining(",")));
+            } else {
+                if (hasTimerElapsedOnce) {
+                    fetchedLocales.clear();
+                }
+                if (!locales2fetch.isEmpty()) {
+                    fetchMissingData(locales2fetch, modifiedData);
+                }
             }
             hasTimerElapsedOnce = true;
         } catch (Exception e) { // so the timer does not die
@@ -189,18 +225,48 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
     }
 
     private void fetchMissingData(List<Locale> missingLocales) throws IllegalCacheStateException {
+        fetchMissingData(missingLocales, Collections.emptyMap());
+    }
+
+    /**
+     * Fetches and merges the descriptions of the provided locales, the already fetched descriptions are not requested again
+     *
+     * @param missingLocales the locales which should be merged
+     * @param fetchedData the already fetched descriptions mapped by locales
+     */
+    private void fetchMissingData(List<Locale> missingLocales, Map<Locale, MarketDescriptions> fetchedData) throws IllegalCacheStateException {
         Preconditions.checkNotNull(missingLocales);
+        Preconditions.checkNotNull(fetchedData);
 
         try {
             for (Locale missingLocale : missingLocales) {
-                merge(missingLocale, dataProvider.getData(missingLocale));
+                MarketDescriptions data = fetchedData.get(missingLocale);
+                merge(missingLocale, data == null ? dataProvider.getData(missingLocale) : data);
             }
             initStaticMappingsEnrichment();
+            rebuildSpecifiersIndex();
         } catch (DataProviderException e) {
             throw new IllegalCacheStateException("An error occurred while fetching invariant descriptors in [" + missingLocales + "]", e);
         }
     }
 
+    /**
+     * Revalidates the descriptions of the provided locales with the validators received with the previous refresh
+     *
+     * @param locales the locales which should be revalidated
+     * @return the descriptions which changed since the previous refresh mapped by locales, empty if none changed
+     */
+    private Map<Locale, MarketDescriptions> fetchModifiedData(List<Locale> locales) throws DataProviderException {
+        Map<Locale, MarketDescriptions> modifiedData = new HashMap<>();
+        for (Locale locale : locales) {
+            MarketDescriptions data = dataProvider.getDataIfModified(locale);
+            if (data != null) {
+                modifiedData.put(locale, data);
+            }
+        }
+        return modifiedData;
+    }
+
     private void merge(Locale locale, MarketDescriptions data) {
         Preconditions.checkNotNull(locale);
         Preconditions.checkNotNull(data);
@@ -222,6 +288,24 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
         }
     }
 
+    /**
+     * Returns the locales in which all the cached descriptions are available, e.g. when the cache was
+     * populated by another feed instance sharing it
+     */
+    private static List<Locale> findCachedLocales(Cache<String, MarketDescriptionCI> cache, List<Locale> locales) {
+        if (cache.size() == 0) {
+            return Collections.emptyList();
+        }
+
+        return locales.stream()
+                .filter(locale -> cache.asMap().values().stream().allMatch(ci -> ci.getCachedLocales().contains(locale)))
+                .collect(Collectors.toList());
+    }
+
+    private void rebuildSpecifiersIndex() {
+        specifiersIndex = MarketSpecifiersIndex.build(cache.asMap().values());
+    }
+
     private void initStaticMappingsEnrichment() {
         try {
             MarketDescriptions data = additionalMappingsProvider.getData();
@@ -267,7 +351,7 @@ public class InvariantMarketDescriptionCache implements MarketDescriptionCache {
     private void additionalMappingsChanged() {
         logger.info("Additional mappings callback invoked - triggering cache refresh");
 
-        onTimerElapsed();
+        refresh(false);
     }
 
     private List<Locale> getMissingLocales(MarketDescriptionCI item, List<Locale> requiredLocales) {
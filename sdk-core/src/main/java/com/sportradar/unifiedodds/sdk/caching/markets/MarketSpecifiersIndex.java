@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.caching.markets;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketSpecifierCI;
+import com.sportradar.unifiedodds.sdk.caching.impl.IdIndexedValues;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable index of the specifier names required by the invariant markets, used to validate the specifiers
+ * received in the feed messages without building the market descriptions. The index is rebuilt by the
+ * {@link InvariantMarketDescriptionCache} whenever its content changes.
+ */
+public final class MarketSpecifiersIndex {
+    private static final String[] NO_SPECIFIERS = new String[0];
+
+    /**
+     * An empty index, used until the invariant market descriptions are fetched
+     */
+    static final MarketSpecifiersIndex EMPTY = new MarketSpecifiersIndex(IdIndexedValues.empty());
+
+    /**
+     * The sorted names of the required specifiers mapped by market ids
+     */
+    private final IdIndexedValues<String[]> requiredSpecifiers;
+
+    private MarketSpecifiersIndex(IdIndexedValues<String[]> requiredSpecifiers) {
+        this.requiredSpecifiers = requiredSpecifiers;
+    }
+
+    /**
+     * Builds a new index from the provided market descriptions
+     *
+     * @param descriptions the cached invariant market descriptions
+     * @return a new index of the required market specifiers
+     */
+    static MarketSpecifiersIndex build(Collection<MarketDescriptionCI> descriptions) {
+        Preconditions.checkNotNull(descriptions);
+
+        Map<Integer, String[]> specifiers = new HashMap<>(descriptions.size());
+        for (MarketDescriptionCI description : descriptions) {
+            List<MarketSpecifierCI> marketSpecifiers = description.getSpecifiers();
+            if (marketSpecifiers == null || marketSpecifiers.isEmpty()) {
+                specifiers.put(description.getId(), NO_SPECIFIERS);
+                continue;
+            }
+
+            String[] names = marketSpecifiers.stream().map(MarketSpecifierCI::getName).toArray(String[]::new);
+            Arrays.sort(names);
+            specifiers.put(description.getId(), names);
+        }
+
+        return new MarketSpecifiersIndex(IdIndexedValues.of(specifiers));
+    }
+
+    /**
+     * Indicates if the provided market is present in the index
+     *
+     * @param marketId the market identifier
+     * @return <code>true</code> if the market is indexed; otherwise <code>false</code>
+     */
+    public boolean isMarketIndexed(int marketId) {
+        return requiredSpecifiers.get(marketId) != null;
+    }
+
+    /**
+     * Checks if the received specifiers string ('k=v|k1=v1|...') contains exactly the specifiers required by the
+     * indexed market. The check does not allocate, so it can be performed for every received market.
+     *
+     * @param marketId the identifier of an indexed market
+     * @param receivedSpecifiers the specifiers string received as a part of a message
+     * @return <code>true</code> if the received specifiers match the required ones; otherwise <code>false</code>
+     */
+    public boolean hasRequiredSpecifiers(int marketId, String receivedSpecifiers) {
+        String[] required = requiredSpecifiers.get(marketId);
+        Preconditions.checkArgument(required != null, "The market is not indexed");
+        if (required.length == 0) {
+            return true;
+        }
+
+        // trailing delimiters are ignored, the same as with String.split
+        int end = receivedSpecifiers.length();
+        while (end > 0 && receivedSpecifiers.charAt(end - 1) == '|') {
+            end--;
+        }
+
+        int received = 0;
+        int matched = 0;
+        int start = 0;
+        while (start < end) {
+            int segmentEnd = receivedSpecifiers.indexOf('|', start);
+            if (segmentEnd < 0 || segmentEnd > end) {
+                segmentEnd = end;
+            }
+
+            int keyEnd = findKeyEnd(receivedSpecifiers, start, segmentEnd);
+            if (keyEnd < 0) {
+                return false;
+            }
+
+            received++;
+            if (received > required.length) {
+                return false;
+            }
+            if (isRequired(required, receivedSpecifiers, start, keyEnd - start)) {
+                matched++;
+            }
+
+            start = segmentEnd + 1;
+        }
+
+        return received == required.length && matched == required.length;
+    }
+
+    /**
+     * Returns the names of the specifiers required by the provided market, used for logging purposes
+     *
+     * @param marketId the market identifier
+     * @return the comma separated names of the required specifiers
+     */
+    public String getRequiredSpecifiers(int marketId) {
+        String[] required = requiredSpecifiers.get(marketId);
+        return required == null ? "" : String.join(",", required);
+    }
+
+    /**
+     * Returns the end index of the key of a 'k=v' segment
+     *
+     * @return the index of the '=' delimiter or -1 if the segment is malformed
+     */
+    private static int findKeyEnd(String specifiers, int start, int end) {
+        // trailing '=' are ignored, the same as with String.split
+        while (end > start && specifiers.charAt(end - 1) == '=') {
+            end--;
+        }
+
+        int keyEnd = -1;
+        for (int i = start; i < end; i++) {
+            if (specifiers.charAt(i) == '=') {
+                if (keyEnd >= 0) {
+                    return -1;
+                }
+                keyEnd = i;
+            }
+        }
+
+        return keyEnd;
+    }
+
+    private static boolean isRequired(String[] required, String specifiers, int keyStart, int keyLength) {
+        for (String name : required) {
+            if (name.length() == keyLength && specifiers.regionMatches(keyStart, name, 0, keyLength)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -21,8 +21,10 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -57,11 +59,25 @@ public class VariantDescriptionCacheImpl implements VariantDescriptionCache {
         this.dataProvider = dataProvider;
         this.mappingValidatorFactory = mappingValidatorFactory;
         this.prefetchLocales = prefetchLocales;
-        this.fetchedLocales = Collections.synchronizedList(new ArrayList<>());
+        this.fetchedLocales = Collections.synchronizedList(new ArrayList<>(findCachedLocales(cache, prefetchLocales)));
 
         scheduler.scheduleAtFixedRate("VariantDescriptionsTask", this::onTimerElapsed, 5, 60 * 60 * 6L, TimeUnit.SECONDS);
     }
 
+    /**
+     * Returns the locales in which all the cached descriptions are available, e.g. when the cache was
+     * populated by another feed instance sharing it
+     */
+    private static List<Locale> findCachedLocales(Cache<String, VariantDescriptionCI> cache, List<Locale> locales) {
+        if (cache.size() == 0) {
+            return Collections.emptyList();
+        }
+
+        return locales.stream()
+                .filter(locale -> cache.asMap().values().stream().allMatch(ci -> ci.getCachedLocales().contains(locale)))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public VariantDescriptionCI getVariantDescription(String id, List<Locale> locales) throws IllegalCacheStateException, CacheItemNotFoundException {
         Preconditions.checkNotNull(id);
@@ -84,11 +100,19 @@ public class VariantDescriptionCacheImpl implements VariantDescriptionCache {
                 locales2fetch.stream().map(Locale::getLanguage).collect(Collectors.joining(",")));
         fetchLock.lock();
         try {
-            if (hasTimerElapsedOnce) {
-                fetchedLocales.clear();
-            }
-            if (!locales2fetch.isEmpty()) {
-                fetchMissingData(locales2fetch);
+            Map<Locale, VariantDescriptions> modifiedData = locales2fetch.isEmpty()
+                    ? Collections.emptyMap()
+                    : fetchModifiedData(locales2fetch);
+            if (hasTimerElapsedOnce && modifiedData.isEmpty()) {
+                logger.info("Variant market descriptions for [{}] were not modified, refresh skipped",
+                        locales2fetch.stream().map(Locale::getLanguage).collect(Collectors.joining(",")));
+            } else {
+                if (hasTimerElapsedOnce) {
+                    fetchedLocales.clear();
+                }
+                if (!locales2fetch.isEmpty()) {
+                    fetchMissingData(locales2fetch, modifiedData);
+                }
             }
             hasTimerElapsedOnce = true;
         } catch (Exception e) { // so the timer does not die
@@ -150,17 +174,46 @@ public class VariantDescriptionCacheImpl implements VariantDescriptionCache {
     }
 
     private void fetchMissingData(List<Locale> missingLocales) throws IllegalCacheStateException {
+        fetchMissingData(missingLocales, Collections.emptyMap());
+    }
+
+    /**
+     * Fetches and merges the descriptions of the provided locales, the already fetched descriptions are not requested again
+     *
+     * @param missingLocales the locales which should be merged
+     * @param fetchedData the already fetched descriptions mapped by locales
+     */
+    private void fetchMissingData(List<Locale> missingLocales, Map<Locale, VariantDescriptions> fetchedData) throws IllegalCacheStateException {
         Preconditions.checkNotNull(missingLocales);
+        Preconditions.checkNotNull(fetchedData);
 
         try {
             for (Locale missingLocale : missingLocales) {
-                merge(missingLocale, dataProvider.getData(missingLocale));
+                VariantDescriptions data = fetchedData.get(missingLocale);
+                merge(missingLocale, data == null ? dataProvider.getData(missingLocale) : data);
             }
         } catch (DataProviderException e) {
             throw new IllegalCacheStateException("An error occurred while fetching variant descriptors in [" + missingLocales + "]", e);
         }
     }
 
+    /**
+     * Revalidates the descriptions of the provided locales with the validators received with the previous refresh
+     *
+     * @param locales the locales which should be revalidated
+     * @return the descriptions which changed since the previous refresh mapped by locales, empty if none changed
+     */
+    private Map<Locale, VariantDescriptions> fetchModifiedData(List<Locale> locales) throws DataProviderException {
+        Map<Locale, VariantDescriptions> modifiedData = new HashMap<>();
+        for (Locale locale : locales) {
+            VariantDescriptions data = dataProvider.getDataIfModified(locale);
+            if (data != null) {
+                modifiedData.put(locale, data);
+            }
+        }
+        return modifiedData;
+    }
+
     private void merge(Locale dataLocale, VariantDescriptions endpointData) {
         Preconditions.checkNotNull(dataLocale);
         Preconditions.checkNotNull(endpointData);
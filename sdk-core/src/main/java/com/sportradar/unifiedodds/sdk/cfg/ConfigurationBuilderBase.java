@@ -132,4 +132,15 @@ public interface ConfigurationBuilderBase<T> {
      * @return a {@link ConfigurationBuilderBase} derived instance used to set general configuration properties
      */
     T setRecoveryHttpClientMaxConnPerRoute(Integer recoveryHttpClientMaxConnPerRoute);
+
+    /**
+     * Sets the {@link SdkExecutorProvider} which provides the executors used by the SDK for its internal work,
+     * e.g. to share the executors across multiple feed instances or to use virtual threads
+     * (see {@link VirtualThreadSdkExecutorProvider}).
+     * Default: {@link DefaultSdkExecutorProvider}
+     *
+     * @param executorProvider the {@link SdkExecutorProvider} used by the SDK
+     * @return a {@link ConfigurationBuilderBase} derived instance used to set general configuration properties
+     */
+    T setExecutorProvider(SdkExecutorProvider executorProvider);
 }
@@ -31,6 +31,7 @@ abstract class ConfigurationBuilderBaseImpl<T> implements ConfigurationBuilderBa
     Integer recoveryHttpClientTimeout = null;
     Integer recoveryHttpClientMaxConnTotal = null;
     Integer recoveryHttpClientMaxConnPerRoute = null;
+    SdkExecutorProvider executorProvider = null;
     Environment environment;
 
     ConfigurationBuilderBaseImpl(SDKConfigurationPropertiesReader sdkConfigurationPropertiesReader, SDKConfigurationYamlReader sdkConfigurationYamlReader) {
@@ -249,6 +250,24 @@ abstract class ConfigurationBuilderBaseImpl<T> implements ConfigurationBuilderBa
         return (T) this;
     }
 
+    /**
+     * Sets the {@link SdkExecutorProvider} which provides the executors used by the SDK for its internal work,
+     * e.g. to share the executors across multiple feed instances or to use virtual threads
+     * (see {@link VirtualThreadSdkExecutorProvider}).
+     * Default: {@link DefaultSdkExecutorProvider}
+     *
+     * @param executorProvider the {@link SdkExecutorProvider} used by the SDK
+     * @return a {@link ConfigurationBuilderBase} derived instance used to set general configuration properties
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T setExecutorProvider(SdkExecutorProvider executorProvider) {
+        Preconditions.checkNotNull(executorProvider);
+
+        this.executorProvider = executorProvider;
+        return (T) this;
+    }
+
     /**
      * Loads the properties that are relevant to the builder from the provided {@link SDKConfigurationReader}
      *
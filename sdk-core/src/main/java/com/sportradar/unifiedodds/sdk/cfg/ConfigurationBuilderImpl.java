@@ -63,6 +63,7 @@ class ConfigurationBuilderImpl extends RecoveryConfigurationBuilderImpl<Configur
                 new ArrayList<>(disabledProducers),
                 exceptionHandlingStrategy,
                 environment,
-                null, httpClientTimeout, httpClientMaxConnTotal, httpClientMaxConnPerRoute, recoveryHttpClientTimeout, recoveryHttpClientMaxConnTotal, recoveryHttpClientMaxConnPerRoute);
+                null, httpClientTimeout, httpClientMaxConnTotal, httpClientMaxConnPerRoute, recoveryHttpClientTimeout, recoveryHttpClientMaxConnTotal, recoveryHttpClientMaxConnPerRoute,
+                executorProvider);
     }
 }
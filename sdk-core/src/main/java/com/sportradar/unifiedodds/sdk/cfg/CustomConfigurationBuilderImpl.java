@@ -205,7 +205,8 @@ class CustomConfigurationBuilderImpl extends RecoveryConfigurationBuilderImpl<Cu
                 new ArrayList<>(disabledProducers),
                 exceptionHandlingStrategy,
                 environment,
-                messagingVirtualHost, httpClientTimeout, httpClientMaxConnTotal, httpClientMaxConnPerRoute, recoveryHttpClientTimeout, recoveryHttpClientMaxConnTotal, recoveryHttpClientMaxConnPerRoute);
+                messagingVirtualHost, httpClientTimeout, httpClientMaxConnTotal, httpClientMaxConnPerRoute, recoveryHttpClientTimeout, recoveryHttpClientMaxConnTotal, recoveryHttpClientMaxConnPerRoute,
+                executorProvider);
     }
 
     /**
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.cfg;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The default {@link SdkExecutorProvider}, creates a dedicated fixed size pool of named platform threads for each
+ * requested executor
+ */
+public class DefaultSdkExecutorProvider implements SdkExecutorProvider {
+    /**
+     * Creates a fixed size thread pool as described by the provided descriptor
+     *
+     * @param descriptor the description of the requested executor
+     * @return a new fixed size thread pool
+     */
+    @Override
+    public ExecutorService provideExecutor(SdkExecutorDescriptor descriptor) {
+        Preconditions.checkNotNull(descriptor);
+
+        return Executors.newFixedThreadPool(descriptor.getThreadCount(), threadFactory(descriptor));
+    }
+
+    /**
+     * Creates a scheduled thread pool as described by the provided descriptor
+     *
+     * @param descriptor the description of the requested executor
+     * @return a new scheduled thread pool
+     */
+    @Override
+    public ScheduledExecutorService provideScheduledExecutor(SdkExecutorDescriptor descriptor) {
+        Preconditions.checkNotNull(descriptor);
+
+        return Executors.newScheduledThreadPool(descriptor.getThreadCount(), threadFactory(descriptor));
+    }
+
+    /**
+     * Creates the factory of the platform threads named by the provided descriptor
+     *
+     * @param descriptor the description of the requested executor
+     * @return the {@link ThreadFactory} used by the created pools
+     */
+    protected ThreadFactory threadFactory(SdkExecutorDescriptor descriptor) {
+        return new ThreadFactoryBuilder().setNameFormat(descriptor.getThreadNameFormat()).build();
+    }
+}
@@ -48,6 +48,7 @@ public class OddsFeedConfiguration {
     private final int recoveryHttpClientTimeout;
     private final int recoveryHttpClientMaxConnTotal;
     private final int recoveryHttpClientMaxConnPerRoute;
+    private final SdkExecutorProvider executorProvider;
 
     OddsFeedConfiguration(String accessToken,
                           Locale defaultLocale,
@@ -73,7 +74,8 @@ public class OddsFeedConfiguration {
                           Integer httpClientMaxConnPerRoute,
                           Integer recoveryHttpClientTimeout,
                           Integer recoveryHttpClientMaxConnTotal,
-                          Integer recoveryHttpClientMaxConnPerRoute) {
+                          Integer recoveryHttpClientMaxConnPerRoute,
+                          SdkExecutorProvider executorProvider) {
         // ctor parameters are validated in the cfg builder instance
         this.accessToken = accessToken;
         this.defaultLocale = defaultLocale;
@@ -95,6 +97,7 @@ public class OddsFeedConfiguration {
         this.recoveryHttpClientTimeout = recoveryHttpClientTimeout != null ? recoveryHttpClientTimeout : RECOVERY_HTTP_CLIENT_TIMEOUT;
         this.recoveryHttpClientMaxConnTotal = recoveryHttpClientMaxConnTotal != null ? recoveryHttpClientMaxConnTotal : RECOVERY_HTTP_CLIENT_MAX_CONN_TOTAL;
         this.recoveryHttpClientMaxConnPerRoute = recoveryHttpClientMaxConnPerRoute != null ? recoveryHttpClientMaxConnPerRoute : RECOVERY_HTTP_CLIENT_MAX_CONN_PER_ROUTE;
+        this.executorProvider = executorProvider != null ? executorProvider : new DefaultSdkExecutorProvider();
         if (sdkNodeId != null && sdkNodeId < 0)
         {
             LoggerFactory.getLogger(OddsFeedConfiguration.class).warn(String.format("Setting nodeId to %s. Use only positive numbers; negative are reserved for internal use.", sdkNodeId));
@@ -328,6 +331,15 @@ public class OddsFeedConfiguration {
         return recoveryHttpClientMaxConnPerRoute;
     }
 
+    /**
+     * Returns the {@link SdkExecutorProvider} which provides the executors used by the SDK
+     *
+     * @return the {@link SdkExecutorProvider} which provides the executors used by the SDK
+     */
+    public SdkExecutorProvider getExecutorProvider() {
+        return executorProvider;
+    }
+
     @Override
     public String toString() {
 
@@ -359,6 +371,7 @@ public class OddsFeedConfiguration {
                 ", recoveryHttpClientTimeout=" + recoveryHttpClientTimeout +
                 ", recoveryHttpClientMaxConnTotal=" + recoveryHttpClientMaxConnTotal +
                 ", recoveryHttpClientMaxConnPerRoute=" + recoveryHttpClientMaxConnPerRoute +
+                ", executorProvider=" + executorProvider.getClass().getSimpleName() +
                 "}";
     }
 
@@ -371,7 +371,8 @@ public class OddsFeedConfigurationBuilderImpl implements ConfigurationAccessToke
                 HTTP_CLIENT_MAX_CONN_PER_ROUTE,
                 RECOVERY_HTTP_CLIENT_TIMEOUT,
                 RECOVERY_HTTP_CLIENT_MAX_CONN_TOTAL,
-                RECOVERY_HTTP_CLIENT_MAX_CONN_PER_ROUTE);
+                RECOVERY_HTTP_CLIENT_MAX_CONN_PER_ROUTE,
+                null);
 
         setDefaultValues();
         return oddsFeedConfiguration;
@@ -77,6 +77,7 @@ class ReplayConfigurationBuilderImpl extends ConfigurationBuilderBaseImpl<Replay
                 httpClientMaxConnPerRoute,
                 recoveryHttpClientTimeout,
                 recoveryHttpClientMaxConnTotal,
-                recoveryHttpClientMaxConnPerRoute);
+                recoveryHttpClientMaxConnPerRoute,
+                executorProvider);
     }
 }
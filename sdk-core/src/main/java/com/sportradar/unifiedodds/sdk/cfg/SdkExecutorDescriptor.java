@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.cfg;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+
+/**
+ * Describes an executor requested by the SDK from the {@link SdkExecutorProvider}
+ */
+public final class SdkExecutorDescriptor {
+    private final String name;
+    private final String sdkContext;
+    private final String threadNameFormat;
+    private final int threadCount;
+    private final boolean blockingIo;
+
+    /**
+     * Constructs a new executor descriptor
+     *
+     * @param name the name of the executor purpose (e.g. FastHttp)
+     * @param sdkContext the description of the SDK instance requesting the executor
+     * @param threadNameFormat the {@link String#format(String, Object...)} pattern of the thread names (e.g. uf-sdk-1-fh-t-%d)
+     * @param threadCount the number of threads the SDK would create for the executor
+     * @param blockingIo an indication if the tasks are mostly waiting for blocking I/O (e.g. API requests)
+     */
+    public SdkExecutorDescriptor(String name, String sdkContext, String threadNameFormat, int threadCount, boolean blockingIo) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(name));
+        Preconditions.checkNotNull(sdkContext);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(threadNameFormat));
+        Preconditions.checkArgument(threadCount > 0, "threadCount must be positive");
+
+        this.name = name;
+        this.sdkContext = sdkContext;
+        this.threadNameFormat = threadNameFormat;
+        this.threadCount = threadCount;
+        this.blockingIo = blockingIo;
+    }
+
+    /**
+     * Returns the name of the executor purpose, e.g. TaskScheduler, RecoveryManager, RabbitMq, FastHttp
+     *
+     * @return the name of the executor purpose
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the description of the SDK instance requesting the executor, e.g. uf-sdk-1 or uf-sdk-1-2 if the node id is set
+     *
+     * @return the description of the SDK instance requesting the executor
+     */
+    public String getSdkContext() {
+        return sdkContext;
+    }
+
+    /**
+     * Returns the {@link String#format(String, Object...)} pattern of the thread names, the thread number is the only argument
+     *
+     * @return the pattern of the thread names
+     */
+    public String getThreadNameFormat() {
+        return threadNameFormat;
+    }
+
+    /**
+     * Returns the number of threads the SDK would create for the executor
+     *
+     * @return the number of threads the SDK would create for the executor
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Indicates if the executed tasks are mostly waiting for blocking I/O, like the API requests. Such tasks are
+     * suitable for virtual threads, see {@link VirtualThreadSdkExecutorProvider}
+     *
+     * @return <code>true</code> if the tasks are mostly waiting for blocking I/O; otherwise <code>false</code>
+     */
+    public boolean isBlockingIo() {
+        return blockingIo;
+    }
+
+    @Override
+    public String toString() {
+        return "SdkExecutorDescriptor{" +
+                "name='" + name + '\'' +
+                ", sdkContext='" + sdkContext + '\'' +
+                ", threadNameFormat='" + threadNameFormat + '\'' +
+                ", threadCount=" + threadCount +
+                ", blockingIo=" + blockingIo +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.cfg;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Provides the executors used by the SDK for all its internal work (scheduled tasks, recovery, message consumption,
+ * API requests...). An implementation can be set with {@link ConfigurationBuilderBase#setExecutorProvider(SdkExecutorProvider)}
+ * to size, name or instrument the executors, to share them across multiple feed instances or to run the blocking
+ * API requests on virtual threads. If no provider is set, the {@link DefaultSdkExecutorProvider} is used.
+ *
+ * The SDK never shuts down the provided executors itself - once an executor is no longer needed (e.g. when the feed
+ * is closed) it is handed back with {@link #release(ExecutorService)}.
+ */
+public interface SdkExecutorProvider {
+    /**
+     * Provides an executor for the work described by the provided descriptor
+     *
+     * @param descriptor the description of the requested executor
+     * @return the {@link ExecutorService} which should be used by the SDK
+     */
+    ExecutorService provideExecutor(SdkExecutorDescriptor descriptor);
+
+    /**
+     * Provides a scheduled executor for the work described by the provided descriptor
+     *
+     * @param descriptor the description of the requested executor
+     * @return the {@link ScheduledExecutorService} which should be used by the SDK
+     */
+    ScheduledExecutorService provideScheduledExecutor(SdkExecutorDescriptor descriptor);
+
+    /**
+     * Releases an executor previously provided by the current instance, the default implementation shuts it down.
+     * Shared executors should be kept running and shut down by their owner instead.
+     *
+     * @param executor the released executor
+     */
+    default void release(ExecutorService executor) {
+        executor.shutdownNow();
+    }
+}
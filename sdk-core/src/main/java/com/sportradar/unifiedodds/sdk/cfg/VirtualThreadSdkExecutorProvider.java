@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.cfg;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A {@link SdkExecutorProvider} which runs the blocking I/O work (see {@link SdkExecutorDescriptor#isBlockingIo()}),
+ * like the API requests, on virtual threads - a new virtual thread is started for each task, the number of concurrent
+ * requests is still limited by the http client connection pool. The scheduled executors and the executors of the
+ * CPU bound work are created by the {@link DefaultSdkExecutorProvider}.
+ *
+ * The virtual threads are available on Java 21 or later, on older runtimes the provider logs a warning and falls back
+ * to the platform thread pools of the {@link DefaultSdkExecutorProvider}.
+ */
+public class VirtualThreadSdkExecutorProvider extends DefaultSdkExecutorProvider {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadSdkExecutorProvider.class);
+
+    /**
+     * The <code>Thread.ofVirtual()</code>, <code>Thread.Builder.name(String, long)</code>, <code>Thread.Builder.factory()</code>
+     * and <code>Executors.newThreadPerTaskExecutor(ThreadFactory)</code> methods, null if the runtime does not support virtual threads
+     */
+    private static final Method[] VIRTUAL_THREAD_METHODS = resolveVirtualThreadMethods();
+
+    private boolean fallbackLogged;
+
+    /**
+     * Indicates if the current runtime supports virtual threads
+     *
+     * @return <code>true</code> if the runtime supports virtual threads; otherwise <code>false</code>
+     */
+    public static boolean isSupported() {
+        return VIRTUAL_THREAD_METHODS != null;
+    }
+
+    /**
+     * Provides a virtual thread per task executor for the blocking I/O work, otherwise a fixed size thread pool
+     *
+     * @param descriptor the description of the requested executor
+     * @return the {@link ExecutorService} which should be used by the SDK
+     */
+    @Override
+    public ExecutorService provideExecutor(SdkExecutorDescriptor descriptor) {
+        Preconditions.checkNotNull(descriptor);
+
+        if (!descriptor.isBlockingIo()) {
+            return super.provideExecutor(descriptor);
+        }
+
+        if (!isSupported()) {
+            logFallback();
+            return super.provideExecutor(descriptor);
+        }
+
+        String namePrefix = descriptor.getThreadNameFormat().replace("%d", "");
+        try {
+            Object builder = VIRTUAL_THREAD_METHODS[0].invoke(null);
+            builder = VIRTUAL_THREAD_METHODS[1].invoke(builder, namePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) VIRTUAL_THREAD_METHODS[2].invoke(builder);
+            return (ExecutorService) VIRTUAL_THREAD_METHODS[3].invoke(null, threadFactory);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            logger.warn("Virtual thread executor could not be created for {}, using platform threads", descriptor, e);
+            return super.provideExecutor(descriptor);
+        }
+    }
+
+    private synchronized void logFallback() {
+        if (!fallbackLogged) {
+            fallbackLogged = true;
+            logger.warn("Virtual threads are not supported by the current runtime (Java {}), platform thread pools will be used",
+                    System.getProperty("java.version"));
+        }
+    }
+
+    private static Method[] resolveVirtualThreadMethods() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            return new Method[] {
+                    Thread.class.getMethod("ofVirtual"),
+                    builderClass.getMethod("name", String.class, long.class),
+                    builderClass.getMethod("factory"),
+                    Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+            };
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -24,6 +24,9 @@ import com.sportradar.utils.URN;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Date;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 /**
  * A derived injection module managing SDK caches
@@ -42,7 +45,6 @@ public class CachingModule extends AbstractModule {
 
     @Override
     protected void configure() {
-        bind(SportEventCache.class).to(SportEventCacheImpl.class).in(Singleton.class);
         bind(SportsDataCache.class).to(SportsDataCacheImpl.class).in(Singleton.class);
         bind(CacheItemFactory.class).to(CacheItemFactoryImpl.class).in(Singleton.class);
         bind(SportEntityFactory.class).to(SportEntityFactoryImpl.class).in(Singleton.class);
@@ -59,6 +61,13 @@ public class CachingModule extends AbstractModule {
         return internalCachesProvider.getSportEventCache();
     }
 
+    @Provides @Singleton
+    protected SportEventCache provideSportEventCache(SportEventCacheImpl sportEventCache) {
+        // the schedule index of the cache has to forget the expired events
+        internalCachesProvider.setSportEventCacheRemovalHandler(sportEventCache::onCacheItemRemoved);
+        return sportEventCache;
+    }
+
     @Provides @Singleton
     protected Cache<URN, SportCI> provideSportDataCICache() {
         return internalCachesProvider.getSportDataCache();
@@ -69,6 +78,11 @@ public class CachingModule extends AbstractModule {
         return internalCachesProvider.getCategoryDataCache();
     }
 
+    @Provides @Singleton @Named("SportsDataLoadedLocales")
+    protected Set<Locale> provideSportsDataLoadedLocales() {
+        return internalCachesProvider.getSportsDataLoadedLocales();
+    }
+
     @Provides @Singleton
     protected Cache<URN, Date> provideFixtureTimestampCache() {
         return internalCachesProvider.getFixtureTimestampCache();
@@ -85,13 +99,15 @@ public class CachingModule extends AbstractModule {
 
     @Provides @Singleton
     protected ProfileCache provideProfileCache(CacheItemFactory cacheItemFactory,
-                                               DataRouterManager dataRouterManager) {
+                                               DataRouterManager dataRouterManager,
+                                               @Named("DedicatedEntityLoaderExecutor") ExecutorService entityLoaderExecutor) {
         return new ProfileCacheImpl(
                 cacheItemFactory,
                 dataRouterManager,
                 internalCachesProvider.getPlayerProfileCache(),
                 internalCachesProvider.getCompetitorCache(),
-                internalCachesProvider.getSimpleTeamCompetitorCache()
+                internalCachesProvider.getSimpleTeamCompetitorCache(),
+                entityLoaderExecutor
         );
     }
 
@@ -5,7 +5,6 @@
 package com.sportradar.unifiedodds.sdk.di;
 
 import com.google.common.base.Preconditions;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Binder;
 import com.google.inject.Module;
 import com.google.inject.Provides;
@@ -14,6 +13,8 @@ import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import com.rabbitmq.client.ConnectionFactory;
 import com.sportradar.unifiedodds.sdk.*;
+import com.sportradar.unifiedodds.sdk.cfg.DefaultSdkExecutorProvider;
+import com.sportradar.unifiedodds.sdk.cfg.SdkExecutorProvider;
 import com.sportradar.unifiedodds.sdk.impl.*;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.HttpHelper;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
@@ -21,6 +22,8 @@ import com.sportradar.unifiedodds.sdk.impl.markets.MappingValidatorFactory;
 import com.sportradar.unifiedodds.sdk.impl.markets.MarketManagerImpl;
 import com.sportradar.unifiedodds.sdk.impl.markets.mappings.MappingValidatorFactoryImpl;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.FeedMessageFactoryImpl;
+import com.sportradar.unifiedodds.sdk.impl.traffic.SegmentFileTrafficRecorder;
+import com.sportradar.unifiedodds.sdk.impl.traffic.TrafficRecorder;
 import com.sportradar.unifiedodds.sdk.impl.util.MdcScheduledExecutorService;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -36,6 +39,7 @@ import javax.xml.bind.Unmarshaller;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
@@ -80,7 +84,6 @@ public class GeneralModule implements Module {
      */
     private final HttpClientFactory httpClientFactory;
 
-    private ReentrantLock jabxReentrantLock;
 
     /**
      * Constructs a new instance of the {@link GeneralModule} class
@@ -99,7 +102,6 @@ public class GeneralModule implements Module {
         this.httpClientFactory = httpClientFactory;
 
         try {
-            jabxReentrantLock = new ReentrantLock();
             messagesJaxbContext = JAXBContext.newInstance("com.sportradar.uf.datamodel");
             sportsApiJaxbContext = JAXBContext.newInstance("com.sportradar.uf.sportsapi.datamodel");
             customBetApiJaxbContext = JAXBContext.newInstance("com.sportradar.uf.custombet.datamodel");
@@ -164,7 +166,6 @@ public class GeneralModule implements Module {
         binder.bind(SportEventStatusFactory.class).to(SportEventStatusFactoryImpl.class);
         binder.bind(FeedMessageValidator.class).to(FeedMessageValidatorImpl.class);
         binder.bind(TimeUtils.class).to(TimeUtilsImpl.class);
-        binder.bind(ReentrantLock.class).toInstance(jabxReentrantLock);
     }
 
     private String loadVersion() {
@@ -179,6 +180,17 @@ public class GeneralModule implements Module {
         }
     }
 
+    /**
+     * Provides the lock of the {@link Unmarshaller} of a single message consumer. Each consumer, including the consumers
+     * of the sport partitions, unmarshals the messages with its own unmarshaller, so the consumers do not share the lock.
+     *
+     * @return a new {@link ReentrantLock}
+     */
+    @Provides
+    ReentrantLock provideUnmarshallerLock() {
+        return new ReentrantLock();
+    }
+
     /**
      * Provides the {@link Unmarshaller} used to unmarshal incoming messages
      *
@@ -246,6 +258,16 @@ public class GeneralModule implements Module {
         return statsBean;
     }
 
+    /**
+     * Provides the {@link ChannelHealthMonitor} shared by the feed channels of all the feed instances
+     *
+     * @return the shared {@link ChannelHealthMonitor}
+     */
+    @Provides
+    private ChannelHealthMonitor provideChannelHealthMonitor() {
+        return ChannelHealthMonitor.getInstance();
+    }
+
     /**
      * Provides the http client used to fetch data from the API
      */
@@ -290,20 +312,35 @@ public class GeneralModule implements Module {
         return new HttpHelper(config, httpClient, apiDeserializer);
     }
 
+    /**
+     * Provides the {@link SdkExecutors} used to obtain all the executors of the feed instance
+     * from the configured {@link SdkExecutorProvider}
+     *
+     * @return the {@link SdkExecutors} of the feed instance
+     */
+    @Provides @Singleton
+    private SdkExecutors provideSdkExecutors(SDKInternalConfiguration configuration, WhoAmIReader whoAmIReader) {
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(whoAmIReader);
+
+        SdkExecutorProvider executorProvider = configuration.getExecutorProvider();
+
+        return new SdkExecutors(executorProvider != null ? executorProvider : new DefaultSdkExecutorProvider(),
+                whoAmIReader.getSdkContextDescription());
+    }
+
     /**
      * Provides a service class used to schedule repeating tasks
      *
      * @return a service class used to schedule repeating tasks
      */
     @Provides @Singleton
-    private SDKTaskScheduler provideSDKTaskScheduler(SDKInternalConfiguration configuration, WhoAmIReader whoAmIReader) {
+    private SDKTaskScheduler provideSDKTaskScheduler(SDKInternalConfiguration configuration, WhoAmIReader whoAmIReader, SdkExecutors sdkExecutors) {
         Preconditions.checkNotNull(configuration);
         Preconditions.checkNotNull(whoAmIReader);
+        Preconditions.checkNotNull(sdkExecutors);
 
-        String sdkContextDescription = whoAmIReader.getSdkContextDescription();
-
-        ThreadFactory namedThreadFactory = new ThreadFactoryBuilder().setNameFormat(sdkContextDescription + "-t-%d").build();
-        ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(1, namedThreadFactory);
+        ScheduledExecutorService scheduledExecutorService = sdkExecutors.newScheduledExecutor("TaskScheduler", "-t-%d", 1);
 
         Map<String, String> mdcContext = whoAmIReader.getAssociatedSdkMdcContextMap();
 
@@ -318,14 +355,11 @@ public class GeneralModule implements Module {
      * @return the {@link ExecutorService} exclusive to the {@link RecoveryManager}
      */
     @Provides @Singleton @Named("DedicatedRecoveryManagerExecutor")
-    private ScheduledExecutorService provideDedicatedRecoveryManagerExecutor(SDKInternalConfiguration configuration, WhoAmIReader whoAmIReader) {
-        Preconditions.checkNotNull(configuration);
+    private ScheduledExecutorService provideDedicatedRecoveryManagerExecutor(WhoAmIReader whoAmIReader, SdkExecutors sdkExecutors) {
         Preconditions.checkNotNull(whoAmIReader);
+        Preconditions.checkNotNull(sdkExecutors);
 
-        String sdkContextDescription = whoAmIReader.getSdkContextDescription();
-
-        ThreadFactory namedThreadFactory = new ThreadFactoryBuilder().setNameFormat(sdkContextDescription + "-rm-t-%d").build();
-        ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(1, namedThreadFactory);
+        ScheduledExecutorService scheduledExecutorService = sdkExecutors.newScheduledExecutor("RecoveryManager", "-rm-t-%d", 1);
 
         Map<String, String> mdcContext = whoAmIReader.getAssociatedSdkMdcContextMap();
 
@@ -338,15 +372,93 @@ public class GeneralModule implements Module {
      * @return the {@link ExecutorService} exclusive to the {@link SingleInstanceAMQPConnectionFactory}
      */
     @Provides @Singleton @Named("DedicatedRabbitMqExecutor")
-    private ExecutorService providesDedicatedRabbitMqExecutor(WhoAmIReader whoAmIReader) {
-        Preconditions.checkNotNull(whoAmIReader);
-
-        ThreadFactory namedThreadFactory =
-                new ThreadFactoryBuilder()
-                        .setNameFormat(whoAmIReader.getSdkContextDescription() + "-amqp-t-%d")
-                        .build();
+    private ExecutorService providesDedicatedRabbitMqExecutor(SdkExecutors sdkExecutors) {
+        Preconditions.checkNotNull(sdkExecutors);
 
         // current max channels is 4(Prematch + Live + Virtuals + System), so max 4 concurrent consumptions
-        return Executors.newFixedThreadPool(5, namedThreadFactory);
+        return sdkExecutors.newExecutor("RabbitMq", "-amqp-t-%d", 5, false);
+    }
+
+    /**
+     * Provides an {@link ExecutorService} which is being used exclusively by the {@link RabbitMqChannelImpl} instances
+     * to recreate the channels found unhealthy by the shared {@link ChannelHealthMonitor}
+     *
+     * @return the {@link ExecutorService} exclusive to the {@link RabbitMqChannelImpl} instances
+     */
+    @Provides @Singleton @Named("DedicatedChannelMaintenanceExecutor")
+    private ExecutorService providesDedicatedChannelMaintenanceExecutor(SdkExecutors sdkExecutors) {
+        Preconditions.checkNotNull(sdkExecutors);
+
+        // all the channels of the feed instance share its connection, so they are recreated one after another
+        return sdkExecutors.newExecutor("ChannelMaintenance", "-cm-t-%d", 1, true);
+    }
+
+    /**
+     * Provides an {@link ExecutorService} which is being used exclusively in the {@link CashOutProbabilitiesManagerImpl}
+     * to fetch batched cash out probabilities concurrently
+     *
+     * @return the {@link ExecutorService} exclusive to the {@link CashOutProbabilitiesManagerImpl}
+     */
+    @Provides @Singleton @Named("DedicatedCashOutProbabilitiesExecutor")
+    private ExecutorService providesDedicatedCashOutProbabilitiesExecutor(SDKInternalConfiguration configuration, SdkExecutors sdkExecutors) {
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(sdkExecutors);
+
+        // more concurrent requests than available connections per route would only queue up in the http client
+        return sdkExecutors.newExecutor("CashOutProbabilities", "-co-t-%d", Math.max(1, configuration.getHttpClientMaxConnPerRoute()), true);
+    }
+
+    /**
+     * Provides an {@link ExecutorService} which is being used exclusively in the {@link LogFastHttpDataFetcher}
+     * to send the hedged API requests
+     *
+     * @return the {@link ExecutorService} exclusive to the {@link LogFastHttpDataFetcher}
+     */
+    @Provides @Singleton @Named("DedicatedFastHttpExecutor")
+    private ExecutorService providesDedicatedFastHttpExecutor(SDKInternalConfiguration configuration, SdkExecutors sdkExecutors) {
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(sdkExecutors);
+
+        // each request may be hedged with a second attempt
+        return sdkExecutors.newExecutor("FastHttp", "-fh-t-%d", 2 * Math.max(1, configuration.getHttpClientMaxConnPerRoute()), true);
+    }
+
+    /**
+     * Provides the {@link ExecutorService} used by the {@link SportEntityFactoryImpl} to load the entity data concurrently
+     *
+     * @return the {@link ExecutorService} exclusive to the {@link SportEntityFactoryImpl}
+     */
+    @Provides @Singleton @Named("DedicatedEntityLoaderExecutor")
+    private ExecutorService providesDedicatedEntityLoaderExecutor(SDKInternalConfiguration configuration, SdkExecutors sdkExecutors) {
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(sdkExecutors);
+
+        // the loads are API requests, so there is no point in running more of them than there are connections
+        return sdkExecutors.newExecutor("EntityLoader", "-el-t-%d", Math.max(1, configuration.getHttpClientMaxConnPerRoute()), true);
+    }
+
+    /**
+     * Provides the {@link TrafficRecorder} used to record the raw feed messages and API responses. The recorder
+     * does not depend on the {@link WhoAmIReader}, since the reader fetches the bookmaker details through
+     * the recording data fetchers.
+     *
+     * @return a {@link SegmentFileTrafficRecorder} if the recorder directory is configured; otherwise {@link TrafficRecorder#DISABLED}
+     */
+    @Provides @Singleton
+    private TrafficRecorder providesTrafficRecorder(SDKInternalConfiguration configuration, SdkExecutors sdkExecutors) {
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(sdkExecutors);
+
+        if (configuration.getTrafficRecorderDirectory() == null) {
+            return TrafficRecorder.DISABLED;
+        }
+
+        return new SegmentFileTrafficRecorder(
+                Paths.get(configuration.getTrafficRecorderDirectory()),
+                configuration.getTrafficRecorderSegmentSizeMb() * 1024 * 1024,
+                configuration.getTrafficRecorderMaxSegments(),
+                configuration.isTrafficRecorderCompressionEnabled(),
+                SegmentFileTrafficRecorder.DEFAULT_BUFFER_CAPACITY,
+                sdkExecutors.newExecutor("TrafficRecorder", "-tr-t-%d", 1, false));
     }
 }
@@ -1,6 +1,7 @@
 package com.sportradar.unifiedodds.sdk.di;
 
 import com.google.common.cache.Cache;
+import com.google.common.cache.RemovalListener;
 import com.sportradar.unifiedodds.sdk.caching.*;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.VariantDescriptionCI;
@@ -8,6 +9,8 @@ import com.sportradar.utils.URN;
 
 import java.io.Closeable;
 import java.util.Date;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Created on 2019-03-29
@@ -19,6 +22,14 @@ public interface InternalCachesProvider extends Closeable {
 
     Cache<URN, CategoryCI> getCategoryDataCache();
 
+    /**
+     * Returns the locales in which the complete sports and categories lists were already loaded into the sports and
+     * categories caches, e.g. by another feed instance sharing the caches
+     *
+     * @return the modifiable set of the locales in which the sports data is loaded
+     */
+    Set<Locale> getSportsDataLoadedLocales();
+
     Cache<URN, SportEventCI> getSportEventCache();
 
     Cache<URN, PlayerProfileCI> getPlayerProfileCache();
@@ -40,4 +51,11 @@ public interface InternalCachesProvider extends Closeable {
     Cache<URN, Date> getFixtureTimestampCache();
 
     Cache<String, Date> getIgnoreEventsTimelineCache();
+
+    /**
+     * Sets the handler notified about the sport events removed from the sport event cache, including the expired ones
+     *
+     * @param removalHandler the handler notified about the removed sport events
+     */
+    void setSportEventCacheRemovalHandler(RemovalListener<URN, SportEventCI> removalHandler);
 }
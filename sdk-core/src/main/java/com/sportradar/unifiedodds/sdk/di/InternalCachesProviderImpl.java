@@ -1,7 +1,9 @@
 package com.sportradar.unifiedodds.sdk.di;
 
+import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
 import com.sportradar.unifiedodds.sdk.OperationManager;
 import com.sportradar.unifiedodds.sdk.caching.*;
 import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
@@ -10,7 +12,10 @@ import com.sportradar.utils.URN;
 
 import java.io.IOException;
 import java.util.Date;
+import java.util.Locale;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Created on 2019-03-29
@@ -18,61 +23,47 @@ import java.util.concurrent.TimeUnit;
  * @author e.roznik
  */
 class InternalCachesProviderImpl implements InternalCachesProvider {
-    private final Cache<URN, SportCI> sportDataCache;
-    private final Cache<URN, CategoryCI> categoryDataCache;
     private final Cache<URN, SportEventCI> sportEventCache;
-    private final Cache<URN, PlayerProfileCI> playerProfileCache;
-    private final Cache<URN, CompetitorCI> competitorCache;
-    private final Cache<URN, CompetitorCI> simpleTeamCompetitorCache;
     private final Cache<String, SportEventStatusCI> sportEventStatusCache;
-    private final Cache<String, MarketDescriptionCI> invariantMarketCache;
-    private final Cache<String, MarketDescriptionCI> variantMarketCache;
     private final Cache<String, String> dispatchedFixtureChanges;
-    private final Cache<String, VariantDescriptionCI> variantDescriptionCache;
     private final Cache<URN, Date> fixtureTimestampCache;
     private final Cache<String, Date> ignoreEventsTimelineCache;
-    private final SDKCacheRemovalListener removalListenerSportEventCache;
-    private final SDKCacheRemovalListener removalListenerPlayerProfileCache;
-    private final SDKCacheRemovalListener removalListenerCompetitorProfileCache;
-    private final SDKCacheRemovalListener removalListenerSimpleTeamCompetitorCache;
+    private final SDKCacheRemovalListener<URN, SportEventCI> removalListenerSportEventCache;
     private final SDKCacheRemovalListener removalListenerSportEventStatusCache;
 
+    /**
+     * Provides the scope of the sports, market descriptions and profiles caches once they are first requested,
+     * at which point the API host of the feed instance is already validated
+     */
+    private final Supplier<SharedCacheScope> scopeProvider;
+    private SharedCacheScope scope;
+    private boolean closed;
+
     InternalCachesProviderImpl() {
+        this(SharedCacheScope::create);
+    }
+
+    /**
+     * @param scopeProvider the provider of the scope of the sports, market descriptions and profiles caches
+     */
+    InternalCachesProviderImpl(Supplier<SharedCacheScope> scopeProvider) {
+        Preconditions.checkNotNull(scopeProvider);
+
+        this.scopeProvider = scopeProvider;
+
         removalListenerSportEventCache = new SDKCacheRemovalListener<>("SportEventCache");
-        removalListenerPlayerProfileCache = new SDKCacheRemovalListener<>("PlayerProfileCache");
-        removalListenerCompetitorProfileCache = new SDKCacheRemovalListener<>("CompetitorProfileCache");
-        removalListenerSimpleTeamCompetitorCache = new SDKCacheRemovalListener<>("SimpleTeamCompetitorCache");
         removalListenerSportEventStatusCache = new SDKCacheRemovalListener<>("SportEventStatusCache", true);
 
-        sportDataCache = CacheBuilder.newBuilder().build();
-        categoryDataCache = CacheBuilder.newBuilder().build();
-
         sportEventCache = CacheBuilder.newBuilder()
                 .expireAfterWrite(12, TimeUnit.HOURS)
                 .removalListener(removalListenerSportEventCache)
                 .build();
 
-        playerProfileCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(OperationManager.getProfileCacheTimeout().toHours(), TimeUnit.HOURS)
-                .removalListener(removalListenerPlayerProfileCache)
-                .build();
-        competitorCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(OperationManager.getProfileCacheTimeout().toHours(), TimeUnit.HOURS)
-                .removalListener(removalListenerCompetitorProfileCache)
-                .build();
-        simpleTeamCompetitorCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(24, TimeUnit.HOURS)
-                .removalListener(removalListenerSimpleTeamCompetitorCache)
-                .build();
-
         sportEventStatusCache = CacheBuilder.newBuilder()
                 .expireAfterWrite(OperationManager.getSportEventStatusCacheTimeout().toMinutes(), TimeUnit.MINUTES)
                 .removalListener(removalListenerSportEventStatusCache)
                 .build();
 
-        invariantMarketCache = CacheBuilder.newBuilder().build(); // timer cleanup & refresh
-        variantDescriptionCache = CacheBuilder.newBuilder().build(); // timer cleanup & refresh
-        variantMarketCache = CacheBuilder.newBuilder().expireAfterAccess(OperationManager.getVariantMarketDescriptionCacheTimeout().toHours(), TimeUnit.HOURS).build();
         fixtureTimestampCache = CacheBuilder.newBuilder().expireAfterWrite(2, TimeUnit.MINUTES).build();
         ignoreEventsTimelineCache = CacheBuilder.newBuilder().expireAfterAccess(OperationManager.getIgnoreBetPalTimelineSportEventStatusCacheTimeout().toHours(), TimeUnit.HOURS).build();
 
@@ -81,12 +72,17 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
 
     @Override
     public Cache<URN, SportCI> getSportDataCache() {
-        return sportDataCache;
+        return scope().getSportDataCache();
     }
 
     @Override
     public Cache<URN, CategoryCI> getCategoryDataCache() {
-        return categoryDataCache;
+        return scope().getCategoryDataCache();
+    }
+
+    @Override
+    public Set<Locale> getSportsDataLoadedLocales() {
+        return scope().getSportsDataLoadedLocales();
     }
 
     @Override
@@ -94,17 +90,17 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
 
     @Override
     public Cache<URN, PlayerProfileCI> getPlayerProfileCache() {
-        return playerProfileCache;
+        return scope().getPlayerProfileCache();
     }
 
     @Override
     public Cache<URN, CompetitorCI> getCompetitorCache() {
-        return competitorCache;
+        return scope().getCompetitorCache();
     }
 
     @Override
     public Cache<URN, CompetitorCI> getSimpleTeamCompetitorCache() {
-        return simpleTeamCompetitorCache;
+        return scope().getSimpleTeamCompetitorCache();
     }
 
     @Override
@@ -114,12 +110,12 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
 
     @Override
     public Cache<String, MarketDescriptionCI> getInvariantMarketCache() {
-        return invariantMarketCache;
+        return scope().getInvariantMarketCache();
     }
 
     @Override
     public Cache<String, MarketDescriptionCI> getVariantMarketCache() {
-        return variantMarketCache;
+        return scope().getVariantMarketCache();
     }
 
     @Override
@@ -129,7 +125,7 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
 
     @Override
     public Cache<String, VariantDescriptionCI> getVariantDescriptionCache() {
-        return variantDescriptionCache;
+        return scope().getVariantDescriptionCache();
     }
 
     @Override
@@ -140,6 +136,11 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
     @Override
     public Cache<String, Date> getIgnoreEventsTimelineCache() { return ignoreEventsTimelineCache; }
 
+    @Override
+    public void setSportEventCacheRemovalHandler(RemovalListener<URN, SportEventCI> removalHandler) {
+        removalListenerSportEventCache.setRemovalHandler(removalHandler);
+    }
+
     /**
      * Closes this stream and releases any system resources associated
      * with it. If the stream is already closed then invoking this
@@ -155,23 +156,33 @@ class InternalCachesProviderImpl implements InternalCachesProvider {
      */
     @Override
     public void close() throws IOException {
+        SharedCacheScope usedScope;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            usedScope = scope;
+        }
+
         removalListenerSportEventCache.EnableLogRemoval(false);
-        removalListenerPlayerProfileCache.EnableLogRemoval(false);
-        removalListenerCompetitorProfileCache.EnableLogRemoval(false);
-        removalListenerSimpleTeamCompetitorCache.EnableLogRemoval(false);
         removalListenerSportEventStatusCache.EnableLogRemoval(false);
-        sportDataCache.invalidateAll();
-        categoryDataCache.invalidateAll();
         sportEventCache.invalidateAll();
-        playerProfileCache.invalidateAll();
-        competitorCache.invalidateAll();
-        simpleTeamCompetitorCache.invalidateAll();
         sportEventStatusCache.invalidateAll();
-        invariantMarketCache.invalidateAll();
-        variantMarketCache.invalidateAll();
         dispatchedFixtureChanges.invalidateAll();
-        variantDescriptionCache.invalidateAll();
         fixtureTimestampCache.invalidateAll();
         ignoreEventsTimelineCache.invalidateAll();
+
+        if (usedScope != null) {
+            usedScope.release();
+        }
+    }
+
+    private synchronized SharedCacheScope scope() {
+        if (scope == null) {
+            Preconditions.checkState(!closed, "The internal caches provider is already closed");
+            scope = scopeProvider.get();
+        }
+        return scope;
     }
 }
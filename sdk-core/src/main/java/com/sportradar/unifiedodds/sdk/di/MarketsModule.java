@@ -6,6 +6,7 @@ package com.sportradar.unifiedodds.sdk.di;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Binder;
+import com.google.inject.Singleton;
 import com.sportradar.unifiedodds.sdk.impl.markets.*;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.markets.MarketFactory;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.markets.MarketFactoryImpl;
@@ -23,5 +24,6 @@ public class MarketsModule extends AbstractModule {
         bind(NameProviderFactory.class).to(NameProviderFactoryImpl.class);
         bind(NameExpressionFactory.class).to(NameExpressionFactoryImpl.class);
         bind(OperandFactory.class).to(OperandFactoryImpl.class);
+        bind(RenderedNameCache.class).in(Singleton.class);
     }
 }
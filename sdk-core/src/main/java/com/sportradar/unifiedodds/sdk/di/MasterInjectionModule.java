@@ -37,7 +37,10 @@ public class MasterInjectionModule extends AbstractModule {
 
         bind(SDKInternalConfiguration.class).toInstance(config);
 
-        InternalCachesProvider internalCachesProvider = new InternalCachesProviderImpl();
+        InternalCachesProvider internalCachesProvider = config.isSharedCacheScopeEnabled()
+                ? new InternalCachesProviderImpl(() -> SharedCacheScope.acquire(config.getAPIHost(), config.getDesiredLocales(),
+                        config.getDefaultLocale(), config.getExceptionHandlingStrategy()))
+                : new InternalCachesProviderImpl();
         bind(InternalCachesProvider.class).toInstance(internalCachesProvider);
 
         install(new GeneralModule(sdkListener, config, new HttpClientFactory()));
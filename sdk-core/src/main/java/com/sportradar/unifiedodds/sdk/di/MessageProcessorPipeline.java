@@ -12,10 +12,11 @@ import com.google.inject.name.Named;
 import com.sportradar.unifiedodds.sdk.caching.SportEventCache;
 import com.sportradar.unifiedodds.sdk.caching.SportEventStatusCache;
 import com.sportradar.unifiedodds.sdk.impl.FeedMessageProcessor;
+import com.sportradar.unifiedodds.sdk.impl.markets.RenderedNameCache;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CacheMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.CompositeMessageProcessor;
-import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.NoOpProcessedFixtureChangesTracker;
 import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.ProcessedFixtureChangesTracker;
+import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.ProcessedFixtureChangesTrackerImpl;
 
 /**
  * A derived injection module managing SDK message processing pipeline
@@ -23,15 +24,16 @@ import com.sportradar.unifiedodds.sdk.impl.processing.pipeline.ProcessedFixtureC
 public class MessageProcessorPipeline extends AbstractModule {
     @Override
     protected void configure() {
-        bind(ProcessedFixtureChangesTracker.class).to(NoOpProcessedFixtureChangesTracker.class).in(Singleton.class);
+        bind(ProcessedFixtureChangesTracker.class).to(ProcessedFixtureChangesTrackerImpl.class).in(Singleton.class);
     }
 
     @Provides @Named("CacheMessageProcessor")
     protected FeedMessageProcessor providesCacheMessageProcessor(
             SportEventStatusCache sportEventStatusCache,
             SportEventCache sportEventCache,
-            ProcessedFixtureChangesTracker processedFixtureChangesTracker) {
-        return new CacheMessageProcessor(sportEventStatusCache, sportEventCache, processedFixtureChangesTracker);
+            ProcessedFixtureChangesTracker processedFixtureChangesTracker,
+            RenderedNameCache renderedNameCache) {
+        return new CacheMessageProcessor(sportEventStatusCache, sportEventCache, processedFixtureChangesTracker, renderedNameCache);
     }
 
     @Provides
@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.di;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.OperationManager;
+import com.sportradar.unifiedodds.sdk.caching.CategoryCI;
+import com.sportradar.unifiedodds.sdk.caching.CompetitorCI;
+import com.sportradar.unifiedodds.sdk.caching.PlayerProfileCI;
+import com.sportradar.unifiedodds.sdk.caching.SDKCacheRemovalListener;
+import com.sportradar.unifiedodds.sdk.caching.SportCI;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.VariantDescriptionCI;
+import com.sportradar.utils.URN;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The caches holding the data which does not depend on the feed instance (sports, categories, market descriptions and
+ * profiles). A scope is either owned by a single feed instance or shared by all the feed instances in the JVM which
+ * use the same API host, desired locales (in the same order), default locale and exception handling strategy. A shared
+ * scope is reference counted and its caches are invalidated once the last feed instance using it is closed.
+ * <p>
+ * The profile cache items fetch the missing data through the data router of the feed instance which created them,
+ * so the profile caches are invalidated whenever a feed instance sharing the scope is closed.
+ */
+final class SharedCacheScope {
+    private static final Logger logger = LoggerFactory.getLogger(SharedCacheScope.class);
+
+    /**
+     * The currently shared scopes, guarded by the {@link SharedCacheScope} class lock
+     */
+    private static final Map<ScopeKey, SharedCacheScope> sharedScopes = new HashMap<>();
+
+    private final ScopeKey key;
+    private int references;
+
+    private final Cache<URN, SportCI> sportDataCache;
+    private final Cache<URN, CategoryCI> categoryDataCache;
+    private final Cache<URN, PlayerProfileCI> playerProfileCache;
+    private final Cache<URN, CompetitorCI> competitorCache;
+    private final Cache<URN, CompetitorCI> simpleTeamCompetitorCache;
+    private final Cache<String, MarketDescriptionCI> invariantMarketCache;
+    private final Cache<String, MarketDescriptionCI> variantMarketCache;
+    private final Cache<String, VariantDescriptionCI> variantDescriptionCache;
+    private final Set<Locale> sportsDataLoadedLocales;
+    private final SDKCacheRemovalListener removalListenerPlayerProfileCache;
+    private final SDKCacheRemovalListener removalListenerCompetitorProfileCache;
+    private final SDKCacheRemovalListener removalListenerSimpleTeamCompetitorCache;
+
+    private SharedCacheScope(ScopeKey key) {
+        this.key = key;
+        this.references = 1;
+
+        removalListenerPlayerProfileCache = new SDKCacheRemovalListener<>("PlayerProfileCache");
+        removalListenerCompetitorProfileCache = new SDKCacheRemovalListener<>("CompetitorProfileCache");
+        removalListenerSimpleTeamCompetitorCache = new SDKCacheRemovalListener<>("SimpleTeamCompetitorCache");
+
+        sportDataCache = CacheBuilder.newBuilder().build();
+        categoryDataCache = CacheBuilder.newBuilder().build();
+        sportsDataLoadedLocales = ConcurrentHashMap.newKeySet();
+
+        playerProfileCache = CacheBuilder.newBuilder()
+                .expireAfterWrite(OperationManager.getProfileCacheTimeout().toHours(), TimeUnit.HOURS)
+                .removalListener(removalListenerPlayerProfileCache)
+                .build();
+        competitorCache = CacheBuilder.newBuilder()
+                .expireAfterWrite(OperationManager.getProfileCacheTimeout().toHours(), TimeUnit.HOURS)
+                .removalListener(removalListenerCompetitorProfileCache)
+                .build();
+        simpleTeamCompetitorCache = CacheBuilder.newBuilder()
+                .expireAfterWrite(24, TimeUnit.HOURS)
+                .removalListener(removalListenerSimpleTeamCompetitorCache)
+                .build();
+
+        invariantMarketCache = CacheBuilder.newBuilder().build(); // timer cleanup & refresh
+        variantDescriptionCache = CacheBuilder.newBuilder().build(); // timer cleanup & refresh
+        variantMarketCache = CacheBuilder.newBuilder().expireAfterAccess(OperationManager.getVariantMarketDescriptionCacheTimeout().toHours(), TimeUnit.HOURS).build();
+    }
+
+    /**
+     * Creates a new scope owned by a single feed instance
+     *
+     * @return a new scope which is not shared
+     */
+    static SharedCacheScope create() {
+        return new SharedCacheScope(null);
+    }
+
+    /**
+     * Returns the scope shared by the feed instances with the provided API host, locales and exception handling
+     * strategy, the scope is created if there is no such scope yet. Each acquired scope must be released with
+     * {@link #release()}.
+     *
+     * @param apiHost the API host used by the feed instance
+     * @param locales the desired locales of the feed instance, the order of the locales is significant
+     * @param defaultLocale the default locale of the feed instance
+     * @param exceptionHandlingStrategy the exception handling strategy of the feed instance
+     * @return the shared scope
+     */
+    static SharedCacheScope acquire(String apiHost, List<Locale> locales, Locale defaultLocale, ExceptionHandlingStrategy exceptionHandlingStrategy) {
+        Preconditions.checkNotNull(apiHost);
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(defaultLocale);
+        Preconditions.checkNotNull(exceptionHandlingStrategy);
+
+        ScopeKey key = new ScopeKey(apiHost, ImmutableList.copyOf(locales), defaultLocale, exceptionHandlingStrategy);
+        synchronized (SharedCacheScope.class) {
+            SharedCacheScope scope = sharedScopes.get(key);
+            if (scope == null) {
+                scope = new SharedCacheScope(key);
+                sharedScopes.put(key, scope);
+                logger.info("Created shared cache scope {}", key);
+            } else {
+                scope.references++;
+                logger.info("Joined shared cache scope {}, feed instances: {}", key, scope.references);
+            }
+            return scope;
+        }
+    }
+
+    /**
+     * Releases the scope, the caches are invalidated once the last feed instance using the scope releases it. While
+     * the scope is still used by other feed instances, only the profile caches are invalidated, since the profiles
+     * fetch the missing data through the feed instance which created them.
+     */
+    void release() {
+        synchronized (SharedCacheScope.class) {
+            Preconditions.checkState(references > 0, "The cache scope was already released");
+
+            references--;
+            if (references > 0) {
+                logger.info("Left shared cache scope {}, feed instances: {}", key, references);
+                invalidateProfiles();
+                return;
+            }
+
+            if (key != null) {
+                sharedScopes.remove(key);
+                logger.info("Closed shared cache scope {}", key);
+            }
+        }
+
+        removalListenerPlayerProfileCache.EnableLogRemoval(false);
+        removalListenerCompetitorProfileCache.EnableLogRemoval(false);
+        removalListenerSimpleTeamCompetitorCache.EnableLogRemoval(false);
+        sportDataCache.invalidateAll();
+        categoryDataCache.invalidateAll();
+        sportsDataLoadedLocales.clear();
+        invalidateProfiles();
+        invariantMarketCache.invalidateAll();
+        variantMarketCache.invalidateAll();
+        variantDescriptionCache.invalidateAll();
+    }
+
+    /**
+     * @return the number of the feed instances using the scope
+     */
+    int getReferences() {
+        synchronized (SharedCacheScope.class) {
+            return references;
+        }
+    }
+
+    Cache<URN, SportCI> getSportDataCache() {
+        return sportDataCache;
+    }
+
+    Cache<URN, CategoryCI> getCategoryDataCache() {
+        return categoryDataCache;
+    }
+
+    Set<Locale> getSportsDataLoadedLocales() {
+        return sportsDataLoadedLocales;
+    }
+
+    Cache<URN, PlayerProfileCI> getPlayerProfileCache() {
+        return playerProfileCache;
+    }
+
+    Cache<URN, CompetitorCI> getCompetitorCache() {
+        return competitorCache;
+    }
+
+    Cache<URN, CompetitorCI> getSimpleTeamCompetitorCache() {
+        return simpleTeamCompetitorCache;
+    }
+
+    Cache<String, MarketDescriptionCI> getInvariantMarketCache() {
+        return invariantMarketCache;
+    }
+
+    Cache<String, MarketDescriptionCI> getVariantMarketCache() {
+        return variantMarketCache;
+    }
+
+    Cache<String, VariantDescriptionCI> getVariantDescriptionCache() {
+        return variantDescriptionCache;
+    }
+
+    private void invalidateProfiles() {
+        playerProfileCache.invalidateAll();
+        competitorCache.invalidateAll();
+        simpleTeamCompetitorCache.invalidateAll();
+    }
+
+    private static final class ScopeKey {
+        private final String apiHost;
+        private final List<Locale> locales;
+        private final Locale defaultLocale;
+        private final ExceptionHandlingStrategy exceptionHandlingStrategy;
+
+        private ScopeKey(String apiHost, List<Locale> locales, Locale defaultLocale, ExceptionHandlingStrategy exceptionHandlingStrategy) {
+            this.apiHost = apiHost;
+            this.locales = locales;
+            this.defaultLocale = defaultLocale;
+            this.exceptionHandlingStrategy = exceptionHandlingStrategy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ScopeKey)) {
+                return false;
+            }
+            ScopeKey other = (ScopeKey) o;
+            return apiHost.equals(other.apiHost)
+                    && locales.equals(other.locales)
+                    && defaultLocale.equals(other.defaultLocale)
+                    && exceptionHandlingStrategy == other.exceptionHandlingStrategy;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(apiHost, locales, defaultLocale, exceptionHandlingStrategy);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("apiHost", apiHost)
+                    .add("locales", locales)
+                    .add("defaultLocale", defaultLocale)
+                    .add("exceptionHandlingStrategy", exceptionHandlingStrategy)
+                    .toString();
+        }
+    }
+}
@@ -8,11 +8,28 @@ package com.sportradar.unifiedodds.sdk.exceptions.internal;
  * The following exception gets thrown when a communication error gets detected(API request failure,...)
  */
 public class CommunicationException extends SDKInternalException {
+    private final int httpStatusCode;
+
     public CommunicationException(String message) {
+        this(message, 0);
+    }
+
+    public CommunicationException(String message, int httpStatusCode) {
         super(message);
+        this.httpStatusCode = httpStatusCode;
     }
 
     public CommunicationException(String message, Throwable cause) {
         super(message, cause);
+        this.httpStatusCode = 0;
+    }
+
+    /**
+     * Returns the status code of the received API response
+     *
+     * @return the status code of the received API response or 0 if no response was received
+     */
+    public int getHttpStatusCode() {
+        return httpStatusCode;
     }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * A circuit breaker which fails the API requests fast once the API appears degraded. The circuit opens after the
+ * configured number of consecutive failures, after the open duration elapses a single trial request is allowed
+ * which either closes the circuit or opens it again.
+ */
+final class ApiCircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(ApiCircuitBreaker.class);
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private int consecutiveFailures;
+    private boolean open;
+    private boolean trialInProgress;
+    private long openUntilNanos;
+
+    /**
+     * Initializes a new instance of {@link ApiCircuitBreaker}
+     *
+     * @param failureThreshold the number of consecutive failures which opens the circuit, 0 disables the circuit breaker
+     * @param openDuration how long the requests fail fast once the circuit opens
+     */
+    ApiCircuitBreaker(int failureThreshold, Duration openDuration) {
+        Preconditions.checkArgument(failureThreshold >= 0);
+        Preconditions.checkNotNull(openDuration);
+
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * Checks if a request may be sent
+     *
+     * @return <code>true</code> if the request may be sent; otherwise <code>false</code>
+     */
+    synchronized boolean tryAcquire() {
+        if (!open) {
+            return true;
+        }
+
+        if (trialInProgress || System.nanoTime() - openUntilNanos < 0) {
+            return false;
+        }
+
+        trialInProgress = true;
+        return true;
+    }
+
+    /**
+     * Records a request which received a response from the API
+     */
+    synchronized void onSuccess() {
+        if (open) {
+            logger.info("Sports API request succeeded, closing the circuit");
+        }
+        consecutiveFailures = 0;
+        open = false;
+        trialInProgress = false;
+    }
+
+    /**
+     * Records a request which was abandoned by the caller, it does not affect the state of the circuit
+     */
+    synchronized void onAbandoned() {
+        trialInProgress = false;
+    }
+
+    /**
+     * Records a failed request, only failures indicating a degraded API count towards opening the circuit
+     *
+     * @param failure the exception describing the failure
+     */
+    synchronized void onFailure(Throwable failure) {
+        if (!isDegradation(failure)) {
+            onSuccess();
+            return;
+        }
+
+        consecutiveFailures++;
+        if (failureThreshold > 0 && (trialInProgress || consecutiveFailures >= failureThreshold)) {
+            if (!open || trialInProgress) {
+                logger.warn("Sports API appears degraded after {} consecutive failed requests, failing the requests fast for the next {} ms",
+                        consecutiveFailures, openDurationNanos / 1_000_000);
+            }
+            open = true;
+            trialInProgress = false;
+            openUntilNanos = System.nanoTime() + openDurationNanos;
+        }
+    }
+
+    /**
+     * Checks if the failure indicates a degraded API (timeouts, I/O errors or server errors), a client error
+     * (e.g. an unknown resource) means the API is responsive
+     *
+     * @param failure the exception describing the failure
+     * @return <code>true</code> if the failure indicates a degraded API; otherwise <code>false</code>
+     */
+    static boolean isDegradation(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+            if (cause instanceof CommunicationException && ((CommunicationException) cause).getHttpStatusCode() > 0) {
+                return ((CommunicationException) cause).getHttpStatusCode() >= 500;
+            }
+        }
+
+        return false;
+    }
+}
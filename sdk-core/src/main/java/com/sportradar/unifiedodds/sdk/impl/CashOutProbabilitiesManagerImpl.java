@@ -6,10 +6,15 @@ package com.sportradar.unifiedodds.sdk.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import com.sportradar.uf.datamodel.UFCashout;
 import com.sportradar.unifiedodds.sdk.CashOutProbabilitiesManager;
+import com.sportradar.unifiedodds.sdk.CashOutProbabilitiesRequest;
 import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.OperationManager;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.SportEntityFactory;
 import com.sportradar.unifiedodds.sdk.entities.SportEvent;
@@ -21,7 +26,11 @@ import com.sportradar.utils.URN;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implements methods used to access sport event/market probabilities
@@ -62,6 +71,21 @@ public class CashOutProbabilitiesManagerImpl implements CashOutProbabilitiesMana
      */
     private final ExceptionHandlingStrategy exceptionHandlingStrategy;
 
+    /**
+     * The {@link ExecutorService} used to fetch batched requests concurrently
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * The currently executing fetches, used to merge concurrent identical requests into a single API call
+     */
+    private final ConcurrentMap<String, CompletableFuture<UFCashout>> pendingFetches = new ConcurrentHashMap<>();
+
+    /**
+     * A short lived cache of the already built {@link CashOutProbabilities} (a null reference if caching is disabled)
+     */
+    private final Cache<String, CashOutProbabilities<?>> probabilitiesCache;
+
 
     /**
      * Construct a new {@link CashOutProbabilitiesManagerImpl} instance with the provided data
@@ -70,13 +94,19 @@ public class CashOutProbabilitiesManagerImpl implements CashOutProbabilitiesMana
      * @param feedMessageFactory the factory used to build return objects
      * @param sportEntityFactory the factory used to build sport events
      * @param configuration the SDK internal configuration
+     * @param executorService the executor used to fetch batched requests concurrently
      */
     @Inject
-    CashOutProbabilitiesManagerImpl(DataProvider<UFCashout> cashoutDataProvider, FeedMessageFactory feedMessageFactory, SportEntityFactory sportEntityFactory, SDKInternalConfiguration configuration) {
+    CashOutProbabilitiesManagerImpl(DataProvider<UFCashout> cashoutDataProvider,
+                                    FeedMessageFactory feedMessageFactory,
+                                    SportEntityFactory sportEntityFactory,
+                                    SDKInternalConfiguration configuration,
+                                    @Named("DedicatedCashOutProbabilitiesExecutor") ExecutorService executorService) {
         Preconditions.checkNotNull(cashoutDataProvider);
         Preconditions.checkNotNull(feedMessageFactory);
         Preconditions.checkNotNull(sportEntityFactory);
         Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(executorService);
 
         this.cashoutDataProvider = cashoutDataProvider;
         this.feedMessageFactory = feedMessageFactory;
@@ -84,6 +114,15 @@ public class CashOutProbabilitiesManagerImpl implements CashOutProbabilitiesMana
         this.defaultLocale = configuration.getDefaultLocale();
         this.defaultLocales = configuration.getDesiredLocales();
         this.exceptionHandlingStrategy = configuration.getExceptionHandlingStrategy();
+        this.executorService = executorService;
+
+        Duration cacheTimeout = OperationManager.getCashOutProbabilitiesCacheTimeout();
+        this.probabilitiesCache = cacheTimeout.isZero()
+                ? null
+                : CacheBuilder.newBuilder()
+                        .expireAfterWrite(cacheTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                        .maximumSize(10000)
+                        .build();
     }
 
     /**
@@ -145,32 +184,80 @@ public class CashOutProbabilitiesManagerImpl implements CashOutProbabilitiesMana
         Preconditions.checkNotNull(eventId);
         Preconditions.checkNotNull(locale);
 
-        String param = eventId.toString() + "/" + marketId;
+        String param = CashOutProbabilitiesRequest.forMarket(eventId, marketId, specifiers).getRequestParam();
 
-        if (specifiers != null && !specifiers.isEmpty()) {
-            StringJoiner sj = new StringJoiner("|");
-            specifiers.forEach((key, value) -> sj.add(key + "=" + value));
+        return getCashOutProbabilities(eventId, param, locale);
+    }
 
-            param = param + "/" + sj.toString();
+    /**
+     * Returns a {@link List} of {@link CashOutProbabilities} instances providing the cashout probabilities for the provided requests
+     * (the provided data is translated in the default language)
+     *
+     * @param requests the {@link List} of {@link CashOutProbabilitiesRequest}s for which the probabilities should be provided
+     * @return a {@link List} of {@link CashOutProbabilities} in the same order as the provided requests
+     */
+    @Override
+    public <T extends SportEvent> List<CashOutProbabilities<T>> getCashOutProbabilities(List<CashOutProbabilitiesRequest> requests) {
+        Preconditions.checkNotNull(requests);
+
+        return getCashOutProbabilities(requests, defaultLocale);
+    }
+
+    /**
+     * Returns a {@link List} of {@link CashOutProbabilities} instances providing the cashout probabilities for the provided requests
+     *
+     * @param requests the {@link List} of {@link CashOutProbabilitiesRequest}s for which the probabilities should be provided
+     * @param locale the {@link Locale} in which to provide the data
+     * @return a {@link List} of {@link CashOutProbabilities} in the same order as the provided requests (entries which
+     *         could not be provided are null references with any {@link ExceptionHandlingStrategy})
+     */
+    @Override
+    public <T extends SportEvent> List<CashOutProbabilities<T>> getCashOutProbabilities(List<CashOutProbabilitiesRequest> requests, Locale locale) {
+        Preconditions.checkNotNull(requests);
+        Preconditions.checkNotNull(locale);
+
+        Map<CashOutProbabilitiesRequest, CompletableFuture<CashOutProbabilities<T>>> tasks = requests.stream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(),
+                        r -> CompletableFuture.supplyAsync(() -> getCashOutProbabilities(r.getEventId(), r.getRequestParam(), locale), executorService)));
+
+        Map<CashOutProbabilitiesRequest, CashOutProbabilities<T>> results = new HashMap<>(tasks.size());
+        for (Map.Entry<CashOutProbabilitiesRequest, CompletableFuture<CashOutProbabilities<T>>> task : tasks.entrySet()) {
+            try {
+                results.put(task.getKey(), task.getValue().join());
+            } catch (CompletionException e) {
+                // a single entry which could not be provided does not fail the whole batch, regardless of the strategy
+                logger.warn("Error providing CashOutProbabilities for '{}'", task.getKey().getRequestParam(), e.getCause());
+                results.put(task.getKey(), null);
+            }
         }
 
-        return getCashOutProbabilities(eventId, param, locale);
+        return requests.stream().map(results::get).collect(Collectors.toList());
     }
 
     /**
-     * Builds the requested instance with the provided data
+     * Builds the requested instance with the provided data, the result is served from the probabilities cache if available
      *
      * @param param the request parameter
      * @param locale the locale in which the data should be provided
      * @return a {@link CashOutProbabilities} providing the probabilities for the provided param
      */
+    @SuppressWarnings("unchecked")
     private <T extends SportEvent> CashOutProbabilities<T> getCashOutProbabilities(URN eventId, String param, Locale locale) {
         Preconditions.checkNotNull(eventId);
         Preconditions.checkArgument(!Strings.isNullOrEmpty(param));
 
+        String cacheKey = param + "_" + locale;
+        if (probabilitiesCache != null) {
+            CashOutProbabilities<?> cached = probabilitiesCache.getIfPresent(cacheKey);
+            if (cached != null) {
+                return (CashOutProbabilities<T>) cached;
+            }
+        }
+
         UFCashout cashoutData;
         try {
-            cashoutData = cashoutDataProvider.getData((Locale) null, param);
+            cashoutData = fetchCashOutData(param);
         } catch (DataProviderException e) {
             return handleException("Error providing CashOutProbabilities for '" + param + "'", e);
         }
@@ -189,9 +276,55 @@ public class CashOutProbabilitiesManagerImpl implements CashOutProbabilitiesMana
             return handleException("Sport event data could not be found - " + eventId, e);
         }
 
-        return feedMessageFactory.buildCashOutProbabilities(sportEvent,
+        CashOutProbabilities<T> probabilities = feedMessageFactory.buildCashOutProbabilities(sportEvent,
                                                             cashoutData,
                                                             new MessageTimestampImpl(new TimeUtilsImpl().now()));
+        if (probabilitiesCache != null && probabilities != null) {
+            probabilitiesCache.put(cacheKey, probabilities);
+        }
+
+        return probabilities;
+    }
+
+    /**
+     * Fetches the cash out data associated with the provided param, concurrent requests for the same param are
+     * merged into a single API request
+     *
+     * @param param the request parameter
+     * @return the fetched {@link UFCashout}
+     * @throws DataProviderException if the fetch failed
+     */
+    private UFCashout fetchCashOutData(String param) throws DataProviderException {
+        CompletableFuture<UFCashout> fetch = new CompletableFuture<>();
+        CompletableFuture<UFCashout> pendingFetch = pendingFetches.putIfAbsent(param, fetch);
+        if (pendingFetch != null) {
+            return awaitPendingFetch(param, pendingFetch);
+        }
+
+        try {
+            UFCashout cashoutData = cashoutDataProvider.getData((Locale) null, param);
+            fetch.complete(cashoutData);
+            return cashoutData;
+        } catch (DataProviderException | RuntimeException e) {
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingFetches.remove(param, fetch);
+        }
+    }
+
+    private static UFCashout awaitPendingFetch(String param, CompletableFuture<UFCashout> pendingFetch) throws DataProviderException {
+        try {
+            return pendingFetch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataProviderException("Interrupted while waiting for the CashOutProbabilities fetch of '" + param + "'", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataProviderException) {
+                throw (DataProviderException) e.getCause();
+            }
+            throw new DataProviderException("CashOutProbabilities fetch of '" + param + "' failed", e.getCause());
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ShutdownSignalException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded buffer of the messages delivered on a channel consuming with manual acknowledgements. The messages are
+ * dispatched in the delivery order by a single dispatcher thread and acknowledged in batches once they are
+ * dispatched, so together with the channel prefetch the number of the messages held in memory never exceeds
+ * the buffer capacity. The buffer is also used without a channel to hand the messages over to a dedicated
+ * dispatcher thread, in which case the messages are not acknowledged. A delivery handler which processes
+ * the messages asynchronously takes the acknowledgement of the messages over.
+ */
+class ChannelDeliveryBuffer implements Runnable {
+    private static final Logger logger = LoggerFactory.getLogger(ChannelDeliveryBuffer.class);
+
+    /**
+     * Dispatches a single buffered message
+     */
+    interface DeliveryHandler {
+        /**
+         * @param channel the channel on which the message should be acknowledged or a null reference
+         * @param deliveryTag the delivery tag of the message
+         * @param routingKey the routing key of the message
+         * @param body the message payload
+         * @param properties the properties of the message
+         * @param receivedAt the time when the message was received (in milliseconds since EPOCH UTC)
+         * @return <code>true</code> if the handler acknowledges the message by itself; otherwise <code>false</code>
+         */
+        boolean onDelivery(Channel channel, long deliveryTag, String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt);
+    }
+
+    private final BlockingQueue<Delivery> deliveries;
+    private final int ackBatchSize;
+    private final DeliveryHandler deliveryHandler;
+    private final Map<String, String> sdkMdcContextDescription;
+
+    private volatile int highWaterMark;
+
+    /**
+     * The channel and the delivery tag of the last dispatched message which was not acknowledged yet,
+     * accessed only by the dispatcher thread
+     */
+    private Channel unackedChannel;
+    private long unackedDeliveryTag;
+    private int unackedCount;
+
+    /**
+     * @param capacity the max number of the buffered messages, should not be lower than the channel prefetch
+     * @param ackBatchSize the number of the dispatched messages acknowledged at once
+     * @param deliveryHandler the handler dispatching the buffered messages
+     * @param sdkMdcContextDescription the SDK MDC context map set on the dispatcher thread
+     */
+    ChannelDeliveryBuffer(int capacity, int ackBatchSize, DeliveryHandler deliveryHandler, Map<String, String> sdkMdcContextDescription) {
+        Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+        Preconditions.checkArgument(ackBatchSize > 0 && ackBatchSize <= capacity, "ackBatchSize must be between 1 and capacity");
+        Preconditions.checkNotNull(deliveryHandler);
+
+        this.deliveries = new ArrayBlockingQueue<>(capacity);
+        this.ackBatchSize = ackBatchSize;
+        this.deliveryHandler = deliveryHandler;
+        this.sdkMdcContextDescription = sdkMdcContextDescription;
+    }
+
+    /**
+     * Buffers the delivered message, blocks while the buffer is full
+     *
+     * @param channel the channel on which the message should be acknowledged or a null reference if the message
+     *                should not be acknowledged
+     * @param deliveryTag the delivery tag of the message
+     * @param routingKey the routing key of the message
+     * @param body the message payload
+     * @param properties the properties of the message
+     * @param receivedAt the time when the message was received (in milliseconds since EPOCH UTC)
+     * @throws InterruptedException if interrupted while waiting for a free slot
+     */
+    void put(Channel channel, long deliveryTag, String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) throws InterruptedException {
+        deliveries.put(new Delivery(channel, deliveryTag, routingKey, body, properties, receivedAt));
+
+        // the dispatcher may have taken the message already, but it was buffered at least by itself
+        int size = Math.max(1, deliveries.size());
+        if (size > highWaterMark) {
+            highWaterMark = size;
+        }
+    }
+
+    /**
+     * @return the number of the currently buffered messages
+     */
+    int size() {
+        return deliveries.size();
+    }
+
+    /**
+     * @return the max number of the messages buffered at once
+     */
+    int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Dispatches the buffered messages until the dispatcher thread is interrupted
+     */
+    @Override
+    public void run() {
+        if (sdkMdcContextDescription != null) {
+            MDC.setContextMap(sdkMdcContextDescription);
+        }
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Delivery delivery = unackedCount == 0 ? deliveries.take() : deliveries.poll();
+                if (delivery == null) {
+                    // nothing more to dispatch at the moment, the pending acknowledgements are not delayed
+                    acknowledge();
+                    continue;
+                }
+
+                boolean acknowledgedByHandler = dispatch(delivery);
+
+                if (delivery.channel == null || acknowledgedByHandler) {
+                    // the message was not delivered on a channel consuming with manual acknowledgements
+                    // or it is acknowledged once the handler processes it asynchronously
+                    continue;
+                }
+                if (delivery.channel != unackedChannel) {
+                    acknowledge();
+                    unackedChannel = delivery.channel;
+                }
+                unackedDeliveryTag = delivery.deliveryTag;
+                unackedCount++;
+                if (unackedCount >= ackBatchSize) {
+                    acknowledge();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private boolean dispatch(Delivery delivery) {
+        try {
+            return deliveryHandler.onDelivery(delivery.channel, delivery.deliveryTag, delivery.routingKey, delivery.body, delivery.properties, delivery.receivedAt);
+        } catch (Exception e) {
+            // the message is acknowledged anyway, a redelivery would fail the same way
+            logger.error(String.format("An exception occurred while processing AMQP message. Routing key: '%s', body: '%s'",
+                    delivery.routingKey,
+                    delivery.body == null ? "null" : new String(delivery.body)),
+                    e
+            );
+            return false;
+        }
+    }
+
+    /**
+     * Acknowledges all the dispatched messages up to the last one on its channel
+     */
+    private void acknowledge() {
+        if (unackedCount == 0) {
+            return;
+        }
+
+        Channel channel = unackedChannel;
+        long deliveryTag = unackedDeliveryTag;
+        unackedChannel = null;
+        unackedCount = 0;
+
+        if (!channel.isOpen()) {
+            // the unacknowledged messages are released by the broker once the channel is closed
+            return;
+        }
+        try {
+            channel.basicAck(deliveryTag, true);
+        } catch (IOException | ShutdownSignalException e) {
+            logger.warn("Acknowledgement of the messages up to delivery tag {} on channel {} failed, ex: {}", deliveryTag, channel.getChannelNumber(), e.getMessage());
+        }
+    }
+
+    private static final class Delivery {
+        private final Channel channel;
+        private final long deliveryTag;
+        private final String routingKey;
+        private final byte[] body;
+        private final AMQP.BasicProperties properties;
+        private final long receivedAt;
+
+        private Delivery(Channel channel, long deliveryTag, String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+            this.channel = channel;
+            this.deliveryTag = deliveryTag;
+            this.routingKey = routingKey;
+            this.body = body;
+            this.properties = properties;
+            this.receivedAt = receivedAt;
+        }
+    }
+}
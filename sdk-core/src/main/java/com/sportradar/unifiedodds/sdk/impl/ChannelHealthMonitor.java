@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically checks the health of all the opened {@link RabbitMqChannelImpl} instances of the JVM on a single
+ * shared thread and exposes the per-channel idle times and restart counts over JMX. The thread is obtained from
+ * the {@link SdkExecutors} of a feed instance with monitored channels and released once the last channel is
+ * unregistered, or handed over to another feed instance once the providing one has no monitored channels left.
+ */
+public class ChannelHealthMonitor implements ChannelHealthMonitorMBean {
+    private static final Logger logger = LoggerFactory.getLogger(ChannelHealthMonitor.class);
+
+    /**
+     * The interval between two health checks of a channel
+     */
+    private static final long CHECK_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(20);
+
+    private final long checkIntervalMillis;
+    private final List<MonitoredChannel> channels = new CopyOnWriteArrayList<>();
+
+    /**
+     * The {@link SdkExecutors} of the feed instances of the monitored channels, guarded by this instance
+     */
+    private final Map<MonitoredChannel, SdkExecutors> channelExecutors = new HashMap<>();
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> scheduledCheck;
+    private SdkExecutors schedulerOwner;
+
+    ChannelHealthMonitor(long checkIntervalMillis) {
+        Preconditions.checkArgument(checkIntervalMillis > 0);
+
+        this.checkIntervalMillis = checkIntervalMillis;
+    }
+
+    /**
+     * Returns the monitor shared by all the feed instances of the JVM
+     *
+     * @return the shared {@link ChannelHealthMonitor}
+     */
+    public static ChannelHealthMonitor getInstance() {
+        return SharedInstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Starts monitoring the provided channel, the monitoring thread is started with the first registered channel
+     *
+     * @param channel the channel which should be monitored
+     * @param sdkExecutors the {@link SdkExecutors} of the feed instance of the channel
+     */
+    synchronized void register(MonitoredChannel channel, SdkExecutors sdkExecutors) {
+        Preconditions.checkNotNull(channel);
+        Preconditions.checkNotNull(sdkExecutors);
+
+        if (!channels.contains(channel)) {
+            channels.add(channel);
+        }
+        channelExecutors.put(channel, sdkExecutors);
+        if (scheduler == null) {
+            startScheduler(sdkExecutors);
+        }
+    }
+
+    /**
+     * Stops monitoring the provided channel, the monitoring thread is released with the last unregistered channel
+     *
+     * @param channel the channel which should no longer be monitored
+     */
+    synchronized void unregister(MonitoredChannel channel) {
+        channels.remove(channel);
+        channelExecutors.remove(channel);
+        if (scheduler == null) {
+            return;
+        }
+
+        if (channelExecutors.isEmpty()) {
+            stopScheduler();
+        } else if (!channelExecutors.containsValue(schedulerOwner)) {
+            // the feed instance providing the thread has no monitored channels left and may be closed
+            stopScheduler();
+            startScheduler(channelExecutors.values().iterator().next());
+        }
+    }
+
+    /**
+     * Checks the health of all the registered channels, a failure of a single channel check does not affect the others
+     */
+    void checkAll() {
+        for (MonitoredChannel channel : channels) {
+            try {
+                channel.checkHealth(System.nanoTime());
+            } catch (Exception e) {
+                logger.warn("Health check of the channel {} failed", channel.getChannelDescription(), e);
+            }
+        }
+    }
+
+    @Override
+    public int getNumberOfMonitoredChannels() {
+        return channels.size();
+    }
+
+    @Override
+    public int getNumberOfChannelRestarts() {
+        return channels.stream().mapToInt(MonitoredChannel::getRestartCount).sum();
+    }
+
+    @Override
+    public long getMaxChannelIdleTimeInMs() {
+        long now = System.nanoTime();
+        return TimeUnit.NANOSECONDS.toMillis(channels.stream().mapToLong(c -> c.getIdleNanos(now)).max().orElse(0));
+    }
+
+    @Override
+    public int getNumberOfBufferedMessages() {
+        return channels.stream().mapToInt(MonitoredChannel::getBufferedMessages).sum();
+    }
+
+    @Override
+    public int getMaxChannelBufferHighWaterMark() {
+        return channels.stream().mapToInt(MonitoredChannel::getBufferHighWaterMark).max().orElse(0);
+    }
+
+    @Override
+    public String[] getChannelHealth() {
+        long now = System.nanoTime();
+        return channels.stream()
+                .map(c -> String.format("%s idle=%dms restarts=%d buffered=%d highWaterMark=%d",
+                        c.getChannelDescription(), TimeUnit.NANOSECONDS.toMillis(c.getIdleNanos(now)), c.getRestartCount(),
+                        c.getBufferedMessages(), c.getBufferHighWaterMark()))
+                .toArray(String[]::new);
+    }
+
+    /**
+     * @return an indication if the monitoring thread is running
+     */
+    synchronized boolean isStarted() {
+        return scheduler != null;
+    }
+
+    private void startScheduler(SdkExecutors sdkExecutors) {
+        try {
+            scheduler = sdkExecutors.newScheduledExecutor("ChannelHealthMonitor", "-chm-t-%d", 1);
+        } catch (IllegalStateException e) {
+            // the feed instance is being closed
+            logger.warn("The channel health monitor could not be started, ex: {}", e.getMessage());
+            return;
+        }
+        schedulerOwner = sdkExecutors;
+        scheduledCheck = scheduler.scheduleWithFixedDelay(this::checkAll, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void stopScheduler() {
+        // the provider may keep a shared executor running
+        scheduledCheck.cancel(false);
+        schedulerOwner.release(scheduler);
+        scheduler = null;
+        scheduledCheck = null;
+        schedulerOwner = null;
+    }
+
+    /**
+     * A channel monitored by the {@link ChannelHealthMonitor}
+     */
+    interface MonitoredChannel {
+        /**
+         * Checks the channel health and recovers the channel if needed
+         *
+         * @param nowNanos the current {@link System#nanoTime()}
+         */
+        void checkHealth(long nowNanos);
+
+        /**
+         * @return the description of the channel used in the logs and the metrics
+         */
+        String getChannelDescription();
+
+        /**
+         * @param nowNanos the current {@link System#nanoTime()}
+         * @return the time since the last received message, or since the channel start if no message was received yet (ns)
+         */
+        long getIdleNanos(long nowNanos);
+
+        /**
+         * @return the number of times the channel was recreated by the health checks
+         */
+        int getRestartCount();
+
+        /**
+         * @return the number of the delivered messages waiting for the dispatch
+         */
+        int getBufferedMessages();
+
+        /**
+         * @return the max number of the delivered messages which were waiting for the dispatch at once
+         */
+        int getBufferHighWaterMark();
+    }
+
+    private static final class SharedInstanceHolder {
+        private static final ChannelHealthMonitor INSTANCE = createSharedInstance();
+
+        private static ChannelHealthMonitor createSharedInstance() {
+            ChannelHealthMonitor monitor = new ChannelHealthMonitor(CHECK_INTERVAL_MILLIS);
+
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            try {
+                ObjectName name = new ObjectName("com.sportradar.unifiedodds.sdk.impl:type=ChannelHealth");
+                if (!mbeanServer.isRegistered(name)) {
+                    mbeanServer.registerMBean(monitor, name);
+                }
+            } catch (MalformedObjectNameException | NotCompliantMBeanException | MBeanRegistrationException | InstanceAlreadyExistsException e) {
+                logger.warn("ChannelHealthMonitor registration failed w/ ex.:", e);
+            }
+
+            return monitor;
+        }
+    }
+}
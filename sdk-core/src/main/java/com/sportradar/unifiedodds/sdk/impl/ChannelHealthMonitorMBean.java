@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+public interface ChannelHealthMonitorMBean {
+
+    public int getNumberOfMonitoredChannels();
+
+    public int getNumberOfChannelRestarts();
+
+    public long getMaxChannelIdleTimeInMs();
+
+    public int getNumberOfBufferedMessages();
+
+    public int getMaxChannelBufferHighWaterMark();
+
+    public String[] getChannelHealth();
+
+}
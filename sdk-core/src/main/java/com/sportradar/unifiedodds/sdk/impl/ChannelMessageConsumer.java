@@ -5,6 +5,7 @@
 package com.sportradar.unifiedodds.sdk.impl;
 
 import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
 
 /**
  * Defines methods implemented by classes that can handle message payloads
@@ -29,4 +30,22 @@ public interface ChannelMessageConsumer {
      * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
      */
     void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt);
+
+    /**
+     * Consumes the provided message payload delivered on a channel consuming with manual acknowledgements. The payload
+     * is consumed synchronously and acknowledged by the caller by default, a consumer which processes the payloads
+     * asynchronously acknowledges them by itself once they are processed.
+     *
+     * @param channel - the channel on which the message should be acknowledged
+     * @param deliveryTag - the delivery tag of the message
+     * @param routingKey - the source routing key of the payload
+     * @param body - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     * @return <code>true</code> if the consumer acknowledges the message by itself; otherwise <code>false</code>
+     */
+    default boolean onMessageReceived(Channel channel, long deliveryTag, String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+        onMessageReceived(routingKey, body, properties, receivedAt);
+        return false;
+    }
 }
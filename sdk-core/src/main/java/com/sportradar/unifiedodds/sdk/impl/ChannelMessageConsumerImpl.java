@@ -12,6 +12,8 @@ import com.sportradar.unifiedodds.sdk.LoggerDefinitions;
 import com.sportradar.unifiedodds.sdk.ProducerManager;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.impl.oddsentities.MessageTimestampImpl;
+import com.sportradar.unifiedodds.sdk.impl.traffic.TrafficRecorder;
+import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHeader;
 import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHelper;
 import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
 import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
@@ -21,6 +23,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
 import java.io.ByteArrayInputStream;
 import java.util.Random;
 import java.util.UUID;
@@ -81,10 +84,27 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
     private ProducerManager producerManager;
 
     /**
-     * ReentrantLock for jabx unmarshaller because it is not thread safe by itself
+     * ReentrantLock for the jabx unmarshaller of this consumer because it is not thread safe by itself
      */
     private ReentrantLock jabxLock;
 
+    /**
+     * The {@link TrafficRecorder} used instead of the traffic log when the recording is enabled
+     */
+    private final TrafficRecorder trafficRecorder;
+
+    /**
+     * The {@link FeedMessagePreFilter} used to discard the unwanted messages before they are deserialized
+     * or a null reference if all the messages are deserialized
+     */
+    private final FeedMessagePreFilter preFilter;
+
+    /**
+     * The {@link StreamingFeedMessageParser} used instead of the JAXB unmarshaller for the supported messages
+     * or a null reference if all the messages are unmarshalled by JAXB
+     */
+    private final StreamingFeedMessageParser streamingParser;
+
     private final int consumerName;
 
     /**
@@ -94,24 +114,49 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
      * @param producerManager the producer manager
      * @param jabxReentrantLock lock for jabx unmarshaller
      */
+    public ChannelMessageConsumerImpl(Unmarshaller unmarshaller,
+                                      RoutingKeyParser routingKeyParser,
+                                      SDKInternalConfiguration configuration,
+                                      SDKProducerManager producerManager,
+                                      ReentrantLock jabxReentrantLock) {
+        this(unmarshaller, routingKeyParser, configuration, producerManager, jabxReentrantLock, TrafficRecorder.DISABLED, null, null);
+    }
+
+    /**
+     * @param unmarshaller an {@link Unmarshaller} instance used to deserialize the payloads
+     * @param routingKeyParser a {@link RoutingKeyParser} used to parse the rabbit's routing key
+     * @param configuration the associated feed configuration
+     * @param producerManager the producer manager
+     * @param jabxReentrantLock lock for jabx unmarshaller
+     * @param trafficRecorder the recorder of the received payloads
+     * @param preFilter the filter discarding the unwanted messages before deserialization or a null reference
+     * @param streamingParser the parser used when the streaming message parser is enabled by the configuration
+     */
     @Inject
     public ChannelMessageConsumerImpl(@Named("MessageUnmarshaller") Unmarshaller unmarshaller,
                                       RoutingKeyParser routingKeyParser,
                                       SDKInternalConfiguration configuration,
                                       SDKProducerManager producerManager,
-                                      ReentrantLock jabxReentrantLock) {
+                                      ReentrantLock jabxReentrantLock,
+                                      TrafficRecorder trafficRecorder,
+                                      FeedMessagePreFilter preFilter,
+                                      StreamingFeedMessageParser streamingParser) {
 
         Preconditions.checkNotNull(unmarshaller);
         Preconditions.checkNotNull(routingKeyParser);
         Preconditions.checkNotNull(configuration);
         Preconditions.checkNotNull(producerManager);
         Preconditions.checkNotNull(jabxReentrantLock);
+        Preconditions.checkNotNull(trafficRecorder);
 
         this.unmarshaller = unmarshaller;
         this.routingKeyParser = routingKeyParser;
         this.configuration = configuration;
         this.producerManager = producerManager;
         this.jabxLock = jabxReentrantLock;
+        this.trafficRecorder = trafficRecorder;
+        this.preFilter = preFilter;
+        this.streamingParser = configuration.isStreamingMessageParserEnabled() ? streamingParser : null;
         this.consumerName = UUID.randomUUID().hashCode();
     }
 
@@ -165,17 +210,28 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
             return;
         }
 
+        if (isDiscardedBeforeDeserialization(routingKey, body)) {
+            return;
+        }
+
         UnmarshalledMessage unmarshalledMessage;
         int producerId;
         try {
-            jabxLock.lock();
-            unmarshalledMessage = (UnmarshalledMessage) unmarshaller.unmarshal(new ByteArrayInputStream(body));
-            jabxLock.unlock();
+            unmarshalledMessage = tryStreamingParse(routingKey, body);
+            if (unmarshalledMessage == null) {
+                jabxLock.lock();
+                unmarshalledMessage = (UnmarshalledMessage) unmarshaller.unmarshal(new ByteArrayInputStream(body));
+                jabxLock.unlock();
+            }
             producerId = FeedMessageHelper.provideProducerIdFromMessage(unmarshalledMessage);
 
             if(producerManager.isProducerEnabled(producerId))
             {
-                loggerTraffic.info("{} {} {} {} {}", messageConsumer.getConsumerDescription(), trafficLogDelimiter, routingKey, trafficLogDelimiter, provideCleanMsgForLog(body));
+                if (trafficRecorder.isEnabled()) {
+                    trafficRecorder.recordFeedMessage(messageConsumer.getConsumerDescription(), routingKey, body, sentAt, receivedAt);
+                } else if (loggerTraffic.isInfoEnabled()) {
+                    loggerTraffic.info("{} {} {} {} {}", messageConsumer.getConsumerDescription(), trafficLogDelimiter, routingKey, trafficLogDelimiter, provideCleanMsgForLog(body));
+                }
             }
             else
             {
@@ -231,6 +287,50 @@ public class ChannelMessageConsumerImpl implements ChannelMessageConsumer {
         messageConsumer.onMessageReceived(unmarshalledMessage, body, routingKeyInfo, timestamp);
     }
 
+    /**
+     * Parses the message with the streaming parser if it is enabled and supports the message type.
+     * The messages which are not parsed are left to the JAXB unmarshaller, which also reports the invalid ones.
+     *
+     * @return the parsed message or a null reference if the message should be unmarshalled by JAXB
+     */
+    private UnmarshalledMessage tryStreamingParse(String routingKey, byte[] body) {
+        if (streamingParser == null) {
+            return null;
+        }
+
+        try {
+            return streamingParser.parse(body);
+        } catch (XMLStreamException e) {
+            logger.debug("Streaming parser could not parse the message with routing key {}, unmarshalling it with JAXB, ex: {}", routingKey, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Checks the header of the message and reports if the message can be discarded without the deserialization.
+     * The messages with a header which can not be scanned are always deserialized.
+     */
+    private boolean isDiscardedBeforeDeserialization(String routingKey, byte[] body) {
+        if (preFilter == null) {
+            return false;
+        }
+
+        FeedMessageHeader header = FeedMessageHeader.scan(body);
+        if (header == null) {
+            return false;
+        }
+
+        MessageDiscardReason reason = preFilter.check(header, messageConsumer.getMessageInterest());
+        if (reason == null) {
+            return false;
+        }
+
+        if (loggerTraffic.isDebugEnabled()) {
+            loggerTraffic.debug("{} {} {} {} {} {} {}", messageConsumer.getConsumerDescription(), trafficLogDelimiter, routingKey, trafficLogDelimiter, header.getProduct(), trafficLogDelimiter, reason);
+        }
+        return true;
+    }
+
     private void dispatchUnparsableMessage(String msg, byte[] body, URN eventId, MessageTimestamp timestamp) {
         logger.warn(msg);
         messageConsumer.onMessageDeserializationFailed(body, eventId);
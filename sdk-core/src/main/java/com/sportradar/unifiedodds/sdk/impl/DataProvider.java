@@ -12,6 +12,7 @@ import com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderStreamException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.DeserializationException;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 
@@ -19,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The generic class used to get various data from the Unified API endpoints
@@ -33,6 +35,7 @@ public class DataProvider<TOut> {
     private final String apiHost;
     private final boolean useApiSsl;
     private final Locale defaultLocale;
+    private final ConcurrentHashMap<String, Validators> validators = new ConcurrentHashMap<>();
 
     public DataProvider(String uriFormat,
                         SDKInternalConfiguration config,
@@ -102,6 +105,59 @@ public class DataProvider<TOut> {
         return deserializeData(fetchedContent);
     }
 
+    /**
+     * If the requested API endpoint object changed since it was last fetched by this method returns the
+     * new object, otherwise returns a null reference. The validators (ETag/Last-Modified) received
+     * with the last response are sent with the request, so an unchanged object is not re-downloaded.
+     *
+     * @return the requested API endpoint object or a null reference if it was not modified
+     */
+    public TOut getDataIfModified() throws DataProviderException {
+        return getDataIfModified(defaultLocale);
+    }
+
+    /**
+     * If the requested API endpoint object changed since it was last fetched by this method returns the
+     * new object, otherwise returns a null reference. The validators (ETag/Last-Modified) received
+     * with the last response are sent with the request, so an unchanged object is not re-downloaded.
+     *
+     * @param locale the locale that is used with the supplied URI format
+     * @param args   that are used with the supplied URI format
+     * @return the requested API endpoint object or a null reference if it was not modified
+     */
+    public TOut getDataIfModified(Locale locale, String... args) throws DataProviderException {
+        String finalUrl = getFinalUrl(locale, args);
+        Validators previous = validators.get(finalUrl);
+
+        HttpData fetchedContent;
+        try {
+            fetchedContent = previous == null
+                    ? logHttpDataFetcher.get(finalUrl)
+                    : logHttpDataFetcher.getIfModified(finalUrl, previous.eTag, previous.lastModified);
+        } catch (CommunicationException e) {
+            throw new DataProviderException("The requested data was not accessible on the provided URL", e);
+        }
+
+        if (fetchedContent.isNotModified()) {
+            return null;
+        }
+
+        if (Strings.isNullOrEmpty(fetchedContent.getResponse())) {
+            throw new DataProviderException("Response data is null");
+        }
+
+        TOut data = deserializeData(fetchedContent);
+
+        Validators received = new Validators(fetchedContent.getHeaderValue(HttpHeaders.ETAG), fetchedContent.getHeaderValue(HttpHeaders.LAST_MODIFIED));
+        if (received.isEmpty()) {
+            validators.remove(finalUrl);
+        } else {
+            validators.put(finalUrl, received);
+        }
+
+        return data;
+    }
+
     /**
      * If successful returns the requested API endpoint object
      *
@@ -191,6 +247,23 @@ public class DataProvider<TOut> {
         return finalUrl;
     }
 
+    /**
+     * The validators received with the last response of a conditional fetch
+     */
+    private static final class Validators {
+        private final String eTag;
+        private final String lastModified;
+
+        private Validators(String eTag, String lastModified) {
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+        }
+
+        private boolean isEmpty() {
+            return Strings.isNullOrEmpty(eTag) && Strings.isNullOrEmpty(lastModified);
+        }
+    }
+
     @Override
     public String toString() {
         return "DataProvider{" +
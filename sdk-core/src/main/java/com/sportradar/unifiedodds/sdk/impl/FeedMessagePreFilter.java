@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import com.sportradar.unifiedodds.sdk.MessageInterest;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.cfg.Environment;
+import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHeader;
+import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHelper;
+
+/**
+ * Decides whether a received message can be discarded by looking only at its {@link FeedMessageHeader},
+ * so the messages which would be discarded by the session anyway are not deserialized at all.
+ * The checks mirror the ones done by the session on the deserialized messages.
+ */
+public class FeedMessagePreFilter {
+    private static final String FIXTURE_CHANGE_ELEMENT = "fixture_change";
+
+    private final SDKInternalConfiguration configuration;
+    private final SDKProducerManager producerManager;
+    private final Cache<String, String> dispatchedFixtureChangesCache;
+    private final UnifiedOddsStatistics statisticsMBean;
+
+    @Inject
+    FeedMessagePreFilter(SDKInternalConfiguration configuration,
+                         SDKProducerManager producerManager,
+                         @Named("DispatchedFixturesChangesCache") Cache<String, String> dispatchedFixtureChangesCache,
+                         UnifiedOddsStatistics statisticsMBean) {
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(producerManager);
+        Preconditions.checkNotNull(dispatchedFixtureChangesCache);
+
+        this.configuration = configuration;
+        this.producerManager = producerManager;
+        this.dispatchedFixtureChangesCache = dispatchedFixtureChangesCache;
+        this.statisticsMBean = statisticsMBean;
+    }
+
+    /**
+     * Checks if the message with the provided header can be discarded before it is deserialized
+     *
+     * @param header the scanned header of the message
+     * @param messageInterest the {@link MessageInterest} of the receiving session or a null reference if not known
+     * @return the reason for which the message should be discarded or a null reference if the message
+     * should be deserialized and dispatched
+     */
+    public MessageDiscardReason check(FeedMessageHeader header, MessageInterest messageInterest) {
+        Preconditions.checkNotNull(header);
+
+        if (header.getProduct() == null || configuration.getEnvironment() == Environment.Replay) {
+            return null;
+        }
+
+        MessageDiscardReason reason = null;
+        int producerId = header.getProduct();
+        if (!producerManager.isProducerEnabled(producerId)) {
+            reason = MessageDiscardReason.ProducerDisabled;
+        } else if (messageInterest != null && !messageInterest.isProducerInScope(producerManager.getProducer(producerId))) {
+            reason = MessageDiscardReason.ProducerOutOfScope;
+        } else if (FIXTURE_CHANGE_ELEMENT.equals(header.getRootElement())
+                && header.getEventId() != null
+                && header.getTimestamp() != null
+                && dispatchedFixtureChangesCache.getIfPresent(
+                        FeedMessageHelper.generateFixtureChangeCacheKey(producerId, header.getEventId(), header.getTimestamp())) != null) {
+            // only the lookup, the session records the fixture change once it is dispatched
+            reason = MessageDiscardReason.DuplicateFixtureChange;
+        }
+
+        if (reason != null && statisticsMBean != null) {
+            statisticsMBean.onMessageDiscarded(reason, true);
+        }
+        return reason;
+    }
+}
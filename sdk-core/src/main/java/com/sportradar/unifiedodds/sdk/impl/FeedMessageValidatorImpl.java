@@ -7,10 +7,13 @@ package com.sportradar.unifiedodds.sdk.impl;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import com.sportradar.uf.datamodel.*;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.caching.NamedValuesProvider;
+import com.sportradar.unifiedodds.sdk.caching.markets.InvariantMarketDescriptionCache;
 import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
+import com.sportradar.unifiedodds.sdk.caching.markets.MarketSpecifiersIndex;
 import com.sportradar.unifiedodds.sdk.entities.markets.MarketDescription;
 import com.sportradar.unifiedodds.sdk.entities.markets.Specifier;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundException;
@@ -34,14 +37,20 @@ public class FeedMessageValidatorImpl implements FeedMessageValidator {
     private final MarketDescriptionProvider marketDescriptionProvider;
     private final List<Locale> defaultLocales;
     private final NamedValuesProvider namedValuesProvider;
+    private final InvariantMarketDescriptionCache invariantMarketCache;
 
     @Inject
-    FeedMessageValidatorImpl(MarketDescriptionProvider marketDescriptionProvider, SDKInternalConfiguration configuration, NamedValuesProvider namedValuesProvider) {
+    FeedMessageValidatorImpl(MarketDescriptionProvider marketDescriptionProvider,
+                             SDKInternalConfiguration configuration,
+                             NamedValuesProvider namedValuesProvider,
+                             @Named("InvariantMarketCache") InvariantMarketDescriptionCache invariantMarketCache) {
         Preconditions.checkNotNull(marketDescriptionProvider);
         Preconditions.checkNotNull(configuration);
         Preconditions.checkNotNull(namedValuesProvider);
+        Preconditions.checkNotNull(invariantMarketCache);
 
         this.marketDescriptionProvider = marketDescriptionProvider;
+        this.invariantMarketCache = invariantMarketCache;
         this.defaultLocales = Collections.singletonList(configuration.getDefaultLocale());
         this.namedValuesProvider = namedValuesProvider;
     }
@@ -332,7 +341,8 @@ public class FeedMessageValidatorImpl implements FeedMessageValidator {
     }
 
     /**
-     * Checks the provided specifiers with the associated market descriptor
+     * Checks the provided specifiers against the {@link MarketSpecifiersIndex} of the invariant market cache,
+     * the market descriptor is used only for markets which are not indexed yet
      *
      * @param marketId the associated market id
      * @param producerId the associated producer id
@@ -344,6 +354,29 @@ public class FeedMessageValidatorImpl implements FeedMessageValidator {
             return true;
         }
 
+        MarketSpecifiersIndex specifiersIndex = invariantMarketCache.getSpecifiersIndex();
+        if (!specifiersIndex.isMarketIndexed(marketId)) {
+            return checkDescriptorSpecifiers(marketId, producerId, receivedSpecifiers);
+        }
+
+        if (!specifiersIndex.hasRequiredSpecifiers(marketId, receivedSpecifiers)) {
+            logger.info("Specifiers validation failed. ProducerId={}, MarketId={}, Required={}, Actual={}",
+                    producerId, marketId, specifiersIndex.getRequiredSpecifiers(marketId), receivedSpecifiers);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks the provided specifiers with the associated market descriptor
+     *
+     * @param marketId the associated market id
+     * @param producerId the associated producer id
+     * @param receivedSpecifiers the specifiers received as a part of a message
+     * @return <code>true</code> if the specifiers validation passed, otherwise <code>false</code>
+     */
+    private boolean checkDescriptorSpecifiers(int marketId, int producerId, String receivedSpecifiers) {
         MarketDescription descriptor;
         try {
             descriptor = marketDescriptionProvider.getMarketDescription(marketId, null, defaultLocales, false);
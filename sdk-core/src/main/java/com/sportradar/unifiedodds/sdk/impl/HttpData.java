@@ -13,10 +13,26 @@ import org.apache.http.Header;
 public class HttpData {
     private final String response;
     private final Header[] headers;
+    private final boolean notModified;
 
     HttpData(String response, Header[] headers) {
+        this(response, headers, false);
+    }
+
+    private HttpData(String response, Header[] headers, boolean notModified) {
         this.response = response;
         this.headers = headers;
+        this.notModified = notModified;
+    }
+
+    /**
+     * Builds a {@link HttpData} representing a 304 response to a conditional request, which has no response content
+     *
+     * @param headers the headers of the received response
+     * @return a {@link HttpData} representing a not modified response
+     */
+    static HttpData notModified(Header[] headers) {
+        return new HttpData(null, headers, true);
     }
 
     public String getResponse() {
@@ -26,4 +42,34 @@ public class HttpData {
     public Header[] getHeaders() {
         return headers;
     }
+
+    /**
+     * Indicates if the server responded that the requested resource did not change since the provided validators
+     * were issued, in which case the response content is not available
+     *
+     * @return <code>true</code> if the resource was not modified; otherwise <code>false</code>
+     */
+    public boolean isNotModified() {
+        return notModified;
+    }
+
+    /**
+     * Returns the value of the first response header with the provided name
+     *
+     * @param name the name of the header
+     * @return the value of the header or a null reference if the response did not contain it
+     */
+    public String getHeaderValue(String name) {
+        if (headers == null) {
+            return null;
+        }
+
+        for (Header header : headers) {
+            if (header.getName().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+
+        return null;
+    }
 }
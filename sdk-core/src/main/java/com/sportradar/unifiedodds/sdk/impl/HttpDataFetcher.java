@@ -10,6 +10,7 @@ import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.HttpHelper;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -56,6 +57,26 @@ class HttpDataFetcher {
         return send(new HttpGet(path));
     }
 
+    /**
+     * Gets the content on the given path trough a conditional GET request, the server responds with a
+     * not modified {@link HttpData} if the content did not change since the provided validators were issued
+     *
+     * @param path a valid HTTP GET request path
+     * @param eTag the entity tag received with the previous response or a null reference
+     * @param lastModified the last modified date received with the previous response or a null reference
+     * @return the content of the request or a not modified {@link HttpData}
+     */
+    public HttpData getIfModified(String path, String eTag, String lastModified) throws CommunicationException {
+        HttpGet httpGet = new HttpGet(path);
+        if (!Strings.isNullOrEmpty(eTag)) {
+            httpGet.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        }
+        if (!Strings.isNullOrEmpty(lastModified)) {
+            httpGet.addHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        }
+        return send(httpGet);
+    }
+
     /**
      * Gets the content on the given path trough a POST request
      *
@@ -87,6 +108,7 @@ class HttpDataFetcher {
             String respString = null;
             String errorMessage = null;
             int statusCode;
+            boolean notModified = false;
             try {
                 resp = httpClient.execute(request);
                 statusCode = resp.getStatusLine().getStatusCode();
@@ -97,6 +119,9 @@ class HttpDataFetcher {
                 if (statusCode == HttpStatus.SC_OK || statusCode == HttpStatus.SC_ACCEPTED ||
                         (isWhoAmI && statusCode == HttpStatus.SC_FORBIDDEN)) {
                     respString = EntityUtils.toString(resp.getEntity(), StandardCharsets.UTF_8);
+                } else if (statusCode == HttpStatus.SC_NOT_MODIFIED &&
+                        (request.containsHeader(HttpHeaders.IF_NONE_MATCH) || request.containsHeader(HttpHeaders.IF_MODIFIED_SINCE))) {
+                    notModified = true;
                 } else {
                     errorMessage = HttpHelper.tryDeserializeResponseMessage(apiDeserializer, resp.getEntity().getContent());
                     logger.warn("Bad API response: " + resp.getStatusLine() + " " + statusCode + ", message: '" + errorMessage + "' " + path);
@@ -107,13 +132,20 @@ class HttpDataFetcher {
                 }
             }
 
+            if (notModified) {
+                if (statsBean != null) {
+                    statsBean.onHttpGetNotModified(path);
+                }
+                return HttpData.notModified(resp.getAllHeaders());
+            }
+
             if (!Strings.isNullOrEmpty(respString)) {
                 return new HttpData(respString, resp.getAllHeaders());
             } else {
                 if (Strings.isNullOrEmpty(errorMessage)) {
                     errorMessage = "no message";
                 }
-                throw new CommunicationException("Invalid server response w/status code: " +  statusCode + ", message: " + errorMessage);
+                throw new CommunicationException("Invalid server response w/status code: " +  statusCode + ", message: " + errorMessage, statusCode);
             }
         } catch (IOException | CommunicationException e) {
             throw new CommunicationException("There was a problem retrieving the requested data", e);
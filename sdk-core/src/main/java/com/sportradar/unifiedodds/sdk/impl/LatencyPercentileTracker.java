@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Arrays;
+
+/**
+ * Tracks a percentile of the most recent request latencies. The percentile is recomputed after every
+ * {@link #RECOMPUTE_INTERVAL} samples, so reading it does not require any locking.
+ */
+final class LatencyPercentileTracker {
+    /**
+     * The number of samples required before the percentile is available
+     */
+    private static final int MIN_SAMPLES = 20;
+
+    private static final int RECOMPUTE_INTERVAL = 50;
+
+    private final double percentile;
+    private final long[] samples;
+    private int sampleCount;
+    private int nextSample;
+    private int samplesSinceRecompute;
+    private volatile long percentileNanos = -1;
+
+    /**
+     * Initializes a new instance of {@link LatencyPercentileTracker}
+     *
+     * @param percentile the tracked percentile, between 0 and 1
+     * @param windowSize the number of the most recent samples considered
+     */
+    LatencyPercentileTracker(double percentile, int windowSize) {
+        Preconditions.checkArgument(percentile > 0 && percentile <= 1);
+        Preconditions.checkArgument(windowSize >= MIN_SAMPLES);
+
+        this.percentile = percentile;
+        this.samples = new long[windowSize];
+    }
+
+    /**
+     * Records the latency of a completed request
+     *
+     * @param latencyNanos the latency of the request in nanoseconds
+     */
+    synchronized void record(long latencyNanos) {
+        samples[nextSample] = latencyNanos;
+        nextSample = (nextSample + 1) % samples.length;
+        sampleCount = Math.min(sampleCount + 1, samples.length);
+        samplesSinceRecompute++;
+
+        if (sampleCount >= MIN_SAMPLES && (percentileNanos < 0 || samplesSinceRecompute >= RECOMPUTE_INTERVAL)) {
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            percentileNanos = sorted[Math.min(sampleCount - 1, (int) Math.ceil(percentile * sampleCount) - 1)];
+            samplesSinceRecompute = 0;
+        }
+    }
+
+    /**
+     * Returns the tracked percentile of the recent latencies
+     *
+     * @return the percentile in nanoseconds or -1 if not enough samples were recorded yet
+     */
+    long getPercentileNanos() {
+        return percentileNanos;
+    }
+}
@@ -4,37 +4,198 @@
 
 package com.sportradar.unifiedodds.sdk.impl;
 
+import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import com.sportradar.unifiedodds.sdk.ApiCallDeadline;
 import com.sportradar.unifiedodds.sdk.LoggerDefinitions;
+import com.sportradar.unifiedodds.sdk.OperationManager;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.impl.traffic.TrafficRecorder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
 
 /**
- * Wrapper class for the {@link HttpDataFetcher} with the sole purpose of API request logging
+ * Wrapper class for the {@link HttpDataFetcher} used on the feed thread. Besides the API request logging it enforces
+ * the {@link ApiCallDeadline} of the calling thread, optionally hedges slow GET requests with a second attempt
+ * and fails the requests fast while the {@link ApiCircuitBreaker} is open.
  */
 public class LogFastHttpDataFetcher extends LogHttpDataFetcher {
     private final static Logger logger = LoggerFactory.getLogger(LogFastHttpDataFetcher.class);
     private final static Logger trafficLogger = LoggerFactory.getLogger(LoggerDefinitions.UFSdkRestTrafficLog.class);
 
+    /**
+     * The min delay of the hedged request, so the usual latency variance does not double the number of requests
+     */
+    private static final long MIN_HEDGE_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final UnifiedOddsStatistics statsBean;
+    private final ExecutorService executor;
+    private final boolean hedging;
+    private final ApiCircuitBreaker circuitBreaker;
+    private final LatencyPercentileTracker latencyTracker = new LatencyPercentileTracker(0.95, 1000);
+
     @Inject
     public LogFastHttpDataFetcher(SDKInternalConfiguration config,
                                   @Named("FastHttpClient") CloseableHttpClient httpClient,
                                   UnifiedOddsStatistics statsBean,
-                                  @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer) {
-        super(config, httpClient, statsBean, apiDeserializer);
+                                  @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer,
+                                  @Named("DedicatedFastHttpExecutor") ExecutorService executor,
+                                  TrafficRecorder trafficRecorder) {
+        this(config, httpClient, statsBean, apiDeserializer, executor, trafficRecorder, OperationManager.getFastHttpClientHedging(),
+                new ApiCircuitBreaker(OperationManager.getApiCircuitBreakerFailureThreshold(), OperationManager.getApiCircuitBreakerOpenDuration()));
+    }
+
+    LogFastHttpDataFetcher(SDKInternalConfiguration config,
+                           CloseableHttpClient httpClient,
+                           UnifiedOddsStatistics statsBean,
+                           Deserializer apiDeserializer,
+                           ExecutorService executor,
+                           TrafficRecorder trafficRecorder,
+                           boolean hedging,
+                           ApiCircuitBreaker circuitBreaker) {
+        super(config, httpClient, statsBean, apiDeserializer, trafficRecorder);
+        Preconditions.checkNotNull(executor);
+        Preconditions.checkNotNull(circuitBreaker);
+
+        this.statsBean = statsBean;
+        this.executor = executor;
+        this.hedging = hedging;
+        this.circuitBreaker = circuitBreaker;
     }
 
     @Override
     protected HttpData send(HttpRequestBase request) throws CommunicationException {
         String path = request.getURI().toString();
+
+        Duration remaining = ApiCallDeadline.getRemaining();
+        if (remaining != null && remaining.isZero()) {
+            throw new CommunicationException("The deadline of the request expired before it was sent(" + path + ")");
+        }
+
+        if (!circuitBreaker.tryAcquire()) {
+            statsBean.onHttpGetFailedFast(path);
+            throw new CommunicationException("Sports API requests are failing fast after repeated failures, request not sent(" + path + ")");
+        }
+
+        long hedgeDelayNanos = hedging && request instanceof HttpGet ? latencyTracker.getPercentileNanos() : -1;
+        if (hedgeDelayNanos >= 0) {
+            hedgeDelayNanos = Math.max(hedgeDelayNanos, MIN_HEDGE_DELAY_NANOS);
+        }
+        HttpData result;
+        try {
+            if (remaining != null) {
+                applyDeadline(request, remaining);
+            }
+            result = hedgeDelayNanos < 0
+                    ? sendAttempt(request)
+                    : sendHedged((HttpGet) request, remaining, hedgeDelayNanos);
+        } catch (CommunicationException e) {
+            Duration remainingAfterFailure = ApiCallDeadline.getRemaining();
+            if (remainingAfterFailure != null && remainingAfterFailure.isZero()) {
+                // the caller's deadline does not tell anything about the API health
+                circuitBreaker.onAbandoned();
+            } else {
+                circuitBreaker.onFailure(e);
+            }
+            throw e;
+        }
+
+        circuitBreaker.onSuccess();
+        return result;
+    }
+
+    /**
+     * Sends the request and a second attempt if the first one does not complete within the hedge delay,
+     * the first successful response is returned and the other attempt is aborted
+     *
+     * @param request the request to send
+     * @param remaining the time remaining until the caller's deadline or a null reference if there is none
+     * @param hedgeDelayNanos the delay after which the second attempt is sent
+     * @return the first successful response
+     */
+    private HttpData sendHedged(HttpGet request, Duration remaining, long hedgeDelayNanos) throws CommunicationException {
+        String path = request.getURI().toString();
+        long startNanos = System.nanoTime();
+        long deadlineNanos = remaining == null ? 0 : startNanos + remaining.toNanos();
+
+        HttpGet hedge = new HttpGet(request.getURI());
+        hedge.setHeaders(request.getAllHeaders());
+        hedge.setConfig(request.getConfig());
+
+        CompletionService<HttpData> completionService = new ExecutorCompletionService<>(executor);
+        List<HttpRequestBase> attempts = new ArrayList<>(2);
+        CommunicationException failure = null;
+        try {
+            attempts.add(request);
+            completionService.submit(() -> sendAttempt(request));
+            int pending = 1;
+            boolean hedged = false;
+
+            while (pending > 0) {
+                long now = System.nanoTime();
+                long waitNanos = hedged ? Long.MAX_VALUE : startNanos + hedgeDelayNanos - now;
+                if (remaining != null) {
+                    waitNanos = Math.min(waitNanos, deadlineNanos - now);
+                }
+
+                Future<HttpData> completed = waitNanos == Long.MAX_VALUE
+                        ? completionService.take()
+                        : completionService.poll(Math.max(0, waitNanos), TimeUnit.NANOSECONDS);
+                if (completed != null) {
+                    pending--;
+                    try {
+                        return completed.get();
+                    } catch (ExecutionException e) {
+                        failure = e.getCause() instanceof CommunicationException
+                                ? (CommunicationException) e.getCause()
+                                : new CommunicationException("HTTP request failed(" + path + ")", e.getCause());
+                        if (!hedged) {
+                            break;
+                        }
+                    }
+                } else if (remaining != null && System.nanoTime() - deadlineNanos >= 0) {
+                    throw new CommunicationException("The deadline of the request expired(" + path + ")");
+                } else if (!hedged) {
+                    hedged = true;
+                    pending++;
+                    attempts.add(hedge);
+                    statsBean.onHttpGetHedged(path);
+                    logger.debug("Request {} takes longer than {} ms, sending a hedged request", path, TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos));
+                    completionService.submit(() -> sendAttempt(hedge));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("Interrupted while waiting for the response(" + path + ")", e);
+        } catch (RejectedExecutionException e) {
+            throw new CommunicationException("HTTP request could not be scheduled(" + path + ")", e);
+        } finally {
+            attempts.forEach(HttpRequestBase::abort);
+        }
+
+        throw failure;
+    }
+
+    /**
+     * Sends the request and records its latency if it succeeds
+     *
+     * @param request the request to send
+     * @return the content of the request
+     */
+    private HttpData sendAttempt(HttpRequestBase request) throws CommunicationException {
+        String path = request.getURI().toString();
         logger.info("Fetching data from: " + path);
 
         Stopwatch timer = Stopwatch.createStarted();
@@ -46,11 +207,33 @@ public class LogFastHttpDataFetcher extends LogHttpDataFetcher {
             throw new CommunicationException("HTTP request failed(" + path + ")", e);
         }
 
-        if (trafficLogger.isInfoEnabled()) {
+        long elapsedNanos = timer.stop().elapsed(TimeUnit.NANOSECONDS);
+        latencyTracker.record(elapsedNanos);
+
+        if (result.isNotModified()) {
+            trafficLogger.info("Request[DataFetcher]: {}, response - NOT MODIFIED({} ms)", path, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        } else if (getTrafficRecorder().isEnabled()) {
+            getTrafficRecorder().recordApiResponse("FastDataFetcher", path, result.getResponse(), System.currentTimeMillis());
+        } else if (trafficLogger.isInfoEnabled()) {
             String cleanResponse = result.getResponse() == null ? null : result.getResponse().replace("\n", "");
-            trafficLogger.info("Request[DataFetcher]: {}, response - OK({} ms): {}", path, timer.stop().elapsed(TimeUnit.MILLISECONDS), cleanResponse);
+            trafficLogger.info("Request[DataFetcher]: {}, response - OK({} ms): {}", path, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), cleanResponse);
         }
 
         return result;
     }
+
+    /**
+     * Limits the timeouts of the request by the time remaining until the caller's deadline
+     *
+     * @param request the request which should be limited
+     * @param remaining the time remaining until the caller's deadline
+     */
+    private static void applyDeadline(HttpRequestBase request, Duration remaining) {
+        int timeoutMillis = (int) Math.max(1, Math.min(remaining.toMillis(), OperationManager.getFastHttpClientTimeout().toMillis()));
+        request.setConfig(RequestConfig.custom()
+                .setConnectTimeout(timeoutMillis)
+                .setConnectionRequestTimeout(timeoutMillis)
+                .setSocketTimeout(timeoutMillis)
+                .build());
+    }
 }
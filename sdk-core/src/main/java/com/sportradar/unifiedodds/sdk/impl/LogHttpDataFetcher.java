@@ -4,12 +4,14 @@
 
 package com.sportradar.unifiedodds.sdk.impl;
 
+import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.sportradar.unifiedodds.sdk.LoggerDefinitions;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.impl.traffic.TrafficRecorder;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.slf4j.Logger;
@@ -24,12 +26,25 @@ public class LogHttpDataFetcher extends HttpDataFetcher {
     private final static Logger logger = LoggerFactory.getLogger(LogHttpDataFetcher.class);
     private final static Logger trafficLogger = LoggerFactory.getLogger(LoggerDefinitions.UFSdkRestTrafficLog.class);
 
+    private final TrafficRecorder trafficRecorder;
+
+    public LogHttpDataFetcher(SDKInternalConfiguration config,
+                              CloseableHttpClient httpClient,
+                              UnifiedOddsStatistics statsBean,
+                              Deserializer apiDeserializer) {
+        this(config, httpClient, statsBean, apiDeserializer, TrafficRecorder.DISABLED);
+    }
+
     @Inject
     public LogHttpDataFetcher(SDKInternalConfiguration config,
                               CloseableHttpClient httpClient,
                               UnifiedOddsStatistics statsBean,
-                              @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer) {
+                              @Named("SportsApiJaxbDeserializer") Deserializer apiDeserializer,
+                              TrafficRecorder trafficRecorder) {
         super(config, httpClient, statsBean, apiDeserializer);
+        Preconditions.checkNotNull(trafficRecorder);
+
+        this.trafficRecorder = trafficRecorder;
     }
 
     @Override
@@ -46,11 +61,24 @@ public class LogHttpDataFetcher extends HttpDataFetcher {
             throw new CommunicationException("HTTP request failed(" + path + ")", e);
         }
 
-        if (trafficLogger.isInfoEnabled()) {
+        if (result.isNotModified()) {
+            trafficLogger.info("Request[DataFetcher]: {}, response - NOT MODIFIED({} ms)", path, timer.stop().elapsed(TimeUnit.MILLISECONDS));
+        } else if (trafficRecorder.isEnabled()) {
+            trafficRecorder.recordApiResponse("DataFetcher", path, result.getResponse(), System.currentTimeMillis());
+        } else if (trafficLogger.isInfoEnabled()) {
             String cleanResponse = result.getResponse() == null ? null : result.getResponse().replace("\n", "");
             trafficLogger.info("Request[DataFetcher]: {}, response - OK({} ms): {}", path, timer.stop().elapsed(TimeUnit.MILLISECONDS), cleanResponse);
         }
 
         return result;
     }
+
+    /**
+     * Returns the {@link TrafficRecorder} used instead of the traffic log when the recording is enabled
+     *
+     * @return the {@link TrafficRecorder} of the fetcher
+     */
+    protected TrafficRecorder getTrafficRecorder() {
+        return trafficRecorder;
+    }
 }
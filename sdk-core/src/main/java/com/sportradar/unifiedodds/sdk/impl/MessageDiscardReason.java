@@ -0,0 +1,25 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+/**
+ * The reasons for which a received feed message is discarded without being dispatched
+ */
+public enum MessageDiscardReason {
+    /**
+     * The producer of the message is disabled or unknown
+     */
+    ProducerDisabled,
+
+    /**
+     * The producer of the message is not in the scope of the session's message interest
+     */
+    ProducerOutOfScope,
+
+    /**
+     * The same fixture change was already dispatched
+     */
+    DuplicateFixtureChange
+}
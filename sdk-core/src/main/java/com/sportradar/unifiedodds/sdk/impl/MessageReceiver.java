@@ -20,6 +20,40 @@ public interface MessageReceiver {
      */
     void open(List<String> routingKeys, MessageConsumer messageConsumer) throws IOException;
 
+    /**
+     * Opens the current instance so it starts receiving messages, the received messages are split into
+     * the requested number of partitions by their sport and the partitions are processed in parallel
+     *
+     * @param routingKeys - a {@link List} of requested routing keys
+     * @param messageConsumer - a {@link MessageConsumer} instance which will receive messages
+     * @param sportPartitions - the number of the sport partitions, the receivers which do not support
+     *                        the partitioning support only a single partition
+     * @throws IOException if the channel failed to open
+     */
+    default void open(List<String> routingKeys, MessageConsumer messageConsumer, int sportPartitions) throws IOException {
+        if (sportPartitions != 1) {
+            throw new UnsupportedOperationException("The message receiver does not support sport partitions");
+        }
+
+        open(routingKeys, messageConsumer);
+    }
+
+    /**
+     * Adds the provided routing keys to the routing keys of the opened instance
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be added
+     * @throws IOException if the routing keys could not be bound
+     */
+    void addRoutingKeys(List<String> routingKeys) throws IOException;
+
+    /**
+     * Removes the provided routing keys from the routing keys of the opened instance
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be removed
+     * @throws IOException if the routing keys could not be unbound
+     */
+    void removeRoutingKeys(List<String> routingKeys) throws IOException;
+
     /**
      * Closes the current instance so it will no longer receive messages
      *
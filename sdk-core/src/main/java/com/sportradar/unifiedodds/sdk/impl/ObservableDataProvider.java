@@ -35,6 +35,16 @@ public abstract class ObservableDataProvider<TOut> extends DataProvider<TOut> {
         return getData();
     }
 
+    @Override
+    public TOut getDataIfModified() throws DataProviderException {
+        return getData();
+    }
+
+    @Override
+    public TOut getDataIfModified(Locale locale, String... args) throws DataProviderException {
+        return getData();
+    }
+
     @Override
     public DataWrapper<TOut> getDataWithAdditionalInfo(Locale locale, String... args) throws DataProviderException {
         return new DataWrapper<>(
@@ -6,6 +6,7 @@ package com.sportradar.unifiedodds.sdk.impl;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.cache.Cache;
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.name.Named;
 import com.sportradar.uf.datamodel.*;
 import com.sportradar.unifiedodds.sdk.*;
@@ -24,12 +25,16 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import java.io.IOException;
-import java.util.List;
-import java.util.UUID;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, FeedMessageProcessor {
     private static final Logger logger = LoggerFactory.getLogger(OddsFeedSessionImpl.class);
@@ -46,9 +51,13 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
     private final FeedMessageFactory messageFactory;
     private final FeedMessageValidator feedMessageValidator;
     private final Cache<String, String> dispatchedFixtureChangesCache;
+    private final Map<Class<? extends UnmarshalledMessage>, MessageDispatcher> messageDispatchers;
+    private final Set<URN> subscribedEventIds;
     private OddsFeedListener oddsFeedListener;
+    private SportListenerDispatchTable listenerDispatchTable;
     private MessageInterest messageInterest;
     private OddsFeedExtListener oddsFeedExtListener;
+    private int sportPartitions = 1;
     private boolean isFeedClosed;
 
     @Inject
@@ -88,22 +97,76 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         this.dispatchedFixtureChangesCache = dispatchedFixtureChangesCache;
         this.processorId = UUID.randomUUID().toString();
         this.isFeedClosed = false;
+        this.messageDispatchers = buildMessageDispatchers();
+        this.subscribedEventIds = ConcurrentHashMap.newKeySet();
     }
 
     public void open(List<String> routingKeys, MessageInterest messageInterest, OddsFeedListener oddsFeedListener, OddsFeedExtListener oddsFeedExtListener) throws IOException {
+        checkNotNull(oddsFeedListener, "listener cannot be a null reference");
+
+        open(routingKeys, messageInterest, null, oddsFeedListener, Collections.emptySet(), oddsFeedExtListener);
+    }
+
+    /**
+     * Opens the session
+     *
+     * @param routingKeys the routing keys to which the session should bind
+     * @param messageInterest the session {@link MessageInterest}
+     * @param eventIds the identifiers of the events to which the session is subscribed, used only with
+     *                 the {@link MessageInterest#SpecifiedMatchesOnly} message interest
+     * @param oddsFeedListener the main session listener, can be a null reference if sport specific listeners are provided
+     * @param specificListeners the sport specific listeners, which receive the messages of their sports instead of the main listener
+     * @param oddsFeedExtListener the {@link OddsFeedExtListener} used to dispatch raw messages, can be a null reference
+     * @throws IOException if the message receiver could not be opened
+     */
+    public void open(List<String> routingKeys,
+                     MessageInterest messageInterest,
+                     Set<URN> eventIds,
+                     OddsFeedListener oddsFeedListener,
+                     Collection<? extends GenericOddsFeedListener> specificListeners,
+                     OddsFeedExtListener oddsFeedExtListener) throws IOException {
+        open(routingKeys, messageInterest, eventIds, oddsFeedListener, specificListeners, oddsFeedExtListener, 1);
+    }
+
+    /**
+     * Opens the session
+     *
+     * @param routingKeys the routing keys to which the session should bind
+     * @param messageInterest the session {@link MessageInterest}
+     * @param eventIds the identifiers of the events to which the session is subscribed, used only with
+     *                 the {@link MessageInterest#SpecifiedMatchesOnly} message interest
+     * @param oddsFeedListener the main session listener, can be a null reference if sport specific listeners are provided
+     * @param specificListeners the sport specific listeners, which receive the messages of their sports instead of the main listener
+     * @param oddsFeedExtListener the {@link OddsFeedExtListener} used to dispatch raw messages, can be a null reference
+     * @param sportPartitions the number of the sport partitions processed in parallel, the messages of a sport
+     *                        are always processed in order by the same partition
+     * @throws IOException if the message receiver could not be opened
+     */
+    public void open(List<String> routingKeys,
+                     MessageInterest messageInterest,
+                     Set<URN> eventIds,
+                     OddsFeedListener oddsFeedListener,
+                     Collection<? extends GenericOddsFeedListener> specificListeners,
+                     OddsFeedExtListener oddsFeedExtListener,
+                     int sportPartitions) throws IOException {
         checkNotNull(routingKeys, "Session routing keys can not be a null reference");
         checkNotNull(messageInterest, "oddsInterest cannot be a null reference");
-        checkNotNull(oddsFeedListener, "listener cannot be a null reference");
         checkArgument(!routingKeys.isEmpty(), "session routing keys can not be empty");
+        checkArgument(sportPartitions > 0, "sportPartitions must be positive");
 
+        this.listenerDispatchTable = SportListenerDispatchTable.build(oddsFeedListener, specificListeners);
         this.oddsFeedListener = oddsFeedListener;
         this.messageInterest = messageInterest;
         this.oddsFeedExtListener = oddsFeedExtListener;
+        this.sportPartitions = sportPartitions;
+        if (eventIds != null && messageInterest == MessageInterest.SpecifiedMatchesOnly) {
+            subscribedEventIds.addAll(eventIds);
+        }
 
         messageProcessor.init(this);
-        messageReceiver.open(routingKeys, this);
+        messageReceiver.open(routingKeys, this, sportPartitions);
 
-        logger.info("OddsFeedSession opened(Message interest: {})", messageInterest);
+        logger.info("OddsFeedSession opened(Message interest: {}, sport partitions: {})", messageInterest, sportPartitions);
     }
 
     public void close(){
@@ -115,6 +178,80 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         }
     }
 
+    /**
+     * Subscribes the session to the messages of the provided events without reopening the feed
+     *
+     * @param eventIds the identifiers of the events which should be added to the session subscriptions
+     */
+    @Override
+    public synchronized void addEventSubscriptions(Set<URN> eventIds) {
+        checkNotNull(eventIds, "eventIds cannot be a null reference");
+        checkSubscriptionsModifiable();
+
+        List<URN> added = new ArrayList<>();
+        for (URN eventId : eventIds) {
+            if (subscribedEventIds.add(eventId)) {
+                added.add(eventId);
+            }
+        }
+
+        if (added.isEmpty()) {
+            return;
+        }
+
+        logger.info("Adding event subscriptions: {}", added);
+        try {
+            messageReceiver.addRoutingKeys(OddsFeedRoutingKeyBuilder.generateEventKeys(added, config));
+        } catch (IOException e) {
+            logger.warn("Event routing keys bind failed, the subscriptions will be applied once the channel is recreated", e);
+        }
+    }
+
+    /**
+     * Removes the provided events from the session subscriptions without reopening the feed
+     *
+     * @param eventIds the identifiers of the events which should be removed from the session subscriptions
+     */
+    @Override
+    public synchronized void removeEventSubscriptions(Set<URN> eventIds) {
+        checkNotNull(eventIds, "eventIds cannot be a null reference");
+        checkSubscriptionsModifiable();
+
+        List<URN> removed = new ArrayList<>();
+        for (URN eventId : eventIds) {
+            if (subscribedEventIds.remove(eventId)) {
+                removed.add(eventId);
+            }
+        }
+
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        logger.info("Removing event subscriptions: {}", removed);
+        try {
+            messageReceiver.removeRoutingKeys(OddsFeedRoutingKeyBuilder.generateEventKeys(removed, config));
+        } catch (IOException e) {
+            logger.warn("Event routing keys unbind failed, the subscriptions will be applied once the channel is recreated", e);
+        }
+    }
+
+    /**
+     * Returns the identifiers of the events to which the session is currently subscribed
+     *
+     * @return the identifiers of the events to which the session is currently subscribed
+     */
+    @Override
+    public Set<URN> getEventSubscriptions() {
+        return Collections.unmodifiableSet(new HashSet<>(subscribedEventIds));
+    }
+
+    private void checkSubscriptionsModifiable() {
+        checkState(messageInterest != null && !isFeedClosed, "The event subscriptions can be modified only on opened sessions");
+        checkState(messageInterest == MessageInterest.SpecifiedMatchesOnly,
+                "The event subscriptions can be modified only on sessions with the SpecifiedMatchesOnly message interest");
+    }
+
     /**
      * Consumes the provided message
      *
@@ -148,7 +285,7 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
                 logger.warn("Validation of message {} failed. Raising onUnparseableMessage event. ProducerId:{}, EventId:'{}'",
                         unmarshalledMessage.getClass().getName(), FeedMessageHelper.provideProducerIdFromMessage(unmarshalledMessage), eventId);
 
-                SportEvent event = routingKeyInfo.getEventId() == null ?
+                SportEvent event = routingKeyInfo.getEventId() == null || !listenerDispatchTable.isSportDispatched(routingKeyInfo.getSportId()) ?
                         null :
                         getSportEventFor(routingKeyInfo.getEventId().toString(), routingKeyInfo.getSportId());
 
@@ -164,9 +301,10 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
 
         int producerId = FeedMessageHelper.provideProducerIdFromMessage(unmarshalledMessage);
 
-        recoveryManager.onMessageProcessingStarted(this.hashCode(), producerId, FeedMessageHelper.provideRequestIdFromMessage(unmarshalledMessage), now);
-        messageProcessor.processMessage(unmarshalledMessage, body, routingKeyInfo, timestamp);
-        recoveryManager.onMessageProcessingEnded(this.hashCode(), producerId, FeedMessageHelper.provideMessageGenTimestampFromMessage(unmarshalledMessage), eventId);
+        int processorIdentifier = getProcessorIdentifier(routingKeyInfo);
+        recoveryManager.onMessageProcessingStarted(processorIdentifier, producerId, FeedMessageHelper.provideRequestIdFromMessage(unmarshalledMessage), now);
+        processWithDeadline(unmarshalledMessage, body, routingKeyInfo, timestamp);
+        recoveryManager.onMessageProcessingEnded(processorIdentifier, producerId, FeedMessageHelper.provideMessageGenTimestampFromMessage(unmarshalledMessage), eventId);
 
         clientInteractionLog.info("Message -> ({}|{}|{}|{}) processing finished on {}, duration: {} ms",
                 producerId,
@@ -197,6 +335,39 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         dispatchUnparsableMessage(rawMessage, se, null, new MessageTimestampImpl(time));
     }
 
+    /**
+     * Returns the identifier under which the message processing is reported to the {@link RecoveryManager},
+     * the sport partitions of the session process the messages concurrently so each has its own identifier
+     */
+    private int getProcessorIdentifier(RoutingKeyInfo routingKeyInfo) {
+        if (sportPartitions == 1) {
+            return this.hashCode();
+        }
+
+        return Objects.hash(this.hashCode(), SportPartitionedChannelMessageConsumer.partitionOf(routingKeyInfo.getSportId(), sportPartitions));
+    }
+
+    /**
+     * Passes the message to the processing pipeline, the fast api requests made while the message is processed
+     * and dispatched are limited by the {@link OperationManager#getFastHttpClientDispatchDeadline()} if it is set
+     *
+     * @param message - the message that should be processed
+     * @param body - the raw body of the received message
+     * @param routingKeyInfo - a {@link RoutingKeyInfo} instance describing the message routing key
+     * @param timestamp - all message timestamps
+     */
+    private void processWithDeadline(UnmarshalledMessage message, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
+        Duration deadline = OperationManager.getFastHttpClientDispatchDeadline();
+        if (deadline.isZero()) {
+            messageProcessor.processMessage(message, body, routingKeyInfo, timestamp);
+            return;
+        }
+
+        try (ApiCallDeadline ignored = ApiCallDeadline.start(deadline)) {
+            messageProcessor.processMessage(message, body, routingKeyInfo, timestamp);
+        }
+    }
+
     /**
      * Returns the processor identifier
      *
@@ -216,67 +387,14 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
      * @param timestamp - all message timestamps
      */
     public void processMessage(UnmarshalledMessage o, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp) {
-//        long now = System.currentTimeMillis();
         try {
-            if (o instanceof UFOddsChange) {
-                UFOddsChange message = (UFOddsChange) o;
-                timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                OddsChange<SportEvent> oc = messageFactory.buildOddsChange(se, message, body, timestamp);
-                checkUserException(() -> oddsFeedListener.onOddsChange(this, oc));
-            } else if (o instanceof UFBetStop) {
-                UFBetStop message = (UFBetStop) o;
-                timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                BetStop<SportEvent> sdkBetStop = messageFactory.buildBetStop(se, message, body, timestamp);
-                checkUserException(() -> oddsFeedListener.onBetStop(this, sdkBetStop));
-            } else if (o instanceof UFBetSettlement) {
-                UFBetSettlement message = (UFBetSettlement) o;
-                timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                BetSettlement<SportEvent> bs = messageFactory.buildBetSettlement(se, message, body, timestamp);
-                logger.trace("Bet Settlement");
-                checkUserException(() -> oddsFeedListener.onBetSettlement(this, bs));
-            } else if (o instanceof UFRollbackBetSettlement) {
-                UFRollbackBetSettlement message = (UFRollbackBetSettlement) o;
-                timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                RollbackBetSettlement<SportEvent> rbs = messageFactory.buildRollbackBetSettlement(se, message, body, timestamp);
-                checkUserException(() -> oddsFeedListener.onRollbackBetSettlement(this, rbs));
-            } else if (o instanceof UFBetCancel) {
-                UFBetCancel message = (UFBetCancel) o;
-                timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                BetCancel<SportEvent> cb = messageFactory.buildBetCancel(se, message, body, timestamp);
-                logger.trace("Bet Cancel");
-                checkUserException(() -> oddsFeedListener.onBetCancel(this, cb));
-            } else if (o instanceof UFFixtureChange) {
-                UFFixtureChange message = (UFFixtureChange) o;
-                timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                FixtureChange<SportEvent> fc = messageFactory.buildFixtureChange(se, message, body, timestamp);
-                logger.trace("Fixture Change");
-                checkUserException(() -> oddsFeedListener.onFixtureChange(this, fc));
-            } else if (o instanceof UFRollbackBetCancel) {
-                UFRollbackBetCancel message = (UFRollbackBetCancel) o;
-                timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
-                SportEvent se = getSportEventFor(message.getEventId(), routingKeyInfo.getSportId());
-                RollbackBetCancel<SportEvent> rbc = messageFactory.buildRollbackBetCancel(se, message, body, timestamp);
-                logger.trace("Rollback Bet Cancel");
-                checkUserException(() -> oddsFeedListener.onRollbackBetCancel(this, rbc));
-            } else if (o instanceof UFSnapshotComplete) {
-                UFSnapshotComplete sc = (UFSnapshotComplete) o;
-                timestamp = new MessageTimestampImpl(sc.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
-                recoveryManager.onSnapshotCompleteReceived(sc.getProduct(), timestamp.getDispatched(), sc.getRequestId(), messageInterest);
-            } else if (o instanceof UFAlive) {
-                logger.trace("Alive");
-                UFAlive message = (UFAlive) o;
-                timestamp = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
-                recoveryManager.onAliveReceived(message.getProduct(), message.getTimestamp(), timestamp.getDispatched(), message.getSubscribed() == 1, messageInterest == MessageInterest.SystemAliveMessages);
-            } else {
+            MessageDispatcher dispatcher = messageDispatchers.get(o.getClass());
+            if (dispatcher == null) {
                 logger.warn("Unsupported Message: " + o.getClass().getName());
                 throw new UnsupportedOperationException("Unsupported message");
             }
+
+            dispatcher.dispatch(o, body, routingKeyInfo, timestamp);
         } catch (Exception re) {
             logger.warn("Problems processing a message: \n" + new String(body), re);
             dispatchUnparsableMessage(
@@ -287,6 +405,92 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         }
     }
 
+    /**
+     * Builds the table used to dispatch the received messages based on their type
+     *
+     * @return the table used to dispatch the received messages based on their type
+     */
+    private Map<Class<? extends UnmarshalledMessage>, MessageDispatcher> buildMessageDispatchers() {
+        Map<Class<? extends UnmarshalledMessage>, MessageDispatcher> dispatchers = new HashMap<>();
+
+        dispatchers.put(UFOddsChange.class, eventMessageDispatcher(UFOddsChange::getEventId, UFOddsChange::getTimestamp,
+                messageFactory::buildOddsChange, GenericOddsFeedListener::onOddsChange));
+        dispatchers.put(UFBetStop.class, eventMessageDispatcher(UFBetStop::getEventId, UFBetStop::getTimestamp,
+                messageFactory::buildBetStop, GenericOddsFeedListener::onBetStop));
+        dispatchers.put(UFBetSettlement.class, eventMessageDispatcher(UFBetSettlement::getEventId, UFBetSettlement::getTimestamp,
+                messageFactory::buildBetSettlement, GenericOddsFeedListener::onBetSettlement));
+        dispatchers.put(UFRollbackBetSettlement.class, eventMessageDispatcher(UFRollbackBetSettlement::getEventId, UFRollbackBetSettlement::getTimestamp,
+                messageFactory::buildRollbackBetSettlement, GenericOddsFeedListener::onRollbackBetSettlement));
+        dispatchers.put(UFBetCancel.class, eventMessageDispatcher(UFBetCancel::getEventId, UFBetCancel::getTimestamp,
+                messageFactory::buildBetCancel, GenericOddsFeedListener::onBetCancel));
+        dispatchers.put(UFFixtureChange.class, eventMessageDispatcher(UFFixtureChange::getEventId, UFFixtureChange::getTimestamp,
+                messageFactory::buildFixtureChange, GenericOddsFeedListener::onFixtureChange));
+        dispatchers.put(UFRollbackBetCancel.class, eventMessageDispatcher(UFRollbackBetCancel::getEventId, UFRollbackBetCancel::getTimestamp,
+                messageFactory::buildRollbackBetCancel, GenericOddsFeedListener::onRollbackBetCancel));
+
+        dispatchers.put(UFSnapshotComplete.class, (o, body, routingKeyInfo, timestamp) -> {
+            UFSnapshotComplete sc = (UFSnapshotComplete) o;
+            MessageTimestamp ts = new MessageTimestampImpl(sc.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
+            recoveryManager.onSnapshotCompleteReceived(sc.getProduct(), ts.getDispatched(), sc.getRequestId(), messageInterest);
+        });
+        dispatchers.put(UFAlive.class, (o, body, routingKeyInfo, timestamp) -> {
+            logger.trace("Alive");
+            UFAlive message = (UFAlive) o;
+            MessageTimestamp ts = new MessageTimestampImpl(message.getTimestamp(), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
+            recoveryManager.onAliveReceived(message.getProduct(), message.getTimestamp(), ts.getDispatched(), message.getSubscribed() == 1, messageInterest == MessageInterest.SystemAliveMessages);
+        });
+
+        return ImmutableMap.copyOf(dispatchers);
+    }
+
+    /**
+     * Builds a dispatcher for sport event related messages. The sport event and the user message are built only
+     * if a listener is interested in the sport associated with the message.
+     *
+     * @param eventIdProvider the function providing the event id of the message
+     * @param timestampProvider the function providing the generation timestamp of the message
+     * @param messageBuilder the function building the message exposed to the user
+     * @param listenerCallback the listener method which should be invoked
+     * @return the dispatcher of the message type
+     */
+    private <T extends UnmarshalledMessage, M> MessageDispatcher eventMessageDispatcher(Function<T, String> eventIdProvider,
+                                                                                        ToLongFunction<T> timestampProvider,
+                                                                                        EventMessageBuilder<T, M> messageBuilder,
+                                                                                        ListenerCallback<M> listenerCallback) {
+        return (o, body, routingKeyInfo, timestamp) -> {
+            @SuppressWarnings("unchecked")
+            T message = (T) o;
+            URN sportId = routingKeyInfo.getSportId();
+            if (!listenerDispatchTable.isSportDispatched(sportId)) {
+                logger.trace("No listener interested in messages of sport {}, skipping {}", sportId, o.getClass().getSimpleName());
+                return;
+            }
+
+            MessageTimestamp ts = new MessageTimestampImpl(timestampProvider.applyAsLong(message), timestamp.getSent(), timestamp.getReceived(), new TimeUtilsImpl().now());
+            SportEvent se = getSportEventFor(eventIdProvider.apply(message), sportId);
+            if (sportId == null && listenerDispatchTable.requiresSportId()) {
+                sportId = se.getSportId();
+            }
+
+            GenericOddsFeedListener<SportEvent> listener = listenerDispatchTable.getListener(sportId, se);
+            if (listener == null) {
+                GenericOddsFeedListener<SportEvent> sportListener = listenerDispatchTable.getUnsupportedEventListener(sportId, se);
+                if (sportListener != null) {
+                    // the typed callbacks of the sport specific listener can not receive the event, so it only gets the untyped ones
+                    logger.warn("Event {} of sport {} is not supported by the sport specific listener, {} is dispatched as an unparsable message",
+                            se.getId(), sportId, o.getClass().getSimpleName());
+                    dispatchUnparsableMessage(Collections.singletonList(sportListener), body, se, FeedMessageHelper.provideProducerIdFromMessage(message), ts);
+                    return;
+                }
+                logger.trace("No listener interested in {} of event {}", o.getClass().getSimpleName(), se.getId());
+                return;
+            }
+
+            M sdkMessage = messageBuilder.build(se, message, body, ts);
+            checkUserException(listener, () -> listenerCallback.onMessage(listener, this, sdkMessage));
+        };
+    }
+
     /**
      * This method should be ignored since the {@link OddsFeedSessionImpl} is the final dispatching message processor.
      *
@@ -360,27 +564,44 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
     }
 
     private void dispatchUnparsableMessage(byte[] body, SportEvent event, Integer producerId, MessageTimestamp timestamp) {
+        dispatchUnparsableMessage(resolveListeners(event), body, event, producerId, timestamp);
+    }
+
+    private void dispatchUnparsableMessage(List<GenericOddsFeedListener<SportEvent>> listeners, byte[] body, SportEvent event, Integer producerId, MessageTimestamp timestamp) {
         try {
-            oddsFeedListener.onUnparseableMessage(
-                    this,
-                    body,
-                    event
-            );
-            oddsFeedListener.onUnparsableMessage(this, messageFactory.buildUnparsableMessage(event, producerId, body, timestamp));
+            for (GenericOddsFeedListener<SportEvent> listener : listeners) {
+                listener.onUnparseableMessage(
+                        this,
+                        body,
+                        event
+                );
+                listener.onUnparsableMessage(this, messageFactory.buildUnparsableMessage(event, producerId, body, timestamp));
+            }
         } catch (Exception re) {
             logger.warn("Problems dispatching onUnparseableMessage(), message body: \n" + new String(body), re);
         }
     }
 
-    private void dispatchUserUnhandledException(Exception exception) {
+    private void dispatchUserUnhandledException(GenericOddsFeedListener<SportEvent> listener, Exception exception) {
         try {
             logger.warn("User unhandled exception detected", exception);
-            oddsFeedListener.onUserUnhandledException(this, exception);
+            listener.onUserUnhandledException(this, exception);
         } catch (Exception ex) {
             logger.warn("Problems dispatching onUserUnhandledException()", ex);
         }
     }
 
+    private List<GenericOddsFeedListener<SportEvent>> resolveListeners(SportEvent event) {
+        if (event != null) {
+            GenericOddsFeedListener<SportEvent> listener = listenerDispatchTable.getListener(event.getSportId(), event);
+            if (listener != null) {
+                return Collections.singletonList(listener);
+            }
+        }
+
+        return listenerDispatchTable.getFallbackListeners();
+    }
+
     private SportEvent getSportEventFor(String eventId, URN sportId) {
         URN parsedEventId = URN.parse(eventId);
 
@@ -409,10 +630,12 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         }
 
         if (!producerManager.isProducerEnabled(producerId)) {
+            statisticsMBean.onMessageDiscarded(MessageDiscardReason.ProducerDisabled, false);
             return true;
         }
 
         if (!messageInterest.isProducerInScope(producerManager.getProducer(producerId))) {
+            statisticsMBean.onMessageDiscarded(MessageDiscardReason.ProducerOutOfScope, false);
             return true;
         }
 
@@ -421,6 +644,7 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
             if (dispatchedFixtureChangesCache.getIfPresent(fixtureChangeCacheKey) == null) {
                 dispatchedFixtureChangesCache.put(fixtureChangeCacheKey, fixtureChangeCacheKey);
             } else {
+                statisticsMBean.onMessageDiscarded(MessageDiscardReason.DuplicateFixtureChange, false);
                 return true;
             }
         }
@@ -428,11 +652,11 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         return false;
     }
 
-    private void checkUserException(Runnable runnable) {
+    private void checkUserException(GenericOddsFeedListener<SportEvent> listener, Runnable runnable) {
         try {
             runnable.run();
         } catch (Exception ex) {
-            dispatchUserUnhandledException(ex);
+            dispatchUserUnhandledException(listener, ex);
         }
     }
 
@@ -469,5 +693,28 @@ public class OddsFeedSessionImpl implements OddsFeedSession, MessageConsumer, Fe
         }
         return false;
     }
-}
 
+    /**
+     * Dispatches a received message of a specific type
+     */
+    @FunctionalInterface
+    private interface MessageDispatcher {
+        void dispatch(UnmarshalledMessage message, byte[] body, RoutingKeyInfo routingKeyInfo, MessageTimestamp timestamp);
+    }
+
+    /**
+     * Builds the message exposed to the user from the received feed message
+     */
+    @FunctionalInterface
+    private interface EventMessageBuilder<T, M> {
+        M build(SportEvent sportEvent, T message, byte[] body, MessageTimestamp timestamp);
+    }
+
+    /**
+     * Invokes the listener method associated with a message type
+     */
+    @FunctionalInterface
+    private interface ListenerCallback<M> {
+        void onMessage(GenericOddsFeedListener<SportEvent> listener, OddsFeedSession session, M message);
+    }
+}
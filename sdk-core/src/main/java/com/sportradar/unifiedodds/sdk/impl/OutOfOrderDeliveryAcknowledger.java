@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ShutdownSignalException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.TreeSet;
+
+/**
+ * Acknowledges the messages delivered on a single channel consuming with manual acknowledgements, which are processed
+ * out of the delivery order (e.g. by the sport partitions). The messages are acknowledged in batches up to the lowest
+ * delivery tag which is not processed yet, so a message is never acknowledged before it is processed and the
+ * messages which are not processed are redelivered once the channel is closed.
+ */
+class OutOfOrderDeliveryAcknowledger {
+    private static final Logger logger = LoggerFactory.getLogger(OutOfOrderDeliveryAcknowledger.class);
+
+    private final Channel channel;
+    private final int ackBatchSize;
+
+    /**
+     * The delivery tags of the received messages which are not processed yet, guarded by this instance
+     */
+    private final TreeSet<Long> pendingDeliveryTags = new TreeSet<>();
+    private long lastReceivedDeliveryTag;
+    private long lastAcknowledgedDeliveryTag;
+
+    /**
+     * @param channel the channel on which the messages are acknowledged
+     * @param ackBatchSize the number of the processed messages acknowledged at once
+     */
+    OutOfOrderDeliveryAcknowledger(Channel channel, int ackBatchSize) {
+        Preconditions.checkNotNull(channel);
+        Preconditions.checkArgument(ackBatchSize > 0, "ackBatchSize must be positive");
+
+        this.channel = channel;
+        this.ackBatchSize = ackBatchSize;
+    }
+
+    /**
+     * @return the channel on which the messages are acknowledged
+     */
+    Channel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Registers the received message, the messages must be registered in the delivery order
+     *
+     * @param deliveryTag the delivery tag of the message
+     */
+    synchronized void onReceived(long deliveryTag) {
+        Preconditions.checkArgument(deliveryTag > lastReceivedDeliveryTag, "the messages must be registered in the delivery order");
+
+        pendingDeliveryTags.add(deliveryTag);
+        lastReceivedDeliveryTag = deliveryTag;
+    }
+
+    /**
+     * Marks the message as processed and acknowledges the processed messages once all the preceding messages
+     * are processed as well. The pending acknowledgements are not delayed once all the received messages are processed.
+     *
+     * @param deliveryTag the delivery tag of the message
+     */
+    synchronized void onProcessed(long deliveryTag) {
+        if (!pendingDeliveryTags.remove(deliveryTag)) {
+            return;
+        }
+
+        long processedDeliveryTag = pendingDeliveryTags.isEmpty() ? lastReceivedDeliveryTag : pendingDeliveryTags.first() - 1;
+        if (processedDeliveryTag <= lastAcknowledgedDeliveryTag) {
+            return;
+        }
+        if (!pendingDeliveryTags.isEmpty() && processedDeliveryTag - lastAcknowledgedDeliveryTag < ackBatchSize) {
+            return;
+        }
+
+        // acknowledged while holding the lock, an acknowledgement sent out of order would close the channel
+        lastAcknowledgedDeliveryTag = processedDeliveryTag;
+        if (!channel.isOpen()) {
+            // the unacknowledged messages are released by the broker once the channel is closed
+            return;
+        }
+        try {
+            channel.basicAck(processedDeliveryTag, true);
+        } catch (IOException | ShutdownSignalException e) {
+            logger.warn("Acknowledgement of the messages up to delivery tag {} on channel {} failed, ex: {}", processedDeliveryTag, channel.getChannelNumber(), e.getMessage());
+        }
+    }
+
+    /**
+     * @return the number of the received messages which are not processed yet
+     */
+    synchronized int getPendingMessages() {
+        return pendingDeliveryTags.size();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.entities.Competition;
+import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * An {@link Iterator} walking the pages of the list sport events endpoint. While a page is being consumed, the following
+ * pages (up to the read-ahead limit) are already requested in the background, so at most
+ * <code>1 + readAheadPages</code> pages are held in memory regardless of the schedule size.
+ * The iteration ends with the first page which is shorter than the page size.
+ */
+class PagedSportEventIterator implements Iterator<Competition>, AutoCloseable {
+    /**
+     * Loads a single page of sport events
+     */
+    interface PageLoader {
+        /**
+         * @param startIndex the index of the first event of the page
+         * @param limit the max number of events in the page
+         * @return the loaded page or a null reference if the iteration should stop
+         */
+        Page load(int startIndex, int limit);
+    }
+
+    /**
+     * A loaded page of sport events
+     */
+    static final class Page {
+        private final List<Competition> events;
+        private final boolean last;
+
+        /**
+         * @param events the built events of the page
+         * @param last an indication if the endpoint returned less events than requested
+         */
+        Page(List<Competition> events, boolean last) {
+            Preconditions.checkNotNull(events);
+
+            this.events = events;
+            this.last = last;
+        }
+    }
+
+    private final PageLoader pageLoader;
+    private final int pageSize;
+    private final int readAheadPages;
+    private final Executor executor;
+    private final Deque<FutureTask<Page>> pendingPages = new ArrayDeque<>();
+    private Iterator<Competition> currentPage = Collections.emptyIterator();
+    private int nextStartIndex;
+    private boolean lastPageRequested;
+    private boolean closed;
+
+    /**
+     * Initializes a new {@link PagedSportEventIterator}
+     *
+     * @param pageLoader the loader of a single page
+     * @param pageSize the number of events requested in a single page
+     * @param readAheadPages the max number of pages requested ahead of the consumed one
+     * @param executor the {@link Executor} used to request the pages ahead
+     */
+    PagedSportEventIterator(PageLoader pageLoader, int pageSize, int readAheadPages, Executor executor) {
+        Preconditions.checkNotNull(pageLoader);
+        Preconditions.checkArgument(pageSize > 0);
+        Preconditions.checkArgument(readAheadPages >= 0);
+        Preconditions.checkNotNull(executor);
+
+        this.pageLoader = pageLoader;
+        this.pageSize = pageSize;
+        this.readAheadPages = readAheadPages;
+        this.executor = executor;
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        while (!currentPage.hasNext()) {
+            if (closed) {
+                return false;
+            }
+
+            requestPages();
+            FutureTask<Page> page = pendingPages.poll();
+            if (page == null) {
+                return false;
+            }
+
+            Page loaded = awaitPage(page);
+            if (loaded == null || loaded.last) {
+                // the end of the schedule, the pages requested ahead are empty
+                lastPageRequested = true;
+                cancelPendingPages();
+            }
+            currentPage = loaded == null ? Collections.emptyIterator() : loaded.events.iterator();
+            requestPages();
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized Competition next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+
+    /**
+     * Stops the iteration and cancels the pages requested ahead
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        currentPage = Collections.emptyIterator();
+        cancelPendingPages();
+    }
+
+    /**
+     * Requests the pages until the read-ahead limit is reached, the first page is loaded by the consumer thread
+     */
+    private void requestPages() {
+        while (!lastPageRequested && pendingPages.size() < Math.max(1, readAheadPages)) {
+            int startIndex = nextStartIndex;
+            nextStartIndex += pageSize;
+
+            FutureTask<Page> page = new FutureTask<>(() -> pageLoader.load(startIndex, pageSize));
+            pendingPages.add(page);
+            if (readAheadPages > 0) {
+                try {
+                    executor.execute(page);
+                } catch (RejectedExecutionException e) {
+                    // the page is loaded by the consumer thread once it is needed
+                }
+            }
+        }
+    }
+
+    private Page awaitPage(FutureTask<Page> page) {
+        // loads the page on the consumer thread if the executor did not start it yet
+        page.run();
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new ObjectNotFoundException("Interrupted while waiting for the list sport events page", e);
+        } catch (ExecutionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new ObjectNotFoundException("The list sport events page could not be loaded", e);
+        }
+    }
+
+    private void cancelPendingPages() {
+        pendingPages.forEach(page -> page.cancel(false));
+        pendingPages.clear();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.unifiedodds.sdk.ApiCallDeadline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs blocking cache load tasks concurrently on the provided executor. The calling thread takes part in the execution
+ * and runs the helpers which were not started yet by itself, so the tasks complete even if the executor is saturated
+ * or the caller is itself running on the executor. The {@link ApiCallDeadline} of the calling thread applies to
+ * the helpers as well, the caller does not wait for the helpers past the deadline.
+ */
+public class ParallelLoader {
+    private static final Logger logger = LoggerFactory.getLogger(ParallelLoader.class);
+
+    /**
+     * A load task, the failures are logged and ignored since the loaded data is accessed again afterwards
+     */
+    public interface LoadTask {
+        void load() throws Exception;
+    }
+
+    private final ExecutorService executor;
+
+    public ParallelLoader(ExecutorService executor) {
+        Preconditions.checkNotNull(executor);
+
+        this.executor = executor;
+    }
+
+    /**
+     * Runs the provided tasks and waits until all of them complete
+     *
+     * @param tasks the tasks to run
+     * @param parallelism the max number of tasks running at the same time, including the calling thread
+     */
+    public void runAll(List<LoadTask> tasks, int parallelism) {
+        Preconditions.checkNotNull(tasks);
+        Preconditions.checkArgument(parallelism > 0);
+
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < tasks.size()) {
+                runSafely(tasks.get(index));
+            }
+        };
+
+        Duration remaining = ApiCallDeadline.getRemaining();
+        long deadlineNanos = remaining == null ? 0 : System.nanoTime() + remaining.toNanos();
+        Runnable helperWorker = remaining == null ? worker : () -> {
+            // the deadline is thread bound, so it is re-established on the helper thread
+            try (ApiCallDeadline ignored = ApiCallDeadline.start(Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())))) {
+                worker.run();
+            }
+        };
+
+        int helpers = Math.min(parallelism, tasks.size()) - 1;
+        List<FutureTask<Void>> submitted = new ArrayList<>(Math.max(0, helpers));
+        for (int i = 0; i < helpers; i++) {
+            FutureTask<Void> helper = new FutureTask<>(helperWorker, null);
+            try {
+                executor.execute(helper);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+            submitted.add(helper);
+        }
+
+        worker.run();
+
+        for (FutureTask<Void> helper : submitted) {
+            // does nothing if the executor already started the helper
+            helper.run();
+            try {
+                if (remaining == null) {
+                    helper.get();
+                } else {
+                    helper.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                logger.warn("Parallel load failed", e.getCause());
+            } catch (TimeoutException e) {
+                // the helpers complete in the background, the loaded data is accessed again afterwards
+                logger.debug("The deadline expired while waiting for the parallel load");
+                return;
+            }
+        }
+    }
+
+    private static void runSafely(LoadTask task) {
+        try {
+            task.load();
+        } catch (Exception e) {
+            logger.debug("Parallel load task failed", e);
+        }
+    }
+}
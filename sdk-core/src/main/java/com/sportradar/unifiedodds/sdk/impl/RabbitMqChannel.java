@@ -21,6 +21,23 @@ public interface RabbitMqChannel {
      */
     void open(List<String> routingKeys, ChannelMessageConsumer channelMessageConsumer, String messageInterest) throws IOException;
 
+    /**
+     * Binds the provided routing keys to the queue of the opened channel. The routing keys are retained
+     * and bound again when the channel is recreated
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be binded
+     * @throws IOException if the routing keys bind failed
+     */
+    void bindRoutingKeys(List<String> routingKeys) throws IOException;
+
+    /**
+     * Unbinds the provided routing keys from the queue of the opened channel
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be unbinded
+     * @throws IOException if the routing keys unbind failed
+     */
+    void unbindRoutingKeys(List<String> routingKeys) throws IOException;
+
     /**
      * Terminates the current channel
      *
@@ -8,6 +8,8 @@ import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import com.rabbitmq.client.*;
+import com.sportradar.unifiedodds.sdk.OperationManager;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,21 +19,27 @@ import java.io.IOException;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
-import java.time.Duration;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * An implementation of the {@link RabbitMqChannel}
  */
-public class RabbitMqChannelImpl implements RabbitMqChannel {
+public class RabbitMqChannelImpl implements RabbitMqChannel, ChannelHealthMonitor.MonitoredChannel {
     private static final Logger logger = LoggerFactory.getLogger(RabbitMqChannelImpl.class);
 
+    /**
+     * The value of {@link #lastMessageNanos} while no message was received on the current channel
+     */
+    private static final long NO_MESSAGE = Long.MIN_VALUE;
+
     /**
      * The broken exchange name
      */
@@ -47,6 +55,46 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
      */
     private final Map<String, String> sdkMdcContextDescription;
 
+    /**
+     * The {@link ChannelHealthMonitor} which periodically checks the opened channel
+     */
+    private final ChannelHealthMonitor channelHealthMonitor;
+
+    /**
+     * The {@link SdkExecutors} providing the dispatcher threads of the channels with manual acknowledgements
+     */
+    private final SdkExecutors sdkExecutors;
+
+    /**
+     * The executor of the feed instance running the blocking channel restarts requested by the health checks
+     */
+    private final ExecutorService maintenanceExecutor;
+
+    /**
+     * An indication if a restart requested by the health checks is queued or running
+     */
+    private final AtomicBoolean maintenancePending = new AtomicBoolean();
+
+    /**
+     * An indication if the messages are acknowledged once they are dispatched
+     */
+    private final boolean manualAcknowledgements;
+
+    /**
+     * The max number of unacknowledged messages delivered on the channel, used with the manual acknowledgements
+     */
+    private final int prefetchCount;
+
+    /**
+     * The buffer of the delivered messages while the channel is opened with the manual acknowledgements
+     */
+    private volatile ChannelDeliveryBuffer deliveryBuffer;
+
+    /**
+     * The executor running the dispatcher of the {@link #deliveryBuffer}
+     */
+    private ExecutorService deliveryDispatcher;
+
     /**
      * A {@link ChannelMessageConsumer} instance used to dispatch received message payloads
      */
@@ -60,22 +108,43 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
     /**
      * A {@link Channel} instance used by this instance
      */
-    private Channel channel;
+    private volatile Channel channel;
 
     /**
      * An indication if the current channel should be opened
      */
-    private boolean shouldBeOpened = false;
+    private volatile boolean shouldBeOpened = false;
 
-    private LocalDateTime channelLastMessage;
+    /**
+     * The {@link System#nanoTime()} of the last message received on the current channel or {@link #NO_MESSAGE}
+     */
+    private volatile long lastMessageNanos = NO_MESSAGE;
+
+    /**
+     * The {@link System#nanoTime()} of the current channel start
+     */
+    private volatile long channelStartedNanos;
+
+    /**
+     * The number of times the channel was recreated by the health checks
+     */
+    private volatile int restartCount;
 
+    /**
+     * The routing keys bound to the channel queue, including the keys bound after the channel was opened
+     */
     private List<String> routingKeys;
 
+    /**
+     * The name of the queue declared by the current channel
+     */
+    private String queueName;
+
     private String messageInterest;
 
     private String sdkVersion;
 
-    private long channelStarted;
+    private volatile long channelStarted;
 
     private TimeUtils timeUtils;
 
@@ -86,18 +155,37 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
      * @param whoAmIReader a {@link WhoAmIReader} used to access current SDK instance context information
      * @param sdkVersion version of the sdk
      * @param connectionFactory Connection factory for getting actual connection
+     * @param channelHealthMonitor the {@link ChannelHealthMonitor} which periodically checks the opened channel
+     * @param configuration the internal SDK configuration
+     * @param sdkExecutors the {@link SdkExecutors} providing the message dispatcher threads
+     * @param maintenanceExecutor the executor of the feed instance running the channel restarts
      */
     @Inject
-    public RabbitMqChannelImpl(RabbitMqSystemListener rabbitMqSystemListener, WhoAmIReader whoAmIReader, @Named("version") String sdkVersion, AMQPConnectionFactory connectionFactory) {
+    public RabbitMqChannelImpl(RabbitMqSystemListener rabbitMqSystemListener,
+                               WhoAmIReader whoAmIReader,
+                               @Named("version") String sdkVersion,
+                               AMQPConnectionFactory connectionFactory,
+                               ChannelHealthMonitor channelHealthMonitor,
+                               SDKInternalConfiguration configuration,
+                               SdkExecutors sdkExecutors,
+                               @Named("DedicatedChannelMaintenanceExecutor") ExecutorService maintenanceExecutor) {
         Preconditions.checkNotNull(rabbitMqSystemListener);
         Preconditions.checkNotNull(whoAmIReader);
         Preconditions.checkNotNull(connectionFactory);
+        Preconditions.checkNotNull(channelHealthMonitor);
+        Preconditions.checkNotNull(configuration);
+        Preconditions.checkNotNull(sdkExecutors);
+        Preconditions.checkNotNull(maintenanceExecutor);
 
         this.rabbitMqSystemListener = rabbitMqSystemListener;
         this.sdkMdcContextDescription = whoAmIReader.getAssociatedSdkMdcContextMap();
         this.sdkVersion = sdkVersion;
         this.connectionFactory = connectionFactory;
-        this.channelLastMessage = LocalDateTime.MIN;
+        this.channelHealthMonitor = channelHealthMonitor;
+        this.sdkExecutors = sdkExecutors;
+        this.maintenanceExecutor = maintenanceExecutor;
+        this.manualAcknowledgements = configuration.isManualAcknowledgementsEnabled();
+        this.prefetchCount = configuration.getChannelPrefetchCount();
         this.channelStarted = 0;
     }
 
@@ -120,16 +208,34 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
         }
 
         this.shouldBeOpened = true;
-        this.routingKeys = routingKeys;
+        this.routingKeys = new ArrayList<>(routingKeys);
         this.channelMessageConsumer = channelMessageConsumer;
         this.messageInterest = messageInterest;
         this.timeUtils = new TimeUtilsImpl();
 
-        new Thread(this::checkChannelStatus).start();
+        channelHealthMonitor.register(this, sdkExecutors);
+
+        if (manualAcknowledgements) {
+            startDeliveryDispatcher();
+        }
 
         internalOpen();
     }
 
+    /**
+     * Starts the dispatcher of the messages buffered with the manual acknowledgements. The buffer holds
+     * at most the prefetched messages, the acknowledgements are sent for a quarter of the prefetch window at once.
+     */
+    private void startDeliveryDispatcher() {
+        deliveryBuffer = new ChannelDeliveryBuffer(
+                prefetchCount,
+                Math.max(1, prefetchCount / 4),
+                (deliveryChannel, deliveryTag, routingKey, body, properties, receivedAt) -> channelMessageConsumer.onMessageReceived(deliveryChannel, deliveryTag, routingKey, body, properties, receivedAt),
+                sdkMdcContextDescription);
+        deliveryDispatcher = sdkExecutors.newExecutor("FeedChannelDispatcher", "-fd-t-%d", 1, false);
+        deliveryDispatcher.execute(deliveryBuffer);
+    }
+
     private synchronized void internalOpen() throws IOException {
         try {
             initChannelQueue(routingKeys, messageInterest);
@@ -145,7 +251,7 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
      * @param messageInterest message interest this channel is linked to
      * @throws IOException - thrown if any queue operation fails to complete
      */
-    private void initChannelQueue(List<String> routingKeys, String messageInterest) throws IOException {
+    private synchronized void initChannelQueue(List<String> routingKeys, String messageInterest) throws IOException {
 
         if(channel == null){
             try {
@@ -166,6 +272,7 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
         }
 
         String qName = channel.queueDeclare().getQueue();
+        queueName = qName;
         for (String routingKey : routingKeys) {
             logger.debug("Binding queue={} with routingKey={}", qName, routingKey);
             channel.queueBind(qName, UF_EXCHANGE, routingKey);
@@ -174,9 +281,20 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
         DefaultConsumer consumer = new DefaultConsumer(channel) {
             @Override
             public synchronized void handleDelivery(String tag, Envelope envelope, AMQP.BasicProperties properties, byte[] body) {
+                ChannelDeliveryBuffer buffer = deliveryBuffer;
+                if (buffer != null) {
+                    lastMessageNanos = System.nanoTime();
+                    try {
+                        buffer.put(getChannel(), envelope.getDeliveryTag(), envelope.getRoutingKey(), body, properties, new TimeUtilsImpl().now());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return;
+                }
+
                 MDC.setContextMap(sdkMdcContextDescription);
                 try {
-                    channelLastMessage = LocalDateTime.now();
+                    lastMessageNanos = System.nanoTime();
                     channelMessageConsumer.onMessageReceived(envelope.getRoutingKey(), body, properties, new TimeUtilsImpl().now());
                 } catch (Exception e) {
                     logger.error(String.format("An exception occurred while processing AMQP message. Routing key: '%s', body: '%s'",
@@ -192,9 +310,61 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
         channel.addShutdownListener(rabbitMqSystemListener);
         ((Recoverable) channel).addRecoveryListener(rabbitMqSystemListener);
         String consumerTag = String.format("UfSdk-Java|%s|%s|%s|%s", sdkVersion, messageInterest, channel.getChannelNumber(), new SimpleDateFormat("yyyyMMdd-hhmmss").format(new Date()));
-        channel.basicConsume(qName, true, consumerTag, consumer);
         channelStarted = timeUtils.now();
-        channelLastMessage = LocalDateTime.MIN;
+        channelStartedNanos = System.nanoTime();
+        lastMessageNanos = NO_MESSAGE;
+        if (manualAcknowledgements) {
+            channel.basicQos(prefetchCount);
+        }
+        channel.basicConsume(qName, !manualAcknowledgements, consumerTag, consumer);
+    }
+
+    /**
+     * Binds the provided routing keys to the queue of the opened channel. The routing keys are retained
+     * and bound again when the channel is recreated
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be binded
+     * @throws IOException if the routing keys bind failed
+     */
+    @Override
+    public synchronized void bindRoutingKeys(List<String> routingKeys) throws IOException {
+        Preconditions.checkNotNull(routingKeys);
+        Preconditions.checkState(shouldBeOpened, "The channel is not opened");
+
+        for (String routingKey : routingKeys) {
+            if (this.routingKeys.contains(routingKey)) {
+                continue;
+            }
+
+            this.routingKeys.add(routingKey);
+            if (channel != null && channel.isOpen()) {
+                logger.debug("Binding queue={} with routingKey={}", queueName, routingKey);
+                channel.queueBind(queueName, UF_EXCHANGE, routingKey);
+            }
+        }
+    }
+
+    /**
+     * Unbinds the provided routing keys from the queue of the opened channel
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be unbinded
+     * @throws IOException if the routing keys unbind failed
+     */
+    @Override
+    public synchronized void unbindRoutingKeys(List<String> routingKeys) throws IOException {
+        Preconditions.checkNotNull(routingKeys);
+        Preconditions.checkState(shouldBeOpened, "The channel is not opened");
+
+        for (String routingKey : routingKeys) {
+            if (!this.routingKeys.remove(routingKey)) {
+                continue;
+            }
+
+            if (channel != null && channel.isOpen()) {
+                logger.debug("Unbinding queue={} from routingKey={}", queueName, routingKey);
+                channel.queueUnbind(queueName, UF_EXCHANGE, routingKey);
+            }
+        }
     }
 
     /**
@@ -212,8 +382,16 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
         }
 
         shouldBeOpened = false;
-        channelLastMessage = LocalDateTime.MIN;
+        lastMessageNanos = NO_MESSAGE;
+        channelHealthMonitor.unregister(this);
         channelClosePure();
+
+        if (deliveryDispatcher != null) {
+            // the buffered messages are dropped, the unacknowledged ones are released by the broker
+            sdkExecutors.release(deliveryDispatcher);
+            deliveryDispatcher = null;
+            deliveryBuffer = null;
+        }
     }
 
     /**
@@ -226,96 +404,159 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
         return channel != null && channel.isOpen();
     }
 
-    // todo: should use Scheduler without thread.sleep
-    private void checkChannelStatus()
-    {
-        while(shouldBeOpened) {
+    /**
+     * Checks the channel health, invoked periodically by the {@link ChannelHealthMonitor}. The channel is recreated
+     * if it was closed, if the connection was reset or if no message arrived in {@link OperationManager#getChannelSilenceTimeout()}.
+     * The check itself does not block, the channel is recreated by the executor of the feed instance, so a hung
+     * connection of a single feed does not delay the checks of the other channels.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     */
+    @Override
+    public void checkHealth(long nowNanos) {
+        if (!shouldBeOpened) {
+            channelHealthMonitor.unregister(this);
+            return;
+        }
 
-            try {
-                Thread.sleep(1000L * 20L);
-            }
-            catch (InterruptedException e) {
-                logger.warn("Interrupted!", e);
-                Thread.currentThread().interrupt();
-            }
+        if (maintenancePending.get()) {
+            // the previously requested restart did not finish yet
+            return;
+        }
 
-            if(!connectionFactory.canConnectionOpen()){
+        if (!connectionFactory.canConnectionOpen()) {
+            requestMaintenance(() -> {
                 try {
                     close();
                 } catch (IOException ignored) { }
-                return;
-            }
+            });
+            return;
+        }
 
-            if (channel == null) {
+        Channel currentChannel = channel;
+        if (currentChannel == null) {
+            requestMaintenance(() -> {
+                if (channel != null) {
+                    return;
+                }
                 try {
                     logger.info("No channel. Creating connection channel ...");
                     initChannelQueue(routingKeys, messageInterest);
                 }
                 catch (IOException e) {
-                    e.printStackTrace();
-                    continue;
+                    logger.error(String.format("Error creating channel: %s", e.getMessage()), e);
                 }
-            }
+            });
+            return;
+        }
 
-            // it means, the connection was reset in between
-            if(connectionFactory.getConnectionStarted() > channelStarted)
-            {
-                logger.warn("Channel to old. Recreating connection channel ...");
-                restartChannel();
-                continue;
-            }
+        // the channel was closed by the broker (e.g. a failed bind), the connection is still alive
+        if (!currentChannel.isOpen()) {
+            requestMaintenance(() -> {
+                if (connectionFactory.isConnectionOpen()) {
+                    logger.warn("Channel closed. Recreating connection channel ...");
+                    restartChannel();
+                }
+            });
+            return;
+        }
 
-            // no messages arrived in last maxTimeBetweenMessages seconds, from the start of the channel
-            Instant channelStartedInstant = Instant.ofEpochMilli(channelStarted);
-            LocalDateTime channelStartedDateTime = LocalDateTime.ofInstant(channelStartedInstant, ZoneId.systemDefault());
-            Duration channelDuration = Duration.between(LocalDateTime.now(), channelStartedDateTime).abs();
-            long channelStartedDiff = channelDuration.toMinutes() != 0 && channelDuration.toMinutes() < 1000 ? channelDuration.toMillis() : 1; // to avoid long overflow
-            channelStartedDiff = Math.abs(channelStartedDiff / 1000);
-            if (channelLastMessage == LocalDateTime.MIN && channelStarted > 0 && channelStartedDiff >= 180)
-            {
-                String isOpen = connectionFactory.isConnectionOpen() ? "s" : "";
-                logger.warn("There were no message{} in more then {}s for the channel with channelNumber: {} ({}). Last message arrived: {}. Recreating channel...",
-                            isOpen,
-                            180,
-                            channel == null ? 0 : channel.getChannelNumber(),
-                            messageInterest,
-                            channelLastMessage);
-                restartChannel();
-                continue;
+        // it means, the connection was reset in between
+        if (connectionFactory.getConnectionStarted() > channelStarted) {
+            logger.warn("Channel to old. Recreating connection channel ...");
+            requestMaintenance(this::restartChannel);
+            return;
+        }
+
+        long silenceTimeoutNanos = OperationManager.getChannelSilenceTimeout().toNanos();
+        long lastMessage = lastMessageNanos;
+
+        // no messages arrived in the silence timeout, from the start of the channel
+        if (lastMessage == NO_MESSAGE) {
+            if (channelStarted > 0 && nowNanos - channelStartedNanos >= silenceTimeoutNanos) {
+                logger.warn("There were no messages in more then {}s for the channel with channelNumber: {} ({}). No message arrived since the channel start. Recreating channel...",
+                            TimeUnit.NANOSECONDS.toSeconds(silenceTimeoutNanos),
+                            currentChannel.getChannelNumber(),
+                            messageInterest);
+                requestMaintenance(this::restartChannel);
             }
+            return;
+        }
 
-            // we have received messages in the past, but not in last maxTimeBetweenMessages seconds
-            Duration duration = Duration.between(LocalDateTime.now(), channelLastMessage).abs();
-            long lastMessageDiff = duration.toMinutes() != 0 && duration.toMinutes() < 1000 ? duration.toMillis() : 1; // to avoid long overflow
-            lastMessageDiff = Math.abs(lastMessageDiff / 1000);
-            if (channelLastMessage != LocalDateTime.MIN && lastMessageDiff >= 180)
-            {
-                String isOpen = connectionFactory.isConnectionOpen() ? "s" : "";
-                logger.warn("There were no message{} in more then {}s for the channel with channelNumber: {} ({}). Last message arrived: {}",
-                            isOpen,
-                            180,
-                            channel == null ? 0 : channel.getChannelNumber(),
-                            messageInterest,
-                            channelLastMessage);
-                int channelNumber = channel == null ? 0 : channel.getChannelNumber();
-
-                if(connectionFactory.getConnectionStarted() < channelStarted) {
-                    channelClosePure();
-                    logger.info("Resetting connection for the channel with channelNumber: {}", channelNumber);
-                    try {
-                        connectionFactory.close(false);
-                        Thread.sleep(5000);
-                    }
-                    catch (IOException | InterruptedException e) {
-                        String msg = String.format("Error closing connection: %s", e.getMessage());
-                        logger.error(msg, e);
-                        Thread.currentThread().interrupt();
-                    }
-                    logger.info("Resetting connection finished for the channel with channelNumber: {}", channelNumber);
-                }
-                restartChannel();
+        // we have received messages in the past, but not in the silence timeout
+        if (nowNanos - lastMessage >= silenceTimeoutNanos) {
+            int channelNumber = currentChannel.getChannelNumber();
+            logger.warn("There were no messages in more then {}s for the channel with channelNumber: {} ({}). Last message arrived {}s ago",
+                        TimeUnit.NANOSECONDS.toSeconds(silenceTimeoutNanos),
+                        channelNumber,
+                        messageInterest,
+                        TimeUnit.NANOSECONDS.toSeconds(nowNanos - lastMessage));
+
+            if (connectionFactory.getConnectionStarted() < channelStarted) {
+                requestMaintenance(() -> resetConnection(channelNumber));
+                return;
             }
+            requestMaintenance(this::restartChannel);
+        }
+    }
+
+    /**
+     * Returns the description of the channel used in the logs and the metrics
+     *
+     * @return the message interest and the number of the current channel
+     */
+    @Override
+    public String getChannelDescription() {
+        Channel currentChannel = channel;
+        return String.format("%s#%d", messageInterest, currentChannel == null ? 0 : currentChannel.getChannelNumber());
+    }
+
+    /**
+     * Returns the time since the last received message, or since the channel start if no message was received yet
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the idle time of the channel (ns), 0 if the channel is not started
+     */
+    @Override
+    public long getIdleNanos(long nowNanos) {
+        if (channelStarted == 0) {
+            return 0;
         }
+
+        long lastMessage = lastMessageNanos;
+        return nowNanos - (lastMessage == NO_MESSAGE ? channelStartedNanos : lastMessage);
+    }
+
+    /**
+     * Returns the number of times the channel was recreated by the health checks
+     *
+     * @return the number of times the channel was recreated by the health checks
+     */
+    @Override
+    public int getRestartCount() {
+        return restartCount;
+    }
+
+    /**
+     * Returns the number of the delivered messages waiting for the dispatch
+     *
+     * @return the number of the buffered messages, 0 if the messages are acknowledged automatically
+     */
+    @Override
+    public int getBufferedMessages() {
+        ChannelDeliveryBuffer buffer = deliveryBuffer;
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    /**
+     * Returns the max number of the delivered messages which were waiting for the dispatch at once
+     *
+     * @return the high-water mark of the buffer, 0 if the messages are acknowledged automatically
+     */
+    @Override
+    public int getBufferHighWaterMark() {
+        ChannelDeliveryBuffer buffer = deliveryBuffer;
+        return buffer == null ? 0 : buffer.getHighWaterMark();
     }
 
     private void channelClosePure(){
@@ -328,12 +569,63 @@ public class RabbitMqChannelImpl implements RabbitMqChannel {
             logger.error(String.format("Error closing channel: %s", e.getMessage()));
         } finally {
             channel = null;
+            queueName = null;
             channelStarted = 0;
         }
     }
 
-    private void restartChannel(){
+    /**
+     * Runs the provided channel restart on the executor of the feed instance, unless another restart of the channel
+     * is still pending. The restart is skipped if the channel was closed in the meantime.
+     *
+     * @param maintenance the restart of the channel
+     */
+    private void requestMaintenance(Runnable maintenance) {
+        if (!maintenancePending.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            maintenanceExecutor.execute(() -> {
+                MDC.setContextMap(sdkMdcContextDescription);
+                try {
+                    synchronized (this) {
+                        if (shouldBeOpened) {
+                            maintenance.run();
+                        }
+                    }
+                } catch (Exception e) {
+                    logger.error("An exception occurred while restarting the channel {}", getChannelDescription(), e);
+                } finally {
+                    maintenancePending.set(false);
+                    MDC.clear();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // the feed instance is being closed
+            maintenancePending.set(false);
+            logger.warn("The restart of the channel {} was rejected, ex: {}", getChannelDescription(), e.getMessage());
+        }
+    }
+
+    private synchronized void resetConnection(int channelNumber) {
+        channelClosePure();
+        logger.info("Resetting connection for the channel with channelNumber: {}", channelNumber);
+        try {
+            connectionFactory.close(false);
+        }
+        catch (IOException e) {
+            String msg = String.format("Error closing connection: %s", e.getMessage());
+            logger.error(msg, e);
+        }
+        logger.info("Resetting connection finished for the channel with channelNumber: {}", channelNumber);
+
+        // already running on the maintenance executor, so the channel is created on the new connection right away
+        restartChannel();
+    }
 
+    private synchronized void restartChannel(){
+        restartCount++;
         channelClosePure();
 
         try {
@@ -6,8 +6,12 @@ package com.sportradar.unifiedodds.sdk.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,18 +28,61 @@ public class RabbitMqMessageReceiver implements MessageReceiver {
      */
     private final ChannelMessageConsumer channelMessageConsumer;
 
+    /**
+     * The provider of the raw message consumers of the additional sport partitions
+     */
+    private final Provider<ChannelMessageConsumer> channelMessageConsumerProvider;
+
+    /**
+     * The {@link SdkExecutors} providing the sport partition dispatcher threads
+     */
+    private final SdkExecutors sdkExecutors;
+
+    /**
+     * The {@link WhoAmIReader} providing the SDK MDC context of the sport partition dispatcher threads
+     */
+    private final WhoAmIReader whoAmIReader;
+
+    /**
+     * The {@link SDKInternalConfiguration} providing the channel prefetch, which sets the acknowledgement batch
+     * of the sport partitions
+     */
+    private final SDKInternalConfiguration configuration;
+
+    /**
+     * The consumer splitting the messages into sport partitions or a null reference if the receiver is not partitioned
+     */
+    private SportPartitionedChannelMessageConsumer partitionedConsumer;
+
     /**
      * Initializes a new instance of {@link RabbitMqMessageReceiver}
      *
      * @param rabbitMqChannel a {@link RabbitMqChannel} instance which will provide the message payloads
      * @param channelMessageConsumer the raw message consumer
+     * @param channelMessageConsumerProvider the provider of the raw message consumers of the additional sport partitions
+     * @param sdkExecutors the {@link SdkExecutors} providing the sport partition dispatcher threads
+     * @param whoAmIReader the {@link WhoAmIReader} providing the SDK MDC context
+     * @param configuration the {@link SDKInternalConfiguration} used by the associated SDK instance
      */
     @Inject
-    RabbitMqMessageReceiver(RabbitMqChannel rabbitMqChannel, ChannelMessageConsumer channelMessageConsumer) {
+    RabbitMqMessageReceiver(RabbitMqChannel rabbitMqChannel,
+                            ChannelMessageConsumer channelMessageConsumer,
+                            Provider<ChannelMessageConsumer> channelMessageConsumerProvider,
+                            SdkExecutors sdkExecutors,
+                            WhoAmIReader whoAmIReader,
+                            SDKInternalConfiguration configuration) {
         Preconditions.checkNotNull(rabbitMqChannel);
+        Preconditions.checkNotNull(channelMessageConsumerProvider);
+        Preconditions.checkNotNull(sdkExecutors);
+        Preconditions.checkNotNull(whoAmIReader);
+        Preconditions.checkNotNull(configuration);
 
         this.rabbitMqChannel = rabbitMqChannel;
         this.channelMessageConsumer = channelMessageConsumer;
+        this.channelMessageConsumerProvider = channelMessageConsumerProvider;
+        this.sdkExecutors = sdkExecutors;
+        this.whoAmIReader = whoAmIReader;
+        this.configuration = configuration;
     }
 
     /**
@@ -52,6 +99,62 @@ public class RabbitMqMessageReceiver implements MessageReceiver {
         rabbitMqChannel.open(routingKeys, channelMessageConsumer, messageConsumer.getMessageInterest().toShortString());
     }
 
+    /**
+     * Opens the current instance so it starts receiving messages, the received messages are split into
+     * the requested number of partitions by their sport and the partitions are processed in parallel
+     *
+     * @param routingKeys a {@link List} of requested routing keys
+     * @param messageConsumer a {@link MessageConsumer} instance which will receive messages
+     * @param sportPartitions the number of the sport partitions
+     * @throws IOException if the RabbitMq channel failed to open
+     */
+    @Override
+    public void open(List<String> routingKeys, MessageConsumer messageConsumer, int sportPartitions) throws IOException {
+        Preconditions.checkArgument(sportPartitions > 0, "sportPartitions must be positive");
+
+        if (sportPartitions == 1) {
+            open(routingKeys, messageConsumer);
+            return;
+        }
+
+        List<ChannelMessageConsumer> partitionConsumers = new ArrayList<>(sportPartitions);
+        partitionConsumers.add(channelMessageConsumer);
+        for (int i = 1; i < sportPartitions; i++) {
+            partitionConsumers.add(channelMessageConsumerProvider.get());
+        }
+
+        partitionedConsumer = new SportPartitionedChannelMessageConsumer(
+                partitionConsumers,
+                sdkExecutors,
+                whoAmIReader.getAssociatedSdkMdcContextMap(),
+                Math.max(1, configuration.getChannelPrefetchCount() / 4));
+        partitionedConsumer.open(messageConsumer);
+
+        rabbitMqChannel.open(routingKeys, partitionedConsumer, messageConsumer.getMessageInterest().toShortString());
+    }
+
+    /**
+     * Adds the provided routing keys to the routing keys of the opened instance
+     *
+     * @param routingKeys a {@link List} of routing keys which should be added
+     * @throws IOException if the routing keys could not be bound
+     */
+    @Override
+    public void addRoutingKeys(List<String> routingKeys) throws IOException {
+        rabbitMqChannel.bindRoutingKeys(routingKeys);
+    }
+
+    /**
+     * Removes the provided routing keys from the routing keys of the opened instance
+     *
+     * @param routingKeys a {@link List} of routing keys which should be removed
+     * @throws IOException if the routing keys could not be unbound
+     */
+    @Override
+    public void removeRoutingKeys(List<String> routingKeys) throws IOException {
+        rabbitMqChannel.unbindRoutingKeys(routingKeys);
+    }
+
     /**
      * Closes the current instance so it will no longer receive messages
      *
@@ -59,7 +162,13 @@ public class RabbitMqMessageReceiver implements MessageReceiver {
      */
     @Override
     public void close() throws IOException {
-        rabbitMqChannel.close();
+        try {
+            rabbitMqChannel.close();
+        } finally {
+            if (partitionedConsumer != null) {
+                partitionedConsumer.close();
+            }
+        }
     }
 
     /**
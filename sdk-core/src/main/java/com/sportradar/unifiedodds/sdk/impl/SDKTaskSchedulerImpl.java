@@ -10,8 +10,11 @@ import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -30,6 +33,11 @@ public class SDKTaskSchedulerImpl implements SDKTaskScheduler {
      */
     private final Set<SDKTask> tasksForSchedule = Sets.newHashSet();
 
+    /**
+     * The tasks scheduled on the {@link #scheduler}, cancelled by {@link #shutdownNow()}
+     */
+    private final List<ScheduledFuture<?>> scheduledTasks = new CopyOnWriteArrayList<>();
+
     /**
      * An indication if the instance is open
      */
@@ -71,12 +79,15 @@ public class SDKTaskSchedulerImpl implements SDKTaskScheduler {
     }
 
     /**
-     * Shuts down all the scheduled tasks
+     * Shuts down all the scheduled tasks. The scheduler itself is obtained from the
+     * {@link com.sportradar.unifiedodds.sdk.cfg.SdkExecutorProvider} and may be shared, so only the tasks are cancelled,
+     * the scheduler is released by {@link SdkExecutors#releaseAll()}
      */
     @Override
     public void shutdownNow() {
         isOpen = false;
-        scheduler.shutdownNow();
+        scheduledTasks.forEach(task -> task.cancel(true));
+        scheduledTasks.clear();
     }
 
     /**
@@ -129,7 +140,7 @@ public class SDKTaskSchedulerImpl implements SDKTaskScheduler {
         Preconditions.checkNotNull(sdkTask);
 
         logger.info("Scheduling SDK task -> {}", sdkTask);
-        scheduler.scheduleAtFixedRate(sdkTask.command, sdkTask.initialDelay, sdkTask.period, sdkTask.unit);
+        scheduledTasks.add(scheduler.scheduleAtFixedRate(sdkTask.command, sdkTask.initialDelay, sdkTask.period, sdkTask.unit));
     }
 
     /**
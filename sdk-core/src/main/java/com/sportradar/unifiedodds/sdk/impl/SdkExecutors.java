@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.sportradar.unifiedodds.sdk.cfg.SdkExecutorDescriptor;
+import com.sportradar.unifiedodds.sdk.cfg.SdkExecutorProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Obtains the executors of a single feed instance from the configured {@link SdkExecutorProvider} and keeps track
+ * of them, so they can be handed back to the provider once the feed is closed
+ */
+public class SdkExecutors {
+    private static final Logger logger = LoggerFactory.getLogger(SdkExecutors.class);
+
+    private final SdkExecutorProvider executorProvider;
+    private final String sdkContextDescription;
+    private final Set<ExecutorService> executors = new LinkedHashSet<>();
+    private boolean released;
+
+    /**
+     * Constructs a new instance
+     *
+     * @param executorProvider the configured {@link SdkExecutorProvider}
+     * @param sdkContextDescription the description of the SDK instance, used as the prefix of the thread names
+     */
+    public SdkExecutors(SdkExecutorProvider executorProvider, String sdkContextDescription) {
+        Preconditions.checkNotNull(executorProvider);
+
+        this.executorProvider = executorProvider;
+        this.sdkContextDescription = Strings.nullToEmpty(sdkContextDescription);
+    }
+
+    /**
+     * Obtains an executor from the provider
+     *
+     * @param name the name of the executor purpose
+     * @param threadNameSuffix the thread name suffix appended to the SDK context description (e.g. -fh-t-%d)
+     * @param threadCount the number of threads
+     * @param blockingIo an indication if the tasks are mostly waiting for blocking I/O
+     * @return the provided {@link ExecutorService}
+     */
+    public synchronized ExecutorService newExecutor(String name, String threadNameSuffix, int threadCount, boolean blockingIo) {
+        ExecutorService executor = executorProvider.provideExecutor(descriptor(name, threadNameSuffix, threadCount, blockingIo));
+        Preconditions.checkState(executor != null, "The executor provider returned no executor for " + name);
+
+        return track(executor);
+    }
+
+    /**
+     * Obtains a scheduled executor from the provider
+     *
+     * @param name the name of the executor purpose
+     * @param threadNameSuffix the thread name suffix appended to the SDK context description (e.g. -rm-t-%d)
+     * @param threadCount the number of threads
+     * @return the provided {@link ScheduledExecutorService}
+     */
+    public synchronized ScheduledExecutorService newScheduledExecutor(String name, String threadNameSuffix, int threadCount) {
+        ScheduledExecutorService executor = executorProvider.provideScheduledExecutor(descriptor(name, threadNameSuffix, threadCount, false));
+        Preconditions.checkState(executor != null, "The executor provider returned no scheduled executor for " + name);
+
+        return track(executor);
+    }
+
+    /**
+     * Hands the provided executor back to the provider, used for the short lived executors
+     *
+     * @param executor the executor which is no longer used
+     */
+    public void release(ExecutorService executor) {
+        Preconditions.checkNotNull(executor);
+
+        synchronized (this) {
+            if (!executors.remove(executor)) {
+                return;
+            }
+        }
+        executorProvider.release(executor);
+    }
+
+    /**
+     * Hands all the executors back to the provider, executors requested afterwards are rejected
+     */
+    public void releaseAll() {
+        List<ExecutorService> toRelease;
+        synchronized (this) {
+            released = true;
+            toRelease = new ArrayList<>(executors);
+            executors.clear();
+        }
+
+        for (ExecutorService executor : toRelease) {
+            try {
+                executorProvider.release(executor);
+            } catch (Exception ex) {
+                logger.warn("Error during executor release", ex);
+            }
+        }
+    }
+
+    private <T extends ExecutorService> T track(T executor) {
+        if (released) {
+            executorProvider.release(executor);
+            throw new IllegalStateException("The executors were already released");
+        }
+
+        executors.add(executor);
+        return executor;
+    }
+
+    private SdkExecutorDescriptor descriptor(String name, String threadNameSuffix, int threadCount, boolean blockingIo) {
+        return new SdkExecutorDescriptor(name, sdkContextDescription, sdkContextDescription + threadNameSuffix, threadCount, blockingIo);
+    }
+}
@@ -5,13 +5,17 @@
 package com.sportradar.unifiedodds.sdk.impl;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.OperationManager;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.SportEntityFactory;
 import com.sportradar.unifiedodds.sdk.caching.*;
 import com.sportradar.unifiedodds.sdk.caching.impl.SportData;
 import com.sportradar.unifiedodds.sdk.entities.*;
+import com.sportradar.unifiedodds.sdk.entities.status.MatchStatus;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.IllegalCacheStateException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.ObjectNotFoundException;
@@ -22,6 +26,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -64,6 +72,16 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
      */
     private final MappingTypeProvider mappingTypeProvider;
 
+    /**
+     * The {@link ParallelLoader} used to load the data of the built entities concurrently
+     */
+    private final ParallelLoader parallelLoader;
+
+    /**
+     * The {@link UnifiedOddsStatistics} exposing the progress and the timing of the bulk event loads
+     */
+    private final UnifiedOddsStatistics statsBean;
+
     private final List<URN> soccerSportUrns = new ArrayList<URN>(Arrays.asList(URN.parse("sr:sport:1"), URN.parse("sr:sport:137")));
 
     /**
@@ -75,6 +93,8 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
      * @param sportEventStatusFactory a {@link SportEventStatusFactory} instance used to build sport event status entities
      * @param mappingTypeProvider a {@link MappingTypeProvider} instance used to identify proper entity mapping types
      * @param oddsFeedConfiguration the associated feed configuration
+     * @param entityLoaderExecutor the {@link ExecutorService} used to load the entity data concurrently
+     * @param statsBean the {@link UnifiedOddsStatistics} exposing the progress and the timing of the bulk event loads
      */
     @Inject
     public SportEntityFactoryImpl(SportsDataCache sportsDataCache,
@@ -82,13 +102,16 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
                                   ProfileCache profileCache,
                                   SportEventStatusFactory sportEventStatusFactory,
                                   MappingTypeProvider mappingTypeProvider,
-                                  SDKInternalConfiguration oddsFeedConfiguration) {
+                                  SDKInternalConfiguration oddsFeedConfiguration,
+                                  @Named("DedicatedEntityLoaderExecutor") ExecutorService entityLoaderExecutor,
+                                  UnifiedOddsStatistics statsBean) {
         Preconditions.checkNotNull(sportsDataCache);
         Preconditions.checkNotNull(sportEventCache);
         Preconditions.checkNotNull(profileCache);
         Preconditions.checkNotNull(sportEventStatusFactory);
         Preconditions.checkNotNull(mappingTypeProvider);
         Preconditions.checkNotNull(oddsFeedConfiguration);
+        Preconditions.checkNotNull(statsBean);
 
         this.sportsDataCache = sportsDataCache;
         this.sportEventCache = sportEventCache;
@@ -97,6 +120,8 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
         this.mappingTypeProvider = mappingTypeProvider;
         this.exceptionHandlingStrategy = oddsFeedConfiguration.getExceptionHandlingStrategy();
         this.defaultLocale = oddsFeedConfiguration.getDefaultLocale();
+        this.parallelLoader = new ParallelLoader(entityLoaderExecutor);
+        this.statsBean = statsBean;
     }
 
     /**
@@ -230,7 +255,9 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
     }
 
     /**
-     * Builds a list of {@link Competition} derived classes based on the provided data
+     * Builds a list of {@link Competition} derived classes based on the provided data. The duplicated identifiers are
+     * built once and the events which are not cached yet are loaded concurrently (limited by
+     * {@link OperationManager#getBulkEventLoadParallelism()}), the events are returned in the order of the provided identifiers
      *
      * @param ids - the list of {@link URN} specifying the identifier of the sport events to be built
      * @param locales - a {@link List} of locales specifying the languages used in the returned instance
@@ -242,28 +269,82 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
         Preconditions.checkNotNull(ids);
         Preconditions.checkNotNull(locales);
 
+        Stopwatch timer = Stopwatch.createStarted();
+        List<URN> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<URN, SportEvent> builtEvents = new ConcurrentHashMap<>(uniqueIds.size());
+        List<URN> missingIds = new ArrayList<>();
+        for (URN id : uniqueIds) {
+            if (sportEventCache.isEventCached(id)) {
+                builtEvents.put(id, buildSportEvent(id, locales, true));
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            loadMissingSportEvents(missingIds, locales, builtEvents);
+        }
+
+        List<Competition> result = new ArrayList<>(ids.size());
+        for (URN id : ids) {
+            SportEvent se = builtEvents.get(id);
+            if (se instanceof Competition) {
+                result.add((Competition) se); // all ok, as expected
+            } else {
+                logger.warn("buildSportEvents() received event[{}] which is not derived from Competition(event filtered out)", id);
+            }
+        }
+
+        long elapsed = timer.stop().elapsed(TimeUnit.MILLISECONDS);
+        statsBean.onBulkEventLoadCompleted(missingIds.size(), elapsed);
+        logger.info("buildSportEvents() built {} events({} unique, {} cached, {} loaded) in {} ms",
+                result.size(), uniqueIds.size(), uniqueIds.size() - missingIds.size(), missingIds.size(), elapsed);
+
+        return result;
+    }
+
+    /**
+     * Builds an immutable snapshot of the {@link Match} associated with the provided {@link URN}. The summary, the fixture,
+     * the status and the competitor profiles are loaded concurrently before the snapshot reads them.
+     *
+     * @param id the {@link URN} specifying the identifier of the match
+     * @param locales a {@link List} of locales specifying the languages used in the returned instance
+     * @return the constructed snapshot
+     * @throws ObjectNotFoundException if the requested match could not be provided or the identifier does not belong to a match
+     */
+    @Override
+    public Match buildMatchSnapshot(URN id, List<Locale> locales) throws ObjectNotFoundException {
+        Preconditions.checkNotNull(id);
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkArgument(!locales.isEmpty());
+
+        SportEvent sportEvent = buildSportEventInternal(id, null, locales, false);
+        if (!(sportEvent instanceof Match)) {
+            throw new ObjectNotFoundException("The requested sport event[" + id + "] is not a match");
+        }
+
+        MatchCI matchCI;
         try {
-            return ids.stream()
-                    .map(eId -> {
-                        try {
-                            return this.buildSportEvent(eId, locales, true);
-                        } catch (ObjectNotFoundException e) {
-                            throw new com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException("Error building scheduled event[" + eId + "]", e); // streams cant handle checked exceptions
-                        }
-                    })
-                    .filter(se -> {
-                        if (se instanceof Competition) {
-                            return true; // all ok, as expected
-                        } else {
-                            logger.warn("buildSportEvents() received event[{}] which is not derived from Competition(event filtered out)", se.getId());
-                            return false;
-                        }
-                    })
-                    .map(se -> (Competition) se)
-                    .collect(Collectors.toList());
-        } catch (com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException e) {
-            throw new ObjectNotFoundException("There was an error building the schedule list", e);
+            matchCI = (MatchCI) sportEventCache.getEventCacheItem(id);
+        } catch (CacheItemNotFoundException e) {
+            throw new ObjectNotFoundException("The requested match[" + id + "] could not be found", e);
+        }
+
+        // the summary and the fixture are requested under separate locks, so they can be loaded at the same time
+        parallelLoader.runAll(Arrays.asList(
+                () -> matchCI.getCompetitorIds(locales),
+                () -> matchCI.getFixture(locales),
+                () -> sportEventStatusFactory.buildSportEventStatus(id, MatchStatus.class, true)),
+                Integer.MAX_VALUE);
+
+        List<URN> competitorIds = matchCI.getCompetitorIds(locales);
+        if (competitorIds != null && !competitorIds.isEmpty()) {
+            parallelLoader.runAll(competitorIds.stream()
+                    .map(competitorId -> (ParallelLoader.LoadTask) () -> profileCache.getCompetitorProfile(competitorId, locales))
+                    .collect(Collectors.toList()), Integer.MAX_VALUE);
         }
+
+        return new MatchSnapshotImpl((Match) sportEvent, locales);
     }
 
     /**
@@ -358,6 +439,51 @@ public class SportEntityFactoryImpl implements SportEntityFactory {
         throw new ObjectNotFoundException("The requested sport event[" + id + "] could not be built - unknown mapping type");
     }
 
+    /**
+     * Builds the sport events which are not cached yet concurrently, since building them may require a blocking
+     * summary or fixture request
+     *
+     * @param ids the identifiers of the sport events which are not cached
+     * @param locales the {@link Locale}s in which the data should be available
+     * @param builtEvents the map to which the built events are added
+     * @throws ObjectNotFoundException if any of the sport events could not be built
+     */
+    private void loadMissingSportEvents(List<URN> ids, List<Locale> locales, Map<URN, SportEvent> builtEvents) throws ObjectNotFoundException {
+        int total = ids.size();
+        int progressStep = Math.max(1, total / 10);
+        AtomicInteger completed = new AtomicInteger();
+        Map<URN, Exception> failures = new ConcurrentHashMap<>();
+
+        statsBean.onBulkEventLoadProgress(total);
+        parallelLoader.runAll(ids.stream()
+                .map(id -> (ParallelLoader.LoadTask) () -> {
+                    try {
+                        builtEvents.put(id, buildSportEvent(id, locales, true));
+                    } catch (ObjectNotFoundException | RuntimeException e) {
+                        failures.put(id, e);
+                    }
+
+                    int done = completed.incrementAndGet();
+                    statsBean.onBulkEventLoadProgress(total - done);
+                    if (done % progressStep == 0 || done == total) {
+                        logger.debug("buildSportEvents() loaded {}/{} missing events", done, total);
+                    }
+                })
+                .collect(Collectors.toList()), OperationManager.getBulkEventLoadParallelism());
+
+        for (URN id : ids) {
+            Exception failure = failures.get(id);
+            if (failure == null && !builtEvents.containsKey(id)) {
+                failure = new InterruptedException("Loading of the sport event was interrupted");
+            }
+            if (failure != null) {
+                statsBean.onBulkEventLoadProgress(0);
+                throw new ObjectNotFoundException("There was an error building the schedule list",
+                        new com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException("Error building scheduled event[" + id + "]", failure));
+            }
+        }
+    }
+
     private SportEvent buildEntityWithType(Class type, URN id, URN sportId, List<Locale> locales) throws ObjectNotFoundException {
         Preconditions.checkNotNull(type);
         Preconditions.checkNotNull(id);
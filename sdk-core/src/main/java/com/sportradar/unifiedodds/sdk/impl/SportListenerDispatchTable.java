@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.sportradar.unifiedodds.sdk.GenericOddsFeedListener;
+import com.sportradar.unifiedodds.sdk.OddsFeedListener;
+import com.sportradar.unifiedodds.sdk.SoccerOddsFeedListener;
+import com.sportradar.unifiedodds.sdk.entities.SoccerEvent;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.utils.URN;
+
+import java.util.*;
+
+/**
+ * A table, computed once per session, which resolves the listener that should receive the messages associated
+ * with a specific sport. Sport specific listeners take precedence over the main session listener.
+ */
+final class SportListenerDispatchTable {
+    /**
+     * The supported sport specific listener interfaces
+     */
+    private static final Map<Class<?>, SportSpecificListenerType> SPORT_SPECIFIC_LISTENER_TYPES = ImmutableMap.of(
+            SoccerOddsFeedListener.class,
+            new SportSpecificListenerType(SoccerEvent.class, Arrays.asList(URN.parse("sr:sport:1"), URN.parse("sr:sport:137")))
+    );
+
+    private final GenericOddsFeedListener<SportEvent> mainListener;
+    private final Map<URN, SportListener> sportListeners;
+    private final List<GenericOddsFeedListener<SportEvent>> fallbackListeners;
+
+    private SportListenerDispatchTable(GenericOddsFeedListener<SportEvent> mainListener, Map<URN, SportListener> sportListeners) {
+        this.mainListener = mainListener;
+        this.sportListeners = sportListeners;
+
+        if (mainListener != null) {
+            fallbackListeners = ImmutableList.of(mainListener);
+        } else {
+            Set<GenericOddsFeedListener<SportEvent>> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+            sportListeners.values().forEach(l -> distinct.add(l.listener));
+            fallbackListeners = ImmutableList.copyOf(distinct);
+        }
+    }
+
+    /**
+     * Builds a new dispatch table from the provided listeners
+     *
+     * @param mainListener the main session listener, may be a null reference if sport specific listeners are provided
+     * @param specificListeners the sport specific listeners
+     * @return the constructed {@link SportListenerDispatchTable}
+     * @throws IllegalArgumentException if a listener of an unsupported type is provided or no listener is provided at all
+     */
+    @SuppressWarnings("unchecked")
+    static SportListenerDispatchTable build(OddsFeedListener mainListener, Collection<? extends GenericOddsFeedListener> specificListeners) {
+        Map<URN, SportListener> sportListeners = new HashMap<>();
+        if (specificListeners != null) {
+            for (GenericOddsFeedListener specificListener : specificListeners) {
+                SportSpecificListenerType type = findListenerType(specificListener.getClass());
+                if (type == null) {
+                    throw new IllegalArgumentException("Unsupported sport specific listener type: " + specificListener.getClass().getName());
+                }
+
+                for (URN sportId : type.sportIds) {
+                    SportListener previous = sportListeners.put(sportId, new SportListener(specificListener, type.eventType));
+                    if (previous != null && previous.listener != specificListener) {
+                        throw new IllegalArgumentException("Multiple specific listeners provided for sport " + sportId);
+                    }
+                }
+            }
+        }
+
+        if (mainListener == null && sportListeners.isEmpty()) {
+            throw new IllegalArgumentException("A session requires the main listener or at least one sport specific listener");
+        }
+
+        return new SportListenerDispatchTable(mainListener, ImmutableMap.copyOf(sportListeners));
+    }
+
+    /**
+     * Indicates if any listener is interested in the messages of the provided sport
+     *
+     * @param sportId the sport identifier or a null reference if unknown
+     * @return <code>true</code> if any listener would receive the messages of the provided sport; otherwise <code>false</code>
+     */
+    boolean isSportDispatched(URN sportId) {
+        return mainListener != null || sportId == null || sportListeners.containsKey(sportId);
+    }
+
+    /**
+     * Indicates if the sport of a message must be known before the target listener can be resolved
+     *
+     * @return <code>true</code> if only sport specific listeners are registered; otherwise <code>false</code>
+     */
+    boolean requiresSportId() {
+        return mainListener == null;
+    }
+
+    /**
+     * Returns the listener which should receive the message associated with the provided event
+     *
+     * @param sportId the sport identifier of the message
+     * @param sportEvent the event built for the message
+     * @return the target listener or a null reference if no listener is interested in the message
+     */
+    GenericOddsFeedListener<SportEvent> getListener(URN sportId, SportEvent sportEvent) {
+        SportListener sportListener = sportId == null ? null : sportListeners.get(sportId);
+        if (sportListener != null && sportListener.eventType.isInstance(sportEvent)) {
+            return sportListener.listener;
+        }
+
+        return mainListener;
+    }
+
+    /**
+     * Returns the sport specific listener registered for the sport of the message, which can not receive the message
+     * through its typed callbacks, since the event built for the message is not of the type handled by the listener
+     * (e.g. a soccer message of an event which is not a {@link SoccerEvent})
+     *
+     * @param sportId the sport identifier of the message
+     * @param sportEvent the event built for the message
+     * @return the sport specific listener or a null reference if there is no such listener or the event is supported
+     */
+    GenericOddsFeedListener<SportEvent> getUnsupportedEventListener(URN sportId, SportEvent sportEvent) {
+        SportListener sportListener = sportId == null ? null : sportListeners.get(sportId);
+        if (sportListener == null || sportListener.eventType.isInstance(sportEvent)) {
+            return null;
+        }
+
+        return sportListener.listener;
+    }
+
+    /**
+     * Returns the listeners which should be notified about messages that can not be associated with a sport
+     *
+     * @return the listeners which should be notified about messages that can not be associated with a sport
+     */
+    List<GenericOddsFeedListener<SportEvent>> getFallbackListeners() {
+        return fallbackListeners;
+    }
+
+    private static SportSpecificListenerType findListenerType(Class<?> listenerClass) {
+        for (Class<?> current = listenerClass; current != null; current = current.getSuperclass()) {
+            for (Class<?> implemented : current.getInterfaces()) {
+                SportSpecificListenerType type = SPORT_SPECIFIC_LISTENER_TYPES.get(implemented);
+                if (type != null) {
+                    return type;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static final class SportSpecificListenerType {
+        private final Class<? extends SportEvent> eventType;
+        private final List<URN> sportIds;
+
+        private SportSpecificListenerType(Class<? extends SportEvent> eventType, List<URN> sportIds) {
+            this.eventType = eventType;
+            this.sportIds = sportIds;
+        }
+    }
+
+    private static final class SportListener {
+        private final GenericOddsFeedListener<SportEvent> listener;
+        private final Class<? extends SportEvent> eventType;
+
+        @SuppressWarnings("unchecked")
+        private SportListener(GenericOddsFeedListener listener, Class<? extends SportEvent> eventType) {
+            this.listener = listener;
+            this.eventType = eventType;
+        }
+    }
+}
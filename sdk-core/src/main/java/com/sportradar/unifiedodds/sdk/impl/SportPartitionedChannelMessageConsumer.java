@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Preconditions;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.sportradar.utils.URN;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A {@link ChannelMessageConsumer} which splits the messages received on a single channel into partitions by
+ * the sport in their routing key. Each partition has its own {@link ChannelMessageConsumer} and dispatcher thread,
+ * so the messages of different sports are deserialized and processed in parallel, while the messages of
+ * an event keep their order since the sport of an event never changes. The messages without a sport
+ * (e.g. alive and snapshot complete) are processed by the first partition.
+ * <p>
+ * The messages delivered with manual acknowledgements are acknowledged once they are processed by their partition,
+ * since the partitions process the messages out of the delivery order, a message is acknowledged only once all the
+ * preceding messages are processed as well.
+ */
+class SportPartitionedChannelMessageConsumer implements ChannelMessageConsumer {
+    private static final Logger logger = LoggerFactory.getLogger(SportPartitionedChannelMessageConsumer.class);
+
+    /**
+     * The max number of the messages waiting for the dispatch in a single partition
+     */
+    private static final int PARTITION_BUFFER_CAPACITY = 1000;
+
+    /**
+     * The index of the routing key segment holding the sport id (e.g. hi.-.live.odds_change.1.sr:match.123.-)
+     */
+    private static final int SPORT_SEGMENT_INDEX = 4;
+
+    private final List<ChannelMessageConsumer> partitionConsumers;
+    private final SdkExecutors sdkExecutors;
+    private final Map<String, String> sdkMdcContextDescription;
+    private final List<ChannelDeliveryBuffer> partitionBuffers;
+    private final int ackBatchSize;
+
+    private ExecutorService partitionDispatcher;
+
+    /**
+     * The acknowledger of the messages delivered on the current channel, replaced only by the thread handing
+     * the messages over to the partitions
+     */
+    private volatile OutOfOrderDeliveryAcknowledger acknowledger;
+
+    /**
+     * @param partitionConsumers the consumers of the partitions, one per partition
+     * @param sdkExecutors the {@link SdkExecutors} providing the partition dispatcher threads
+     * @param sdkMdcContextDescription the SDK MDC context map set on the partition dispatcher threads
+     * @param ackBatchSize the number of the processed messages acknowledged at once with the manual acknowledgements
+     */
+    SportPartitionedChannelMessageConsumer(List<ChannelMessageConsumer> partitionConsumers,
+                                           SdkExecutors sdkExecutors,
+                                           Map<String, String> sdkMdcContextDescription,
+                                           int ackBatchSize) {
+        Preconditions.checkNotNull(partitionConsumers);
+        Preconditions.checkArgument(partitionConsumers.size() > 1, "at least two partitions are required");
+        Preconditions.checkNotNull(sdkExecutors);
+        Preconditions.checkArgument(ackBatchSize > 0, "ackBatchSize must be positive");
+
+        this.partitionConsumers = partitionConsumers;
+        this.sdkExecutors = sdkExecutors;
+        this.sdkMdcContextDescription = sdkMdcContextDescription;
+        this.partitionBuffers = new ArrayList<>(partitionConsumers.size());
+        this.ackBatchSize = ackBatchSize;
+    }
+
+    /**
+     * Opens the partition consumers and starts the partition dispatcher threads
+     *
+     * @param messageConsumer the parsed/prepared messages
+     */
+    @Override
+    public synchronized void open(MessageConsumer messageConsumer) {
+        Preconditions.checkNotNull(messageConsumer);
+        Preconditions.checkState(partitionDispatcher == null, "The partitioned consumer is already opened");
+
+        partitionDispatcher = sdkExecutors.newExecutor("SportPartitionDispatcher", "-sp-t-%d", partitionConsumers.size(), false);
+        for (ChannelMessageConsumer partitionConsumer : partitionConsumers) {
+            partitionConsumer.open(messageConsumer);
+
+            ChannelDeliveryBuffer buffer = new ChannelDeliveryBuffer(
+                    PARTITION_BUFFER_CAPACITY,
+                    1,
+                    (channel, deliveryTag, routingKey, body, properties, receivedAt) -> dispatch(partitionConsumer, channel, deliveryTag, routingKey, body, properties, receivedAt),
+                    sdkMdcContextDescription);
+            partitionBuffers.add(buffer);
+            partitionDispatcher.execute(buffer);
+        }
+    }
+
+    /**
+     * Hands the provided message payload over to the partition of its sport, blocks while the partition is full
+     *
+     * @param routingKey - the source routing key of the payload
+     * @param body - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     */
+    @Override
+    public void onMessageReceived(String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+        handOver(null, 0, routingKey, body, properties, receivedAt);
+    }
+
+    /**
+     * Hands the provided message payload delivered with manual acknowledgements over to the partition of its sport,
+     * blocks while the partition is full. The message is acknowledged once it is processed by the partition.
+     *
+     * @param channel - the channel on which the message should be acknowledged
+     * @param deliveryTag - the delivery tag of the message
+     * @param routingKey - the source routing key of the payload
+     * @param body - the message payload
+     * @param properties - the BasicProperties associated to the message
+     * @param receivedAt - the time when message was received (in milliseconds since EPOCH UTC)
+     * @return <code>true</code>, the message is acknowledged by this consumer
+     */
+    @Override
+    public boolean onMessageReceived(Channel channel, long deliveryTag, String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+        Preconditions.checkNotNull(channel);
+
+        OutOfOrderDeliveryAcknowledger currentAcknowledger = acknowledger;
+        if (currentAcknowledger == null || currentAcknowledger.getChannel() != channel) {
+            // the channel was recreated, the messages not acknowledged on the previous channel are redelivered
+            currentAcknowledger = new OutOfOrderDeliveryAcknowledger(channel, ackBatchSize);
+            acknowledger = currentAcknowledger;
+        }
+        currentAcknowledger.onReceived(deliveryTag);
+
+        handOver(channel, deliveryTag, routingKey, body, properties, receivedAt);
+        return true;
+    }
+
+    /**
+     * Stops the partition dispatcher threads, the messages waiting for the dispatch are dropped. The dropped messages
+     * delivered with manual acknowledgements are not acknowledged, so the broker redelivers them.
+     */
+    synchronized void close() {
+        if (partitionDispatcher != null) {
+            sdkExecutors.release(partitionDispatcher);
+            partitionDispatcher = null;
+        }
+        partitionBuffers.clear();
+    }
+
+    private void handOver(Channel channel, long deliveryTag, String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+        Preconditions.checkState(!partitionBuffers.isEmpty(), "Received message on an un-opened message consumer");
+
+        try {
+            partitionBuffers.get(partitionOf(routingKey, partitionBuffers.size())).put(channel, deliveryTag, routingKey, body, properties, receivedAt);
+        } catch (InterruptedException e) {
+            logger.warn("Interrupted while handing over the message with routing key {}, the message is dropped", routingKey);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Dispatches the message to the consumer of its partition and marks the message delivered with manual
+     * acknowledgements as processed, even if the processing failed since a redelivery would fail the same way
+     *
+     * @return <code>true</code> if the message is acknowledged by the partitioned consumer
+     */
+    private boolean dispatch(ChannelMessageConsumer partitionConsumer, Channel channel, long deliveryTag, String routingKey, byte[] body, AMQP.BasicProperties properties, long receivedAt) {
+        try {
+            partitionConsumer.onMessageReceived(routingKey, body, properties, receivedAt);
+        } catch (Exception e) {
+            logger.error(String.format("An exception occurred while processing AMQP message. Routing key: '%s', body: '%s'",
+                    routingKey,
+                    body == null ? "null" : new String(body)),
+                    e
+            );
+        }
+
+        if (channel == null) {
+            return false;
+        }
+        OutOfOrderDeliveryAcknowledger currentAcknowledger = acknowledger;
+        if (currentAcknowledger != null && currentAcknowledger.getChannel() == channel) {
+            currentAcknowledger.onProcessed(deliveryTag);
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of the messages waiting for the dispatch in all the partitions
+     */
+    int getBufferedMessages() {
+        return partitionBuffers.stream().mapToInt(ChannelDeliveryBuffer::size).sum();
+    }
+
+    /**
+     * Selects the partition of the message by the sport segment of its routing key
+     *
+     * @param routingKey the routing key of the message
+     * @param partitions the number of the partitions
+     * @return the index of the partition, 0 if the routing key does not contain a sport
+     */
+    static int partitionOf(String routingKey, int partitions) {
+        int start = 0;
+        for (int i = 0; i < SPORT_SEGMENT_INDEX; i++) {
+            start = routingKey.indexOf('.', start) + 1;
+            if (start == 0) {
+                return 0;
+            }
+        }
+
+        int end = routingKey.indexOf('.', start);
+        long sportId = 0;
+        for (int i = start; i < (end < 0 ? routingKey.length() : end); i++) {
+            char c = routingKey.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            sportId = sportId * 10 + (c - '0');
+            if (sportId > Integer.MAX_VALUE) {
+                return 0;
+            }
+        }
+        return (int) (sportId % partitions);
+    }
+
+    /**
+     * Selects the partition of the messages of the provided sport, consistent with {@link #partitionOf(String, int)}
+     *
+     * @param sportId the sport of the message or a null reference
+     * @param partitions the number of the partitions
+     * @return the index of the partition, 0 if the sport is not known
+     */
+    static int partitionOf(URN sportId, int partitions) {
+        return sportId == null || sportId.getId() < 0 || sportId.getId() > Integer.MAX_VALUE ? 0 : (int) (sportId.getId() % partitions);
+    }
+}
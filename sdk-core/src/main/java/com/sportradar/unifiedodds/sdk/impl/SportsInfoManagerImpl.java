@@ -22,12 +22,17 @@ import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException
 import com.sportradar.unifiedodds.sdk.exceptions.internal.IllegalCacheStateException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.impl.entities.EventTimelineImpl;
+import com.sportradar.unifiedodds.sdk.impl.markets.RenderedNameCache;
 import com.sportradar.utils.URN;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
+import javax.inject.Named;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -89,6 +94,16 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
      */
     private final DataRouterManager dataRouterManager;
 
+    /**
+     * An {@link ExecutorService} used to request the pages of the streamed sport event lists ahead
+     */
+    private final ExecutorService pageLoaderExecutor;
+
+    /**
+     * A {@link RenderedNameCache} used to purge the rendered market and outcome names of the purged events and profiles
+     */
+    private final RenderedNameCache renderedNameCache;
+
     /**
      * Initializes a new instance of the {@link SportsInfoManagerImpl}
      *
@@ -98,9 +113,12 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
      * @param profileCache a {@link ProfileCache} instance used to purge competitor/player profile cache items
      * @param sportEventStatusCache a {@link SportEventStatusCache} instance used to purge cached sport event statuses
      * @param dataRouterManager a {@link DataRouterManager} instance used to get sports info
+     * @param pageLoaderExecutor an {@link ExecutorService} used to request the pages of the streamed sport event lists ahead
+     * @param renderedNameCache a {@link RenderedNameCache} instance used to purge the rendered market and outcome names
      */
     @Inject
-    SportsInfoManagerImpl(SDKInternalConfiguration config, SportEntityFactory entityFactory, SportEventCache eventCache, ProfileCache profileCache, SportEventStatusCache sportEventStatusCache, SportsDataCache sportsDataCache, DataRouterManager dataRouterManager) {
+    SportsInfoManagerImpl(SDKInternalConfiguration config, SportEntityFactory entityFactory, SportEventCache eventCache, ProfileCache profileCache, SportEventStatusCache sportEventStatusCache, SportsDataCache sportsDataCache, DataRouterManager dataRouterManager,
+                          @Named("DedicatedEntityLoaderExecutor") ExecutorService pageLoaderExecutor, RenderedNameCache renderedNameCache) {
         Preconditions.checkNotNull(config);
         Preconditions.checkNotNull(config.getDesiredLocales());
         Preconditions.checkArgument(!config.getDesiredLocales().isEmpty());
@@ -110,6 +128,8 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
         Preconditions.checkNotNull(sportEventStatusCache);
         Preconditions.checkNotNull(sportsDataCache);
         Preconditions.checkNotNull(dataRouterManager);
+        Preconditions.checkNotNull(pageLoaderExecutor);
+        Preconditions.checkNotNull(renderedNameCache);
 
         this.sportEntityFactory = entityFactory;
         this.sportEventCache = eventCache;
@@ -120,6 +140,8 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
         this.sportEventStatusCache = sportEventStatusCache;
         this.sportsDataCache = sportsDataCache;
         this.dataRouterManager = dataRouterManager;
+        this.pageLoaderExecutor = pageLoaderExecutor;
+        this.renderedNameCache = renderedNameCache;
     }
 
     /**
@@ -671,6 +693,7 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
 
         clientInteractionLog.info("sportsInfo.purgeSportEventCacheData({}, {})", eventId, includeStatusPurge);
         sportEventCache.purgeCacheItem(eventId);
+        renderedNameCache.invalidateEvent(eventId);
 
         if (includeStatusPurge) {
             sportEventStatusCache.purgeSportEventStatus(eventId);
@@ -688,6 +711,8 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
 
         clientInteractionLog.info("sportsInfo.purgeCompetitorProfileCacheData({})", competitorId);
         profileCache.purgeCompetitorProfileCacheItem(competitorId);
+        // the competitor names are used in the names of the markets of all its events
+        renderedNameCache.invalidateAll();
     }
 
     /**
@@ -701,6 +726,7 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
 
         clientInteractionLog.info("sportsInfo.purgePlayerProfileCacheData({})", playerId);
         profileCache.purgePlayerProfileCacheItem(playerId);
+        renderedNameCache.invalidateAll();
     }
 
     /**
@@ -871,6 +897,31 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
         return sportEvents;
     }
 
+    /**
+     * Streams all the events returned by the list sport events endpoint, page by page. While a page is being consumed,
+     * the next page is already requested, so only a couple of pages are held in memory regardless of the schedule size.
+     * @param pageSize how many records to request in a single page (max: 1000)
+     * @return a {@link Stream} of sport events
+     */
+    @Override
+    public Stream<Competition> streamListOfSportEvents(int pageSize) {
+        return streamListOfSportEvents(pageSize, desiredLocales);
+    }
+
+    /**
+     * Streams all the events returned by the list sport events endpoint, page by page. While a page is being consumed,
+     * the next page is already requested, so only a couple of pages are held in memory regardless of the schedule size.
+     * @param pageSize how many records to request in a single page (max: 1000)
+     * @param locale the {@link Locale} in which to provide the data
+     * @return a {@link Stream} of sport events
+     */
+    @Override
+    public Stream<Competition> streamListOfSportEvents(int pageSize, Locale locale) {
+        Preconditions.checkNotNull(locale);
+
+        return streamListOfSportEvents(pageSize, Lists.newArrayList(locale));
+    }
+
     /**
      * Returns all the available tournaments of a specific sport
      * (the returned data is translated in the default locale configured with the {@link OddsFeedConfiguration})
@@ -983,6 +1034,50 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
         return lotteries;
     }
 
+    /**
+     * Returns an immutable snapshot of the specified match
+     * (the returned data is translated in the configured {@link Locale}s using the {@link OddsFeedConfiguration})
+     *
+     * @param id - an {@link URN} identifier specifying the match requested
+     * @return - an immutable snapshot of the specified match
+     */
+    @Override
+    public Match getMatchSnapshot(URN id) {
+        return getMatchSnapshot(id, desiredLocales);
+    }
+
+    /**
+     * Returns an immutable snapshot of the specified match, the other sport events (e.g. stages or tournaments)
+     * are handled as not found according to the configured {@link ExceptionHandlingStrategy}
+     * (the returned data is translated in the specified {@link Locale}s)
+     *
+     * @param id - an {@link URN} identifier specifying the match requested
+     * @param locales - the {@link Locale}s in which to provide the data
+     * @return - an immutable snapshot of the specified match
+     */
+    @Override
+    public Match getMatchSnapshot(URN id, List<Locale> locales) {
+        Preconditions.checkNotNull(id);
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkArgument(!locales.isEmpty());
+
+        Stopwatch timer = Stopwatch.createStarted();
+        try{
+            Match snapshot = sportEntityFactory.buildMatchSnapshot(id, locales);
+            clientInteractionLog.info("SportsInfoManager.getMatchSnapshot({},{}) invoked. Execution time: {}", id, locales, timer.stop());
+            return snapshot;
+        } catch (ObjectNotFoundException e) {
+            clientInteractionLog.error("Error executing getMatchSnapshot", e);
+            return handleException("getMatchSnapshot[" + id + "]", e);
+        } catch (Exception e){
+            clientInteractionLog.error("Error executing getMatchSnapshot", e);
+            if(exceptionHandlingStrategy == ExceptionHandlingStrategy.Throw){
+                throw e;
+            }
+            return null;
+        }
+    }
+
     /**
      * Returns the list of {@link PeriodStatus} from the sport event period summary endpoint
      *
@@ -1112,6 +1207,43 @@ public class SportsInfoManagerImpl implements SportsInfoManager {
         }
     }
 
+    private Stream<Competition> streamListOfSportEvents(int pageSize, List<Locale> locales) {
+        if(pageSize < 1 || pageSize > 1000)
+        {
+            throw new IllegalArgumentException("Wrong pageSize");
+        }
+
+        PagedSportEventIterator iterator = new PagedSportEventIterator(
+                (startIndex, limit) -> loadListOfSportEventsPage(startIndex, limit, locales),
+                pageSize,
+                1,
+                pageLoaderExecutor);
+
+        clientInteractionLog.info("sportsInfo.streamListOfSportEvents({}, {}) invoked.", pageSize, locales);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    private PagedSportEventIterator.Page loadListOfSportEventsPage(int startIndex, int limit, List<Locale> locales) {
+        Stopwatch timer = Stopwatch.createStarted();
+
+        try {
+            List<URN> eventIds = null;
+            for (Locale locale : locales) {
+                eventIds = this.dataRouterManager.requestListSportEvents(locale, startIndex, limit);
+            }
+            if (eventIds == null || eventIds.isEmpty()) {
+                return null;
+            }
+
+            List<Competition> sportEvents = sportEntityFactory.buildSportEvents(eventIds, locales);
+            logger.debug("Page of list sport events({}, {}, {}) loaded. Execution time: {}", startIndex, limit, locales, timer.stop());
+            return new PagedSportEventIterator.Page(sportEvents, eventIds.size() < limit);
+        } catch (ObjectNotFoundException | CommunicationException e) {
+            return handleException(String.format("streamListOfSportEvents(%s, %s, %s)", startIndex, limit, locales), e);
+        }
+    }
+
     private LongTermEvent internalGetLongTermEvent(URN id, List<Locale> locales) {
         try {
             SportEvent sportEvent = sportEntityFactory.buildSportEvent(id, locales, false);
@@ -0,0 +1,840 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.uf.datamodel.*;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.util.function.IntFunction;
+
+/**
+ * A StAX based parser of the high-volume feed messages (odds_change, bet_stop, bet_settlement and alive),
+ * producing the same {@link UnmarshalledMessage} objects as the JAXB message unmarshaller without its reflection
+ * and without a shared lock. The values are converted as the JAXB unmarshaller converts them, the unknown
+ * elements and attributes are skipped, the unknown enumeration values are mapped to null references and the lists
+ * are created only when they get the first item.
+ *
+ * The parser is thread safe.
+ */
+public class StreamingFeedMessageParser {
+    private final XMLInputFactory inputFactory;
+
+    public StreamingFeedMessageParser() {
+        inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    }
+
+    /**
+     * Parses the provided message
+     *
+     * @param body the raw message payload
+     * @return the parsed message or a null reference if the message type is not supported by the parser
+     * @throws XMLStreamException if the message is not well-formed or holds a value which can not be converted;
+     * such messages should be left to the JAXB unmarshaller, which reports the actual problem
+     */
+    public UnmarshalledMessage parse(byte[] body) throws XMLStreamException {
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(new ByteArrayInputStream(body));
+        try {
+            reader.nextTag();
+            String namespace = reader.getNamespaceURI();
+            if (namespace != null && !namespace.isEmpty()) {
+                return null;
+            }
+
+            UnmarshalledMessage message;
+            switch (reader.getLocalName()) {
+                case "odds_change":
+                    message = readOddsChange(reader);
+                    break;
+                case "bet_stop":
+                    message = readBetStop(reader);
+                    break;
+                case "bet_settlement":
+                    message = readBetSettlement(reader);
+                    break;
+                case "alive":
+                    message = readAlive(reader);
+                    break;
+                default:
+                    return null;
+            }
+
+            // the rest of the document must be well-formed as well
+            while (reader.hasNext()) {
+                reader.next();
+            }
+            return message;
+        } catch (IllegalArgumentException e) {
+            throw new XMLStreamException("Invalid value: " + e.getMessage(), reader.getLocation(), e);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static UFOddsChange readOddsChange(XMLStreamReader reader) throws XMLStreamException {
+        UFOddsChange message = new UFOddsChange();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "product":
+                    message.setProduct(parseInt(value));
+                    break;
+                case "event_id":
+                    message.setEventId(value);
+                    break;
+                case "timestamp":
+                    message.setTimestamp(parseLong(value));
+                    break;
+                case "request_id":
+                    message.setRequestId(parseLong(value));
+                    break;
+                case "odds_change_reason":
+                    message.setOddsChangeReason(parseEnum(value, UFOddsChangeReason::fromValue));
+                    break;
+            }
+        }
+
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "sport_event_status":
+                    message.setSportEventStatus(readSportEventStatus(reader));
+                    break;
+                case "odds_generation_properties":
+                    message.setOddsGenerationProperties(readOddsGenerationProperties(reader));
+                    break;
+                case "odds":
+                    message.setOdds(readOdds(reader));
+                    break;
+                default:
+                    skipElement(reader);
+            }
+        }
+        return message;
+    }
+
+    private static UFOddsChange.UFOdds readOdds(XMLStreamReader reader) throws XMLStreamException {
+        UFOddsChange.UFOdds odds = new UFOddsChange.UFOdds();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "betting_status":
+                    odds.setBettingStatus(parseInt(value));
+                    break;
+                case "betstop_reason":
+                    odds.setBetstopReason(parseInt(value));
+                    break;
+            }
+        }
+
+        while (nextChild(reader)) {
+            if ("market".equals(reader.getLocalName())) {
+                odds.getMarket().add(readOddsChangeMarket(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return odds;
+    }
+
+    private static UFOddsChangeMarket readOddsChangeMarket(XMLStreamReader reader) throws XMLStreamException {
+        UFOddsChangeMarket market = new UFOddsChangeMarket();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "id":
+                    market.setId(parseInt(value));
+                    break;
+                case "specifiers":
+                    market.setSpecifiers(value);
+                    break;
+                case "extended_specifiers":
+                    market.setExtendedSpecifiers(value);
+                    break;
+                case "favourite":
+                    market.setFavourite(parseEnum(value, UFFavourite::fromValue));
+                    break;
+                case "status":
+                    market.setStatus(parseEnum(value, UFMarketStatus::fromValue));
+                    break;
+                case "cashout_status":
+                    market.setCashoutStatus(parseInt(value));
+                    break;
+            }
+        }
+
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "outcome":
+                    market.getOutcome().add(readOddsChangeOutcome(reader));
+                    break;
+                case "market_metadata":
+                    market.setMarketMetadata(readMarketMetadata(reader));
+                    break;
+                default:
+                    skipElement(reader);
+            }
+        }
+        return market;
+    }
+
+    private static UFOddsChangeMarket.UFOutcome readOddsChangeOutcome(XMLStreamReader reader) throws XMLStreamException {
+        UFOddsChangeMarket.UFOutcome outcome = new UFOddsChangeMarket.UFOutcome();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "id":
+                    outcome.setId(value);
+                    break;
+                case "odds":
+                    outcome.setOdds(parseDouble(value));
+                    break;
+                case "probabilities":
+                    outcome.setProbabilities(parseDouble(value));
+                    break;
+                case "win_probabilities":
+                    outcome.setWinProbabilities(parseDouble(value));
+                    break;
+                case "lose_probabilities":
+                    outcome.setLoseProbabilities(parseDouble(value));
+                    break;
+                case "refund_probabilities":
+                    outcome.setRefundProbabilities(parseDouble(value));
+                    break;
+                case "half_win_probabilities":
+                    outcome.setHalfWinProbabilities(parseDouble(value));
+                    break;
+                case "half_lose_probabilities":
+                    outcome.setHalfLoseProbabilities(parseDouble(value));
+                    break;
+                case "active":
+                    outcome.setActive(parseEnum(value, UFOutcomeActive::fromValue));
+                    break;
+                case "team":
+                    outcome.setTeam(parseInt(value));
+                    break;
+            }
+        }
+        skipElement(reader);
+        return outcome;
+    }
+
+    private static UFMarketMetadata readMarketMetadata(XMLStreamReader reader) throws XMLStreamException {
+        UFMarketMetadata metadata = new UFMarketMetadata();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "next_betstop":
+                    metadata.setNextBetstop(parseLong(value));
+                    break;
+                case "start_time":
+                    metadata.setStartTime(parseLong(value));
+                    break;
+                case "end_time":
+                    metadata.setEndTime(parseLong(value));
+                    break;
+                case "aams_id":
+                    metadata.setAamsId(parseLong(value));
+                    break;
+            }
+        }
+        skipElement(reader);
+        return metadata;
+    }
+
+    private static UFOddsGenerationProperties readOddsGenerationProperties(XMLStreamReader reader) throws XMLStreamException {
+        UFOddsGenerationProperties properties = new UFOddsGenerationProperties();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "expected_totals":
+                    properties.setExpectedTotals(parseDouble(value));
+                    break;
+                case "expected_supremacy":
+                    properties.setExpectedSupremacy(parseDouble(value));
+                    break;
+            }
+        }
+        skipElement(reader);
+        return properties;
+    }
+
+    private static UFSportEventStatus readSportEventStatus(XMLStreamReader reader) throws XMLStreamException {
+        UFSportEventStatus status = new UFSportEventStatus();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "status":
+                    status.setStatus(parseEnum(value, UFEventStatusStatus::fromValue));
+                    break;
+                case "reporting":
+                    status.setReporting(parseEnum(value, UFReportingStatus::fromValue));
+                    break;
+                case "match_status":
+                    status.setMatchStatus(parseInt(value));
+                    break;
+                case "home_score":
+                    status.setHomeScore(parseDecimal(value));
+                    break;
+                case "away_score":
+                    status.setAwayScore(parseDecimal(value));
+                    break;
+                case "home_penalty_score":
+                    status.setHomePenaltyScore(parseInt(value));
+                    break;
+                case "away_penalty_score":
+                    status.setAwayPenaltyScore(parseInt(value));
+                    break;
+                case "home_gamescore":
+                    status.setHomeGamescore(parseInt(value));
+                    break;
+                case "away_gamescore":
+                    status.setAwayGamescore(parseInt(value));
+                    break;
+                case "home_legscore":
+                    status.setHomeLegscore(parseInt(value));
+                    break;
+                case "away_legscore":
+                    status.setAwayLegscore(parseInt(value));
+                    break;
+                case "current_server":
+                    status.setCurrentServer(parseInt(value));
+                    break;
+                case "expedite_mode":
+                    status.setExpediteMode(parseBoolean(value));
+                    break;
+                case "tiebreak":
+                    status.setTiebreak(parseBoolean(value));
+                    break;
+                case "home_suspend":
+                    status.setHomeSuspend(parseInt(value));
+                    break;
+                case "away_suspend":
+                    status.setAwaySuspend(parseInt(value));
+                    break;
+                case "balls":
+                    status.setBalls(parseInt(value));
+                    break;
+                case "strikes":
+                    status.setStrikes(parseInt(value));
+                    break;
+                case "outs":
+                    status.setOuts(parseInt(value));
+                    break;
+                case "bases":
+                    status.setBases(value);
+                    break;
+                case "home_batter":
+                    status.setHomeBatter(parseInt(value));
+                    break;
+                case "away_batter":
+                    status.setAwayBatter(parseInt(value));
+                    break;
+                case "pitcher":
+                    status.setPitcher(value);
+                    break;
+                case "batter":
+                    status.setBatter(value);
+                    break;
+                case "pitch_count":
+                    status.setPitchCount(parseInt(value));
+                    break;
+                case "pitches_seen":
+                    status.setPitchesSeen(parseInt(value));
+                    break;
+                case "total_hits":
+                    status.setTotalHits(parseInt(value));
+                    break;
+                case "total_pitches":
+                    status.setTotalPitches(parseInt(value));
+                    break;
+                case "possession":
+                    status.setPossession(parseInt(value));
+                    break;
+                case "position":
+                    status.setPosition(parseInt(value));
+                    break;
+                case "try":
+                    status.setTry(parseInt(value));
+                    break;
+                case "yards":
+                    status.setYards(parseInt(value));
+                    break;
+                case "throw":
+                    status.setThrow(parseInt(value));
+                    break;
+                case "visit":
+                    status.setVisit(parseInt(value));
+                    break;
+                case "remaining_reds":
+                    status.setRemainingReds(parseInt(value));
+                    break;
+                case "delivery":
+                    status.setDelivery(parseInt(value));
+                    break;
+                case "home_remaining_bowls":
+                    status.setHomeRemainingBowls(parseInt(value));
+                    break;
+                case "away_remaining_bowls":
+                    status.setAwayRemainingBowls(parseInt(value));
+                    break;
+                case "current_end":
+                    status.setCurrentEnd(parseInt(value));
+                    break;
+                case "innings":
+                    status.setInnings(parseInt(value));
+                    break;
+                case "over":
+                    status.setOver(parseInt(value));
+                    break;
+                case "home_penalty_runs":
+                    status.setHomePenaltyRuns(parseInt(value));
+                    break;
+                case "away_penalty_runs":
+                    status.setAwayPenaltyRuns(parseInt(value));
+                    break;
+                case "home_dismissals":
+                    status.setHomeDismissals(parseInt(value));
+                    break;
+                case "away_dismissals":
+                    status.setAwayDismissals(parseInt(value));
+                    break;
+                case "current_ct_team":
+                    status.setCurrentCtTeam(parseInt(value));
+                    break;
+                case "period_of_leader":
+                    status.setPeriodOfLeader(parseInt(value));
+                    break;
+                case "home_drive_count":
+                    status.setHomeDriveCount(parseInt(value));
+                    break;
+                case "away_drive_count":
+                    status.setAwayDriveCount(parseInt(value));
+                    break;
+                case "home_play_count":
+                    status.setHomePlayCount(parseInt(value));
+                    break;
+                case "away_play_count":
+                    status.setAwayPlayCount(parseInt(value));
+                    break;
+            }
+        }
+
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "clock":
+                    status.setClock(readClock(reader));
+                    break;
+                case "period_scores":
+                    status.setPeriodScores(readPeriodScores(reader));
+                    break;
+                case "results":
+                    status.setResults(readResults(reader));
+                    break;
+                case "statistics":
+                    status.setStatistics(readStatistics(reader));
+                    break;
+                default:
+                    skipElement(reader);
+            }
+        }
+        return status;
+    }
+
+    private static UFClockType readClock(XMLStreamReader reader) throws XMLStreamException {
+        UFClockType clock = new UFClockType();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "match_time":
+                    clock.setMatchTime(value);
+                    break;
+                case "stoppage_time":
+                    clock.setStoppageTime(value);
+                    break;
+                case "stoppage_time_announced":
+                    clock.setStoppageTimeAnnounced(value);
+                    break;
+                case "remaining_time":
+                    clock.setRemainingTime(value);
+                    break;
+                case "remaining_time_in_period":
+                    clock.setRemainingTimeInPeriod(value);
+                    break;
+                case "stopped":
+                    clock.setStopped(parseBoolean(value));
+                    break;
+            }
+        }
+        skipElement(reader);
+        return clock;
+    }
+
+    private static UFPeriodscoresType readPeriodScores(XMLStreamReader reader) throws XMLStreamException {
+        UFPeriodscoresType periodScores = new UFPeriodscoresType();
+        while (nextChild(reader)) {
+            if (!"period_score".equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
+
+            UFPeriodScoreType score = new UFPeriodScoreType();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String value = reader.getAttributeValue(i);
+                switch (reader.getAttributeLocalName(i)) {
+                    case "match_status_code":
+                        score.setMatchStatusCode(parseInt(value));
+                        break;
+                    case "number":
+                        score.setNumber(parseInt(value));
+                        break;
+                    case "home_score":
+                        score.setHomeScore(parseDecimal(value));
+                        break;
+                    case "away_score":
+                        score.setAwayScore(parseDecimal(value));
+                        break;
+                }
+            }
+            skipElement(reader);
+            periodScores.getPeriodScore().add(score);
+        }
+        return periodScores;
+    }
+
+    private static UFResultsType readResults(XMLStreamReader reader) throws XMLStreamException {
+        UFResultsType results = new UFResultsType();
+        while (nextChild(reader)) {
+            if (!"result".equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
+
+            UFResultType result = new UFResultType();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String value = reader.getAttributeValue(i);
+                switch (reader.getAttributeLocalName(i)) {
+                    case "match_status_code":
+                        result.setMatchStatusCode(parseInt(value));
+                        break;
+                    case "home_score":
+                        result.setHomeScore(parseDecimal(value));
+                        break;
+                    case "away_score":
+                        result.setAwayScore(parseDecimal(value));
+                        break;
+                }
+            }
+            skipElement(reader);
+            results.getResult().add(result);
+        }
+        return results;
+    }
+
+    private static UFStatisticsType readStatistics(XMLStreamReader reader) throws XMLStreamException {
+        UFStatisticsType statistics = new UFStatisticsType();
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "yellow_cards":
+                    statistics.setYellowCards(readStatisticsScore(reader));
+                    break;
+                case "red_cards":
+                    statistics.setRedCards(readStatisticsScore(reader));
+                    break;
+                case "yellow_red_cards":
+                    statistics.setYellowRedCards(readStatisticsScore(reader));
+                    break;
+                case "corners":
+                    statistics.setCorners(readStatisticsScore(reader));
+                    break;
+                case "green_cards":
+                    statistics.setGreenCards(readStatisticsScore(reader));
+                    break;
+                default:
+                    skipElement(reader);
+            }
+        }
+        return statistics;
+    }
+
+    private static UFStatisticsScoreType readStatisticsScore(XMLStreamReader reader) throws XMLStreamException {
+        UFStatisticsScoreType score = new UFStatisticsScoreType();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "home":
+                    score.setHome(parseInt(value));
+                    break;
+                case "away":
+                    score.setAway(parseInt(value));
+                    break;
+            }
+        }
+        skipElement(reader);
+        return score;
+    }
+
+    private static UFBetStop readBetStop(XMLStreamReader reader) throws XMLStreamException {
+        UFBetStop message = new UFBetStop();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "product":
+                    message.setProduct(parseInt(value));
+                    break;
+                case "event_id":
+                    message.setEventId(value);
+                    break;
+                case "timestamp":
+                    message.setTimestamp(parseLong(value));
+                    break;
+                case "request_id":
+                    message.setRequestId(parseLong(value));
+                    break;
+                case "groups":
+                    message.setGroups(value);
+                    break;
+                case "market_status":
+                    message.setMarketStatus(parseEnum(value, UFMarketStatus::fromValue));
+                    break;
+            }
+        }
+        skipElement(reader);
+        return message;
+    }
+
+    private static UFBetSettlement readBetSettlement(XMLStreamReader reader) throws XMLStreamException {
+        UFBetSettlement message = new UFBetSettlement();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "product":
+                    message.setProduct(parseInt(value));
+                    break;
+                case "event_id":
+                    message.setEventId(value);
+                    break;
+                case "timestamp":
+                    message.setTimestamp(parseLong(value));
+                    break;
+                case "request_id":
+                    message.setRequestId(parseLong(value));
+                    break;
+                case "certainty":
+                    message.setCertainty(parseInt(value));
+                    break;
+            }
+        }
+
+        while (nextChild(reader)) {
+            if ("outcomes".equals(reader.getLocalName())) {
+                message.setOutcomes(readBetSettlementOutcomes(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return message;
+    }
+
+    private static UFBetSettlement.UFOutcomes readBetSettlementOutcomes(XMLStreamReader reader) throws XMLStreamException {
+        UFBetSettlement.UFOutcomes outcomes = new UFBetSettlement.UFOutcomes();
+        while (nextChild(reader)) {
+            if ("market".equals(reader.getLocalName())) {
+                outcomes.getMarket().add(readBetSettlementMarket(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return outcomes;
+    }
+
+    private static UFBetSettlementMarket readBetSettlementMarket(XMLStreamReader reader) throws XMLStreamException {
+        UFBetSettlementMarket market = new UFBetSettlementMarket();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "id":
+                    market.setId(parseInt(value));
+                    break;
+                case "specifiers":
+                    market.setSpecifiers(value);
+                    break;
+                case "extended_specifiers":
+                    market.setExtendedSpecifiers(value);
+                    break;
+                case "void_reason":
+                    market.setVoidReason(parseInt(value));
+                    break;
+                case "result":
+                    market.setResult(value);
+                    break;
+            }
+        }
+
+        while (nextChild(reader)) {
+            if (!"outcome".equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
+
+            UFBetSettlementMarket.UFOutcome outcome = new UFBetSettlementMarket.UFOutcome();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String value = reader.getAttributeValue(i);
+                switch (reader.getAttributeLocalName(i)) {
+                    case "id":
+                        outcome.setId(value);
+                        break;
+                    case "result":
+                        outcome.setResult(parseEnum(value, UFResult::fromValue));
+                        break;
+                    case "void_factor":
+                        outcome.setVoidFactor(parseVoidFactor(value));
+                        break;
+                    case "dead_heat_factor":
+                        outcome.setDeadHeatFactor(parseDouble(value));
+                        break;
+                }
+            }
+            skipElement(reader);
+            market.getOutcome().add(outcome);
+        }
+        return market;
+    }
+
+    private static UFAlive readAlive(XMLStreamReader reader) throws XMLStreamException {
+        UFAlive message = new UFAlive();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            switch (reader.getAttributeLocalName(i)) {
+                case "product":
+                    message.setProduct(parseInt(value));
+                    break;
+                case "timestamp":
+                    message.setTimestamp(parseLong(value));
+                    break;
+                case "subscribed":
+                    message.setSubscribed(parseInt(value));
+                    break;
+            }
+        }
+        skipElement(reader);
+        return message;
+    }
+
+    /**
+     * Moves the reader to the start of the next child element of the current element
+     *
+     * @return <code>true</code> if the reader is positioned on the next child element; <code>false</code> if
+     * the reader reached the end of the current element
+     */
+    private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Moves the reader to the end of the current element, skipping all its content
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static int parseInt(String value) {
+        return Integer.parseInt(value.trim());
+    }
+
+    private static long parseLong(String value) {
+        return Long.parseLong(value.trim());
+    }
+
+    private static BigDecimal parseDecimal(String value) {
+        return new BigDecimal(value.trim());
+    }
+
+    /**
+     * Parses the xs:double value, the special values are written as INF, -INF and NaN
+     */
+    private static double parseDouble(String value) {
+        String trimmed = value.trim();
+        switch (trimmed) {
+            case "INF":
+                return Double.POSITIVE_INFINITY;
+            case "-INF":
+                return Double.NEGATIVE_INFINITY;
+            case "NaN":
+                return Double.NaN;
+        }
+
+        // rejects the java specific forms, e.g. Infinity or the d/f suffixes
+        if (trimmed.isEmpty() || !isDoubleBoundary(trimmed.charAt(0)) || !isDoubleBoundary(trimmed.charAt(trimmed.length() - 1))) {
+            throw new NumberFormatException("Invalid double value: " + value);
+        }
+        return Double.parseDouble(trimmed);
+    }
+
+    private static boolean isDoubleBoundary(char c) {
+        return (c >= '0' && c <= '9') || c == '.' || c == '-' || c == '+';
+    }
+
+    /**
+     * Parses the xs:boolean value
+     */
+    private static boolean parseBoolean(String value) {
+        switch (value.trim()) {
+            case "true":
+            case "1":
+                return true;
+            case "false":
+            case "0":
+                return false;
+            default:
+                throw new IllegalArgumentException("Invalid boolean value: " + value);
+        }
+    }
+
+    /**
+     * Parses the value of an integer based enumeration, the unknown values are mapped to a null reference
+     * (as the JAXB unmarshaller maps them)
+     */
+    private static <T extends Enum<T>> T parseEnum(String value, IntFunction<T> fromValue) {
+        int intValue = parseInt(value);
+        try {
+            return fromValue.apply(intValue);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static UFVoidFactor parseVoidFactor(String value) {
+        double doubleValue = parseDouble(value);
+        try {
+            return UFVoidFactor.fromValue(doubleValue);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
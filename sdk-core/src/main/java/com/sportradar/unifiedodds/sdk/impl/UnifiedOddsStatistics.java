@@ -20,6 +20,13 @@ public class UnifiedOddsStatistics implements UnifiedOddsStatisticsMBean {
     private int oddsChanges;
     private int streamingHttpGet;
     private int jaxbHttpGet;
+    private int notModifiedHttpGet;
+    private int hedgedHttpGet;
+    private int failedFastHttpGet;
+    private int bulkEventLoads;
+    private int bulkLoadedEvents;
+    private int bulkLoadPendingEvents;
+    private long lastBulkEventLoadTime;
     private int recoveryMessages;
     private int fixtureChanges;
     private int betCancelRollbacks;
@@ -33,6 +40,12 @@ public class UnifiedOddsStatistics implements UnifiedOddsStatisticsMBean {
     private int liveMessages;
     private int prematchMessages;
     private long totalMsgSizeReceived;
+    private int discardedProducerDisabled;
+    private int discardedProducerOutOfScope;
+    private int discardedDuplicateFixtureChanges;
+    private int discardedBeforeDeserialization;
+    private long renderedNameHits;
+    private long renderedNameMisses;
 
     private final ThreadLocal<byte[]> tmpBuf = new ThreadLocal<byte[]>() {
         @Override
@@ -119,6 +132,55 @@ public class UnifiedOddsStatistics implements UnifiedOddsStatisticsMBean {
         lastUrl = path;
     }
 
+    public void onHttpGetNotModified(String path) {
+        notModifiedHttpGet++;
+        lastUrl = path;
+    }
+
+    public void onHttpGetHedged(String path) {
+        hedgedHttpGet++;
+    }
+
+    public void onHttpGetFailedFast(String path) {
+        failedFastHttpGet++;
+    }
+
+    public void onMessageDiscarded(MessageDiscardReason reason, boolean beforeDeserialization) {
+        switch (reason) {
+            case ProducerDisabled:
+                discardedProducerDisabled++;
+                break;
+            case ProducerOutOfScope:
+                discardedProducerOutOfScope++;
+                break;
+            case DuplicateFixtureChange:
+                discardedDuplicateFixtureChanges++;
+                break;
+        }
+        if (beforeDeserialization) {
+            discardedBeforeDeserialization++;
+        }
+    }
+
+    public void onRenderedNameLookup(boolean hit) {
+        if (hit) {
+            renderedNameHits++;
+        } else {
+            renderedNameMisses++;
+        }
+    }
+
+    public void onBulkEventLoadProgress(int pendingEvents) {
+        bulkLoadPendingEvents = pendingEvents;
+    }
+
+    public void onBulkEventLoadCompleted(int loadedEvents, long elapsedMillis) {
+        bulkEventLoads++;
+        bulkLoadedEvents += loadedEvents;
+        bulkLoadPendingEvents = 0;
+        lastBulkEventLoadTime = elapsedMillis;
+    }
+
     @Override
     public int getNumberOfBetCancelsReceived() {
         return betCancels;
@@ -149,6 +211,41 @@ public class UnifiedOddsStatistics implements UnifiedOddsStatisticsMBean {
         return jaxbHttpGet;
     }
 
+    @Override
+    public int getNumberOfHttpGetNotModified() {
+        return notModifiedHttpGet;
+    }
+
+    @Override
+    public int getNumberOfHttpGetHedged() {
+        return hedgedHttpGet;
+    }
+
+    @Override
+    public int getNumberOfHttpGetFailedFast() {
+        return failedFastHttpGet;
+    }
+
+    @Override
+    public int getNumberOfBulkEventLoads() {
+        return bulkEventLoads;
+    }
+
+    @Override
+    public int getNumberOfBulkLoadedEvents() {
+        return bulkLoadedEvents;
+    }
+
+    @Override
+    public int getNumberOfBulkLoadPendingEvents() {
+        return bulkLoadPendingEvents;
+    }
+
+    @Override
+    public long getLastBulkEventLoadTime() {
+        return lastBulkEventLoadTime;
+    }
+
     @Override
     public String getLastHttpGetURL() {
         return lastUrl;
@@ -199,4 +296,41 @@ public class UnifiedOddsStatistics implements UnifiedOddsStatisticsMBean {
     public long getBytesReceived() {
         return totalMsgSizeReceived;
     }
+
+    @Override
+    public int getNumberOfMessagesDiscardedProducerDisabled() {
+        return discardedProducerDisabled;
+    }
+
+    @Override
+    public int getNumberOfMessagesDiscardedProducerOutOfScope() {
+        return discardedProducerOutOfScope;
+    }
+
+    @Override
+    public int getNumberOfMessagesDiscardedDuplicateFixtureChange() {
+        return discardedDuplicateFixtureChanges;
+    }
+
+    @Override
+    public int getNumberOfMessagesDiscardedBeforeDeserialization() {
+        return discardedBeforeDeserialization;
+    }
+
+    @Override
+    public long getNumberOfRenderedNameHits() {
+        return renderedNameHits;
+    }
+
+    @Override
+    public long getNumberOfRenderedNameMisses() {
+        return renderedNameMisses;
+    }
+
+    @Override
+    public double getRenderedNameHitRatio() {
+        long hits = renderedNameHits;
+        long lookups = hits + renderedNameMisses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
 }
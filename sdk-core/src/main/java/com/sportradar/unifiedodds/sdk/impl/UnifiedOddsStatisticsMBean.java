@@ -30,6 +30,20 @@ public interface UnifiedOddsStatisticsMBean {
 
     public int getNumberOfHttpGetJaxb();
 
+    public int getNumberOfHttpGetNotModified();
+
+    public int getNumberOfHttpGetHedged();
+
+    public int getNumberOfHttpGetFailedFast();
+
+    public int getNumberOfBulkEventLoads();
+
+    public int getNumberOfBulkLoadedEvents();
+
+    public int getNumberOfBulkLoadPendingEvents();
+
+    public long getLastBulkEventLoadTime();
+
     public String getLastHttpGetURL();
 
     public int getNumberOfCachePurgesDone();
@@ -48,4 +62,18 @@ public interface UnifiedOddsStatisticsMBean {
 
     public long getBytesReceived();
 
+    public int getNumberOfMessagesDiscardedProducerDisabled();
+
+    public int getNumberOfMessagesDiscardedProducerOutOfScope();
+
+    public int getNumberOfMessagesDiscardedDuplicateFixtureChange();
+
+    public int getNumberOfMessagesDiscardedBeforeDeserialization();
+
+    public long getNumberOfRenderedNameHits();
+
+    public long getNumberOfRenderedNameMisses();
+
+    public double getRenderedNameHitRatio();
+
 }
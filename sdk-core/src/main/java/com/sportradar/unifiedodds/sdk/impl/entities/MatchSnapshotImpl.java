@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.entities;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.sportradar.unifiedodds.sdk.entities.*;
+import com.sportradar.unifiedodds.sdk.entities.status.CompetitionStatus;
+import com.sportradar.unifiedodds.sdk.entities.status.MatchStatus;
+import com.sportradar.utils.URN;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * An immutable snapshot of a {@link Match}. All the values are read from the source match once, when the snapshot
+ * is created, so the getters do not access the caches or build new wrapper instances.
+ * <p>
+ * The values of the nested entities ({@link Competitor}, {@link LongTermEvent}) are still provided by the entities
+ * themselves, the snapshot only holds the same instances. The event timeline is only available if it was
+ * already cached when the snapshot was created.
+ * <p>
+ * Only the matches have a snapshot, the stages and tournaments are still provided by the cache backed entities.
+ */
+public class MatchSnapshotImpl extends SportEventImpl implements Match {
+    private static final Logger logger = LoggerFactory.getLogger(MatchSnapshotImpl.class);
+
+    private final List<Locale> locales;
+    private final Map<Locale, String> names;
+    private final MatchStatus status;
+    private final BookingStatus bookingStatus;
+    private final Venue venue;
+    private final SportEventConditions conditions;
+    private final List<Competitor> competitors;
+    private final TeamCompetitor homeCompetitor;
+    private final TeamCompetitor awayCompetitor;
+    private final SeasonInfo season;
+    private final Round tournamentRound;
+    private final LongTermEvent tournament;
+    private final Date scheduledTime;
+    private final Date scheduledEndTime;
+    private final Boolean startTimeTbd;
+    private final URN replacedBy;
+    private final Fixture fixture;
+    private final Map<Locale, EventTimeline> eventTimelines;
+    private final DelayedInfo delayedInfo;
+    private final CoverageInfo coverageInfo;
+    private final String liveOdds;
+    private final SportEventType sportEventType;
+
+    /**
+     * Initializes a new instance of the {@link MatchSnapshotImpl} with the current values of the provided match
+     *
+     * @param source the {@link Match} from which the values are read
+     * @param locales the {@link Locale}s in which the translatable values are read
+     */
+    public MatchSnapshotImpl(Match source, List<Locale> locales) {
+        super(source.getId(), source.getSportId());
+        Preconditions.checkNotNull(locales);
+
+        this.locales = ImmutableList.copyOf(locales);
+
+        Map<Locale, String> namesBuilder = new HashMap<>();
+        Map<Locale, EventTimeline> timelinesBuilder = new HashMap<>();
+        for (Locale locale : this.locales) {
+            String name = source.getName(locale);
+            if (name != null) {
+                namesBuilder.put(locale, name);
+            }
+            source.getEventTimelineIfPresent(locale).ifPresent(timeline -> timelinesBuilder.put(locale, timeline));
+        }
+        this.names = ImmutableMap.copyOf(namesBuilder);
+        this.eventTimelines = ImmutableMap.copyOf(timelinesBuilder);
+
+        this.status = source.getStatus();
+        this.bookingStatus = source.getBookingStatus();
+        this.venue = source.getVenue();
+        this.conditions = source.getConditions();
+
+        List<Competitor> sourceCompetitors = source.getCompetitors();
+        this.competitors = sourceCompetitors == null ? null : Collections.unmodifiableList(new ArrayList<>(sourceCompetitors));
+        this.homeCompetitor = provideTeamCompetitor(0);
+        this.awayCompetitor = provideTeamCompetitor(1);
+
+        this.season = source.getSeason();
+        this.tournamentRound = source.getTournamentRound();
+        this.tournament = source.getTournament();
+        this.scheduledTime = source.getScheduledTime();
+        this.scheduledEndTime = source.getScheduledEndTime();
+        this.startTimeTbd = source.isStartTimeTbd();
+        this.replacedBy = source.getReplacedBy();
+        this.fixture = source.getFixture();
+        this.delayedInfo = source.getDelayedInfo();
+        this.coverageInfo = source.getCoverageInfo();
+        this.liveOdds = source.getLiveOdds();
+        this.sportEventType = source.getSportEventType();
+    }
+
+    /**
+     * Returns the sport event name
+     *
+     * @param locale the {@link Locale} in which the name should be provided
+     * @return the sport event name if available; otherwise null
+     */
+    @Override
+    public String getName(Locale locale) {
+        return names.get(locale);
+    }
+
+    /**
+     * Returns the {@link MatchStatus} captured when the snapshot was created
+     *
+     * @return the {@link MatchStatus} captured when the snapshot was created
+     */
+    @Override
+    public MatchStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the {@link MatchStatus} captured when the snapshot was created
+     *
+     * @return the {@link MatchStatus} captured when the snapshot was created
+     */
+    @Override
+    public Optional<CompetitionStatus> getStatusIfPresent() {
+        return Optional.ofNullable(status);
+    }
+
+    /**
+     * Returns the {@link EventStatus} captured when the snapshot was created
+     *
+     * @return the {@link EventStatus} captured when the snapshot was created
+     */
+    @Override
+    public EventStatus getEventStatus() {
+        return status == null ? null : status.getStatus();
+    }
+
+    @Override
+    public BookingStatus getBookingStatus() {
+        return bookingStatus;
+    }
+
+    @Override
+    public Venue getVenue() {
+        return venue;
+    }
+
+    @Override
+    public SportEventConditions getConditions() {
+        return conditions;
+    }
+
+    @Override
+    public List<Competitor> getCompetitors() {
+        return competitors;
+    }
+
+    @Override
+    public SeasonInfo getSeason() {
+        return season;
+    }
+
+    @Override
+    public Round getTournamentRound() {
+        return tournamentRound;
+    }
+
+    @Override
+    public TeamCompetitor getHomeCompetitor() {
+        return homeCompetitor;
+    }
+
+    @Override
+    public TeamCompetitor getAwayCompetitor() {
+        return awayCompetitor;
+    }
+
+    @Override
+    public LongTermEvent getTournament() {
+        return tournament;
+    }
+
+    @Override
+    public Date getScheduledTime() {
+        return scheduledTime;
+    }
+
+    @Override
+    public Date getScheduledEndTime() {
+        return scheduledEndTime;
+    }
+
+    @SuppressWarnings("java:S2447") // Null should not be returned from a "Boolean" method
+    @Override
+    public Boolean isStartTimeTbd() {
+        return startTimeTbd;
+    }
+
+    @Override
+    public URN getReplacedBy() {
+        return replacedBy;
+    }
+
+    @Override
+    public Fixture getFixture() {
+        return fixture;
+    }
+
+    /**
+     * Returns the event timeline if it was cached when the snapshot was created
+     *
+     * @param locale the locale in which the timeline should be provided
+     * @return the associated event timeline or null if it was not cached
+     */
+    @Override
+    public EventTimeline getEventTimeline(Locale locale) {
+        return eventTimelines.get(locale);
+    }
+
+    @Override
+    public Optional<EventTimeline> getEventTimelineIfPresent(Locale locale) {
+        return Optional.ofNullable(eventTimelines.get(locale));
+    }
+
+    @Override
+    public DelayedInfo getDelayedInfo() {
+        return delayedInfo;
+    }
+
+    @Override
+    public CoverageInfo getCoverageInfo() {
+        return coverageInfo;
+    }
+
+    @Override
+    public String getLiveOdds() {
+        return liveOdds;
+    }
+
+    @Override
+    public SportEventType getSportEventType() {
+        return sportEventType;
+    }
+
+    /**
+     * Returns a {@link String} describing the current {@link Match} snapshot
+     *
+     * @return - a {@link String} describing the current {@link Match} snapshot
+     */
+    @Override
+    public String toString() {
+        return "MatchSnapshotImpl{" +
+                "id=" + id +
+                ", locales=" + locales +
+                "} ";
+    }
+
+    private TeamCompetitor provideTeamCompetitor(int index) {
+        if (competitors == null) {
+            return null;
+        }
+
+        if (competitors.size() != 2) {
+            if (index == 0) {
+                logger.warn("Received a Match[{}] with an invalid number of competitors -> {}", id, competitors.size());
+            }
+            return null;
+        }
+
+        Competitor competitor = competitors.get(index);
+        return competitor instanceof TeamCompetitor ? (TeamCompetitor) competitor : null;
+    }
+}
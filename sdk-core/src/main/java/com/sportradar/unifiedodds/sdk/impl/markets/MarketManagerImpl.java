@@ -22,6 +22,7 @@ import com.sportradar.unifiedodds.sdk.entities.markets.MarketMappingData;
 import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundException;
 import com.sportradar.unifiedodds.sdk.exceptions.internal.IllegalCacheStateException;
+import com.sportradar.unifiedodds.sdk.impl.SdkExecutors;
 import com.sportradar.unifiedodds.sdk.oddsentities.Market;
 import com.sportradar.unifiedodds.sdk.oddsentities.Producer;
 import com.sportradar.utils.SdkHelper;
@@ -31,7 +32,6 @@ import org.slf4j.LoggerFactory;
 import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -44,17 +44,23 @@ public class MarketManagerImpl implements MarketDescriptionManager {
     private final VariantDescriptionCache variantMarketDescriptionListCache;
     private final MarketDescriptionCache variantMarketDescriptionCache;
     private final ExceptionHandlingStrategy exceptionHandlingStrategy;
+    private final SdkExecutors sdkExecutors;
+    private final RenderedNameCache renderedNameCache;
 
     @Inject
     public MarketManagerImpl(SDKInternalConfiguration config,
                              MarketDescriptionProvider marketDescriptionProvider,
                              @Named("InvariantMarketCache") InvariantMarketDescriptionCache invariantMarketDescriptionCache,
                              VariantDescriptionCache variantMarketDescriptionListCache,
-                             @Named("VariantMarketCache") MarketDescriptionCache variantMarketDescriptionCache) {
+                             @Named("VariantMarketCache") MarketDescriptionCache variantMarketDescriptionCache,
+                             SdkExecutors sdkExecutors,
+                             RenderedNameCache renderedNameCache) {
         Preconditions.checkNotNull(config);
         Preconditions.checkNotNull(marketDescriptionProvider);
         Preconditions.checkNotNull(invariantMarketDescriptionCache);
         Preconditions.checkNotNull(variantMarketDescriptionCache);
+        Preconditions.checkNotNull(sdkExecutors);
+        Preconditions.checkNotNull(renderedNameCache);
 
         this.config = config;
         this.marketDescriptionProvider = marketDescriptionProvider;
@@ -62,6 +68,8 @@ public class MarketManagerImpl implements MarketDescriptionManager {
         this.variantMarketDescriptionListCache = variantMarketDescriptionListCache;
         this.variantMarketDescriptionCache = variantMarketDescriptionCache;
         this.exceptionHandlingStrategy = config.getExceptionHandlingStrategy();
+        this.sdkExecutors = sdkExecutors;
+        this.renderedNameCache = renderedNameCache;
     }
 
     /**
@@ -208,6 +216,7 @@ public class MarketManagerImpl implements MarketDescriptionManager {
     public boolean loadMarketDescriptions() {
         boolean a = invariantMarketDescriptionCache.loadMarketDescriptions();
         boolean b = variantMarketDescriptionListCache.loadMarketDescriptions();
+        renderedNameCache.invalidateAll();
         return a && b;
     }
 
@@ -219,6 +228,7 @@ public class MarketManagerImpl implements MarketDescriptionManager {
     @Override
     public void deleteVariantMarketDescriptionFromCache(int marketId, String variantValue){
         variantMarketDescriptionCache.deleteCacheItem(marketId, variantValue);
+        renderedNameCache.invalidateAll();
     }
 
     /**
@@ -227,7 +237,8 @@ public class MarketManagerImpl implements MarketDescriptionManager {
      *
      * @param markets the list of markets to be checked and fetched
      * @param onlyVariantMarkets prefetch only variant markets or all markets in the list (default: true)
-     * @param threadPoolSize the size of the fixed thread pool (default: 100)
+     * @param threadPoolSize the size of the fixed thread pool (default: 100), the pool is obtained from the configured
+     *                       {@link com.sportradar.unifiedodds.sdk.cfg.SdkExecutorProvider}
      * @return the time needed for processing in ms
      */
     @Override
@@ -238,7 +249,7 @@ public class MarketManagerImpl implements MarketDescriptionManager {
         }
 
         Stopwatch stopwatch = Stopwatch.createStarted();
-        ExecutorService threadPool = Executors.newFixedThreadPool(threadPoolSize);
+        ExecutorService threadPool = sdkExecutors.newExecutor("VariantMarketPrefetch", "-vmp-t-%d", threadPoolSize, true);
         List<Callable<String>> tasks = new ArrayList<>();
         for (Market market : markets) {
             if(onlyVariantMarkets) {
@@ -265,7 +276,7 @@ public class MarketManagerImpl implements MarketDescriptionManager {
             interactionLogger.error("Error prefetching variant market descriptions.", ex);
         }
 
-        threadPool.shutdown();
+        sdkExecutors.release(threadPool);
         stopwatch.stop();
         interactionLogger.info("Prefetching variant market descriptions for {} markets. Tasks: {}. Took {} ms.", markets.size(), tasks.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
         return stopwatch.elapsed(TimeUnit.MILLISECONDS);
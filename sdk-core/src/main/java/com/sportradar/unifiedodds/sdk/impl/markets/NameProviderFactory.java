@@ -6,6 +6,7 @@ package com.sportradar.unifiedodds.sdk.impl.markets;
 
 import com.sportradar.unifiedodds.sdk.entities.SportEvent;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -14,4 +15,17 @@ import java.util.Map;
  */
 public interface NameProviderFactory {
     NameProvider buildNameProvider(SportEvent sportEvent, int marketId, Map<String, String> specifiers, int producerId);
+
+    /**
+     * Builds a {@link NameProvider} for a market with the provided outcomes, the player and competitor profiles of the
+     * outcomes are fetched together when the first profile outcome name is requested
+     *
+     * @param sportEvent the associated sport event
+     * @param marketId the market identifier
+     * @param specifiers the market specifiers
+     * @param producerId the producer identifier
+     * @param outcomeIds the identifiers of the market outcomes
+     * @return the built {@link NameProvider}
+     */
+    NameProvider buildNameProvider(SportEvent sportEvent, int marketId, Map<String, String> specifiers, int producerId, List<String> outcomeIds);
 }
@@ -12,6 +12,8 @@ import com.sportradar.unifiedodds.sdk.caching.ProfileCache;
 import com.sportradar.unifiedodds.sdk.caching.markets.MarketDescriptionProvider;
 import com.sportradar.unifiedodds.sdk.entities.SportEvent;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -23,21 +25,29 @@ public class NameProviderFactoryImpl implements NameProviderFactory {
     private final ProfileCache profileCache;
     private final NameExpressionFactory expressionFactory;
     private final ExceptionHandlingStrategy exceptionHandlingStrategy;
+    private final RenderedNameCache renderedNameCache;
 
     @Inject
-    public NameProviderFactoryImpl(MarketDescriptionProvider descriptorProvider, ProfileCache profileCache, NameExpressionFactory expressionFactory, SDKInternalConfiguration cfg) {
+    public NameProviderFactoryImpl(MarketDescriptionProvider descriptorProvider, ProfileCache profileCache, NameExpressionFactory expressionFactory, SDKInternalConfiguration cfg, RenderedNameCache renderedNameCache) {
         Preconditions.checkNotNull(descriptorProvider);
         Preconditions.checkNotNull(profileCache);
         Preconditions.checkNotNull(expressionFactory);
+        Preconditions.checkNotNull(renderedNameCache);
 
         this.descriptorProvider = descriptorProvider;
         this.profileCache = profileCache;
         this.expressionFactory = expressionFactory;
         this.exceptionHandlingStrategy = cfg.getExceptionHandlingStrategy();
+        this.renderedNameCache = renderedNameCache;
     }
 
     @Override
     public NameProvider buildNameProvider(SportEvent sportEvent, int marketId, Map<String, String> specifiers, int producerId) {
-        return new NameProviderImpl(descriptorProvider, profileCache, expressionFactory, sportEvent, marketId, specifiers, producerId, exceptionHandlingStrategy);
+        return buildNameProvider(sportEvent, marketId, specifiers, producerId, Collections.emptyList());
+    }
+
+    @Override
+    public NameProvider buildNameProvider(SportEvent sportEvent, int marketId, Map<String, String> specifiers, int producerId, List<String> outcomeIds) {
+        return new NameProviderImpl(descriptorProvider, profileCache, expressionFactory, sportEvent, marketId, specifiers, producerId, exceptionHandlingStrategy, outcomeIds, renderedNameCache);
     }
 }
@@ -41,6 +41,7 @@ public class NameProviderImpl implements NameProvider {
     private static final String COMPETITOR_PROFILE_MARKET_PREFIX = "sr:competitor";
     private static final String SIMPLETEAM_PROFILE_MARKET_PREFIX = "sr:simpleteam";
     private static final String COMPOSITE_ID_SEPARATOR = ",";
+    private static final String NAME_ID_SEPARATOR = "|";
 
     private final MarketDescriptionProvider descriptorProvider;
     private final ProfileCache profileCache;
@@ -51,6 +52,10 @@ public class NameProviderImpl implements NameProvider {
     private final int producerId;
     private final ExceptionHandlingStrategy exceptionHandlingStrategy;
     private final Supplier<List<URN>> competitorList;
+    private final List<String> outcomeIds;
+    private final Set<Locale> prefetchedProfileLocales = new HashSet<>();
+    private final RenderedNameCache renderedNameCache;
+    private final String marketNameId;
 
     private Date lastReload = new Date(0);
 
@@ -61,7 +66,9 @@ public class NameProviderImpl implements NameProvider {
                     int marketId,
                     Map<String, String> marketSpecifiers,
                     int producerId,
-                    ExceptionHandlingStrategy exceptionHandlingStrategy) {
+                    ExceptionHandlingStrategy exceptionHandlingStrategy,
+                    List<String> outcomeIds,
+                    RenderedNameCache renderedNameCache) {
         Preconditions.checkNotNull(descriptorProvider);
         Preconditions.checkNotNull(profileCache);
         Preconditions.checkNotNull(expressionFactory);
@@ -69,6 +76,8 @@ public class NameProviderImpl implements NameProvider {
         Preconditions.checkArgument(marketId > 0);
         Preconditions.checkArgument(producerId > 0);
         Preconditions.checkNotNull(exceptionHandlingStrategy);
+        Preconditions.checkNotNull(outcomeIds);
+        Preconditions.checkNotNull(renderedNameCache);
 
         this.descriptorProvider = descriptorProvider;
         this.profileCache = profileCache;
@@ -79,6 +88,9 @@ public class NameProviderImpl implements NameProvider {
         this.producerId = producerId;
         this.exceptionHandlingStrategy = exceptionHandlingStrategy;
         this.competitorList = () -> provideSportEventCompetitorIds(sportEvent);
+        this.outcomeIds = outcomeIds;
+        this.renderedNameCache = renderedNameCache;
+        this.marketNameId = buildMarketNameId(marketId, marketSpecifiers);
     }
 
     @Override
@@ -88,6 +100,12 @@ public class NameProviderImpl implements NameProvider {
 
     @Override
     public Map<Locale, String> getMarketNames(List<Locale> locales) {
+        Preconditions.checkNotNull(locales);
+
+        return renderedNameCache.getNames(sportEvent.getId(), marketNameId, locales, this::renderMarketNames);
+    }
+
+    private Map<Locale, String> renderMarketNames(List<Locale> locales) {
         MarketDescription marketDescriptor;
         try {
             marketDescriptor = getMarketDescriptor(locales);
@@ -145,10 +163,14 @@ public class NameProviderImpl implements NameProvider {
 
     @Override
     public Map<Locale, String> getOutcomeNames(String outcomeId, List<Locale> locales) {
-
         Preconditions.checkArgument(!Strings.isNullOrEmpty(outcomeId));
         Preconditions.checkNotNull(locales);
 
+        return renderedNameCache.getNames(sportEvent.getId(), marketNameId + NAME_ID_SEPARATOR + outcomeId, locales,
+                missingLocales -> renderOutcomeNames(outcomeId, missingLocales));
+    }
+
+    private Map<Locale, String> renderOutcomeNames(String outcomeId, List<Locale> locales) {
         if (outcomeId.startsWith(PLAYER_PROFILE_MARKET_PREFIX) || outcomeId.startsWith(COMPETITOR_PROFILE_MARKET_PREFIX)) {
             try {
                 return getOutcomeNamesFromProfile(outcomeId, locales);
@@ -214,6 +236,9 @@ public class NameProviderImpl implements NameProvider {
         Preconditions.checkArgument(!Strings.isNullOrEmpty(outcomeId));
         Preconditions.checkNotNull(locales);
 
+        // the associated competitors were already fetched with the market profiles, no need to fetch them for each player
+        List<URN> possibleAssociatedCompetitorIds = prefetchMarketProfiles(locales) ? null : competitorList.get();
+
         String[] idParts = outcomeId.split(COMPOSITE_ID_SEPARATOR);
         Map<Locale, List<String>> names = locales.stream().collect(Collectors.toMap(l -> l, l -> new ArrayList<>(idParts.length)));
 
@@ -226,7 +251,7 @@ public class NameProviderImpl implements NameProvider {
             }
 
             if (idPart.startsWith(PLAYER_PROFILE_MARKET_PREFIX)) {
-                PlayerProfileCI playerProfile = profileCache.getPlayerProfile(profileId, locales, competitorList.get());
+                PlayerProfileCI playerProfile = profileCache.getPlayerProfile(profileId, locales, possibleAssociatedCompetitorIds);
                 for (Locale locale : locales) {
                     names.get(locale).add(playerProfile.getNames(locales).get(locale));
                 }
@@ -242,6 +267,52 @@ public class NameProviderImpl implements NameProvider {
                 .collect(Collectors.toMap(Map.Entry::getKey, n -> String.join(COMPOSITE_ID_SEPARATOR, n.getValue())));
     }
 
+    /**
+     * Fetches the profiles of all the profile outcomes of the market (and the profiles referenced by the market
+     * specifiers) together the first time a profile outcome name is requested in the provided locales, instead of
+     * fetching them one by one while the names of the outcomes are built
+     *
+     * @param locales the {@link Locale}s in which the names are requested
+     * @return <code>true</code> if the market profiles were fetched, otherwise <code>false</code>
+     */
+    private synchronized boolean prefetchMarketProfiles(List<Locale> locales) {
+        List<Locale> missingLocales = SdkHelper.findMissingLocales(prefetchedProfileLocales, locales);
+        if (missingLocales.isEmpty()) {
+            return true;
+        }
+
+        Set<URN> profileIds = new LinkedHashSet<>();
+        outcomeIds.forEach(id -> collectProfileIds(id, profileIds));
+        if (marketSpecifiers != null) {
+            marketSpecifiers.values().forEach(value -> collectProfileIds(value, profileIds));
+        }
+        if (profileIds.size() < 2) {
+            return false;
+        }
+
+        profileCache.prefetchProfiles(profileIds, missingLocales, competitorList.get());
+        prefetchedProfileLocales.addAll(missingLocales);
+        return true;
+    }
+
+    private static void collectProfileIds(String value, Set<URN> profileIds) {
+        if (Strings.isNullOrEmpty(value)) {
+            return;
+        }
+
+        for (String idPart : value.split(COMPOSITE_ID_SEPARATOR)) {
+            if (idPart.startsWith(PLAYER_PROFILE_MARKET_PREFIX)
+                    || idPart.startsWith(COMPETITOR_PROFILE_MARKET_PREFIX)
+                    || idPart.startsWith(SIMPLETEAM_PROFILE_MARKET_PREFIX)) {
+                try {
+                    profileIds.add(URN.parse(idPart));
+                } catch (UnsupportedUrnFormatException ex) {
+                    // reported when the name of the outcome is built
+                }
+            }
+        }
+    }
+
     private MarketDescription getMarketDescriptor(Locale locale) throws ObjectNotFoundException {
         Preconditions.checkNotNull(locale);
         return getMarketDescriptor(Collections.singletonList(locale));
@@ -330,6 +401,20 @@ public class NameProviderImpl implements NameProvider {
         }
     }
 
+    /**
+     * Builds the identifier of the market names within the event, the specifiers are ordered so the same market
+     * received with differently ordered specifiers shares the rendered names
+     */
+    private static String buildMarketNameId(int marketId, Map<String, String> marketSpecifiers) {
+        if (marketSpecifiers == null || marketSpecifiers.isEmpty()) {
+            return String.valueOf(marketId);
+        }
+
+        return marketId + NAME_ID_SEPARATOR + new TreeMap<>(marketSpecifiers).entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining("&"));
+    }
+
     private static List<URN> provideSportEventCompetitorIds(SportEvent sportEvent) {
         Preconditions.checkNotNull(sportEvent);
 
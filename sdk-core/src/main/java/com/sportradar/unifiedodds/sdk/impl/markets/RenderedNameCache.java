@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import com.sportradar.unifiedodds.sdk.impl.UnifiedOddsStatistics;
+import com.sportradar.utils.URN;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of the rendered market and outcome names. A rendered name depends only on the sport event (its
+ * competitors), the market, its specifiers, the outcome and the locale, so it is rendered once and reused by all the
+ * following messages of the event until the event data changes (fixture change or purge of the event cache data).
+ * The names are grouped by the sport event, so the names of a changed event are dropped with a single removal, while
+ * the bound applies to the number of the names of all the events. The hits and misses are reported by the
+ * {@link UnifiedOddsStatistics}.
+ */
+public class RenderedNameCache {
+    private static final Logger logger = LoggerFactory.getLogger(RenderedNameCache.class);
+
+    /**
+     * The max number of the cached names (all events, markets, outcomes and locales)
+     */
+    static final int MAX_CACHED_NAMES = 200_000;
+
+    /**
+     * How long the names of an event are cached, so the names follow the periodically refreshed market descriptions
+     */
+    private static final long CACHED_NAME_TIMEOUT_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private final Cache<URN, EventNames> names;
+    private final UnifiedOddsStatistics statsBean;
+
+    @Inject
+    RenderedNameCache(UnifiedOddsStatistics statsBean) {
+        this(statsBean, MAX_CACHED_NAMES);
+    }
+
+    /**
+     * @param statsBean the {@link UnifiedOddsStatistics} to which the hits and misses are reported
+     * @param maxCachedNames the max number of the cached names
+     */
+    RenderedNameCache(UnifiedOddsStatistics statsBean, int maxCachedNames) {
+        Preconditions.checkNotNull(statsBean);
+        Preconditions.checkArgument(maxCachedNames > 0);
+
+        this.statsBean = statsBean;
+        // the event itself weighs one, so the events without names are evicted as well
+        this.names = CacheBuilder.newBuilder()
+                .maximumWeight(maxCachedNames)
+                .weigher((URN eventId, EventNames eventNames) -> eventNames.size() + 1)
+                .build();
+    }
+
+    /**
+     * Returns the cached names in the requested locales, the names which are not cached yet are rendered by the
+     * provided renderer. The names which could not be rendered are not cached.
+     *
+     * @param eventId the identifier of the sport event to which the names belong
+     * @param nameId the identifier of the name within the event (market with specifiers and optionally the outcome)
+     * @param locales the {@link Locale}s in which the names are requested
+     * @param renderer the renderer used to render the names in the missing locales
+     * @return the names in the requested locales, the names which could not be rendered are missing
+     */
+    public Map<Locale, String> getNames(URN eventId, String nameId, List<Locale> locales, Function<List<Locale>, Map<Locale, String>> renderer) {
+        Preconditions.checkNotNull(eventId);
+        Preconditions.checkNotNull(nameId);
+        Preconditions.checkNotNull(locales);
+        Preconditions.checkNotNull(renderer);
+
+        EventNames eventNames = getEventNames(eventId);
+        Map<Locale, String> result = new HashMap<>(locales.size());
+        List<Locale> missingLocales = null;
+        for (Locale locale : locales) {
+            String name = eventNames.get(new NameKey(nameId, locale));
+            if (name != null) {
+                result.put(locale, name);
+            } else {
+                if (missingLocales == null) {
+                    missingLocales = new ArrayList<>(locales.size());
+                }
+                missingLocales.add(locale);
+            }
+        }
+
+        statsBean.onRenderedNameLookup(missingLocales == null);
+        if (missingLocales == null) {
+            return result;
+        }
+
+        Map<Locale, String> rendered = renderer.apply(missingLocales);
+        if (rendered != null) {
+            boolean added = false;
+            for (Locale locale : missingLocales) {
+                String name = rendered.get(locale);
+                if (name != null) {
+                    eventNames.put(new NameKey(nameId, locale), name);
+                    result.put(locale, name);
+                    added = true;
+                }
+            }
+            if (added) {
+                // re-weighs the event and evicts the names over the bound, a no-op if the event was invalidated meanwhile
+                names.asMap().replace(eventId, eventNames, eventNames);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the cached names of the provided sport event
+     *
+     * @param eventId the identifier of the sport event
+     */
+    public void invalidateEvent(URN eventId) {
+        Preconditions.checkNotNull(eventId);
+
+        names.invalidate(eventId);
+        logger.debug("Invalidated rendered names of event {}", eventId);
+    }
+
+    /**
+     * Removes all the cached names
+     */
+    public void invalidateAll() {
+        names.invalidateAll();
+    }
+
+    /**
+     * @return the number of the cached names
+     */
+    long size() {
+        return names.asMap().values().stream().mapToLong(EventNames::size).sum();
+    }
+
+    /**
+     * @return the number of the sport events with cached names
+     */
+    long eventCount() {
+        return names.size();
+    }
+
+    /**
+     * Returns the cached names of the provided sport event, the expired names are replaced by an empty map. A name
+     * rendered while the event is invalidated is put to the removed map and so it is not cached.
+     *
+     * @param eventId the identifier of the sport event
+     * @return the cached names of the sport event
+     */
+    private EventNames getEventNames(URN eventId) {
+        EventNames eventNames;
+        try {
+            eventNames = names.get(eventId, EventNames::new);
+        } catch (ExecutionException e) {
+            // creating an empty map does not fail
+            throw new IllegalStateException("The rendered names of event " + eventId + " could not be cached", e);
+        }
+
+        if (System.nanoTime() - eventNames.createdNanos < CACHED_NAME_TIMEOUT_NANOS) {
+            return eventNames;
+        }
+        // the expiry is not left to the cache, since adding the names to an event re-writes its entry
+        EventNames renewedNames = new EventNames();
+        names.asMap().replace(eventId, eventNames, renewedNames);
+        return renewedNames;
+    }
+
+    /**
+     * The rendered names of a single sport event, compared by the identity so a replaced or invalidated
+     * event is not re-written
+     */
+    private static final class EventNames {
+        private final Map<NameKey, String> names = new ConcurrentHashMap<>();
+        private final long createdNanos = System.nanoTime();
+
+        private String get(NameKey key) {
+            return names.get(key);
+        }
+
+        private void put(NameKey key, String name) {
+            names.put(key, name);
+        }
+
+        private int size() {
+            return names.size();
+        }
+    }
+
+    private static final class NameKey {
+        private final String nameId;
+        private final Locale locale;
+        private final int hash;
+
+        private NameKey(String nameId, Locale locale) {
+            this.nameId = nameId;
+            this.locale = locale;
+            this.hash = Objects.hash(nameId, locale);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof NameKey)) {
+                return false;
+            }
+            NameKey other = (NameKey) o;
+            return hash == other.hash
+                    && nameId.equals(other.nameId)
+                    && Objects.equals(locale, other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -97,7 +98,8 @@ public class MarketFactoryImpl implements MarketFactory {
             return Optional.empty();
         }
 
-        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId);
+        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId,
+                outcomeIds(market.getOutcome(), UFOddsChangeMarket.UFOutcome::getId));
 
         return Optional.of(new MarketWithOddsImpl(
                 market.getId(),
@@ -128,7 +130,8 @@ public class MarketFactoryImpl implements MarketFactory {
             return Optional.empty();
         }
 
-        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId);
+        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId,
+                outcomeIds(market.getOutcome(), UFBetSettlementMarket.UFOutcome::getId));
 
         return Optional.of(new MarketWithSettlementImpl(
                 market.getId(),
@@ -158,7 +161,8 @@ public class MarketFactoryImpl implements MarketFactory {
             return Optional.empty();
         }
 
-        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId);
+        NameProvider nameProvider = nameProviderFactory.buildNameProvider(sportEvent, market.getId(), specifiersMap, producerId,
+                outcomeIds(market.getOutcome(), UFOddsChangeMarket.UFOutcome::getId));
 
         return Optional.of(new MarketWithProbabilitiesImpl(
                 market.getId(),
@@ -225,6 +229,14 @@ public class MarketFactoryImpl implements MarketFactory {
         return specifiersMap;
     }
 
+    private static <T> List<String> outcomeIds(List<T> outcomes, Function<T, String> idProvider) {
+        if (outcomes == null || outcomes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return outcomes.stream().map(idProvider).collect(Collectors.toList());
+    }
+
     private MarketDescription getMarketDescription(int marketId, URN sportId, Map<String, String> specifiersMap, int producerId) throws CacheItemNotFoundException {
         Preconditions.checkNotNull(sportId);
         Preconditions.checkArgument(marketId > 0);
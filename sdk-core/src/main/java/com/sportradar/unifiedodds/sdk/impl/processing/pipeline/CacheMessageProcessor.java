@@ -15,6 +15,7 @@ import com.sportradar.unifiedodds.sdk.caching.SportEventStatusCache;
 import com.sportradar.unifiedodds.sdk.impl.FeedMessageProcessor;
 import com.sportradar.unifiedodds.sdk.impl.RoutingKeyInfo;
 import com.sportradar.unifiedodds.sdk.impl.dto.SportEventStatusDTO;
+import com.sportradar.unifiedodds.sdk.impl.markets.RenderedNameCache;
 import com.sportradar.unifiedodds.sdk.oddsentities.MessageTimestamp;
 import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
 import com.sportradar.utils.URN;
@@ -45,6 +46,11 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
      */
     private final ProcessedFixtureChangesTracker processedFixtureChangesTracker;
 
+    /**
+     * A {@link RenderedNameCache} used to purge the rendered market and outcome names of the changed events
+     */
+    private final RenderedNameCache renderedNameCache;
+
     /**
      * The {@link FeedMessageProcessor} implementation which should be called after the message has been processed
      */
@@ -56,19 +62,23 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
      * @param sportEventStatusCache the {@link SportEventStatusCache} used by the associated SDK instance
      * @param sportEventCache the {@link SportEventCache} used by the associated SDK instance
      * @param processedFixtureChangesTracker used to track processed fixture change messages
+     * @param renderedNameCache the {@link RenderedNameCache} used by the associated SDK instance
      */
     public CacheMessageProcessor(
             SportEventStatusCache sportEventStatusCache,
             SportEventCache sportEventCache,
-            ProcessedFixtureChangesTracker processedFixtureChangesTracker) {
+            ProcessedFixtureChangesTracker processedFixtureChangesTracker,
+            RenderedNameCache renderedNameCache) {
         Preconditions.checkNotNull(sportEventStatusCache);
         Preconditions.checkNotNull(sportEventCache);
         Preconditions.checkNotNull(processedFixtureChangesTracker);
+        Preconditions.checkNotNull(renderedNameCache);
 
         this.processorId = UUID.randomUUID().toString();
         this.sportEventStatusCache = sportEventStatusCache;
         this.sportEventCache = sportEventCache;
         this.processedFixtureChangesTracker = processedFixtureChangesTracker;
+        this.renderedNameCache = renderedNameCache;
     }
 
     /**
@@ -144,6 +154,7 @@ public class CacheMessageProcessor implements FeedMessageProcessor {
         sportEventCache.purgeCacheItem(relatedEventId);
         sportEventStatusCache.purgeSportEventStatus(relatedEventId);
         sportEventCache.addFixtureTimestamp(relatedEventId);
+        renderedNameCache.invalidateEvent(relatedEventId);
     }
 
     /**
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.processing.pipeline;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.Inject;
+import com.sportradar.uf.datamodel.UFFixtureChange;
+import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHelper;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link ProcessedFixtureChangesTracker} shared by all the sessions of a feed, which remembers the most recently
+ * received fixture changes, so the same fixture change received on multiple sessions (e.g. prematch, live and virtuals)
+ * is processed only once. The tracker does not lock, the number of the remembered fixture changes is bounded and
+ * the oldest ones are forgotten first.
+ */
+public class ProcessedFixtureChangesTrackerImpl implements ProcessedFixtureChangesTracker {
+    /**
+     * The default number of the remembered fixture changes
+     */
+    static final int DEFAULT_CAPACITY = 10000;
+
+    private final int capacity;
+    private final Set<String> processedKeys = ConcurrentHashMap.newKeySet();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    @Inject
+    ProcessedFixtureChangesTrackerImpl() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the max number of the remembered fixture changes
+     */
+    ProcessedFixtureChangesTrackerImpl(int capacity) {
+        Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Checks if the received fixture change was already processed and returns an indication about the processed state.
+     * Only the first of the concurrently received equal fixture changes is reported as not processed.
+     *
+     * @param fixtureChange the fixture change that needs to be checked
+     * @return if the fixture wasn't processed yet, the result is <code>false</code>, otherwise <code>true</code>
+     */
+    @Override
+    public boolean onFixtureChangeReceived(UFFixtureChange fixtureChange) {
+        Preconditions.checkNotNull(fixtureChange);
+
+        String key = FeedMessageHelper.generateFixtureChangeCacheKey(fixtureChange);
+        if (!processedKeys.add(key)) {
+            return true;
+        }
+
+        insertionOrder.offer(key);
+        if (size.incrementAndGet() > capacity) {
+            String evicted = insertionOrder.poll();
+            if (evicted != null) {
+                processedKeys.remove(evicted);
+                size.decrementAndGet();
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return the number of the currently remembered fixture changes
+     */
+    int size() {
+        return size.get();
+    }
+}
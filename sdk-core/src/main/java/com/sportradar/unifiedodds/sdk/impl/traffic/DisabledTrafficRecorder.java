@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.traffic;
+
+/**
+ * A {@link TrafficRecorder} implementation which ignores all records
+ */
+final class DisabledTrafficRecorder implements TrafficRecorder {
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordFeedMessage(String source, String routingKey, byte[] body, long sentAt, long receivedAt) {
+        // the recording is disabled
+    }
+
+    @Override
+    public void recordApiResponse(String source, String url, String response, long receivedAt) {
+        // the recording is disabled
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+}
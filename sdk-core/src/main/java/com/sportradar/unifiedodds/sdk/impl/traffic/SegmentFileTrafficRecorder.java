@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.traffic;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.Deflater;
+
+/**
+ * A {@link TrafficRecorder} which appends the records to rotating memory-mapped segment files. The recording threads
+ * only copy the records into a {@link TrafficRingBuffer}, the records are (optionally) compressed and written to the
+ * segments by a background writer running on the provided executor. The records which do not fit into the buffer are dropped and counted.
+ * The written segments can be read with the {@link TrafficRecordReader}.
+ */
+public class SegmentFileTrafficRecorder implements TrafficRecorder {
+    private static final Logger logger = LoggerFactory.getLogger(SegmentFileTrafficRecorder.class);
+
+    /**
+     * The default capacity of the buffer holding the records waiting to be written
+     */
+    public static final int DEFAULT_BUFFER_CAPACITY = 16 * 1024 * 1024;
+
+    /**
+     * The payloads shorter than this are not worth compressing
+     */
+    private static final int MIN_COMPRESSED_LENGTH = 128;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final boolean compression;
+    private final TrafficRingBuffer ringBuffer;
+    private final byte[] drainBuffer;
+    private final byte[] compressionBuffer;
+    private final Deflater deflater;
+    private final CountDownLatch writerCompleted = new CountDownLatch(1);
+    private final AtomicLong droppedRecords = new AtomicLong();
+    private final AtomicLong writtenRecords = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * The thread running the writer, unparked once the recorder is closed
+     */
+    private volatile Thread writerThread;
+
+    /**
+     * The segment currently being written, accessed only by the writer thread
+     */
+    private MappedByteBuffer segment;
+    private int segmentSequence;
+
+    /**
+     * Initializes a new {@link SegmentFileTrafficRecorder} and starts its writer on the provided executor
+     *
+     * @param directory the directory in which the segments are created
+     * @param segmentSize the size of a segment file in bytes
+     * @param maxSegments the max number of segments kept in the directory, the oldest ones are deleted
+     * @param compression an indication if the payloads should be compressed
+     * @param bufferCapacity the capacity of the buffer holding the records waiting to be written, must be a power of two
+     * @param writerExecutor the executor running the writer, the writer occupies one of its threads until the recorder is closed
+     */
+    public SegmentFileTrafficRecorder(Path directory, int segmentSize, int maxSegments, boolean compression, int bufferCapacity, ExecutorService writerExecutor) {
+        Preconditions.checkNotNull(directory);
+        Preconditions.checkArgument(segmentSize > TrafficSegmentFormat.HEADER_LENGTH);
+        Preconditions.checkArgument(maxSegments > 0);
+        Preconditions.checkNotNull(writerExecutor);
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("The traffic recorder directory could not be created: " + directory, e);
+        }
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.compression = compression;
+        this.ringBuffer = new TrafficRingBuffer(bufferCapacity);
+        this.drainBuffer = new byte[bufferCapacity];
+        this.compressionBuffer = compression ? new byte[bufferCapacity] : null;
+        this.deflater = compression ? new Deflater(Deflater.BEST_SPEED) : null;
+
+        writerExecutor.execute(this::runWriter);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !closed;
+    }
+
+    @Override
+    public void recordFeedMessage(String source, String routingKey, byte[] body, long sentAt, long receivedAt) {
+        if (body == null) {
+            return;
+        }
+        offer(TrafficRecordType.FEED_MESSAGE, source, routingKey, body, sentAt, receivedAt);
+    }
+
+    @Override
+    public void recordApiResponse(String source, String url, String response, long receivedAt) {
+        if (response == null) {
+            return;
+        }
+        offer(TrafficRecordType.API_RESPONSE, source, url, response.getBytes(StandardCharsets.UTF_8), 0, receivedAt);
+    }
+
+    /**
+     * Returns the number of records written to the segments
+     *
+     * @return the number of written records
+     */
+    public long getWrittenRecordCount() {
+        return writtenRecords.get();
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full or the segment could not be written
+     *
+     * @return the number of dropped records
+     */
+    public long getDroppedRecordCount() {
+        return droppedRecords.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        Thread writer = writerThread;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+        }
+        boolean completed = false;
+        try {
+            completed = writerCompleted.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!completed) {
+            logger.warn("Traffic recorder writer did not complete in time, some records may be lost");
+        }
+    }
+
+    private void offer(TrafficRecordType type, String source, String key, byte[] payload, long sentAt, long receivedAt) {
+        if (closed) {
+            return;
+        }
+
+        if (!ringBuffer.offer(type, sentAt, receivedAt, source == null ? "" : source, key == null ? "" : key, payload)) {
+            onDropped();
+        }
+    }
+
+    private void onDropped() {
+        long dropped = droppedRecords.incrementAndGet();
+        if (Long.bitCount(dropped) == 1) {
+            logger.warn("Traffic recorder could not keep up, {} records dropped so far", dropped);
+        }
+    }
+
+    private void runWriter() {
+        writerThread = Thread.currentThread();
+        boolean interrupted = false;
+        try {
+            while (true) {
+                if (Thread.interrupted()) {
+                    // the executor was shut down before the recorder was closed, the buffered records are still written,
+                    // so the interruption is cleared (it would close the segment file channels) and restored at the end
+                    interrupted = true;
+                    closed = true;
+                }
+                boolean stopping = closed;
+                int length = ringBuffer.drainTo(drainBuffer);
+                if (length > 0) {
+                    writeRecords(length);
+                } else if (stopping) {
+                    break;
+                } else {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Traffic recorder writer failed, the recording is stopped", e);
+            closed = true;
+        } finally {
+            completeSegment();
+            if (deflater != null) {
+                deflater.end();
+            }
+            writerThread = null;
+            writerCompleted.countDown();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void writeRecords(int length) {
+        ByteBuffer records = ByteBuffer.wrap(drainBuffer, 0, length);
+        while (records.hasRemaining()) {
+            int start = records.position();
+            int recordLength = records.getInt();
+            byte type = records.get();
+            long sentAt = records.getLong();
+            long receivedAt = records.getLong();
+            int sourceLength = records.getShort() & 0xFFFF;
+            int sourceOffset = records.position();
+            records.position(sourceOffset + sourceLength);
+            int keyLength = records.getShort() & 0xFFFF;
+            int keyOffset = records.position();
+            records.position(keyOffset + keyLength);
+            int payloadLength = records.getInt();
+            int payloadOffset = records.position();
+            records.position(start + recordLength);
+
+            byte[] stored = drainBuffer;
+            int storedOffset = payloadOffset;
+            int storedLength = payloadLength;
+            byte flags = 0;
+            if (compression && payloadLength >= MIN_COMPRESSED_LENGTH) {
+                int compressedLength = compress(payloadOffset, payloadLength);
+                if (compressedLength > 0 && compressedLength < payloadLength) {
+                    stored = compressionBuffer;
+                    storedOffset = 0;
+                    storedLength = compressedLength;
+                    flags = TrafficSegmentFormat.FLAG_COMPRESSED;
+                }
+            }
+
+            int segmentRecordLength = TrafficSegmentFormat.FIXED_RECORD_LENGTH + sourceLength + keyLength + storedLength;
+            if (!ensureSegmentCapacity(segmentRecordLength)) {
+                onDropped();
+                continue;
+            }
+
+            segment.putInt(segmentRecordLength)
+                    .put(type)
+                    .put(flags)
+                    .putLong(sentAt)
+                    .putLong(receivedAt)
+                    .putShort((short) sourceLength)
+                    .put(drainBuffer, sourceOffset, sourceLength)
+                    .putShort((short) keyLength)
+                    .put(drainBuffer, keyOffset, keyLength)
+                    .putInt(payloadLength)
+                    .putInt(storedLength)
+                    .put(stored, storedOffset, storedLength);
+            writtenRecords.incrementAndGet();
+        }
+    }
+
+    /**
+     * Compresses the payload into the compression buffer
+     *
+     * @return the length of the compressed payload or -1 if it does not fit into the compression buffer
+     */
+    private int compress(int offset, int length) {
+        deflater.reset();
+        deflater.setInput(drainBuffer, offset, length);
+        deflater.finish();
+        int compressedLength = deflater.deflate(compressionBuffer);
+        return deflater.finished() ? compressedLength : -1;
+    }
+
+    private boolean ensureSegmentCapacity(int recordLength) {
+        if (segment != null && segment.remaining() >= recordLength) {
+            return true;
+        }
+
+        completeSegment();
+        try {
+            openSegment(Math.max(segmentSize, TrafficSegmentFormat.HEADER_LENGTH + recordLength));
+        } catch (IOException e) {
+            logger.warn("Traffic recorder could not create a new segment in {}", directory, e);
+            return false;
+        }
+        deleteOldSegments();
+        return true;
+    }
+
+    private void openSegment(int size) throws IOException {
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date());
+        Path path = directory.resolve(String.format("%s%s-%06d%s",
+                TrafficSegmentFormat.FILE_PREFIX, timestamp, segmentSequence++, TrafficSegmentFormat.FILE_SUFFIX));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // the mapping stays valid after the channel is closed
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        segment.putInt(TrafficSegmentFormat.MAGIC).putShort(TrafficSegmentFormat.VERSION);
+        logger.info("Traffic recorder started a new segment {}", path);
+    }
+
+    private void completeSegment() {
+        if (segment == null) {
+            return;
+        }
+
+        try {
+            segment.force();
+        } catch (Exception e) {
+            logger.warn("Traffic recorder could not flush the segment", e);
+        }
+        segment = null;
+    }
+
+    private void deleteOldSegments() {
+        try {
+            List<Path> segments = TrafficRecordReader.listSegments(directory);
+            for (int i = 0; i < segments.size() - maxSegments; i++) {
+                Files.deleteIfExists(segments.get(i));
+            }
+        } catch (IOException e) {
+            logger.warn("Traffic recorder could not delete the old segments in {}", directory, e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.traffic;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A single record read from a traffic segment file
+ */
+public final class TrafficRecord {
+    private final TrafficRecordType type;
+    private final String source;
+    private final String key;
+    private final long sentAt;
+    private final long receivedAt;
+    private final byte[] payload;
+
+    TrafficRecord(TrafficRecordType type, String source, String key, long sentAt, long receivedAt, byte[] payload) {
+        this.type = type;
+        this.source = source;
+        this.key = key;
+        this.sentAt = sentAt;
+        this.receivedAt = receivedAt;
+        this.payload = payload;
+    }
+
+    /**
+     * Returns the type of the record
+     *
+     * @return the type of the record
+     */
+    public TrafficRecordType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the description of the session or fetcher which produced the record
+     *
+     * @return the description of the record source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the routing key of a feed message or the url of an API response
+     *
+     * @return the routing key or the url
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the time when the message was sent (in milliseconds since EPOCH UTC), 0 for API responses
+     *
+     * @return the time when the message was sent
+     */
+    public long getSentAt() {
+        return sentAt;
+    }
+
+    /**
+     * Returns the time when the message or response was received (in milliseconds since EPOCH UTC)
+     *
+     * @return the time when the message or response was received
+     */
+    public long getReceivedAt() {
+        return receivedAt;
+    }
+
+    /**
+     * Returns the raw (decompressed) payload
+     *
+     * @return the raw payload
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * Returns the payload decoded as an UTF-8 string
+     *
+     * @return the payload as a string
+     */
+    public String getPayloadAsString() {
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.traffic;
+
+import com.google.common.base.Preconditions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads the records from a segment file written by the {@link SegmentFileTrafficRecorder}
+ * <pre>
+ * for (Path segment : TrafficRecordReader.listSegments(directory)) {
+ *     try (TrafficRecordReader reader = new TrafficRecordReader(segment)) {
+ *         while (reader.hasNext()) {
+ *             TrafficRecord record = reader.next();
+ *         }
+ *     }
+ * }
+ * </pre>
+ * The reader holds a native inflater, so it should be closed once the records are read.
+ */
+public class TrafficRecordReader implements Iterator<TrafficRecord>, Closeable {
+    private final Path segment;
+    private final ByteBuffer buffer;
+    private final Inflater inflater;
+
+    /**
+     * Initializes a new {@link TrafficRecordReader} positioned before the first record of the provided segment
+     *
+     * @param segment the path of the segment file
+     * @throws IOException if the file could not be read or it is not a traffic segment
+     */
+    public TrafficRecordReader(Path segment) throws IOException {
+        Preconditions.checkNotNull(segment);
+
+        this.segment = segment;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.remaining() < TrafficSegmentFormat.HEADER_LENGTH || buffer.getInt() != TrafficSegmentFormat.MAGIC) {
+            throw new IOException("The file is not a traffic segment: " + segment);
+        }
+        short version = buffer.getShort();
+        if (version != TrafficSegmentFormat.VERSION) {
+            throw new IOException("Unsupported traffic segment version " + version + ": " + segment);
+        }
+
+        // created only once the segment is validated, so a failed constructor does not leak it
+        this.inflater = new Inflater();
+    }
+
+    /**
+     * Lists the segment files in the provided directory, ordered from the oldest to the newest
+     *
+     * @param directory the directory in which the segments were recorded
+     * @return the paths of the segment files
+     * @throws IOException if the directory could not be listed
+     */
+    public static List<Path> listSegments(Path directory) throws IOException {
+        Preconditions.checkNotNull(directory);
+
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                TrafficSegmentFormat.FILE_PREFIX + "*" + TrafficSegmentFormat.FILE_SUFFIX)) {
+            stream.forEach(segments::add);
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return buffer.remaining() >= TrafficSegmentFormat.FIXED_RECORD_LENGTH && buffer.getInt(buffer.position()) > 0;
+    }
+
+    @Override
+    public TrafficRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        int start = buffer.position();
+        int recordLength = buffer.getInt();
+        TrafficRecordType type = TrafficRecordType.fromCode(buffer.get());
+        byte flags = buffer.get();
+        long sentAt = buffer.getLong();
+        long receivedAt = buffer.getLong();
+        String source = readString();
+        String key = readString();
+        int originalLength = buffer.getInt();
+        byte[] stored = new byte[buffer.getInt()];
+        buffer.get(stored);
+        buffer.position(start + recordLength);
+
+        byte[] payload = (flags & TrafficSegmentFormat.FLAG_COMPRESSED) == 0 ? stored : decompress(stored, originalLength);
+        return new TrafficRecord(type, source, key, sentAt, receivedAt, payload);
+    }
+
+    /**
+     * Releases the native resources of the inflater, the reader can not be used afterwards
+     */
+    @Override
+    public void close() {
+        inflater.end();
+    }
+
+    private String readString() {
+        byte[] value = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private byte[] decompress(byte[] stored, int originalLength) {
+        byte[] payload = new byte[originalLength];
+        inflater.reset();
+        inflater.setInput(stored);
+        try {
+            int length = inflater.inflate(payload);
+            if (length != originalLength) {
+                throw new IllegalStateException("Corrupted record in the traffic segment " + segment);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted record in the traffic segment " + segment, e);
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.traffic;
+
+/**
+ * An enumeration of the recorded traffic types
+ */
+public enum TrafficRecordType {
+    /**
+     * A message received from the feed
+     */
+    FEED_MESSAGE((byte) 1),
+
+    /**
+     * A response received from the Sports API
+     */
+    API_RESPONSE((byte) 2);
+
+    private final byte code;
+
+    TrafficRecordType(byte code) {
+        this.code = code;
+    }
+
+    byte getCode() {
+        return code;
+    }
+
+    static TrafficRecordType fromCode(byte code) {
+        for (TrafficRecordType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
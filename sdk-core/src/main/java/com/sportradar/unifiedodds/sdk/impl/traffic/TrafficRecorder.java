@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.traffic;
+
+/**
+ * Defines methods implemented by classes used to record the raw feed and API traffic
+ */
+public interface TrafficRecorder {
+    /**
+     * A {@link TrafficRecorder} which does not record anything, used when the recording is not configured
+     */
+    TrafficRecorder DISABLED = new DisabledTrafficRecorder();
+
+    /**
+     * Returns an indication if the recorder records the traffic
+     *
+     * @return <code>true</code> if the recorder is enabled; otherwise <code>false</code>
+     */
+    boolean isEnabled();
+
+    /**
+     * Records the payload of a received feed message
+     *
+     * @param source the description of the session which received the message
+     * @param routingKey the routing key of the message
+     * @param body the raw message payload
+     * @param sentAt the time when the message was sent (in milliseconds since EPOCH UTC)
+     * @param receivedAt the time when the message was received (in milliseconds since EPOCH UTC)
+     */
+    void recordFeedMessage(String source, String routingKey, byte[] body, long sentAt, long receivedAt);
+
+    /**
+     * Records the response of a Sports API request
+     *
+     * @param source the description of the fetcher which made the request
+     * @param url the requested url
+     * @param response the content of the response
+     * @param receivedAt the time when the response was received (in milliseconds since EPOCH UTC)
+     */
+    void recordApiResponse(String source, String url, String response, long receivedAt);
+
+    /**
+     * Writes the pending records and releases the resources held by the recorder
+     */
+    void close();
+}
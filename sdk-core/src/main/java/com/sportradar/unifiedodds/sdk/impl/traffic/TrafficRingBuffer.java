@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.traffic;
+
+import com.google.common.base.Preconditions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded byte ring buffer holding the records waiting to be written to the segment file. The producers only copy
+ * the record into the buffer while holding the lock, the single consumer drains all the complete records at once.
+ * <p>
+ * A record in the buffer has the following layout:
+ * [int recordLength][byte type][long sentAt][long receivedAt][short sourceLength][source][short keyLength][key][int payloadLength][payload]
+ */
+final class TrafficRingBuffer {
+    static final int FIXED_RECORD_LENGTH = 4 + 1 + 8 + 8 + 2 + 2 + 4;
+    static final int MAX_STRING_LENGTH = Short.MAX_VALUE;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final byte[] buffer;
+    private final int mask;
+
+    /**
+     * The total number of written bytes, guarded by the lock
+     */
+    private long writePosition;
+
+    /**
+     * The total number of drained bytes, guarded by the lock
+     */
+    private long readPosition;
+
+    TrafficRingBuffer(int capacity) {
+        Preconditions.checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1, "The capacity must be a power of two");
+
+        this.buffer = new byte[capacity];
+        this.mask = capacity - 1;
+    }
+
+    int getCapacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Copies the provided record into the buffer
+     *
+     * @return <code>true</code> if the record was added; <code>false</code> if there was not enough free space
+     */
+    boolean offer(TrafficRecordType type, long sentAt, long receivedAt, String source, String key, byte[] payload) {
+        byte[] sourceBytes = isAscii(source) ? null : truncate(source.getBytes(StandardCharsets.UTF_8));
+        byte[] keyBytes = isAscii(key) ? null : truncate(key.getBytes(StandardCharsets.UTF_8));
+        int sourceLength = sourceBytes == null ? Math.min(source.length(), MAX_STRING_LENGTH) : sourceBytes.length;
+        int keyLength = keyBytes == null ? Math.min(key.length(), MAX_STRING_LENGTH) : keyBytes.length;
+        long recordLength = (long) FIXED_RECORD_LENGTH + sourceLength + keyLength + payload.length;
+        if (recordLength > buffer.length) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (writePosition - readPosition + recordLength > buffer.length) {
+                return false;
+            }
+
+            long position = writePosition;
+            position = putInt(position, (int) recordLength);
+            buffer[index(position++)] = type.getCode();
+            position = putLong(position, sentAt);
+            position = putLong(position, receivedAt);
+            position = putShort(position, sourceLength);
+            position = sourceBytes == null ? putAscii(position, source, sourceLength) : putBytes(position, sourceBytes, sourceLength);
+            position = putShort(position, keyLength);
+            position = keyBytes == null ? putAscii(position, key, keyLength) : putBytes(position, keyBytes, keyLength);
+            position = putInt(position, payload.length);
+            writePosition = putBytes(position, payload, payload.length);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves all the buffered records into the provided array
+     *
+     * @param target the array receiving the records, it must be at least as large as the buffer capacity
+     * @return the number of bytes copied to the target
+     */
+    int drainTo(byte[] target) {
+        lock.lock();
+        try {
+            int available = (int) (writePosition - readPosition);
+            if (available == 0) {
+                return 0;
+            }
+
+            int start = index(readPosition);
+            int firstChunk = Math.min(available, buffer.length - start);
+            System.arraycopy(buffer, start, target, 0, firstChunk);
+            System.arraycopy(buffer, 0, target, firstChunk, available - firstChunk);
+            readPosition = writePosition;
+            return available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int index(long position) {
+        return (int) (position & mask);
+    }
+
+    private long putShort(long position, int value) {
+        buffer[index(position)] = (byte) (value >>> 8);
+        buffer[index(position + 1)] = (byte) value;
+        return position + 2;
+    }
+
+    private long putInt(long position, int value) {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            buffer[index(position++)] = (byte) (value >>> shift);
+        }
+        return position;
+    }
+
+    private long putLong(long position, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[index(position++)] = (byte) (value >>> shift);
+        }
+        return position;
+    }
+
+    private long putAscii(long position, String value, int length) {
+        for (int i = 0; i < length; i++) {
+            buffer[index(position++)] = (byte) value.charAt(i);
+        }
+        return position;
+    }
+
+    private long putBytes(long position, byte[] value, int length) {
+        int start = index(position);
+        int firstChunk = Math.min(length, buffer.length - start);
+        System.arraycopy(value, 0, buffer, start, firstChunk);
+        System.arraycopy(value, firstChunk, buffer, 0, length - firstChunk);
+        return position + length;
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] truncate(byte[] value) {
+        if (value.length <= MAX_STRING_LENGTH) {
+            return value;
+        }
+        byte[] truncated = new byte[MAX_STRING_LENGTH];
+        System.arraycopy(value, 0, truncated, 0, MAX_STRING_LENGTH);
+        return truncated;
+    }
+}
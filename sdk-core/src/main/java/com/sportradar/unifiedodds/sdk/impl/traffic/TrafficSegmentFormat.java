@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.traffic;
+
+/**
+ * The layout of the traffic segment files.
+ * <p>
+ * A segment starts with the header [int magic][short version] followed by records with the following layout:
+ * [int recordLength][byte type][byte flags][long sentAt][long receivedAt][short sourceLength][source][short keyLength][key]
+ * [int originalPayloadLength][int storedPayloadLength][storedPayload]. The segments are pre-allocated, a record length
+ * of 0 marks the end of the written data.
+ */
+final class TrafficSegmentFormat {
+    static final int MAGIC = 0x55465452; // UFTR
+    static final short VERSION = 1;
+    static final int HEADER_LENGTH = 4 + 2;
+    static final int FIXED_RECORD_LENGTH = 4 + 1 + 1 + 8 + 8 + 2 + 2 + 4 + 4;
+    static final byte FLAG_COMPRESSED = 1;
+    static final String FILE_PREFIX = "traffic-";
+    static final String FILE_SUFFIX = ".uftr";
+
+    private TrafficSegmentFormat() {
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.sdk.impl.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The root element name and the routing related attributes of a feed message, read directly from the message bytes
+ * without the XML deserialization. Only the root element start tag is scanned, the rest of the payload is not touched.
+ */
+public final class FeedMessageHeader {
+    private static final byte[] PRODUCT = bytes("product");
+    private static final byte[] EVENT_ID = bytes("event_id");
+    private static final byte[] TIMESTAMP = bytes("timestamp");
+    private static final byte[] REQUEST_ID = bytes("request_id");
+
+    private final String rootElement;
+    private final Integer product;
+    private final String eventId;
+    private final Long timestamp;
+    private final Long requestId;
+
+    private FeedMessageHeader(String rootElement, Integer product, String eventId, Long timestamp, Long requestId) {
+        this.rootElement = rootElement;
+        this.product = product;
+        this.eventId = eventId;
+        this.timestamp = timestamp;
+        this.requestId = requestId;
+    }
+
+    /**
+     * Scans the start tag of the root element of the provided message
+     *
+     * @param body the raw message payload
+     * @return the scanned {@link FeedMessageHeader} or a null reference if the start tag could not be scanned
+     * (the message should be left to the XML deserialization, which reports the actual problem)
+     */
+    public static FeedMessageHeader scan(byte[] body) {
+        if (body == null) {
+            return null;
+        }
+
+        int pos = skipProlog(body);
+        if (pos < 0) {
+            return null;
+        }
+
+        // the root element name
+        int nameStart = ++pos;
+        while (pos < body.length && !isWhitespace(body[pos]) && body[pos] != '>' && body[pos] != '/') {
+            pos++;
+        }
+        if (pos == nameStart || pos >= body.length) {
+            return null;
+        }
+        String rootElement = new String(body, nameStart, pos - nameStart, StandardCharsets.US_ASCII);
+
+        Integer product = null;
+        String eventId = null;
+        Long timestamp = null;
+        Long requestId = null;
+        while (true) {
+            while (pos < body.length && isWhitespace(body[pos])) {
+                pos++;
+            }
+            if (pos >= body.length) {
+                return null;
+            }
+            if (body[pos] == '>' || body[pos] == '/') {
+                return new FeedMessageHeader(rootElement, product, eventId, timestamp, requestId);
+            }
+
+            int attrStart = pos;
+            while (pos < body.length && body[pos] != '=' && !isWhitespace(body[pos])) {
+                pos++;
+            }
+            int attrEnd = pos;
+            while (pos < body.length && isWhitespace(body[pos])) {
+                pos++;
+            }
+            if (pos >= body.length || body[pos] != '=') {
+                return null;
+            }
+            pos++;
+            while (pos < body.length && isWhitespace(body[pos])) {
+                pos++;
+            }
+            if (pos >= body.length || (body[pos] != '"' && body[pos] != '\'')) {
+                return null;
+            }
+            byte quote = body[pos++];
+            int valueStart = pos;
+            while (pos < body.length && body[pos] != quote) {
+                pos++;
+            }
+            if (pos >= body.length) {
+                return null;
+            }
+            int valueEnd = pos++;
+
+            if (matches(body, attrStart, attrEnd, PRODUCT)) {
+                Long value = parseLong(body, valueStart, valueEnd);
+                if (value == null || value > Integer.MAX_VALUE || value < Integer.MIN_VALUE) {
+                    return null;
+                }
+                product = value.intValue();
+            } else if (matches(body, attrStart, attrEnd, EVENT_ID)) {
+                eventId = new String(body, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+            } else if (matches(body, attrStart, attrEnd, TIMESTAMP)) {
+                timestamp = parseLong(body, valueStart, valueEnd);
+            } else if (matches(body, attrStart, attrEnd, REQUEST_ID)) {
+                requestId = parseLong(body, valueStart, valueEnd);
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the root element, e.g. odds_change
+     *
+     * @return the name of the root element
+     */
+    public String getRootElement() {
+        return rootElement;
+    }
+
+    /**
+     * Returns the value of the product attribute
+     *
+     * @return the id of the producer or a null reference if the attribute is not present
+     */
+    public Integer getProduct() {
+        return product;
+    }
+
+    /**
+     * Returns the value of the event_id attribute
+     *
+     * @return the id of the event or a null reference if the attribute is not present
+     */
+    public String getEventId() {
+        return eventId;
+    }
+
+    /**
+     * Returns the value of the timestamp attribute
+     *
+     * @return the message timestamp or a null reference if the attribute is not present or not valid
+     */
+    public Long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the value of the request_id attribute
+     *
+     * @return the id of the recovery request or a null reference if the attribute is not present or not valid
+     */
+    public Long getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Skips the BOM, the XML declaration, the processing instructions, the comments and the whitespace
+     *
+     * @return the position of the '&lt;' opening the root element or -1 if it was not found
+     */
+    private static int skipProlog(byte[] body) {
+        int pos = 0;
+        if (body.length >= 3 && (body[0] & 0xFF) == 0xEF && (body[1] & 0xFF) == 0xBB && (body[2] & 0xFF) == 0xBF) {
+            pos = 3;
+        }
+
+        while (pos < body.length) {
+            byte b = body[pos];
+            if (isWhitespace(b)) {
+                pos++;
+                continue;
+            }
+            if (b != '<' || pos + 1 >= body.length) {
+                return -1;
+            }
+
+            byte next = body[pos + 1];
+            if (next == '?') {
+                pos = indexOf(body, pos + 2, "?>");
+            } else if (next == '!') {
+                if (pos + 3 < body.length && body[pos + 2] == '-' && body[pos + 3] == '-') {
+                    pos = indexOf(body, pos + 4, "-->");
+                } else {
+                    // a DOCTYPE - left to the XML deserialization
+                    return -1;
+                }
+            } else {
+                return pos;
+            }
+
+            if (pos < 0) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the position right after the first occurrence of the terminator or -1 if it was not found
+     */
+    private static int indexOf(byte[] body, int from, String terminator) {
+        outer:
+        for (int i = from; i <= body.length - terminator.length(); i++) {
+            for (int j = 0; j < terminator.length(); j++) {
+                if (body[i + j] != terminator.charAt(j)) {
+                    continue outer;
+                }
+            }
+            return i + terminator.length();
+        }
+        return -1;
+    }
+
+    private static boolean matches(byte[] body, int start, int end, byte[] name) {
+        if (end - start != name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (body[start + i] != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Long parseLong(byte[] body, int start, int end) {
+        boolean negative = start < end && body[start] == '-';
+        int pos = negative ? start + 1 : start;
+        if (pos == end || end - pos > 18) {
+            return null;
+        }
+
+        long value = 0;
+        for (; pos < end; pos++) {
+            byte b = body[pos];
+            if (b < '0' || b > '9') {
+                return null;
+            }
+            value = value * 10 + (b - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -46,7 +46,19 @@ public class FeedMessageHelper {
      * @return a built cache key for the provided {@link UFFixtureChange}
      */
     public static String generateFixtureChangeCacheKey(UFFixtureChange fixtureChange) {
-        return fixtureChange.getProduct() + "_" + fixtureChange.getEventId() + "_" + fixtureChange.getTimestamp();
+        return generateFixtureChangeCacheKey(fixtureChange.getProduct(), fixtureChange.getEventId(), fixtureChange.getTimestamp());
+    }
+
+    /**
+     * Returns a built fixture change cache key for the provided values, e.g. read from a {@link FeedMessageHeader}
+     *
+     * @param producerId the id of the producer which sent the fixture change
+     * @param eventId the id of the associated event
+     * @param timestamp the timestamp of the fixture change
+     * @return a built cache key for the fixture change
+     */
+    public static String generateFixtureChangeCacheKey(int producerId, String eventId, long timestamp) {
+        return producerId + "_" + eventId + "_" + timestamp;
     }
 
     /**
@@ -78,6 +78,26 @@ public class LogFileChannel implements RabbitMqChannel {
         isOpened.set(true);
     }
 
+    /**
+     * The routing keys are not used by the log file channel
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be binded
+     */
+    @Override
+    public void bindRoutingKeys(List<String> routingKeys) {
+        // the log file channel replays all the logged messages
+    }
+
+    /**
+     * The routing keys are not used by the log file channel
+     *
+     * @param routingKeys - a {@link List} of routing keys which should be unbinded
+     */
+    @Override
+    public void unbindRoutingKeys(List<String> routingKeys) {
+        // the log file channel replays all the logged messages
+    }
+
     /**
      * Terminates the current channel
      */
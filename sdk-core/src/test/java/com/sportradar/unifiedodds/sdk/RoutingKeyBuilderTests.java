@@ -337,6 +337,20 @@ public class RoutingKeyBuilderTests {
         compareResults(result, validationMap);
     }
 
+    @Test
+    public void eventKeysMatchSpecifiedMatchesSessionKeys() {
+        Set<URN> eventIds = new HashSet<>(Arrays.asList(URN.parse("sr:match:1"), URN.parse("sr:simple_tournament:2")));
+        createdSessions.put(1, new SimpleEntry<>(MessageInterest.SpecifiedMatchesOnly, eventIds));
+
+        for (SDKInternalConfiguration cfg : Arrays.asList(getMockedCfg(), getMockedCfgWithNodeId())) {
+            List<String> sessionKeys = OddsFeedRoutingKeyBuilder.generateKeys(createdSessions, cfg).get(1);
+            List<String> eventKeys = OddsFeedRoutingKeyBuilder.generateEventKeys(eventIds, cfg);
+
+            Assert.assertEquals(cfg.getSdkNodeId() == null ? 2 : 4, eventKeys.size());
+            Assert.assertTrue("Session routing keys are missing event routing keys", sessionKeys.containsAll(eventKeys));
+        }
+    }
+
     private static void compareResults(Map<Integer, List<String>> result, Map<Integer, List<String>> validationMap) {
         Assert.assertEquals("Result map size doesn't match validation map size", result.size(), validationMap.size());
 
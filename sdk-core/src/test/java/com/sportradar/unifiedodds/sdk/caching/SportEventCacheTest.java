@@ -4,6 +4,7 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.util.Modules;
 import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.OperationManager;
 import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
 import com.sportradar.unifiedodds.sdk.caching.exportable.ExportableSdkCache;
 import com.sportradar.unifiedodds.sdk.caching.impl.DataRouterImpl;
@@ -18,6 +19,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.*;
 
 import static org.junit.Assert.*;
@@ -126,4 +128,36 @@ public class SportEventCacheTest {
         //Verify
         assertEquals(eventIds.size(), numOfDeleted);
     }
+
+    @Test
+    public void providesLoadedDateScheduleFromCache() throws Exception {
+        //Prepare
+        List<URN> eventIds = cache.getEventIds(new Date(120, 0, 29), LOCALE);
+
+        try {
+            OperationManager.setDateScheduleCacheTimeout(Duration.ofMinutes(10));
+
+            //Execute
+            List<URN> cachedIds = cache.getEventIds(new Date(120, 0, 29), LOCALE);
+
+            //Verify
+            assertEquals(eventIds, cachedIds);
+            assertEquals(eventIds.size(), cache.getCachedEventIds(new Date(120, 0, 1), new Date(120, 1, 1)).size());
+        } finally {
+            OperationManager.setDateScheduleCacheTimeout(Duration.ZERO);
+        }
+    }
+
+    @Test
+    public void deletesOnlySportEventsBeforeGivenDate() throws Exception {
+        //Prepare
+        List<URN> eventIds = cache.getEventIds(new Date(120, 0, 29), LOCALE);
+
+        //Execute
+        int numOfDeleted = cache.deleteSportEventsFromCache(new Date(120, 0, 1));
+
+        //Verify
+        assertEquals(0, numOfDeleted);
+        assertEquals(eventIds.size(), cache.getCachedEventIds(new Date(120, 0, 1), new Date(120, 1, 1)).size());
+    }
 }
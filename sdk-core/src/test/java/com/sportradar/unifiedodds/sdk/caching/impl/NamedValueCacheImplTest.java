@@ -0,0 +1,72 @@
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.sportradar.uf.sportsapi.datamodel.DescVoidReason;
+import com.sportradar.uf.sportsapi.datamodel.VoidReasonsDescriptions;
+import com.sportradar.unifiedodds.sdk.entities.NamedValue;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderException;
+import com.sportradar.unifiedodds.sdk.impl.DataProvider;
+import com.sportradar.unifiedodds.sdk.impl.SDKTaskScheduler;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class NamedValueCacheImplTest {
+    private final DataProvider dataProvider = Mockito.mock(DataProvider.class);
+    private final SDKTaskScheduler scheduler = Mockito.mock(SDKTaskScheduler.class);
+
+    @Test
+    public void definedValuesAreServedFromSnapshot() throws Exception {
+        when(dataProvider.getData()).thenReturn(buildDescriptions(1, 5000));
+        NamedValueCacheImpl cache = new NamedValueCacheImpl(dataProvider, scheduler);
+
+        NamedValue value = cache.getNamedValue(1);
+
+        assertEquals("reason 1", value.getDescription());
+        assertSame(value, cache.getNamedValue(1));
+        assertTrue(cache.isValueDefined(5000));
+        assertFalse(cache.isValueDefined(2));
+        verify(dataProvider, times(1)).getData();
+    }
+
+    @Test
+    public void failedInitialFetchIsNotRepeatedForEveryCall() throws Exception {
+        when(dataProvider.getData()).thenThrow(new DataProviderException("test"));
+        NamedValueCacheImpl cache = new NamedValueCacheImpl(dataProvider, scheduler);
+
+        for (int i = 0; i < 10; i++) {
+            assertFalse(cache.isValueDefined(1));
+            assertNull(cache.getNamedValue(1).getDescription());
+        }
+
+        verify(dataProvider, times(1)).getData();
+        verify(scheduler, never()).startOneTimeTask(anyString(), any(Runnable.class));
+    }
+
+    @Test
+    public void missesWithinBackoffDelayDoNotRefresh() throws Exception {
+        when(dataProvider.getData()).thenReturn(buildDescriptions(1));
+        NamedValueCacheImpl cache = new NamedValueCacheImpl(dataProvider, scheduler);
+        assertTrue(cache.isValueDefined(1));
+
+        for (int i = 0; i < 10; i++) {
+            assertFalse(cache.isValueDefined(2));
+        }
+
+        verify(scheduler, never()).startOneTimeTask(anyString(), any(Runnable.class));
+        verify(dataProvider, times(1)).getData();
+    }
+
+    private static VoidReasonsDescriptions buildDescriptions(int... ids) {
+        VoidReasonsDescriptions descriptions = new VoidReasonsDescriptions();
+        for (int id : ids) {
+            DescVoidReason reason = new DescVoidReason();
+            reason.setId(id);
+            reason.setDescription("reason " + id);
+            descriptions.getVoidReason().add(reason);
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,108 @@
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sportradar.unifiedodds.sdk.caching.CompetitorCI;
+import com.sportradar.unifiedodds.sdk.caching.DataRouterManager;
+import com.sportradar.unifiedodds.sdk.caching.PlayerProfileCI;
+import com.sportradar.unifiedodds.sdk.caching.impl.ci.CacheItemFactory;
+import com.sportradar.utils.URN;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ProfileCacheImplTest {
+    private static final List<Locale> LOCALES = Collections.singletonList(Locale.ENGLISH);
+    private static final URN HOME_ID = URN.parse("sr:competitor:1");
+    private static final URN AWAY_ID = URN.parse("sr:competitor:2");
+    private static final URN HOME_PLAYER_ID = URN.parse("sr:player:11");
+    private static final URN AWAY_PLAYER_ID = URN.parse("sr:player:21");
+    private static final URN UNLISTED_PLAYER_ID = URN.parse("sr:player:99");
+
+    private final Cache<URN, PlayerProfileCI> playerCache = CacheBuilder.newBuilder().build();
+    private final Cache<URN, CompetitorCI> competitorCache = CacheBuilder.newBuilder().build();
+    private final DataRouterManager dataRouterManager = mock(DataRouterManager.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private ProfileCacheImpl profileCache;
+
+    @Before
+    public void setup() throws Exception {
+        profileCache = new ProfileCacheImpl(mock(CacheItemFactory.class), dataRouterManager, playerCache, competitorCache,
+                CacheBuilder.newBuilder().build(), executor);
+
+        // the competitor profiles contain the profiles of their players
+        doAnswer(invocation -> {
+            URN competitorId = invocation.getArgument(1);
+            competitorCache.put(competitorId, competitor(LOCALES));
+            playerCache.put(competitorId.equals(HOME_ID) ? HOME_PLAYER_ID : AWAY_PLAYER_ID, player(LOCALES));
+            return null;
+        }).when(dataRouterManager).requestCompetitorEndpoint(any(), any(), any());
+        doAnswer(invocation -> {
+            playerCache.put(invocation.getArgument(1), player(LOCALES));
+            return null;
+        }).when(dataRouterManager).requestPlayerProfileEndpoint(any(), any(), any());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void playersAreFetchedWithTheirCompetitors() throws Exception {
+        profileCache.prefetchProfiles(Arrays.asList(HOME_PLAYER_ID, AWAY_PLAYER_ID, UNLISTED_PLAYER_ID), LOCALES, Arrays.asList(HOME_ID, AWAY_ID));
+
+        verify(dataRouterManager).requestCompetitorEndpoint(Locale.ENGLISH, HOME_ID, null);
+        verify(dataRouterManager).requestCompetitorEndpoint(Locale.ENGLISH, AWAY_ID, null);
+        verify(dataRouterManager).requestPlayerProfileEndpoint(Locale.ENGLISH, UNLISTED_PLAYER_ID, null);
+        verifyNoMoreInteractions(dataRouterManager);
+
+        // the competitor profiles are not requested again for the players which are not listed in them
+        playerCache.invalidate(UNLISTED_PLAYER_ID);
+        profileCache.prefetchProfiles(Arrays.asList(HOME_PLAYER_ID, UNLISTED_PLAYER_ID), LOCALES, Arrays.asList(HOME_ID, AWAY_ID));
+
+        verify(dataRouterManager, times(2)).requestPlayerProfileEndpoint(Locale.ENGLISH, UNLISTED_PLAYER_ID, null);
+        verifyNoMoreInteractions(dataRouterManager);
+    }
+
+    @Test
+    public void onlyMissingLocalesAreFetched() throws Exception {
+        playerCache.put(HOME_PLAYER_ID, player(LOCALES));
+        competitorCache.put(HOME_ID, competitor(Arrays.asList(Locale.ENGLISH, Locale.GERMAN)));
+        competitorCache.put(AWAY_ID, competitor(LOCALES));
+
+        profileCache.prefetchProfiles(Arrays.asList(HOME_PLAYER_ID, HOME_ID, AWAY_ID), LOCALES, null);
+        verifyNoMoreInteractions(dataRouterManager);
+
+        profileCache.prefetchProfiles(Arrays.asList(HOME_PLAYER_ID, HOME_ID, AWAY_ID), Arrays.asList(Locale.ENGLISH, Locale.GERMAN), null);
+        verify(dataRouterManager).requestPlayerProfileEndpoint(Locale.GERMAN, HOME_PLAYER_ID, null);
+        verify(dataRouterManager).requestCompetitorEndpoint(Locale.GERMAN, AWAY_ID, null);
+        verify(dataRouterManager, never()).requestCompetitorEndpoint(any(), eq(HOME_ID), any());
+        verifyNoMoreInteractions(dataRouterManager);
+    }
+
+    private static PlayerProfileCI player(List<Locale> cachedLocales) {
+        PlayerProfileCI player = mock(PlayerProfileCI.class);
+        when(player.getCachedLocales()).thenReturn(cachedLocales);
+        return player;
+    }
+
+    private static CompetitorCI competitor(List<Locale> cachedLocales) {
+        CompetitorCI competitor = mock(CompetitorCI.class);
+        when(competitor.getCachedLocales()).thenReturn(cachedLocales);
+        when(competitor.getCultureCompetitorProfileFetched()).thenReturn(cachedLocales);
+        return competitor;
+    }
+}
@@ -0,0 +1,75 @@
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.sportradar.utils.URN;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+public class SportEventScheduleIndexTest {
+    private static final long HOUR = 3600_000L;
+    private static final URN EVENT_1 = URN.parse("sr:match:1");
+    private static final URN EVENT_2 = URN.parse("sr:match:2");
+    private static final URN EVENT_3 = URN.parse("sr:match:3");
+
+    private final SportEventScheduleIndex index = new SportEventScheduleIndex();
+
+    @Test
+    public void candidatesBeforeContainOnlyEarlierBuckets() {
+        index.index(EVENT_1, new Date(10 * HOUR));
+        index.index(EVENT_2, new Date(12 * HOUR + 30 * 60_000));
+        index.index(EVENT_3, new Date(20 * HOUR));
+
+        assertEquals(Collections.singletonList(EVENT_1), index.getCandidatesBefore(new Date(12 * HOUR)));
+        // the boundary bucket is included, the caller checks the exact time
+        assertEquals(Arrays.asList(EVENT_1, EVENT_2), index.getCandidatesBefore(new Date(12 * HOUR + 1)));
+    }
+
+    @Test
+    public void candidatesBetweenIncludeOverlappingBuckets() {
+        index.index(EVENT_1, new Date(10 * HOUR + 50 * 60_000));
+        index.index(EVENT_2, new Date(11 * HOUR));
+        index.index(EVENT_3, new Date(13 * HOUR));
+
+        assertEquals(new HashSet<>(Arrays.asList(EVENT_1, EVENT_2)),
+                new HashSet<>(index.getCandidatesBetween(new Date(10 * HOUR + 55 * 60_000), new Date(13 * HOUR))));
+        assertTrue(index.getCandidatesBetween(new Date(13 * HOUR), new Date(13 * HOUR)).isEmpty());
+    }
+
+    @Test
+    public void rescheduledEventIsMovedToNewBucket() {
+        index.index(EVENT_1, new Date(10 * HOUR));
+        index.index(EVENT_1, new Date(30 * HOUR));
+
+        assertEquals(1, index.size());
+        assertTrue(index.getCandidatesBefore(new Date(20 * HOUR)).isEmpty());
+        assertEquals(Collections.singletonList(EVENT_1), index.getCandidatesBetween(new Date(30 * HOUR), new Date(31 * HOUR)));
+    }
+
+    @Test
+    public void removedOrUnscheduledEventsAreNotIndexed() {
+        index.index(EVENT_1, new Date(10 * HOUR));
+        index.index(EVENT_2, new Date(10 * HOUR));
+
+        index.remove(EVENT_1);
+        index.index(EVENT_2, null);
+
+        assertEquals(0, index.size());
+        assertTrue(index.getCandidatesBefore(new Date(100 * HOUR)).isEmpty());
+    }
+
+    @Test
+    public void eventIsRemovedOnlyIfConditionIsMet() {
+        index.index(EVENT_1, new Date(10 * HOUR));
+        index.index(EVENT_2, new Date(10 * HOUR));
+
+        index.removeIf(EVENT_1, id -> true);
+        index.removeIf(EVENT_2, id -> false);
+
+        assertEquals(Collections.singletonList(EVENT_2), index.getCandidatesBefore(new Date(100 * HOUR)));
+    }
+}
@@ -0,0 +1,70 @@
+package com.sportradar.unifiedodds.sdk.caching.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.CategoryCI;
+import com.sportradar.unifiedodds.sdk.caching.DataRouterManager;
+import com.sportradar.unifiedodds.sdk.caching.SportCI;
+import com.sportradar.unifiedodds.sdk.caching.impl.ci.CacheItemFactory;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.IllegalCacheStateException;
+import com.sportradar.utils.URN;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SportsDataCacheImplTest {
+    private static final List<Locale> LOCALES = Collections.singletonList(Locale.ENGLISH);
+
+    private final Cache<URN, SportCI> sportsCache = CacheBuilder.newBuilder().build();
+    private final Cache<URN, CategoryCI> categoriesCache = CacheBuilder.newBuilder().build();
+    private final Set<Locale> loadedLocales = ConcurrentHashMap.newKeySet();
+
+    @Test
+    public void joiningFeedDoesNotFetchTheLoadedSportsData() throws Exception {
+        DataRouterManager firstDataRouterManager = mock(DataRouterManager.class);
+        DataRouterManager joiningDataRouterManager = mock(DataRouterManager.class);
+
+        newSportsDataCache(firstDataRouterManager).getSports(LOCALES);
+        newSportsDataCache(joiningDataRouterManager).getSports(LOCALES);
+
+        verify(firstDataRouterManager).requestAllTournamentsForAllSportsEndpoint(Locale.ENGLISH);
+        verify(firstDataRouterManager).requestAllSportsEndpoint(Locale.ENGLISH);
+        assertTrue(loadedLocales.contains(Locale.ENGLISH));
+        verifyNoMoreInteractions(joiningDataRouterManager);
+    }
+
+    @Test
+    public void failedFetchIsRetried() throws Exception {
+        DataRouterManager dataRouterManager = mock(DataRouterManager.class);
+        doThrow(new CommunicationException("test", 500)).doNothing()
+                .when(dataRouterManager).requestAllSportsEndpoint(any());
+        SportsDataCacheImpl sportsDataCache = newSportsDataCache(dataRouterManager);
+
+        try {
+            sportsDataCache.getSports(LOCALES);
+            fail("the failed fetch should fail the request");
+        } catch (IllegalCacheStateException e) {
+            // expected
+        }
+        sportsDataCache.getSports(LOCALES);
+        sportsDataCache.getSports(LOCALES);
+
+        verify(dataRouterManager, times(2)).requestAllSportsEndpoint(Locale.ENGLISH);
+    }
+
+    private SportsDataCacheImpl newSportsDataCache(DataRouterManager dataRouterManager) {
+        return new SportsDataCacheImpl(sportsCache, categoriesCache, mock(CacheItemFactory.class),
+                mock(SDKInternalConfiguration.class), dataRouterManager, loadedLocales);
+    }
+}
@@ -0,0 +1,72 @@
+package com.sportradar.unifiedodds.sdk.caching.markets;
+
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketDescriptionCI;
+import com.sportradar.unifiedodds.sdk.caching.ci.markets.MarketSpecifierCI;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MarketSpecifiersIndexTest {
+    private MarketSpecifiersIndex index;
+
+    @Before
+    public void setup() {
+        index = MarketSpecifiersIndex.build(Arrays.asList(
+                mockMarket(1, Collections.emptyList()),
+                mockMarket(18, Collections.singletonList("total")),
+                mockMarket(199, Arrays.asList("variant", "total")),
+                mockMarket(10000, Collections.singletonList("hcp"))
+        ));
+    }
+
+    @Test
+    public void indexedMarketsAreRecognized() {
+        assertTrue(index.isMarketIndexed(1));
+        assertTrue(index.isMarketIndexed(10000));
+        assertFalse(index.isMarketIndexed(2));
+        assertFalse(MarketSpecifiersIndex.EMPTY.isMarketIndexed(1));
+        assertEquals("total,variant", index.getRequiredSpecifiers(199));
+    }
+
+    @Test
+    public void matchingSpecifiersAreValid() {
+        assertTrue(index.hasRequiredSpecifiers(1, "anything=1"));
+        assertTrue(index.hasRequiredSpecifiers(18, "total=2.5"));
+        assertTrue(index.hasRequiredSpecifiers(18, "total=2.5|"));
+        assertTrue(index.hasRequiredSpecifiers(199, "total=2.5|variant=sr:exact_goals:4+"));
+        assertTrue(index.hasRequiredSpecifiers(10000, "hcp=0:1"));
+    }
+
+    @Test
+    public void mismatchingSpecifiersAreInvalid() {
+        assertFalse(index.hasRequiredSpecifiers(18, "hcp=1"));
+        assertFalse(index.hasRequiredSpecifiers(18, "total=2.5|hcp=1"));
+        assertFalse(index.hasRequiredSpecifiers(199, "total=2.5"));
+        assertFalse(index.hasRequiredSpecifiers(18, "total"));
+        assertFalse(index.hasRequiredSpecifiers(18, "total="));
+        assertFalse(index.hasRequiredSpecifiers(18, "total=1=2"));
+        assertFalse(index.hasRequiredSpecifiers(199, "total=2.5||variant=x"));
+    }
+
+    private static MarketDescriptionCI mockMarket(int id, List<String> specifiers) {
+        MarketDescriptionCI market = Mockito.mock(MarketDescriptionCI.class);
+        Mockito.when(market.getId()).thenReturn(id);
+
+        List<MarketSpecifierCI> specifierCIs = new ArrayList<>();
+        for (String name : specifiers) {
+            MarketSpecifierCI specifier = Mockito.mock(MarketSpecifierCI.class);
+            Mockito.when(specifier.getName()).thenReturn(name);
+            specifierCIs.add(specifier);
+        }
+        Mockito.when(market.getSpecifiers()).thenReturn(specifierCIs);
+
+        return market;
+    }
+}
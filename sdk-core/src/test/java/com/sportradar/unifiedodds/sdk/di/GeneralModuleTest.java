@@ -1,6 +1,7 @@
 package com.sportradar.unifiedodds.sdk.di;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -77,4 +78,9 @@ public class GeneralModuleTest {
 
     verify(httpClientFactory).create(3000, 10, 20);
   }
+
+  @Test
+  public void provideUnmarshallerLockForEachConsumer() {
+    assertNotSame(module.provideUnmarshallerLock(), module.provideUnmarshallerLock());
+  }
 }
\ No newline at end of file
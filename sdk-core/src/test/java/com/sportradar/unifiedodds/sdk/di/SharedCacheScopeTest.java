@@ -0,0 +1,138 @@
+package com.sportradar.unifiedodds.sdk.di;
+
+import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.caching.CompetitorCI;
+import com.sportradar.unifiedodds.sdk.caching.SportCI;
+import com.sportradar.utils.URN;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+public class SharedCacheScopeTest {
+    private static final String API_HOST = "shared-scope-test.example.com";
+    private static final URN SPORT_ID = URN.parse("sr:sport:1");
+    private static final URN COMPETITOR_ID = URN.parse("sr:competitor:1");
+
+    @Test
+    public void feedsWithSameHostLocalesAndStrategyShareTheScope() {
+        SharedCacheScope first = acquire(API_HOST, Locale.ENGLISH, Locale.GERMAN);
+        SharedCacheScope second = acquire(API_HOST, Locale.ENGLISH, Locale.GERMAN);
+        SharedCacheScope otherOrder = acquire(API_HOST, Locale.GERMAN, Locale.ENGLISH);
+        SharedCacheScope otherLocales = acquire(API_HOST, Locale.ENGLISH);
+        SharedCacheScope otherHost = acquire("other-" + API_HOST, Locale.ENGLISH, Locale.GERMAN);
+        SharedCacheScope otherDefaultLocale = SharedCacheScope.acquire(API_HOST, Arrays.asList(Locale.ENGLISH, Locale.GERMAN),
+                Locale.GERMAN, ExceptionHandlingStrategy.Catch);
+        SharedCacheScope otherStrategy = SharedCacheScope.acquire(API_HOST, Arrays.asList(Locale.ENGLISH, Locale.GERMAN),
+                Locale.ENGLISH, ExceptionHandlingStrategy.Throw);
+        try {
+            assertSame(first, second);
+            assertEquals(2, first.getReferences());
+            assertNotSame(first, otherOrder);
+            assertNotSame(first, otherLocales);
+            assertNotSame(first, otherHost);
+            assertNotSame(first, otherDefaultLocale);
+            assertNotSame(first, otherStrategy);
+            assertNotSame(first, SharedCacheScope.create());
+        } finally {
+            first.release();
+            second.release();
+            otherOrder.release();
+            otherLocales.release();
+            otherHost.release();
+            otherDefaultLocale.release();
+            otherStrategy.release();
+        }
+    }
+
+    @Test
+    public void cachesAreInvalidatedByTheLastFeed() {
+        SharedCacheScope first = acquire(API_HOST, Locale.ENGLISH);
+        SharedCacheScope second = acquire(API_HOST, Locale.ENGLISH);
+        first.getSportDataCache().put(SPORT_ID, mock(SportCI.class));
+        first.getCompetitorCache().put(COMPETITOR_ID, mock(CompetitorCI.class));
+        first.getSportsDataLoadedLocales().add(Locale.ENGLISH);
+
+        first.release();
+
+        assertEquals(1, second.getReferences());
+        assertNotNull(second.getSportDataCache().getIfPresent(SPORT_ID));
+        assertTrue(second.getSportsDataLoadedLocales().contains(Locale.ENGLISH));
+        // the profiles fetch the missing data through the feed which created them
+        assertNull(second.getCompetitorCache().getIfPresent(COMPETITOR_ID));
+
+        second.release();
+
+        assertEquals(0, second.getReferences());
+        assertNull(second.getSportDataCache().getIfPresent(SPORT_ID));
+        assertTrue(second.getSportsDataLoadedLocales().isEmpty());
+        SharedCacheScope next = acquire(API_HOST, Locale.ENGLISH);
+        try {
+            assertNotSame(second, next);
+        } finally {
+            next.release();
+        }
+    }
+
+    @Test
+    public void providerAcquiresTheScopeOnFirstUseAndReleasesItOnce() throws Exception {
+        AtomicInteger acquired = new AtomicInteger();
+        InternalCachesProviderImpl provider = new InternalCachesProviderImpl(() -> {
+            acquired.incrementAndGet();
+            return acquire(API_HOST, Locale.ITALIAN);
+        });
+        assertEquals(0, acquired.get());
+
+        SharedCacheScope scope = acquire(API_HOST, Locale.ITALIAN);
+        try {
+            assertSame(scope.getSportDataCache(), provider.getSportDataCache());
+            assertSame(scope.getInvariantMarketCache(), provider.getInvariantMarketCache());
+            provider.getCategoryDataCache();
+            assertEquals(1, acquired.get());
+            assertEquals(2, scope.getReferences());
+
+            provider.close();
+            provider.close();
+
+            assertEquals(1, scope.getReferences());
+        } finally {
+            scope.release();
+        }
+    }
+
+    @Test
+    public void profileCachesAreSharedUntilAFeedIsClosed() throws Exception {
+        InternalCachesProviderImpl first = new InternalCachesProviderImpl(() -> acquire(API_HOST, Locale.FRENCH));
+        InternalCachesProviderImpl second = new InternalCachesProviderImpl(() -> acquire(API_HOST, Locale.FRENCH));
+        try {
+            assertSame(first.getPlayerProfileCache(), second.getPlayerProfileCache());
+            assertSame(first.getCompetitorCache(), second.getCompetitorCache());
+            assertSame(first.getSimpleTeamCompetitorCache(), second.getSimpleTeamCompetitorCache());
+
+            second.getCompetitorCache().put(COMPETITOR_ID, mock(CompetitorCI.class));
+            assertNotNull(first.getCompetitorCache().getIfPresent(COMPETITOR_ID));
+
+            first.close();
+
+            assertNull(second.getCompetitorCache().getIfPresent(COMPETITOR_ID));
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void releasedScopeCanNotBeReleasedAgain() {
+        SharedCacheScope scope = SharedCacheScope.create();
+        scope.release();
+        scope.release();
+    }
+
+    private static SharedCacheScope acquire(String apiHost, Locale... locales) {
+        return SharedCacheScope.acquire(apiHost, Arrays.asList(locales), locales[0], ExceptionHandlingStrategy.Catch);
+    }
+}
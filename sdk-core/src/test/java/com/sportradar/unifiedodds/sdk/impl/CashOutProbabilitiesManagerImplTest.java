@@ -0,0 +1,141 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.uf.datamodel.UFCashout;
+import com.sportradar.unifiedodds.sdk.CashOutProbabilitiesRequest;
+import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.SportEntityFactory;
+import com.sportradar.unifiedodds.sdk.entities.SportEvent;
+import com.sportradar.unifiedodds.sdk.exceptions.ObjectNotFoundException;
+import com.sportradar.unifiedodds.sdk.oddsentities.CashOutProbabilities;
+import com.sportradar.utils.URN;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class CashOutProbabilitiesManagerImplTest {
+    private static final URN EVENT_ID = URN.parse("sr:match:1");
+
+    private final DataProvider<UFCashout> dataProvider = uncheckedMock(DataProvider.class);
+    private final FeedMessageFactory feedMessageFactory = Mockito.mock(FeedMessageFactory.class);
+    private final SportEntityFactory sportEntityFactory = Mockito.mock(SportEntityFactory.class);
+    private final SDKInternalConfiguration config = Mockito.mock(SDKInternalConfiguration.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private CashOutProbabilitiesManagerImpl manager;
+
+    @Before
+    public void setup() throws Exception {
+        when(config.getDefaultLocale()).thenReturn(Locale.ENGLISH);
+        when(config.getDesiredLocales()).thenReturn(Collections.singletonList(Locale.ENGLISH));
+        when(config.getExceptionHandlingStrategy()).thenReturn(ExceptionHandlingStrategy.Catch);
+        when(sportEntityFactory.buildSportEvent(any(URN.class), anyList(), anyBoolean())).thenReturn(Mockito.mock(SportEvent.class));
+        when(feedMessageFactory.buildCashOutProbabilities(any(), any(UFCashout.class), any()))
+                .thenAnswer(invocation -> Mockito.mock(CashOutProbabilities.class));
+
+        manager = new CashOutProbabilitiesManagerImpl(dataProvider, feedMessageFactory, sportEntityFactory, config, executor);
+    }
+
+    @After
+    public void cleanup() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentIdenticalRequestsAreFetchedOnce() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        AtomicInteger fetchCount = new AtomicInteger();
+        when(dataProvider.getData(ArgumentMatchers.<Locale>isNull(), anyString())).thenAnswer(invocation -> {
+            fetchCount.incrementAndGet();
+            fetchStarted.countDown();
+            releaseFetch.await(5, TimeUnit.SECONDS);
+            return new UFCashout();
+        });
+
+        Future<CashOutProbabilities<SportEvent>> first = executor.submit(() -> manager.getCashOutProbabilities(EVENT_ID, 1, null));
+        assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+        Future<CashOutProbabilities<SportEvent>> second = executor.submit(() -> manager.getCashOutProbabilities(EVENT_ID, 1, null));
+
+        Thread.sleep(100);
+        releaseFetch.countDown();
+
+        assertNotNull(first.get(5, TimeUnit.SECONDS));
+        assertNotNull(second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    public void batchRequestsAreDeduplicatedAndReturnedInRequestOrder() throws Exception {
+        when(dataProvider.getData(ArgumentMatchers.<Locale>isNull(), anyString())).thenAnswer(invocation -> new UFCashout());
+
+        Map<String, String> specifiers = new HashMap<>();
+        specifiers.put("total", "2.5");
+        CashOutProbabilitiesRequest eventRequest = CashOutProbabilitiesRequest.forEvent(EVENT_ID);
+        CashOutProbabilitiesRequest marketRequest = CashOutProbabilitiesRequest.forMarket(EVENT_ID, 18, specifiers);
+
+        List<CashOutProbabilities<SportEvent>> result =
+                manager.getCashOutProbabilities(Arrays.asList(eventRequest, marketRequest, eventRequest));
+
+        assertEquals(3, result.size());
+        assertSame(result.get(0), result.get(2));
+        assertNotSame(result.get(0), result.get(1));
+        verify(dataProvider, times(1)).getData((Locale) null, "sr:match:1");
+        verify(dataProvider, times(1)).getData((Locale) null, "sr:match:1/18/total=2.5");
+    }
+
+    @Test
+    public void failedBatchEntryIsNullWithCatchStrategy() throws Exception {
+        when(dataProvider.getData(ArgumentMatchers.<Locale>isNull(), eq("sr:match:1"))).thenReturn(new UFCashout());
+        when(dataProvider.getData(ArgumentMatchers.<Locale>isNull(), eq("sr:match:2")))
+                .thenThrow(new com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderException("test"));
+
+        List<CashOutProbabilities<SportEvent>> result = manager.getCashOutProbabilities(Arrays.asList(
+                CashOutProbabilitiesRequest.forEvent(URN.parse("sr:match:2")),
+                CashOutProbabilitiesRequest.forEvent(EVENT_ID)));
+
+        assertNull(result.get(0));
+        assertNotNull(result.get(1));
+    }
+
+    @Test
+    public void failedBatchEntryIsNullWithThrowStrategy() throws Exception {
+        when(config.getExceptionHandlingStrategy()).thenReturn(ExceptionHandlingStrategy.Throw);
+        manager = new CashOutProbabilitiesManagerImpl(dataProvider, feedMessageFactory, sportEntityFactory, config, executor);
+        when(dataProvider.getData(ArgumentMatchers.<Locale>isNull(), eq("sr:match:1"))).thenReturn(new UFCashout());
+        when(dataProvider.getData(ArgumentMatchers.<Locale>isNull(), eq("sr:match:2")))
+                .thenThrow(new com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderException("test"));
+
+        List<CashOutProbabilities<SportEvent>> result = manager.getCashOutProbabilities(Arrays.asList(
+                CashOutProbabilitiesRequest.forEvent(URN.parse("sr:match:2")),
+                CashOutProbabilitiesRequest.forEvent(EVENT_ID)));
+
+        assertNull(result.get(0));
+        assertNotNull(result.get(1));
+    }
+
+    @Test(expected = ObjectNotFoundException.class)
+    public void failedSingleRequestThrowsWithThrowStrategy() throws Exception {
+        when(config.getExceptionHandlingStrategy()).thenReturn(ExceptionHandlingStrategy.Throw);
+        manager = new CashOutProbabilitiesManagerImpl(dataProvider, feedMessageFactory, sportEntityFactory, config, executor);
+        when(dataProvider.getData(ArgumentMatchers.<Locale>isNull(), eq("sr:match:1")))
+                .thenThrow(new com.sportradar.unifiedodds.sdk.exceptions.internal.DataProviderException("test"));
+
+        manager.getCashOutProbabilities(EVENT_ID);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T uncheckedMock(Class<?> type) {
+        return (T) Mockito.mock(type);
+    }
+}
@@ -0,0 +1,111 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.rabbitmq.client.Channel;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class ChannelDeliveryBufferTest {
+    private final List<String> dispatched = Collections.synchronizedList(new ArrayList<>());
+    private Thread dispatcher;
+
+    @After
+    public void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    @Test
+    public void dispatchedMessagesAreAcknowledgedInBatches() throws Exception {
+        Channel channel = openChannel();
+        ChannelDeliveryBuffer buffer = new ChannelDeliveryBuffer(8, 2, (deliveryChannel, deliveryTag, routingKey, body, properties, receivedAt) -> !dispatched.add(routingKey), null);
+        for (int i = 1; i <= 5; i++) {
+            buffer.put(channel, i, "key" + i, new byte[0], null, 0);
+        }
+        assertEquals(5, buffer.getHighWaterMark());
+
+        start(buffer);
+
+        InOrder inOrder = inOrder(channel);
+        inOrder.verify(channel, timeout(5000)).basicAck(2, true);
+        inOrder.verify(channel, timeout(5000)).basicAck(4, true);
+        // the last message is acknowledged once the buffer is drained
+        inOrder.verify(channel, timeout(5000)).basicAck(5, true);
+        assertEquals(5, dispatched.size());
+        assertEquals("key1", dispatched.get(0));
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void messagesAreAcknowledgedOnTheirChannel() throws Exception {
+        Channel closedChannel = mock(Channel.class);
+        Channel firstChannel = openChannel();
+        Channel secondChannel = openChannel();
+        ChannelDeliveryBuffer buffer = new ChannelDeliveryBuffer(8, 4, (deliveryChannel, deliveryTag, routingKey, body, properties, receivedAt) -> !dispatched.add(routingKey), null);
+        buffer.put(closedChannel, 7, "closed", new byte[0], null, 0);
+        buffer.put(firstChannel, 1, "first1", new byte[0], null, 0);
+        buffer.put(firstChannel, 2, "first2", new byte[0], null, 0);
+        buffer.put(secondChannel, 1, "second1", new byte[0], null, 0);
+
+        start(buffer);
+
+        verify(firstChannel, timeout(5000)).basicAck(2, true);
+        verify(secondChannel, timeout(5000)).basicAck(1, true);
+        verify(closedChannel, never()).basicAck(anyLong(), anyBoolean());
+        assertEquals(4, dispatched.size());
+    }
+
+    @Test
+    public void failedDispatchIsAcknowledged() throws Exception {
+        Channel channel = openChannel();
+        CountDownLatch dispatchedLatch = new CountDownLatch(2);
+        ChannelDeliveryBuffer buffer = new ChannelDeliveryBuffer(4, 4, (deliveryChannel, deliveryTag, routingKey, body, properties, receivedAt) -> {
+            dispatchedLatch.countDown();
+            throw new IllegalStateException("listener failed");
+        }, null);
+        buffer.put(channel, 1, "key1", new byte[0], null, 0);
+        buffer.put(channel, 2, "key2", new byte[0], null, 0);
+
+        start(buffer);
+
+        assertTrue(dispatchedLatch.await(5, TimeUnit.SECONDS));
+        verify(channel, timeout(5000)).basicAck(2, true);
+    }
+
+    @Test
+    public void messagesAcknowledgedByHandlerAreNotAcknowledged() throws Exception {
+        Channel channel = openChannel();
+        ChannelDeliveryBuffer buffer = new ChannelDeliveryBuffer(4, 1, (deliveryChannel, deliveryTag, routingKey, body, properties, receivedAt) -> dispatched.add(routingKey), null);
+        buffer.put(channel, 1, "key1", new byte[0], null, 0);
+        buffer.put(channel, 2, "key2", new byte[0], null, 0);
+
+        start(buffer);
+
+        verify(channel, after(500).never()).basicAck(anyLong(), anyBoolean());
+        assertEquals(2, dispatched.size());
+    }
+
+    private void start(ChannelDeliveryBuffer buffer) {
+        dispatcher = new Thread(buffer, "delivery-buffer-test");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    private static Channel openChannel() {
+        Channel channel = mock(Channel.class);
+        when(channel.isOpen()).thenReturn(true);
+        return channel;
+    }
+}
@@ -0,0 +1,220 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.rabbitmq.client.*;
+import com.sportradar.unifiedodds.sdk.OperationManager;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.cfg.DefaultSdkExecutorProvider;
+import com.sportradar.unifiedodds.sdk.impl.apireaders.WhoAmIReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ChannelHealthMonitorTest {
+    private static final long SILENCE_NANOS = OperationManager.getChannelSilenceTimeout().toNanos();
+
+    private final ChannelHealthMonitor monitor = new ChannelHealthMonitor(TimeUnit.HOURS.toMillis(1));
+    private final AMQPConnectionFactory connectionFactory = mock(AMQPConnectionFactory.class);
+    private final Connection connection = mock(Connection.class);
+    private final SDKInternalConfiguration configuration = mock(SDKInternalConfiguration.class);
+    private final SdkExecutors sdkExecutors = new SdkExecutors(new DefaultSdkExecutorProvider(), "uf-sdk-test");
+    private ExecutorService maintenanceExecutor = MoreExecutors.newDirectExecutorService();
+    private WhoAmIReader whoAmIReader;
+    private RabbitMqChannelImpl rabbitMqChannel;
+    private Channel lastChannel;
+
+    @Before
+    public void setup() throws Exception {
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connectionFactory.canConnectionOpen()).thenReturn(true);
+        when(connectionFactory.isConnectionOpen()).thenReturn(true);
+        when(connectionFactory.getConnectionStarted()).thenReturn(0L);
+        when(connection.createChannel()).thenAnswer(invocation -> mockChannel());
+
+        whoAmIReader = mock(WhoAmIReader.class);
+        when(whoAmIReader.getAssociatedSdkMdcContextMap()).thenReturn(Collections.emptyMap());
+
+        rabbitMqChannel = newRabbitMqChannel();
+    }
+
+    @After
+    public void tearDown() {
+        sdkExecutors.releaseAll();
+        maintenanceExecutor.shutdownNow();
+    }
+
+    @Test
+    public void openedChannelIsMonitoredUntilClosed() throws Exception {
+        rabbitMqChannel.open(Collections.singletonList("#"), mock(ChannelMessageConsumer.class), "prematch");
+        assertEquals(1, monitor.getNumberOfMonitoredChannels());
+        assertEquals(1, monitor.getChannelHealth().length);
+        assertTrue(monitor.getChannelHealth()[0].startsWith("prematch#"));
+
+        rabbitMqChannel.close();
+        assertEquals(0, monitor.getNumberOfMonitoredChannels());
+    }
+
+    @Test
+    public void silentChannelIsRestarted() throws Exception {
+        long opened = System.nanoTime();
+        rabbitMqChannel.open(Collections.singletonList("#"), mock(ChannelMessageConsumer.class), "prematch");
+
+        rabbitMqChannel.checkHealth(opened + SILENCE_NANOS / 2);
+        assertEquals(0, rabbitMqChannel.getRestartCount());
+        verify(connection, times(1)).createChannel();
+
+        rabbitMqChannel.checkHealth(System.nanoTime() + SILENCE_NANOS);
+        assertEquals(1, rabbitMqChannel.getRestartCount());
+        assertEquals(1, monitor.getNumberOfChannelRestarts());
+        verify(connection, times(2)).createChannel();
+    }
+
+    @Test
+    public void connectionIsResetWhenMessagesStop() throws Exception {
+        rabbitMqChannel.open(Collections.singletonList("#"), mock(ChannelMessageConsumer.class), "live");
+        Consumer consumer = captureConsumer();
+
+        long beforeMessage = System.nanoTime();
+        consumer.handleDelivery("tag", new Envelope(1, false, "unifiedfeed", "hi.-.live.alive.-.-.-.-"), null, new byte[0]);
+        long lastMessage = System.nanoTime();
+        assertTrue(rabbitMqChannel.getIdleNanos(beforeMessage) <= 0);
+
+        rabbitMqChannel.checkHealth(lastMessage + SILENCE_NANOS);
+
+        verify(connectionFactory).close(false);
+        assertEquals(1, rabbitMqChannel.getRestartCount());
+        // the channel is created on the new connection right after the reset
+        verify(connection, times(2)).createChannel();
+    }
+
+    @Test
+    public void checkDoesNotWaitForPendingRestart() throws Exception {
+        maintenanceExecutor = Executors.newSingleThreadExecutor();
+        rabbitMqChannel = newRabbitMqChannel();
+        rabbitMqChannel.open(Collections.singletonList("#"), mock(ChannelMessageConsumer.class), "prematch");
+
+        CountDownLatch connectionHung = new CountDownLatch(1);
+        when(connection.createChannel()).thenAnswer(invocation -> {
+            connectionHung.await();
+            return mockChannel();
+        });
+
+        rabbitMqChannel.checkHealth(System.nanoTime() + SILENCE_NANOS);
+        verify(connection, timeout(5000).times(2)).createChannel();
+
+        // the check returns while the restart hangs and does not request another one
+        rabbitMqChannel.checkHealth(System.nanoTime() + SILENCE_NANOS);
+        assertEquals(1, rabbitMqChannel.getRestartCount());
+
+        connectionHung.countDown();
+        rabbitMqChannel.close();
+        verify(connection, times(2)).createChannel();
+    }
+
+    @Test
+    public void monitorThreadIsReleasedWithTheLastChannel() {
+        SdkExecutors otherSdkExecutors = spy(new SdkExecutors(new DefaultSdkExecutorProvider(), "uf-sdk-other"));
+        ChannelHealthMonitor.MonitoredChannel first = mock(ChannelHealthMonitor.MonitoredChannel.class);
+        ChannelHealthMonitor.MonitoredChannel second = mock(ChannelHealthMonitor.MonitoredChannel.class);
+        try {
+            monitor.register(first, sdkExecutors);
+            monitor.register(second, otherSdkExecutors);
+            assertTrue(monitor.isStarted());
+
+            // the feed instance providing the thread has no channels left, the thread is obtained from the other one
+            monitor.unregister(first);
+            assertTrue(monitor.isStarted());
+            verify(otherSdkExecutors).newScheduledExecutor(anyString(), anyString(), eq(1));
+
+            monitor.unregister(second);
+            assertFalse(monitor.isStarted());
+            verify(otherSdkExecutors).release(any());
+        } finally {
+            otherSdkExecutors.releaseAll();
+        }
+    }
+
+    @Test
+    public void failedCheckDoesNotAffectOtherChannels() {
+        ChannelHealthMonitor.MonitoredChannel failing = mock(ChannelHealthMonitor.MonitoredChannel.class);
+        ChannelHealthMonitor.MonitoredChannel healthy = mock(ChannelHealthMonitor.MonitoredChannel.class);
+        doThrow(new IllegalStateException("check failed")).when(failing).checkHealth(anyLong());
+        when(healthy.getIdleNanos(anyLong())).thenReturn(TimeUnit.SECONDS.toNanos(5));
+        when(healthy.getRestartCount()).thenReturn(2);
+
+        monitor.register(failing, sdkExecutors);
+        monitor.register(healthy, sdkExecutors);
+        monitor.register(healthy, sdkExecutors);
+        monitor.checkAll();
+
+        verify(healthy).checkHealth(anyLong());
+        assertEquals(2, monitor.getNumberOfMonitoredChannels());
+        assertEquals(2, monitor.getNumberOfChannelRestarts());
+        assertEquals(5000, monitor.getMaxChannelIdleTimeInMs());
+    }
+
+    @Test
+    public void manuallyAcknowledgedChannelReportsItsBuffer() throws Exception {
+        when(configuration.isManualAcknowledgementsEnabled()).thenReturn(true);
+        when(configuration.getChannelPrefetchCount()).thenReturn(8);
+        rabbitMqChannel = newRabbitMqChannel();
+        ChannelMessageConsumer messageConsumer = mock(ChannelMessageConsumer.class);
+        when(messageConsumer.onMessageReceived(any(Channel.class), anyLong(), anyString(), any(), any(), anyLong())).thenCallRealMethod();
+
+        rabbitMqChannel.open(Collections.singletonList("#"), messageConsumer, "live");
+        verify(lastChannel).basicQos(8);
+        verify(lastChannel).basicConsume(anyString(), eq(false), anyString(), any(Consumer.class));
+
+        Consumer consumer = captureConsumer();
+        for (int i = 1; i <= 3; i++) {
+            consumer.handleDelivery("tag", new Envelope(i, false, "unifiedfeed", "hi.-.live.alive.-.-.-.-"), null, new byte[0]);
+        }
+
+        verify(messageConsumer, timeout(5000).times(3)).onMessageReceived(anyString(), any(), any(), anyLong());
+        verify(lastChannel, timeout(5000)).basicAck(3, true);
+        assertTrue(monitor.getMaxChannelBufferHighWaterMark() >= 1);
+        assertTrue(monitor.getChannelHealth()[0].contains("highWaterMark="));
+
+        rabbitMqChannel.close();
+        assertEquals(0, monitor.getNumberOfBufferedMessages());
+    }
+
+    private RabbitMqChannelImpl newRabbitMqChannel() {
+        return new RabbitMqChannelImpl(
+                mock(RabbitMqSystemListener.class),
+                whoAmIReader,
+                "1.0",
+                connectionFactory,
+                monitor,
+                configuration,
+                sdkExecutors,
+                maintenanceExecutor);
+    }
+
+    private Consumer captureConsumer() throws Exception {
+        ArgumentCaptor<Consumer> consumer = ArgumentCaptor.forClass(Consumer.class);
+        verify(lastChannel).basicConsume(anyString(), anyBoolean(), anyString(), consumer.capture());
+        return consumer.getValue();
+    }
+
+    private Channel mockChannel() throws Exception {
+        Channel channel = mock(Channel.class, withSettings().extraInterfaces(Recoverable.class));
+        AMQP.Queue.DeclareOk declareOk = mock(AMQP.Queue.DeclareOk.class);
+        when(declareOk.getQueue()).thenReturn("queue");
+        when(channel.queueDeclare()).thenReturn(declareOk);
+        when(channel.isOpen()).thenReturn(true);
+        lastChannel = channel;
+        return channel;
+    }
+}
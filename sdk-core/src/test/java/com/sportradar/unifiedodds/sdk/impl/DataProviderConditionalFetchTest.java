@@ -0,0 +1,95 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class DataProviderConditionalFetchTest {
+    private static final String ETAG = "\"v1\"";
+
+    private final List<String> receivedValidators = Collections.synchronizedList(new ArrayList<>());
+    private final Deserializer deserializer = Mockito.mock(Deserializer.class);
+    private final UnifiedOddsStatistics statsBean = new UnifiedOddsStatistics();
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private DataProvider<Object> dataProvider;
+
+    @Before
+    public void setup() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/descriptions/en/void_reasons.xml", exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            receivedValidators.add(ifNoneMatch);
+            if (ETAG.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                byte[] body = "<void_reasons_descriptions/>".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("ETag", ETAG);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+
+        SDKInternalConfiguration config = Mockito.mock(SDKInternalConfiguration.class);
+        when(config.getAccessToken()).thenReturn("token");
+        when(deserializer.deserialize(any(InputStream.class))).thenAnswer(invocation -> new Object());
+
+        httpClient = HttpClients.createDefault();
+        LogHttpDataFetcher fetcher = new LogHttpDataFetcher(config, httpClient, statsBean, deserializer);
+        dataProvider = new DataProvider<>("/descriptions/%s/void_reasons.xml",
+                "127.0.0.1:" + server.getAddress().getPort(),
+                false,
+                Locale.ENGLISH,
+                fetcher,
+                deserializer);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void unmodifiedDataIsNotDownloadedAgain() throws Exception {
+        assertNotNull(dataProvider.getDataIfModified(Locale.ENGLISH));
+        assertNull(dataProvider.getDataIfModified(Locale.ENGLISH));
+
+        assertEquals(2, receivedValidators.size());
+        assertNull(receivedValidators.get(0));
+        assertEquals(ETAG, receivedValidators.get(1));
+        verify(deserializer, times(1)).deserialize(any(InputStream.class));
+        assertEquals(1, statsBean.getNumberOfHttpGetNotModified());
+    }
+
+    @Test
+    public void plainFetchIsNotConditional() throws Exception {
+        assertNotNull(dataProvider.getDataIfModified(Locale.ENGLISH));
+        assertNotNull(dataProvider.getData(Locale.ENGLISH));
+
+        assertNull(receivedValidators.get(1));
+        verify(deserializer, times(2)).deserialize(any(InputStream.class));
+    }
+}
@@ -0,0 +1,81 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sportradar.unifiedodds.sdk.MessageInterest;
+import com.sportradar.unifiedodds.sdk.ProducerScope;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.cfg.Environment;
+import com.sportradar.unifiedodds.sdk.impl.util.FeedMessageHeader;
+import com.sportradar.unifiedodds.sdk.oddsentities.Producer;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class FeedMessagePreFilterTest {
+    private static final String FIXTURE_CHANGE = "<fixture_change product=\"1\" event_id=\"sr:match:1\" timestamp=\"1000\"/>";
+
+    private final SDKInternalConfiguration configuration = Mockito.mock(SDKInternalConfiguration.class);
+    private final SDKProducerManager producerManager = Mockito.mock(SDKProducerManager.class);
+    private final Cache<String, String> dispatchedFixtureChanges = CacheBuilder.newBuilder().build();
+    private final UnifiedOddsStatistics statistics = new UnifiedOddsStatistics();
+    private FeedMessagePreFilter preFilter;
+
+    @Before
+    public void setup() {
+        Producer liveProducer = Mockito.mock(Producer.class);
+        when(liveProducer.getProducerScopes()).thenReturn(Collections.singleton(ProducerScope.Live));
+        when(producerManager.isProducerEnabled(1)).thenReturn(true);
+        when(producerManager.getProducer(1)).thenReturn(liveProducer);
+        when(configuration.getEnvironment()).thenReturn(Environment.Integration);
+
+        preFilter = new FeedMessagePreFilter(configuration, producerManager, dispatchedFixtureChanges, statistics);
+    }
+
+    @Test
+    public void messagesOfDisabledProducersAreDiscarded() {
+        assertEquals(MessageDiscardReason.ProducerDisabled, preFilter.check(header("<odds_change product=\"3\" timestamp=\"1\">"), MessageInterest.AllMessages));
+        assertNull(preFilter.check(header("<odds_change product=\"1\" timestamp=\"1\">"), MessageInterest.AllMessages));
+
+        assertEquals(1, statistics.getNumberOfMessagesDiscardedProducerDisabled());
+        assertEquals(1, statistics.getNumberOfMessagesDiscardedBeforeDeserialization());
+    }
+
+    @Test
+    public void messagesOfProducersOutOfScopeAreDiscarded() {
+        FeedMessageHeader header = header("<odds_change product=\"1\" timestamp=\"1\">");
+
+        assertEquals(MessageDiscardReason.ProducerOutOfScope, preFilter.check(header, MessageInterest.PrematchMessagesOnly));
+        assertNull(preFilter.check(header, MessageInterest.LiveMessagesOnly));
+        assertNull(preFilter.check(header, null));
+        assertEquals(1, statistics.getNumberOfMessagesDiscardedProducerOutOfScope());
+    }
+
+    @Test
+    public void onlyDispatchedFixtureChangesAreDiscarded() {
+        assertNull(preFilter.check(header(FIXTURE_CHANGE), MessageInterest.AllMessages));
+
+        // the session records the fixture change once it is dispatched
+        dispatchedFixtureChanges.put("1_sr:match:1_1000", "1_sr:match:1_1000");
+
+        assertEquals(MessageDiscardReason.DuplicateFixtureChange, preFilter.check(header(FIXTURE_CHANGE), MessageInterest.AllMessages));
+        assertEquals(1, statistics.getNumberOfMessagesDiscardedDuplicateFixtureChange());
+    }
+
+    @Test
+    public void nothingIsDiscardedInReplay() {
+        when(configuration.getEnvironment()).thenReturn(Environment.Replay);
+
+        assertNull(preFilter.check(header("<odds_change product=\"3\" timestamp=\"1\">"), MessageInterest.AllMessages));
+    }
+
+    private static FeedMessageHeader header(String message) {
+        return FeedMessageHeader.scan(message.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,176 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.ApiCallDeadline;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CommunicationException;
+import com.sportradar.unifiedodds.sdk.impl.traffic.TrafficRecorder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class LogFastHttpDataFetcherTest {
+    private final AtomicInteger slowRequests = new AtomicInteger();
+    private final AtomicInteger failingRequests = new AtomicInteger();
+    private final UnifiedOddsStatistics statsBean = new UnifiedOddsStatistics();
+    private final SDKInternalConfiguration config = Mockito.mock(SDKInternalConfiguration.class);
+    private final Deserializer deserializer = Mockito.mock(Deserializer.class);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private String baseUrl;
+
+    @Before
+    public void setup() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/fast", exchange -> respond(exchange, 200));
+        server.createContext("/slow", exchange -> {
+            if (slowRequests.incrementAndGet() == 1) {
+                sleep(2000);
+            }
+            respond(exchange, 200);
+        });
+        server.createContext("/slower", exchange -> {
+            sleep(2000);
+            respond(exchange, 200);
+        });
+        server.createContext("/failing", exchange -> {
+            failingRequests.incrementAndGet();
+            respond(exchange, 500);
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        when(config.getAccessToken()).thenReturn("token");
+        when(deserializer.deserialize(any(InputStream.class))).thenReturn(new Object());
+        httpClient = HttpClients.createDefault();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        httpClient.close();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void slowRequestIsHedged() throws Exception {
+        LogFastHttpDataFetcher fetcher = buildFetcher(true, new ApiCircuitBreaker(0, Duration.ofSeconds(30)));
+        for (int i = 0; i < 25; i++) {
+            fetcher.get(baseUrl + "/fast");
+        }
+
+        int hedgedBefore = statsBean.getNumberOfHttpGetHedged();
+        long start = System.nanoTime();
+        HttpData data = fetcher.get(baseUrl + "/slow");
+
+        assertEquals("<ok/>", data.getResponse());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1500);
+        assertEquals(2, slowRequests.get());
+        assertEquals(hedgedBefore + 1, statsBean.getNumberOfHttpGetHedged());
+    }
+
+    @Test
+    public void callerDeadlineLimitsRequest() throws Exception {
+        LogFastHttpDataFetcher fetcher = buildFetcher(false, new ApiCircuitBreaker(0, Duration.ofSeconds(30)));
+
+        long start = System.nanoTime();
+        try (ApiCallDeadline ignored = ApiCallDeadline.start(Duration.ofMillis(300))) {
+            fetcher.get(baseUrl + "/slow");
+            fail("The request should exceed the deadline");
+        } catch (CommunicationException e) {
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1500);
+        }
+        assertNull(ApiCallDeadline.getRemaining());
+    }
+
+    @Test
+    public void callerDeadlineLimitsRequestOnParallelLoaderHelper() throws Exception {
+        LogFastHttpDataFetcher fetcher = buildFetcher(false, new ApiCircuitBreaker(0, Duration.ofSeconds(30)));
+        Thread caller = Thread.currentThread();
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch helperFailed = new CountDownLatch(1);
+        ParallelLoader.LoadTask task = () -> {
+            bothStarted.countDown();
+            // each task runs on its own thread
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            try {
+                fetcher.get(baseUrl + "/slower");
+            } catch (CommunicationException e) {
+                if (Thread.currentThread() != caller) {
+                    helperFailed.countDown();
+                }
+            }
+        };
+
+        long start = System.nanoTime();
+        try (ApiCallDeadline ignored = ApiCallDeadline.start(Duration.ofMillis(300))) {
+            new ParallelLoader(executor).runAll(Arrays.asList(task, task), 2);
+        }
+
+        assertTrue(helperFailed.await(1, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1500);
+    }
+
+    @Test
+    public void openCircuitFailsFast() throws Exception {
+        LogFastHttpDataFetcher fetcher = buildFetcher(false, new ApiCircuitBreaker(2, Duration.ofSeconds(30)));
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                fetcher.get(baseUrl + "/failing");
+                fail("The request should fail");
+            } catch (CommunicationException e) {
+                // expected
+            }
+        }
+
+        assertEquals(2, failingRequests.get());
+        assertEquals(1, statsBean.getNumberOfHttpGetFailedFast());
+    }
+
+    private LogFastHttpDataFetcher buildFetcher(boolean hedging, ApiCircuitBreaker circuitBreaker) {
+        return new LogFastHttpDataFetcher(config, httpClient, statsBean, deserializer, executor, TrafficRecorder.DISABLED, hedging, circuitBreaker);
+    }
+
+    private static void respond(HttpExchange exchange, int statusCode) throws IOException {
+        byte[] body = "<ok/>".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(statusCode, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        } catch (IOException e) {
+            // the client aborted the request
+        }
+        exchange.close();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
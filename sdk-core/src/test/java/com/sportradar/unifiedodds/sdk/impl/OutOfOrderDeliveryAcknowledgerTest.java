@@ -0,0 +1,67 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.rabbitmq.client.Channel;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class OutOfOrderDeliveryAcknowledgerTest {
+    private final Channel channel = mock(Channel.class);
+    private final OutOfOrderDeliveryAcknowledger acknowledger = new OutOfOrderDeliveryAcknowledger(channel, 2);
+
+    @Before
+    public void setup() {
+        when(channel.isOpen()).thenReturn(true);
+    }
+
+    @Test
+    public void messagesAreAcknowledgedUpToTheFirstUnprocessedOne() throws Exception {
+        for (long deliveryTag = 1; deliveryTag <= 5; deliveryTag++) {
+            acknowledger.onReceived(deliveryTag);
+        }
+
+        acknowledger.onProcessed(2);
+        acknowledger.onProcessed(3);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        acknowledger.onProcessed(1);
+        acknowledger.onProcessed(5);
+        acknowledger.onProcessed(4);
+
+        InOrder inOrder = inOrder(channel);
+        inOrder.verify(channel).basicAck(3, true);
+        inOrder.verify(channel).basicAck(5, true);
+        assertEquals(0, acknowledger.getPendingMessages());
+    }
+
+    @Test
+    public void acknowledgementsAreBatchedWhileMessagesArePending() throws Exception {
+        for (long deliveryTag = 1; deliveryTag <= 4; deliveryTag++) {
+            acknowledger.onReceived(deliveryTag);
+        }
+
+        acknowledger.onProcessed(1);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        acknowledger.onProcessed(2);
+        verify(channel).basicAck(2, true);
+
+        acknowledger.onProcessed(3);
+        verify(channel, never()).basicAck(3, true);
+    }
+
+    @Test
+    public void messagesAreNotAcknowledgedOnClosedChannel() throws Exception {
+        when(channel.isOpen()).thenReturn(false);
+        acknowledger.onReceived(1);
+
+        acknowledger.onProcessed(1);
+
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+}
@@ -0,0 +1,139 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.entities.Competition;
+import com.sportradar.utils.URN;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class PagedSportEventIteratorTest {
+    private static final int PAGE_SIZE = 3;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final List<Competition> schedule = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        // the events are mocked up front, the pages are loaded on the executor threads
+        for (int i = 1; i <= 100; i++) {
+            Competition competition = Mockito.mock(Competition.class);
+            when(competition.getId()).thenReturn(URN.parse("sr:match:" + i));
+            schedule.add(competition);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void eventsAreIteratedInOrderUntilShortPage() {
+        List<Integer> requestedStartIndexes = Collections.synchronizedList(new ArrayList<>());
+        PagedSportEventIterator iterator = new PagedSportEventIterator((startIndex, limit) -> {
+            requestedStartIndexes.add(startIndex);
+            return page(startIndex, startIndex < 6 ? limit : 2);
+        }, PAGE_SIZE, 1, executor);
+
+        List<Competition> events = new ArrayList<>();
+        iterator.forEachRemaining(events::add);
+
+        assertEquals(8, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(i + 1, events.get(i).getId().getId());
+        }
+        assertEquals(3, requestedStartIndexes.size());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void nextPageIsLoadedWhileCurrentPageIsConsumed() throws Exception {
+        CountDownLatch secondPageRequested = new CountDownLatch(1);
+        PagedSportEventIterator iterator = new PagedSportEventIterator((startIndex, limit) -> {
+            if (startIndex == PAGE_SIZE) {
+                secondPageRequested.countDown();
+            }
+            return startIndex < 2 * PAGE_SIZE ? page(startIndex, limit) : null;
+        }, PAGE_SIZE, 1, executor);
+
+        assertTrue(iterator.hasNext());
+        iterator.next();
+
+        // the second page is requested in the background, before the first one is consumed
+        assertTrue(secondPageRequested.await(5, TimeUnit.SECONDS));
+        int count = 1;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        assertEquals(2 * PAGE_SIZE, count);
+    }
+
+    @Test
+    public void pagesInFlightAreBounded() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger requestedPages = new AtomicInteger();
+        PagedSportEventIterator iterator = new PagedSportEventIterator((startIndex, limit) -> {
+            requestedPages.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return page(startIndex, limit);
+        }, PAGE_SIZE, 2, executor);
+
+        for (int i = 0; i < 10 * PAGE_SIZE; i++) {
+            assertTrue(iterator.hasNext());
+            iterator.next();
+            // the consumed page and the pages requested ahead
+            assertTrue(requestedPages.get() <= i / PAGE_SIZE + 3);
+        }
+        iterator.close();
+
+        assertTrue(maxInFlight.get() <= 2);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void loaderFailureStopsIteration() {
+        PagedSportEventIterator iterator = new PagedSportEventIterator((startIndex, limit) -> {
+            if (startIndex > 0) {
+                throw new IllegalStateException("page failed");
+            }
+            return page(startIndex, limit);
+        }, PAGE_SIZE, 0, executor);
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            iterator.next();
+        }
+        try {
+            iterator.hasNext();
+            fail("The failure of the page should be propagated");
+        } catch (IllegalStateException e) {
+            assertEquals("page failed", e.getMessage());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    private PagedSportEventIterator.Page page(int startIndex, int count) {
+        List<Competition> events = new ArrayList<>(schedule.subList(startIndex, startIndex + count));
+        return new PagedSportEventIterator.Page(events, count < PAGE_SIZE);
+    }
+}
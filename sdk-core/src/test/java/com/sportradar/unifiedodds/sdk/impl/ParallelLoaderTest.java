@@ -0,0 +1,73 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ParallelLoaderTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void tasksRunConcurrently() {
+        CountDownLatch allStarted = new CountDownLatch(4);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<ParallelLoader.LoadTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(() -> {
+                threads.add(Thread.currentThread().getName());
+                allStarted.countDown();
+                // would time out if the tasks were running one after another
+                assertTrue(allStarted.await(5, TimeUnit.SECONDS));
+            });
+        }
+
+        new ParallelLoader(executor).runAll(tasks, 4);
+
+        assertEquals(0, allStarted.getCount());
+        assertEquals(4, threads.size());
+    }
+
+    @Test
+    public void tasksCompleteOnSaturatedExecutor() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        AtomicInteger completed = new AtomicInteger();
+        List<ParallelLoader.LoadTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(completed::incrementAndGet);
+        }
+        tasks.add(() -> {
+            throw new IllegalStateException("failing load");
+        });
+
+        new ParallelLoader(executor).runAll(tasks, 3);
+        release.countDown();
+
+        assertEquals(10, completed.get());
+    }
+}
@@ -0,0 +1,87 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.cfg.DefaultSdkExecutorProvider;
+import com.sportradar.unifiedodds.sdk.cfg.SdkExecutorDescriptor;
+import com.sportradar.unifiedodds.sdk.cfg.SdkExecutorProvider;
+import com.sportradar.unifiedodds.sdk.cfg.VirtualThreadSdkExecutorProvider;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SdkExecutorsTest {
+
+    @Test
+    public void defaultProviderNamesThreadsBySdkContext() throws Exception {
+        SdkExecutors sdkExecutors = new SdkExecutors(new DefaultSdkExecutorProvider(), "uf-sdk-1");
+
+        ExecutorService executor = sdkExecutors.newExecutor("FastHttp", "-fh-t-%d", 2, true);
+        String threadName = executor.submit(() -> Thread.currentThread().getName()).get();
+        assertEquals("uf-sdk-1-fh-t-0", threadName);
+
+        sdkExecutors.releaseAll();
+        assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    public void executorsAreHandedBackToProvider() {
+        ScheduledExecutorService shared = Executors.newSingleThreadScheduledExecutor();
+        SdkExecutorProvider provider = mock(SdkExecutorProvider.class);
+        when(provider.provideScheduledExecutor(any())).thenReturn(shared);
+        SdkExecutors sdkExecutors = new SdkExecutors(provider, "uf-sdk-1-2");
+
+        try {
+            assertSame(shared, sdkExecutors.newScheduledExecutor("RecoveryManager", "-rm-t-%d", 1));
+
+            ArgumentCaptor<SdkExecutorDescriptor> descriptor = ArgumentCaptor.forClass(SdkExecutorDescriptor.class);
+            verify(provider).provideScheduledExecutor(descriptor.capture());
+            assertEquals("RecoveryManager", descriptor.getValue().getName());
+            assertEquals("uf-sdk-1-2", descriptor.getValue().getSdkContext());
+            assertEquals("uf-sdk-1-2-rm-t-%d", descriptor.getValue().getThreadNameFormat());
+
+            sdkExecutors.releaseAll();
+            sdkExecutors.releaseAll();
+
+            // the provider decides what happens with the released executor
+            verify(provider, times(1)).release(shared);
+            assertFalse(shared.isShutdown());
+        } finally {
+            shared.shutdownNow();
+        }
+    }
+
+    @Test
+    public void executorsAreRejectedOnceReleased() {
+        SdkExecutors sdkExecutors = new SdkExecutors(new DefaultSdkExecutorProvider(), "uf-sdk-1");
+        sdkExecutors.releaseAll();
+
+        try {
+            sdkExecutors.newExecutor("EntityLoader", "-el-t-%d", 1, true);
+            fail("Executors should not be provided once released");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void virtualThreadProviderFallsBackToPlatformThreads() {
+        SdkExecutors sdkExecutors = new SdkExecutors(new VirtualThreadSdkExecutorProvider(), "uf-sdk-1");
+
+        ExecutorService blocking = sdkExecutors.newExecutor("FastHttp", "-fh-t-%d", 2, true);
+        ExecutorService nonBlocking = sdkExecutors.newExecutor("RabbitMq", "-amqp-t-%d", 5, false);
+
+        assertEquals(!VirtualThreadSdkExecutorProvider.isSupported(), blocking instanceof ThreadPoolExecutor);
+        assertTrue(nonBlocking instanceof ThreadPoolExecutor);
+
+        sdkExecutors.releaseAll();
+        assertTrue(blocking.isShutdown());
+        assertTrue(nonBlocking.isShutdown());
+    }
+}
@@ -0,0 +1,107 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.base.Stopwatch;
+import com.sportradar.unifiedodds.sdk.ExceptionHandlingStrategy;
+import com.sportradar.unifiedodds.sdk.SDKInternalConfiguration;
+import com.sportradar.unifiedodds.sdk.caching.*;
+import com.sportradar.unifiedodds.sdk.entities.Competition;
+import com.sportradar.unifiedodds.sdk.entities.Match;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.CacheItemNotFoundException;
+import com.sportradar.unifiedodds.sdk.exceptions.internal.ObjectNotFoundException;
+import com.sportradar.utils.URN;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SportEntityFactoryImplTest {
+    private static final List<Locale> LOCALES = Collections.singletonList(Locale.ENGLISH);
+    private static final URN CACHED_ID = URN.parse("sr:match:1");
+    private static final URN MISSING_ID_1 = URN.parse("sr:match:2");
+    private static final URN MISSING_ID_2 = URN.parse("sr:match:3");
+    private static final URN MISSING_ID_3 = URN.parse("sr:match:4");
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final SportEventCache sportEventCache = Mockito.mock(SportEventCache.class);
+    private final UnifiedOddsStatistics statsBean = new UnifiedOddsStatistics();
+    private SportEntityFactoryImpl factory;
+
+    @Before
+    public void setup() throws Exception {
+        MappingTypeProvider mappingTypeProvider = Mockito.mock(MappingTypeProvider.class);
+        when(mappingTypeProvider.getMappingType(any())).thenReturn(Optional.of(Match.class));
+
+        SDKInternalConfiguration configuration = Mockito.mock(SDKInternalConfiguration.class);
+        when(configuration.getExceptionHandlingStrategy()).thenReturn(ExceptionHandlingStrategy.Catch);
+        when(configuration.getDefaultLocale()).thenReturn(Locale.ENGLISH);
+
+        when(sportEventCache.isEventCached(CACHED_ID)).thenReturn(true);
+        when(sportEventCache.getEventCacheItem(any())).thenAnswer(invocation -> {
+            URN id = invocation.getArgument(0);
+            if (!id.equals(CACHED_ID)) {
+                // simulates the summary request of the missing event
+                Thread.sleep(300);
+            }
+            return Mockito.mock(MatchCI.class);
+        });
+
+        factory = new SportEntityFactoryImpl(
+                Mockito.mock(SportsDataCache.class),
+                sportEventCache,
+                Mockito.mock(ProfileCache.class),
+                Mockito.mock(SportEventStatusFactory.class),
+                mappingTypeProvider,
+                configuration,
+                executor,
+                statsBean);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void missingEventsAreLoadedConcurrentlyInOriginalOrder() throws Exception {
+        List<URN> ids = Arrays.asList(MISSING_ID_1, CACHED_ID, MISSING_ID_2, MISSING_ID_1, MISSING_ID_3);
+
+        Stopwatch timer = Stopwatch.createStarted();
+        List<Competition> events = factory.buildSportEvents(ids, LOCALES);
+
+        assertTrue(timer.elapsed(TimeUnit.MILLISECONDS) < 800);
+        assertEquals(ids.size(), events.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(ids.get(i), events.get(i).getId());
+        }
+        assertSame(events.get(0), events.get(3));
+        verify(sportEventCache, times(1)).getEventCacheItem(MISSING_ID_1);
+        assertEquals(1, statsBean.getNumberOfBulkEventLoads());
+        assertEquals(3, statsBean.getNumberOfBulkLoadedEvents());
+        assertEquals(0, statsBean.getNumberOfBulkLoadPendingEvents());
+    }
+
+    @Test
+    public void failedEventFailsTheList() throws Exception {
+        when(sportEventCache.getEventCacheItem(MISSING_ID_2)).thenThrow(new CacheItemNotFoundException("not found"));
+
+        try {
+            factory.buildSportEvents(Arrays.asList(MISSING_ID_1, MISSING_ID_2, CACHED_ID), LOCALES);
+            fail("The list should not be built");
+        } catch (ObjectNotFoundException e) {
+            assertTrue(e.getCause().getMessage().contains(MISSING_ID_2.toString()));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.unifiedodds.sdk.OddsFeedListener;
+import com.sportradar.unifiedodds.sdk.SoccerOddsFeedListener;
+import com.sportradar.unifiedodds.sdk.entities.Match;
+import com.sportradar.unifiedodds.sdk.entities.SoccerEvent;
+import com.sportradar.utils.URN;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class SportListenerDispatchTableTest {
+    private static final URN SOCCER = URN.parse("sr:sport:1");
+    private static final URN TENNIS = URN.parse("sr:sport:5");
+
+    private final OddsFeedListener mainListener = Mockito.mock(OddsFeedListener.class);
+    private final SoccerOddsFeedListener soccerListener = Mockito.mock(SoccerOddsFeedListener.class);
+
+    @Test
+    public void soccerEventsAreDispatchedToSoccerListener() {
+        SportListenerDispatchTable table = SportListenerDispatchTable.build(mainListener, Collections.singleton(soccerListener));
+
+        assertSame(soccerListener, table.getListener(SOCCER, Mockito.mock(SoccerEvent.class)));
+        assertSame(mainListener, table.getListener(SOCCER, Mockito.mock(Match.class)));
+        assertSame(mainListener, table.getListener(TENNIS, Mockito.mock(Match.class)));
+        assertTrue(table.isSportDispatched(TENNIS));
+        assertEquals(Collections.singletonList(mainListener), table.getFallbackListeners());
+    }
+
+    @Test
+    public void otherSportsAreSkippedWithoutMainListener() {
+        SportListenerDispatchTable table = SportListenerDispatchTable.build(null, Collections.singleton(soccerListener));
+
+        assertTrue(table.requiresSportId());
+        assertTrue(table.isSportDispatched(SOCCER));
+        assertFalse(table.isSportDispatched(TENNIS));
+        assertNull(table.getListener(TENNIS, Mockito.mock(Match.class)));
+        assertEquals(Collections.singletonList(soccerListener), table.getFallbackListeners());
+    }
+
+    @Test
+    public void unsupportedSoccerEventsAreResolvedToSoccerListenerWithoutMainListener() {
+        SportListenerDispatchTable table = SportListenerDispatchTable.build(null, Collections.singleton(soccerListener));
+
+        assertNull(table.getListener(SOCCER, Mockito.mock(Match.class)));
+        assertSame(soccerListener, table.getUnsupportedEventListener(SOCCER, Mockito.mock(Match.class)));
+        assertNull(table.getUnsupportedEventListener(SOCCER, Mockito.mock(SoccerEvent.class)));
+        assertNull(table.getUnsupportedEventListener(TENNIS, Mockito.mock(Match.class)));
+        assertNull(table.getUnsupportedEventListener(null, Mockito.mock(Match.class)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateSportListenersAreRejected() {
+        SportListenerDispatchTable.build(mainListener, Arrays.asList(soccerListener, Mockito.mock(SoccerOddsFeedListener.class)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingListenersAreRejected() {
+        SportListenerDispatchTable.build(null, Collections.emptySet());
+    }
+}
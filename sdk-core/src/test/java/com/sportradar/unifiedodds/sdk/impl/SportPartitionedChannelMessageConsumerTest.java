@@ -0,0 +1,126 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.google.common.collect.Lists;
+import com.rabbitmq.client.Channel;
+import com.sportradar.unifiedodds.sdk.cfg.DefaultSdkExecutorProvider;
+import com.sportradar.utils.URN;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class SportPartitionedChannelMessageConsumerTest {
+    private final SdkExecutors sdkExecutors = new SdkExecutors(new DefaultSdkExecutorProvider(), "uf-sdk-test");
+    private final ChannelMessageConsumer firstPartition = mock(ChannelMessageConsumer.class);
+    private final ChannelMessageConsumer secondPartition = mock(ChannelMessageConsumer.class);
+    private final MessageConsumer messageConsumer = mock(MessageConsumer.class);
+
+    private SportPartitionedChannelMessageConsumer partitionedConsumer;
+
+    @Before
+    public void setup() {
+        partitionedConsumer = new SportPartitionedChannelMessageConsumer(Lists.newArrayList(firstPartition, secondPartition), sdkExecutors, Collections.emptyMap(), 2);
+    }
+
+    @After
+    public void tearDown() {
+        partitionedConsumer.close();
+        sdkExecutors.releaseAll();
+    }
+
+    @Test
+    public void partitionIsSelectedBySport() {
+        assertEquals(1, SportPartitionedChannelMessageConsumer.partitionOf("hi.-.live.odds_change.1.sr:match.123.-", 2));
+        assertEquals(0, SportPartitionedChannelMessageConsumer.partitionOf("lo.pre.-.bet_settlement.4.sr:match.123", 2));
+        assertEquals(2, SportPartitionedChannelMessageConsumer.partitionOf("hi.-.live.odds_change.5.sr:match.123.-", 3));
+        assertEquals(0, SportPartitionedChannelMessageConsumer.partitionOf("-.-.-.alive.-.-.-.-", 2));
+        assertEquals(0, SportPartitionedChannelMessageConsumer.partitionOf("-.-.-.snapshot_complete.-.-.-.1", 2));
+        assertEquals(0, SportPartitionedChannelMessageConsumer.partitionOf("hi.-.live", 2));
+        assertEquals(0, SportPartitionedChannelMessageConsumer.partitionOf("hi.-.live.odds_change.99999999999.sr:match.1", 2));
+
+        for (String sportId : new String[] {"1", "2", "5", "21", "137"}) {
+            assertEquals(
+                    SportPartitionedChannelMessageConsumer.partitionOf("hi.-.live.odds_change." + sportId + ".sr:match.1.-", 4),
+                    SportPartitionedChannelMessageConsumer.partitionOf(URN.parse("sr:sport:" + sportId), 4));
+        }
+        assertEquals(0, SportPartitionedChannelMessageConsumer.partitionOf((URN) null, 4));
+    }
+
+    @Test
+    public void messagesAreDispatchedInOrderByTheirPartition() {
+        partitionedConsumer.open(messageConsumer);
+        verify(firstPartition).open(messageConsumer);
+        verify(secondPartition).open(messageConsumer);
+
+        List<String> routingKeys = Lists.newArrayList(
+                "hi.-.live.odds_change.1.sr:match.1.-",
+                "hi.-.live.odds_change.2.sr:match.2.-",
+                "hi.-.live.bet_stop.1.sr:match.1.-",
+                "-.-.-.alive.-.-.-.-",
+                "hi.-.live.bet_stop.2.sr:match.2.-",
+                "hi.-.live.odds_change.3.sr:match.3.-");
+        for (String routingKey : routingKeys) {
+            partitionedConsumer.onMessageReceived(routingKey, new byte[0], null, 0);
+        }
+
+        InOrder firstOrder = inOrder(firstPartition);
+        firstOrder.verify(firstPartition, timeout(5000)).onMessageReceived(eq("hi.-.live.odds_change.2.sr:match.2.-"), any(), any(), anyLong());
+        firstOrder.verify(firstPartition, timeout(5000)).onMessageReceived(eq("-.-.-.alive.-.-.-.-"), any(), any(), anyLong());
+        firstOrder.verify(firstPartition, timeout(5000)).onMessageReceived(eq("hi.-.live.bet_stop.2.sr:match.2.-"), any(), any(), anyLong());
+
+        InOrder secondOrder = inOrder(secondPartition);
+        secondOrder.verify(secondPartition, timeout(5000)).onMessageReceived(eq("hi.-.live.odds_change.1.sr:match.1.-"), any(), any(), anyLong());
+        secondOrder.verify(secondPartition, timeout(5000)).onMessageReceived(eq("hi.-.live.bet_stop.1.sr:match.1.-"), any(), any(), anyLong());
+        secondOrder.verify(secondPartition, timeout(5000)).onMessageReceived(eq("hi.-.live.odds_change.3.sr:match.3.-"), any(), any(), anyLong());
+
+        verify(firstPartition, times(3)).onMessageReceived(anyString(), any(), any(), anyLong());
+        verify(secondPartition, times(3)).onMessageReceived(anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    public void messagesAreAcknowledgedOnceProcessedByAllPartitions() throws Exception {
+        Channel channel = mock(Channel.class);
+        when(channel.isOpen()).thenReturn(true);
+        CountDownLatch firstPartitionBlocked = new CountDownLatch(1);
+        CountDownLatch releaseFirstPartition = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstPartitionBlocked.countDown();
+            releaseFirstPartition.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(firstPartition).onMessageReceived(eq("hi.-.live.odds_change.2.sr:match.2.-"), any(), any(), anyLong());
+        partitionedConsumer.open(messageConsumer);
+
+        assertTrue(partitionedConsumer.onMessageReceived(channel, 1, "hi.-.live.odds_change.2.sr:match.2.-", new byte[0], null, 0));
+        assertTrue(partitionedConsumer.onMessageReceived(channel, 2, "hi.-.live.odds_change.1.sr:match.1.-", new byte[0], null, 0));
+        assertTrue(partitionedConsumer.onMessageReceived(channel, 3, "hi.-.live.odds_change.1.sr:match.1.-", new byte[0], null, 0));
+
+        // the second partition processed its messages, but the first message is still processed by the first partition
+        assertTrue(firstPartitionBlocked.await(5, TimeUnit.SECONDS));
+        verify(secondPartition, timeout(5000).times(2)).onMessageReceived(anyString(), any(), any(), anyLong());
+        verify(channel, after(200).never()).basicAck(anyLong(), anyBoolean());
+
+        releaseFirstPartition.countDown();
+
+        verify(channel, timeout(5000)).basicAck(3, true);
+        verify(channel, times(1)).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void unopenedConsumerRejectsMessages() {
+        partitionedConsumer.onMessageReceived("hi.-.live.odds_change.1.sr:match.1.-", new byte[0], null, 0);
+    }
+}
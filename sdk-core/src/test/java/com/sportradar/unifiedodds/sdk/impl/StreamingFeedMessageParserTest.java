@@ -0,0 +1,134 @@
+package com.sportradar.unifiedodds.sdk.impl;
+
+import com.sportradar.uf.datamodel.*;
+import com.sportradar.unifiedodds.sdk.oddsentities.UnmarshalledMessage;
+import org.junit.Test;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class StreamingFeedMessageParserTest {
+    private static final String[] CORPUS = {
+            Constants.ODDS_CHANGE_MSG_URI,
+            "test/feed_xml/odds_change_full.xml",
+            "test/feed_xml/odds_change_no_markets.xml",
+            "test/feed_xml/odds_change_no_outcomes.xml",
+            "test/feed_xml/odds_change_single_market.xml",
+            Constants.BET_STOP_MSG_URI,
+            Constants.BET_SETTLEMENT_MSG_URI,
+            Constants.ALIVE_MSG_URI
+    };
+
+    private final StreamingFeedMessageParser parser = new StreamingFeedMessageParser();
+    private final Unmarshaller unmarshaller;
+
+    public StreamingFeedMessageParserTest() throws Exception {
+        unmarshaller = JAXBContext.newInstance("com.sportradar.uf.datamodel").createUnmarshaller();
+    }
+
+    @Test
+    public void corpusIsParsedAsJaxbUnmarshallsIt() throws Exception {
+        for (String uri : CORPUS) {
+            byte[] body = Files.readAllBytes(Paths.get(getClass().getClassLoader().getResource(uri).toURI()));
+
+            assertParity(uri, body);
+        }
+    }
+
+    @Test
+    public void unknownContentIsSkippedAsJaxbSkipsIt() throws Exception {
+        assertParity("unknown elements", bytes(
+                "<odds_change product=\"1\" event_id=\"sr:match:1\" timestamp=\"5\" unknown=\"x\">" +
+                "<!-- comment --><new_element a=\"1\"><nested/></new_element>" +
+                "<odds><market id=\"1\" status=\"1\"><unknown/><outcome id=\"1\" odds=\"2.0\"/></market></odds>" +
+                "</odds_change>"));
+        assertParity("unknown enum values", bytes(
+                "<odds_change product=\"1\" event_id=\"sr:match:1\" timestamp=\"5\" odds_change_reason=\"7\">" +
+                "<odds><market id=\"1\" status=\"9\" favourite=\"0\"><outcome id=\"1\" active=\"3\"/></market></odds>" +
+                "</odds_change>"));
+        assertParity("special values", bytes(
+                "<bet_settlement product=\" 3 \" event_id=\"sr:match:1\" timestamp=\"5\" certainty=\"2\"><outcomes>" +
+                "<market id=\"1\" void_reason=\"2\" result=\"2:1\">" +
+                "<outcome id=\"1\" result=\"1\" void_factor=\"0.5\" dead_heat_factor=\"INF\"/>" +
+                "<outcome id=\"2\" result=\"-1\" void_factor=\"1.0\" dead_heat_factor=\"+0.25\"/>" +
+                "</market></outcomes></bet_settlement>"));
+    }
+
+    @Test
+    public void unsupportedMessagesAreNotParsed() throws Exception {
+        assertNull(parser.parse(bytes("<snapshot_complete request_id=\"1\" product=\"1\" timestamp=\"5\"/>")));
+        assertNull(parser.parse(bytes("<odds_change xmlns=\"urn:other\" product=\"1\" event_id=\"sr:match:1\" timestamp=\"5\"/>")));
+    }
+
+    @Test
+    public void invalidMessagesAreLeftToJaxb() {
+        String[] invalidMessages = {
+                "<odds_change product=\"live\" event_id=\"sr:match:1\" timestamp=\"5\"/>",
+                "<alive product=\"1\" timestamp=\"5\" subscribed=\"1\">",
+                "<bet_stop product=\"1\" event_id=\"sr:match:1\" timestamp=\"5\"/><bet_stop/>",
+                "<odds_change product=\"1\" event_id=\"sr:match:1\" timestamp=\"5\"><odds><market id=\"1\"><outcome id=\"1\" odds=\"Infinity\"/></market></odds></odds_change>",
+                "<!DOCTYPE alive><alive product=\"1\" timestamp=\"5\" subscribed=\"1\"/>"
+        };
+
+        for (String message : invalidMessages) {
+            try {
+                parser.parse(bytes(message));
+                fail("The message should not be parsed: " + message);
+            } catch (XMLStreamException e) {
+                // expected
+            }
+        }
+    }
+
+    private void assertParity(String description, byte[] body) throws Exception {
+        Object expected = unmarshaller.unmarshal(new ByteArrayInputStream(body));
+        UnmarshalledMessage actual = parser.parse(body);
+
+        assertNotNull(description, actual);
+        assertDeepEquals(description, expected, actual);
+    }
+
+    private static void assertDeepEquals(String path, Object expected, Object actual) throws IllegalAccessException {
+        if (expected == null || actual == null) {
+            assertEquals(path, expected, actual);
+            return;
+        }
+
+        assertEquals(path, expected.getClass(), actual.getClass());
+        if (expected instanceof List) {
+            List<?> expectedList = (List<?>) expected;
+            List<?> actualList = (List<?>) actual;
+            assertEquals(path + ".size", expectedList.size(), actualList.size());
+            for (int i = 0; i < expectedList.size(); i++) {
+                assertDeepEquals(path + "[" + i + "]", expectedList.get(i), actualList.get(i));
+            }
+            return;
+        }
+        if (!expected.getClass().getName().startsWith(UFOddsChange.class.getPackage().getName()) || expected.getClass().isEnum()) {
+            assertEquals(path, expected, actual);
+            return;
+        }
+
+        for (Field field : expected.getClass().getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            assertDeepEquals(path + "." + field.getName(), field.get(expected), field.get(actual));
+        }
+    }
+
+    private static byte[] bytes(String message) {
+        return message.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -39,6 +39,11 @@ public class TestingDataProvider<T> extends DataProvider<T> {
         return readFromStream();
     }
 
+    @Override
+    public T getDataIfModified(Locale locale, String... args) throws DataProviderException {
+        return getData(locale, args);
+    }
+
     @Override
     public DataWrapper<T> getDataWithAdditionalInfo(Locale locale, String... args) throws DataProviderException {
         return new DataWrapper<>(readFromStream(), null);
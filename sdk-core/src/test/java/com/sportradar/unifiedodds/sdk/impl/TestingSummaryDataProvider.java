@@ -41,6 +41,11 @@ public class TestingSummaryDataProvider<T> extends DataProvider<T> {
         throw new IllegalArgumentException();
     }
 
+    @Override
+    public T getDataIfModified(Locale locale, String... args) throws DataProviderException {
+        return getData(locale, args);
+    }
+
     @Override
     public DataWrapper<T> getDataWithAdditionalInfo(Locale locale, String... args) throws DataProviderException {
         throw new UnsupportedOperationException();
@@ -0,0 +1,86 @@
+package com.sportradar.unifiedodds.sdk.impl.entities;
+
+import com.sportradar.unifiedodds.sdk.entities.*;
+import com.sportradar.unifiedodds.sdk.entities.status.MatchStatus;
+import com.sportradar.utils.URN;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class MatchSnapshotImplTest {
+    private static final URN MATCH_ID = URN.parse("sr:match:1");
+    private static final List<Locale> LOCALES = Arrays.asList(Locale.ENGLISH, Locale.GERMAN);
+
+    private final Match source = Mockito.mock(Match.class);
+    private final TeamCompetitor home = Mockito.mock(TeamCompetitor.class);
+    private final TeamCompetitor away = Mockito.mock(TeamCompetitor.class);
+
+    @Before
+    public void setup() {
+        MatchStatus status = Mockito.mock(MatchStatus.class);
+        when(status.getStatus()).thenReturn(EventStatus.Live);
+
+        when(source.getId()).thenReturn(MATCH_ID);
+        when(source.getSportId()).thenReturn(URN.parse("sr:sport:2"));
+        when(source.getName(Locale.ENGLISH)).thenReturn("Home vs. Away");
+        when(source.getName(Locale.GERMAN)).thenReturn("Heim - Gast");
+        when(source.getStatus()).thenReturn(status);
+        when(source.getCompetitors()).thenReturn(Arrays.asList(home, away));
+        when(source.getEventTimelineIfPresent(any())).thenReturn(Optional.empty());
+        when(source.getLiveOdds()).thenReturn("booked");
+    }
+
+    @Test
+    public void valuesAreReadOnce() {
+        Match snapshot = new MatchSnapshotImpl(source, LOCALES);
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(home, snapshot.getHomeCompetitor());
+            assertSame(away, snapshot.getAwayCompetitor());
+            assertEquals(2, snapshot.getCompetitors().size());
+            assertEquals("Heim - Gast", snapshot.getName(Locale.GERMAN));
+            assertEquals(EventStatus.Live, snapshot.getEventStatus());
+            assertEquals("booked", snapshot.getLiveOdds());
+        }
+
+        assertEquals(MATCH_ID, snapshot.getId());
+        assertNull(snapshot.getName(Locale.FRENCH));
+        assertNull(snapshot.getEventTimeline(Locale.ENGLISH));
+        verify(source, times(1)).getCompetitors();
+        verify(source, times(1)).getStatus();
+        verify(source, never()).getHomeCompetitor();
+        verify(source, never()).getEventTimeline(any());
+    }
+
+    @Test
+    public void competitorsCannotBeModified() {
+        Match snapshot = new MatchSnapshotImpl(source, LOCALES);
+
+        try {
+            snapshot.getCompetitors().clear();
+            fail("The competitors of the snapshot should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void invalidNumberOfCompetitorsHasNoHomeAndAway() {
+        when(source.getCompetitors()).thenReturn(Arrays.asList(home, away, Mockito.mock(TeamCompetitor.class)));
+
+        Match snapshot = new MatchSnapshotImpl(source, LOCALES);
+
+        assertEquals(3, snapshot.getCompetitors().size());
+        assertNull(snapshot.getHomeCompetitor());
+        assertNull(snapshot.getAwayCompetitor());
+    }
+}
@@ -0,0 +1,117 @@
+package com.sportradar.unifiedodds.sdk.impl.markets;
+
+import com.sportradar.unifiedodds.sdk.impl.UnifiedOddsStatistics;
+import com.sportradar.utils.URN;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class RenderedNameCacheTest {
+    private static final URN EVENT_ID = URN.parse("sr:match:1");
+    private static final URN OTHER_EVENT_ID = URN.parse("sr:match:2");
+    private static final List<Locale> LOCALES = Arrays.asList(Locale.ENGLISH, Locale.GERMAN);
+
+    private final UnifiedOddsStatistics statsBean = new UnifiedOddsStatistics();
+    private final RenderedNameCache cache = new RenderedNameCache(statsBean);
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    public void namesAreRenderedOnce() {
+        assertEquals("Name en", cache.getNames(EVENT_ID, "1", LOCALES, this::render).get(Locale.ENGLISH));
+        assertEquals("Name de", cache.getNames(EVENT_ID, "1", LOCALES, this::render).get(Locale.GERMAN));
+        assertEquals("Name en", cache.getNames(EVENT_ID, "1", Collections.singletonList(Locale.ENGLISH), this::render).get(Locale.ENGLISH));
+
+        assertEquals(1, renders.get());
+        assertEquals(2, statsBean.getNumberOfRenderedNameHits());
+        assertEquals(1, statsBean.getNumberOfRenderedNameMisses());
+        assertEquals(2.0 / 3, statsBean.getRenderedNameHitRatio(), 0.0001);
+    }
+
+    @Test
+    public void onlyMissingLocalesAreRendered() {
+        cache.getNames(EVENT_ID, "1", Collections.singletonList(Locale.ENGLISH), this::render);
+
+        Map<Locale, String> names = cache.getNames(EVENT_ID, "1", LOCALES, locales -> {
+            assertEquals(Collections.singletonList(Locale.GERMAN), locales);
+            return render(locales);
+        });
+
+        assertEquals(2, names.size());
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    public void failedNamesAreNotCached() {
+        assertTrue(cache.getNames(EVENT_ID, "1", LOCALES, locales -> Collections.emptyMap()).isEmpty());
+
+        cache.getNames(EVENT_ID, "1", LOCALES, this::render);
+
+        assertEquals(1, renders.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void namesOfChangedEventAreRenderedAgain() {
+        cache.getNames(EVENT_ID, "1", LOCALES, this::render);
+        cache.getNames(OTHER_EVENT_ID, "1", LOCALES, this::render);
+
+        cache.invalidateEvent(EVENT_ID);
+        cache.getNames(OTHER_EVENT_ID, "1", LOCALES, this::render);
+        assertEquals(2, renders.get());
+
+        cache.getNames(EVENT_ID, "1", LOCALES, this::render);
+        assertEquals(3, renders.get());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void namesOfOtherEventsAreKeptOnInvalidation() {
+        cache.getNames(EVENT_ID, "1", LOCALES, this::render);
+        cache.getNames(OTHER_EVENT_ID, "1", LOCALES, this::render);
+        cache.getNames(OTHER_EVENT_ID, "2", LOCALES, this::render);
+
+        cache.invalidateEvent(EVENT_ID);
+
+        assertEquals(1, cache.eventCount());
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    public void numberOfCachedNamesIsBounded() {
+        RenderedNameCache boundedCache = new RenderedNameCache(statsBean, 20);
+        for (int i = 1; i <= 10; i++) {
+            URN eventId = URN.parse("sr:match:" + i);
+            for (int j = 0; j < 3; j++) {
+                boundedCache.getNames(eventId, String.valueOf(j), LOCALES, this::render);
+            }
+            assertTrue(boundedCache.size() <= 20);
+        }
+
+        assertTrue(boundedCache.eventCount() < 10);
+    }
+
+    @Test
+    public void allNamesOfLargeEventAreCached() {
+        for (int i = 0; i < 10_000; i++) {
+            cache.getNames(EVENT_ID, String.valueOf(i), LOCALES, this::render);
+        }
+        assertEquals(20_000, cache.size());
+
+        cache.getNames(EVENT_ID, "0", LOCALES, this::render);
+        assertEquals(10_000, renders.get());
+    }
+
+    private Map<Locale, String> render(List<Locale> locales) {
+        renders.incrementAndGet();
+        Map<Locale, String> names = new HashMap<>();
+        for (Locale locale : locales) {
+            names.put(locale, "Name " + locale.getLanguage());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,80 @@
+package com.sportradar.unifiedodds.sdk.impl.processing.pipeline;
+
+import com.sportradar.uf.datamodel.UFFixtureChange;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ProcessedFixtureChangesTrackerImplTest {
+    @Test
+    public void fixtureChangeIsProcessedOnce() {
+        ProcessedFixtureChangesTrackerImpl tracker = new ProcessedFixtureChangesTrackerImpl();
+
+        assertFalse(tracker.onFixtureChangeReceived(fixtureChange(1, "sr:match:1", 100)));
+        assertTrue(tracker.onFixtureChangeReceived(fixtureChange(1, "sr:match:1", 100)));
+        assertFalse(tracker.onFixtureChangeReceived(fixtureChange(3, "sr:match:1", 100)));
+        assertFalse(tracker.onFixtureChangeReceived(fixtureChange(1, "sr:match:1", 101)));
+        assertFalse(tracker.onFixtureChangeReceived(fixtureChange(1, "sr:match:2", 100)));
+        assertEquals(4, tracker.size());
+    }
+
+    @Test
+    public void oldestFixtureChangesAreForgotten() {
+        ProcessedFixtureChangesTrackerImpl tracker = new ProcessedFixtureChangesTrackerImpl(3);
+
+        for (int i = 1; i <= 5; i++) {
+            assertFalse(tracker.onFixtureChangeReceived(fixtureChange(1, "sr:match:" + i, 100)));
+        }
+
+        assertEquals(3, tracker.size());
+        assertTrue(tracker.onFixtureChangeReceived(fixtureChange(1, "sr:match:5", 100)));
+        assertTrue(tracker.onFixtureChangeReceived(fixtureChange(1, "sr:match:3", 100)));
+        assertFalse(tracker.onFixtureChangeReceived(fixtureChange(1, "sr:match:1", 100)));
+    }
+
+    @Test
+    public void concurrentlyReceivedFixtureChangeIsProcessedOnce() throws Exception {
+        ProcessedFixtureChangesTrackerImpl tracker = new ProcessedFixtureChangesTrackerImpl(16);
+        int sessions = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(sessions);
+        try {
+            for (int round = 0; round < 200; round++) {
+                UFFixtureChange fixtureChange = fixtureChange(1, "sr:match:" + round, 100);
+                CyclicBarrier barrier = new CyclicBarrier(sessions);
+                AtomicInteger processed = new AtomicInteger();
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < sessions; i++) {
+                    futures.add(executor.submit(() -> {
+                        barrier.await();
+                        if (!tracker.onFixtureChangeReceived(fixtureChange)) {
+                            processed.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(5, TimeUnit.SECONDS);
+                }
+
+                assertEquals(1, processed.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(16, tracker.size());
+    }
+
+    private static UFFixtureChange fixtureChange(int producerId, String eventId, long timestamp) {
+        UFFixtureChange fixtureChange = new UFFixtureChange();
+        fixtureChange.setProduct(producerId);
+        fixtureChange.setEventId(eventId);
+        fixtureChange.setTimestamp(timestamp);
+        return fixtureChange;
+    }
+}
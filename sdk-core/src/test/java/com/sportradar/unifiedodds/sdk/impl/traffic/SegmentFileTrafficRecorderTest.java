@@ -0,0 +1,129 @@
+package com.sportradar.unifiedodds.sdk.impl.traffic;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class SegmentFileTrafficRecorderTest {
+    private static final String ODDS_CHANGE = "<odds_change product=\"1\" event_id=\"sr:match:%d\" timestamp=\"1\"><odds>"
+            + "<market id=\"1\" status=\"1\"><outcome id=\"1\" odds=\"1.5\" active=\"1\"/><outcome id=\"2\" odds=\"2.5\" active=\"1\"/></market>"
+            + "</odds></odds_change>";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void recordsAreReadBackInOrder() throws Exception {
+        verifyRoundTrip(false);
+    }
+
+    @Test
+    public void compressedRecordsAreReadBackInOrder() throws Exception {
+        verifyRoundTrip(true);
+    }
+
+    @Test
+    public void oldSegmentsAreDeleted() throws Exception {
+        Path directory = folder.newFolder("rotation").toPath();
+        SegmentFileTrafficRecorder recorder = new SegmentFileTrafficRecorder(directory, 4096, 2, false, 1 << 16, executor);
+        for (int i = 0; i < 100; i++) {
+            recorder.recordFeedMessage("UFSession-AllMessages", "hi.-.live.odds_change.1.sr:match.1.-", message(i), i, i + 1);
+        }
+        recorder.close();
+
+        List<TrafficRecord> records = readAll(directory);
+        assertEquals(2, TrafficRecordReader.listSegments(directory).size());
+        assertFalse(records.isEmpty());
+        assertEquals(99, records.get(records.size() - 1).getSentAt());
+    }
+
+    @Test
+    public void recordsAreDroppedWhenBufferIsFull() throws Exception {
+        Path directory = folder.newFolder("dropped").toPath();
+        SegmentFileTrafficRecorder recorder = new SegmentFileTrafficRecorder(directory, 4096, 2, false, 256, executor);
+        recorder.recordFeedMessage("UFSession-AllMessages", "key", new byte[512], 0, 0);
+        recorder.close();
+
+        assertEquals(1, recorder.getDroppedRecordCount());
+        assertEquals(0, recorder.getWrittenRecordCount());
+        assertFalse(recorder.isEnabled());
+    }
+
+    @Test
+    public void bufferedRecordsAreWrittenWhenWriterExecutorIsShutDown() throws Exception {
+        Path directory = folder.newFolder("shutdown").toPath();
+        SegmentFileTrafficRecorder recorder = new SegmentFileTrafficRecorder(directory, 1 << 20, 2, false, 1 << 16, executor);
+        recorder.recordFeedMessage("UFSession-AllMessages", "key", message(1), 1, 2);
+
+        executor.shutdownNow();
+        recorder.close();
+
+        assertFalse(recorder.isEnabled());
+        assertEquals(1, readAll(directory).size());
+        assertEquals(1, recorder.getWrittenRecordCount());
+    }
+
+    private void verifyRoundTrip(boolean compression) throws Exception {
+        Path directory = folder.newFolder("round-trip-" + compression).toPath();
+        SegmentFileTrafficRecorder recorder = new SegmentFileTrafficRecorder(directory, 1 << 20, 5, compression, 1 << 22, executor);
+        for (int i = 0; i < 1000; i++) {
+            recorder.recordFeedMessage("UFSession-AllMessages", "hi.-.live.odds_change.1.sr:match." + i + ".-", message(i), i, i + 1);
+        }
+        recorder.recordApiResponse("DataFetcher", "https://api/v1/sports/de/sport_events/sr:match:1/summary.xml", "<summary name=\"Zürich\"/>", 5);
+        recorder.close();
+
+        List<TrafficRecord> records = readAll(directory);
+        assertEquals(0, recorder.getDroppedRecordCount());
+        assertEquals(1001, records.size());
+        assertEquals(records.size(), recorder.getWrittenRecordCount());
+
+        TrafficRecord first = records.get(0);
+        assertEquals(TrafficRecordType.FEED_MESSAGE, first.getType());
+        assertEquals("UFSession-AllMessages", first.getSource());
+        assertEquals(first.getSentAt() + 1, first.getReceivedAt());
+        assertArrayEquals(message((int) first.getSentAt()), first.getPayload());
+        assertEquals("hi.-.live.odds_change.1.sr:match." + first.getSentAt() + ".-", first.getKey());
+
+        TrafficRecord last = records.get(records.size() - 1);
+        assertEquals(TrafficRecordType.API_RESPONSE, last.getType());
+        assertEquals("<summary name=\"Zürich\"/>", last.getPayloadAsString());
+        assertEquals(5, last.getReceivedAt());
+
+        for (int i = 1; i < records.size() - 1; i++) {
+            assertTrue(records.get(i).getSentAt() > records.get(i - 1).getSentAt());
+        }
+    }
+
+    private static List<TrafficRecord> readAll(Path directory) throws Exception {
+        List<TrafficRecord> records = new ArrayList<>();
+        for (Path segment : TrafficRecordReader.listSegments(directory)) {
+            try (TrafficRecordReader reader = new TrafficRecordReader(segment)) {
+                while (reader.hasNext()) {
+                    records.add(reader.next());
+                }
+            }
+        }
+        return records;
+    }
+
+    private static byte[] message(int eventId) {
+        return String.format(ODDS_CHANGE, eventId).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,64 @@
+package com.sportradar.unifiedodds.sdk.impl.util;
+
+import com.sportradar.unifiedodds.sdk.impl.Constants;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.*;
+
+public class FeedMessageHeaderTest {
+
+    @Test
+    public void oddsChangeHeaderIsScanned() throws Exception {
+        FeedMessageHeader header = FeedMessageHeader.scan(readMessage(Constants.ODDS_CHANGE_MSG_URI));
+
+        assertNotNull(header);
+        assertEquals("odds_change", header.getRootElement());
+        assertEquals(Integer.valueOf(4), header.getProduct());
+        assertEquals("sr:match:10927088", header.getEventId());
+        assertEquals(Long.valueOf(1487254396715L), header.getTimestamp());
+        assertNull(header.getRequestId());
+    }
+
+    @Test
+    public void xmlDeclarationIsSkipped() throws Exception {
+        FeedMessageHeader header = FeedMessageHeader.scan(readMessage(Constants.SNAPSHOT_COMPLETE_MSG_URI));
+
+        assertNotNull(header);
+        assertEquals("snapshot_complete", header.getRootElement());
+        assertEquals(Integer.valueOf(1), header.getProduct());
+        assertEquals(Long.valueOf(1), header.getRequestId());
+        assertNull(header.getEventId());
+    }
+
+    @Test
+    public void commentsAndSingleQuotesAreSupported() {
+        FeedMessageHeader header = scan("<!-- a comment -->\n<alive  product = '3' timestamp='1234' subscribed='1'/>");
+
+        assertNotNull(header);
+        assertEquals("alive", header.getRootElement());
+        assertEquals(Integer.valueOf(3), header.getProduct());
+        assertEquals(Long.valueOf(1234), header.getTimestamp());
+    }
+
+    @Test
+    public void invalidHeadersAreNotScanned() {
+        assertNull(FeedMessageHeader.scan(null));
+        assertNull(FeedMessageHeader.scan(new byte[0]));
+        assertNull(scan("not xml"));
+        assertNull(scan("<odds_change product=\"4"));
+        assertNull(scan("<odds_change product=\"live\">"));
+        assertNull(scan("<!DOCTYPE odds_change><odds_change product=\"4\">"));
+    }
+
+    private static FeedMessageHeader scan(String message) {
+        return FeedMessageHeader.scan(message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] readMessage(String uri) throws Exception {
+        return Files.readAllBytes(Paths.get(getClass().getClassLoader().getResource(uri).toURI()));
+    }
+}
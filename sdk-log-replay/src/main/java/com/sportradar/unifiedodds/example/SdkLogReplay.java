@@ -6,6 +6,7 @@ package com.sportradar.unifiedodds.example;
 
 
 import com.sportradar.unifiedodds.example.player.MessagePlayer;
+import com.sportradar.unifiedodds.example.player.ReplaySettings;
 import com.sportradar.unifiedodds.example.player.exceptions.LogFileNotFound;
 import com.sportradar.unifiedodds.example.player.exceptions.MalformedLogEntry;
 
@@ -34,7 +35,14 @@ public class SdkLogReplay {
                 "logs/uf-sdk-traffic.log",
                 "logs/uf-sdk-traffic-2018-01-03_0.log");
 
-        MessagePlayer player = new MessagePlayer(logFiles, amqpHost, bookmakerId, amqpPassword);
+        // the files are read in parallel and published merged by their timestamps
+        ReplaySettings settings = ReplaySettings.builder()
+                .setChannelCount(4)         // the messages of a sport event are always published on the same channel
+                .setBatchSize(500)          // publisher confirms are awaited once per batch
+                .setSpeedFactor(0)          // 1 reproduces the logged timing, 0 publishes as fast as possible
+                .build();
+
+        MessagePlayer player = new MessagePlayer(logFiles, amqpHost, bookmakerId, amqpPassword, settings);
 
         // player.validateLogs(); // if you want to validate some logs before running
         player.publishLogs();
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.example.player;
+
+import com.google.common.base.Preconditions;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Predicate;
+
+/**
+ * Reads and parses the log files in parallel (a reader thread per file) and provides the parsed lines of all
+ * the files merged by their timestamps. Each reader is bounded by its queue capacity, so the files are never
+ * loaded into memory as a whole.
+ */
+class MergedLogReader implements Iterator<ParsedLine>, AutoCloseable {
+    private static final int READ_AHEAD_LINES = 1_000;
+
+    private final List<FileReader> readers = new ArrayList<>();
+    private final PriorityQueue<Head> heads = new PriorityQueue<>();
+    private boolean started;
+
+    /**
+     * @param files the log files, each of them ordered by the timestamps
+     * @param filter the filter of the lines which should be provided
+     */
+    MergedLogReader(List<Path> files, Predicate<ParsedLine> filter) {
+        Preconditions.checkNotNull(files);
+        Preconditions.checkNotNull(filter);
+
+        for (Path file : files) {
+            readers.add(new FileReader(file, filter));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        start();
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public ParsedLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Head head = heads.poll();
+        ParsedLine next = head.line;
+        ParsedLine following = head.reader.take();
+        if (following != null) {
+            heads.add(new Head(following, head.reader, head.order));
+        }
+        return next;
+    }
+
+    @Override
+    public void close() {
+        readers.forEach(FileReader::stop);
+    }
+
+    private void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+
+        for (int i = 0; i < readers.size(); i++) {
+            FileReader reader = readers.get(i);
+            Thread thread = new Thread(reader, "log-reader-" + reader.file.getFileName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+        for (int i = 0; i < readers.size(); i++) {
+            ParsedLine first = readers.get(i).take();
+            if (first != null) {
+                heads.add(new Head(first, readers.get(i), i));
+            }
+        }
+    }
+
+    /**
+     * The next line of a single file, the lines with the same timestamp keep the order of the listed files
+     */
+    private static final class Head implements Comparable<Head> {
+        private final ParsedLine line;
+        private final FileReader reader;
+        private final int order;
+
+        private Head(ParsedLine line, FileReader reader, int order) {
+            this.line = line;
+            this.reader = reader;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(Head other) {
+            int result = line.getTimestamp().compareTo(other.line.getTimestamp());
+            return result != 0 ? result : Integer.compare(order, other.order);
+        }
+    }
+
+    /**
+     * Reads and parses the lines of a single file on a dedicated thread
+     */
+    private static final class FileReader implements Runnable {
+        private static final Object END = new Object();
+
+        private final Path file;
+        private final Predicate<ParsedLine> filter;
+        private final MessageParser messageParser = new MessageParser();
+        private final BlockingQueue<Object> lines = new ArrayBlockingQueue<>(READ_AHEAD_LINES);
+        private volatile boolean stopped;
+
+        private FileReader(Path file, Predicate<ParsedLine> filter) {
+            this.file = file;
+            this.filter = filter;
+        }
+
+        @Override
+        public void run() {
+            Object last = END;
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while (!stopped && (line = reader.readLine()) != null) {
+                    ParsedLine parsedLine = messageParser.parseLine(line);
+                    if (filter.test(parsedLine)) {
+                        lines.put(parsedLine);
+                    }
+                }
+            } catch (IOException e) {
+                last = new IllegalStateException("Error reading log file ~> " + file, e);
+            } catch (IllegalArgumentException e) {
+                last = new IllegalArgumentException("Log file entry invalid ~> " + file, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                lines.put(last);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * @return the next parsed line or a null reference if the whole file was read
+         */
+        private ParsedLine take() {
+            Object next;
+            try {
+                next = lines.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while reading log file ~> " + file, e);
+            }
+
+            if (next == END) {
+                return null;
+            }
+            if (next instanceof RuntimeException) {
+                throw (RuntimeException) next;
+            }
+            return (ParsedLine) next;
+        }
+
+        private void stop() {
+            stopped = true;
+            // unblocks the reader waiting for a free slot
+            lines.clear();
+        }
+    }
+}
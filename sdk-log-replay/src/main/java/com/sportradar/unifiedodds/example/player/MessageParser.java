@@ -20,7 +20,7 @@ import java.util.regex.Pattern;
  */
 class MessageParser {
     private static final Pattern REGEX_PATTERN = composePattern();
-    private final DateFormat logDateFormat = new SimpleDateFormat("yyyy-MM-dd hh:mm:ss,SSS", Locale.ENGLISH);
+    private final DateFormat logDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss,SSS", Locale.ENGLISH);
 
     public ParsedLine parseLine(String line) {
         Preconditions.checkNotNull(line);
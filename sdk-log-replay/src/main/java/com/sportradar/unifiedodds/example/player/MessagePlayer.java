@@ -12,13 +12,15 @@ import com.sportradar.unifiedodds.example.player.exceptions.MalformedLogEntry;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Date;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -27,7 +29,7 @@ import java.util.stream.Stream;
  * // TODO @eti: Javadoc
  */
 public class MessagePlayer {
-    private static final boolean DO_MESSAGE_DELAYS = false;
+    private static final long PROGRESS_REPORT_INTERVAL_MILLIS = 5_000;
     private static final Set<String> IGNORED_ROUTING_KEYS = ImmutableSet.<String>builder()
             .add("-.-.-.snapshot_complete.-.-.-.-")
             .add("-.-.-.alive.-.-.-.-")
@@ -36,37 +38,87 @@ public class MessagePlayer {
     private final List<String> logFiles;
     private final MessageParser messageParser;
     private final MessagePublisher messagePublisher;
+    private final ReplaySettings settings;
 
-    private Date previousMessageDate;
     private int messageCounter = 0;
 
     /**
-     * Initializes a new message player instance
+     * Initializes a new message player instance which publishes the messages one by one on a single channel,
+     * without delays
      *
      * @param logFiles listed relative to the resources folder
      */
     public MessagePlayer(List<String> logFiles, String amqpHost, int bookmakerId, String password) {
+        this(logFiles, amqpHost, bookmakerId, password, ReplaySettings.builder().build());
+    }
+
+    /**
+     * Initializes a new message player instance
+     *
+     * @param logFiles listed relative to the resources folder or as file system paths
+     * @param settings the {@link ReplaySettings} of the publishing
+     */
+    public MessagePlayer(List<String> logFiles, String amqpHost, int bookmakerId, String password, ReplaySettings settings) {
         Preconditions.checkNotNull(logFiles);
         Preconditions.checkNotNull(amqpHost);
+        Preconditions.checkNotNull(settings);
 
         this.logFiles = logFiles;
+        this.settings = settings;
         this.messageParser = new MessageParser();
-        this.messagePublisher = new MessagePublisher(amqpHost, password, bookmakerId);
+        this.messagePublisher = new MessagePublisher(amqpHost, password, bookmakerId, settings);
     }
 
     public void validateLogs() throws LogFileNotFound, MalformedLogEntry {
         processLogFiles(messageParser::parseLine);
     }
 
+    /**
+     * Publishes the messages of all the log files merged by their timestamps. The files are read in parallel.
+     */
     public void publishLogs() throws LogFileNotFound, MalformedLogEntry {
-        System.out.println("========= Message publishing started =========");
+        List<Path> paths = new ArrayList<>(logFiles.size());
+        for (String filePath : logFiles) {
+            paths.add(provideValidPath(filePath));
+        }
+
+        System.out.println("========= Message publishing started (" + settings + ") =========");
         messagePublisher.init();
 
-        processLogFiles(this::publishLine);
+        long startNanos = System.nanoTime();
+        ScheduledExecutorService progressReporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "log-replay-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        progressReporter.scheduleAtFixedRate(() -> reportProgress(startNanos),
+                PROGRESS_REPORT_INTERVAL_MILLIS, PROGRESS_REPORT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+        try (MergedLogReader reader = new MergedLogReader(paths, line -> !IGNORED_ROUTING_KEYS.contains(line.getRoutingKey()))) {
+            PlaybackClock clock = new PlaybackClock(settings.getSpeedFactor());
+            while (reader.hasNext()) {
+                ParsedLine parsedLine = reader.next();
+                clock.awaitPlaybackTime(parsedLine.getTimestamp());
+                messagePublisher.publishMessage(parsedLine.getRoutingKey(), parsedLine.getMessagePayload().getBytes(StandardCharsets.UTF_8));
+                messageCounter++;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new MalformedLogEntry("Log file entry invalid", e);
+        } finally {
+            progressReporter.shutdownNow();
+            messagePublisher.destroy();
+        }
 
-        messagePublisher.destroy();
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000d;
         System.out.println("========= Message publishing finished =========");
         System.out.println("Published messages count: " + messageCounter);
+        System.out.println(String.format("Elapsed: %.1f s, sustained rate: %.0f msgs/sec", elapsedSeconds, messageCounter / Math.max(elapsedSeconds, 0.001)));
+    }
+
+    private void reportProgress(long startNanos) {
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000d;
+        long confirmed = messagePublisher.getConfirmedMessageCount();
+        System.out.println(String.format("Confirmed messages: %d, %.0f msgs/sec", confirmed, confirmed / elapsedSeconds));
     }
 
     private void processLogFiles(Consumer<String> lineConsumer) throws LogFileNotFound, MalformedLogEntry {
@@ -84,6 +136,11 @@ public class MessagePlayer {
     }
 
     private Path provideValidPath(String filePath) throws LogFileNotFound {
+        Path fileSystemPath = Paths.get(filePath);
+        if (Files.isRegularFile(fileSystemPath)) {
+            return fileSystemPath;
+        }
+
         try {
             URI fullUriPath = Optional
                     .ofNullable(getClass().getClassLoader().getResource(filePath))
@@ -96,40 +153,38 @@ public class MessagePlayer {
         }
     }
 
-    private void publishLine(String line) {
-        ParsedLine parsedLine = messageParser.parseLine(line);
-
-        if (IGNORED_ROUTING_KEYS.contains(parsedLine.getRoutingKey())) {
-            return;
-        }
+    /**
+     * Delays the messages so the time between them matches the logged timestamps divided by the speed factor.
+     * The delays are computed from the first message, so the sleeping inaccuracy does not accumulate.
+     */
+    private static final class PlaybackClock {
+        private final double speedFactor;
+        private long firstTimestamp;
+        private long startNanos;
 
-        if (DO_MESSAGE_DELAYS) {
-            handleMessageDelay(parsedLine, previousMessageDate);
+        private PlaybackClock(double speedFactor) {
+            this.speedFactor = speedFactor;
         }
 
-        System.out.println("Publishing line: " + parsedLine);
-        messagePublisher.publishMessage(parsedLine.getRoutingKey(), parsedLine.getMessagePayload().getBytes());
-
-        messageCounter++;
-    }
-
-    private void handleMessageDelay(ParsedLine parsedLine, Date previousMessageDate) {
-        Preconditions.checkNotNull(parsedLine);
-
-        if (previousMessageDate == null) {
-            return;
-        }
+        private void awaitPlaybackTime(Date timestamp) {
+            if (speedFactor <= 0) {
+                return;
+            }
 
-        long diff = previousMessageDate.getTime() - parsedLine.getTimestamp().getTime();
+            if (startNanos == 0) {
+                firstTimestamp = timestamp.getTime();
+                startNanos = System.nanoTime();
+                return;
+            }
 
-        try {
-            Thread.sleep(diff);
-        } catch (InterruptedException e) {
-            System.err.println("Message delay failed");
-            e.printStackTrace();
-            Thread.currentThread().interrupt();
+            long targetNanos = startNanos + (long) (TimeUnit.MILLISECONDS.toNanos(timestamp.getTime() - firstTimestamp) / speedFactor);
+            long remaining;
+            while ((remaining = targetNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
         }
-
-        this.previousMessageDate = parsedLine.getTimestamp();
     }
 }
@@ -11,11 +11,17 @@ import com.rabbitmq.client.Connection;
 import com.rabbitmq.client.ConnectionFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Created on 08/01/2018.
- * // TODO @eti: Javadoc
+ * Publishes the messages on one or more channels with publisher confirms. Each channel is served by its own thread,
+ * which publishes the queued messages and waits for the confirms once per batch. The queues are bounded, so
+ * the caller is blocked while the broker does not keep up.
  */
 class MessagePublisher {
     private static final String EXCHANGE = "unifiedfeed";
@@ -23,20 +29,28 @@ class MessagePublisher {
     private final ConnectionFactory connectionFactory;
     private final String host;
     private final String password;
+    private final ReplaySettings settings;
+    private final AtomicLong confirmedMessages = new AtomicLong();
 
     private boolean isOpen = false;
 
     private Connection connection;
-    private Channel channel;
+    private List<ChannelPublisher> publishers;
 
     MessagePublisher(String host, String password, int bookmakerId) {
+        this(host, password, bookmakerId, ReplaySettings.builder().build());
+    }
+
+    MessagePublisher(String host, String password, int bookmakerId, ReplaySettings settings) {
         Preconditions.checkNotNull(host);
+        Preconditions.checkNotNull(settings);
 
         this.connectionFactory = new ConnectionFactory();
         this.connectionFactory.setVirtualHost("/unifiedfeed/" + bookmakerId);
 
         this.host = host;
         this.password = password;
+        this.settings = settings;
     }
 
     public void init() {
@@ -52,19 +66,38 @@ class MessagePublisher {
 
         try {
             connection = connectionFactory.newConnection();
-            channel = connection.createChannel();
-            channel.exchangeDeclare(EXCHANGE, "topic");
+            publishers = new ArrayList<>(settings.getChannelCount());
+            for (int i = 0; i < settings.getChannelCount(); i++) {
+                Channel channel = connection.createChannel();
+                channel.exchangeDeclare(EXCHANGE, "topic");
+                channel.confirmSelect();
+                publishers.add(new ChannelPublisher(channel, i));
+            }
         } catch (IOException | TimeoutException e) {
             throw new IllegalStateException("Failed to initialize the message publisher", e);
         }
 
+        publishers.forEach(ChannelPublisher::start);
         isOpen = true;
     }
 
+    /**
+     * Waits until all the queued messages are confirmed and closes the connection
+     */
     public void destroy() {
         if (!isOpen) {
             return;
         }
+        isOpen = false;
+
+        IllegalStateException failure = null;
+        for (ChannelPublisher publisher : publishers) {
+            try {
+                publisher.finish();
+            } catch (IllegalStateException e) {
+                failure = e;
+            }
+        }
 
         if (connection != null) {
             try {
@@ -74,8 +107,18 @@ class MessagePublisher {
                 throw new IllegalStateException("Connection closure failed", e);
             }
         }
+
+        if (failure != null) {
+            throw failure;
+        }
     }
 
+    /**
+     * Queues the message on the channel of its sport event, blocks while the queue is full
+     *
+     * @param routingKey the routing key of the message
+     * @param body the message payload
+     */
     public void publishMessage(String routingKey, byte[] body) {
         Preconditions.checkNotNull(routingKey);
         Preconditions.checkNotNull(body);
@@ -84,10 +127,119 @@ class MessagePublisher {
             throw new IllegalStateException("MessagePublisher accessed, but its not opened");
         }
 
-        try {
-            channel.basicPublish(EXCHANGE, routingKey, null, body);
-        } catch (IOException e) {
-            throw new IllegalStateException("Message publishing failed, routing key: " + routingKey, e);
+        publishers.get(selectChannel(routingKey, publishers.size())).enqueue(new Message(routingKey, body));
+    }
+
+    /**
+     * @return the number of messages confirmed by the broker
+     */
+    public long getConfirmedMessageCount() {
+        return confirmedMessages.get();
+    }
+
+    /**
+     * Selects the channel by the sport event in the routing key
+     * (e.g. hi.-.live.odds_change.1.sr:match.123.-), so the messages of an event keep their order
+     */
+    static int selectChannel(String routingKey, int channelCount) {
+        if (channelCount == 1) {
+            return 0;
+        }
+
+        String[] parts = routingKey.split("\\.");
+        String partitionKey = parts.length >= 7 ? parts[5] + ":" + parts[6] : routingKey;
+        return Math.floorMod(partitionKey.hashCode(), channelCount);
+    }
+
+    private static final class Message {
+        private static final Message END = new Message("", new byte[0]);
+
+        private final String routingKey;
+        private final byte[] body;
+
+        private Message(String routingKey, byte[] body) {
+            this.routingKey = routingKey;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Publishes the messages queued for a single channel
+     */
+    private final class ChannelPublisher implements Runnable {
+        private final Channel channel;
+        private final BlockingQueue<Message> queue;
+        private final Thread thread;
+        private volatile Exception failure;
+
+        private ChannelPublisher(Channel channel, int index) {
+            this.channel = channel;
+            this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+            this.thread = new Thread(this, "log-replay-publisher-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        private void enqueue(Message message) {
+            checkFailure();
+            try {
+                queue.put(message);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while publishing, routing key: " + message.routingKey, e);
+            }
+        }
+
+        private void finish() {
+            enqueue(Message.END);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            checkFailure();
+        }
+
+        private void checkFailure() {
+            if (failure != null) {
+                throw new IllegalStateException("Message publishing failed", failure);
+            }
+        }
+
+        @Override
+        public void run() {
+            int unconfirmed = 0;
+            try {
+                while (true) {
+                    Message message = unconfirmed == 0 ? queue.take() : queue.poll();
+                    if (message == null || message == Message.END || unconfirmed == settings.getBatchSize()) {
+                        // the batch is full or there is nothing more to publish at the moment
+                        channel.waitForConfirmsOrDie(settings.getConfirmTimeoutMillis());
+                        confirmedMessages.addAndGet(unconfirmed);
+                        unconfirmed = 0;
+                    }
+                    if (message == Message.END) {
+                        return;
+                    }
+                    if (message != null) {
+                        channel.basicPublish(EXCHANGE, message.routingKey, null, message.body);
+                        unconfirmed++;
+                    }
+                }
+            } catch (IOException | TimeoutException e) {
+                failure = e;
+            } catch (InterruptedException e) {
+                failure = e;
+                Thread.currentThread().interrupt();
+            } finally {
+                if (failure != null) {
+                    // unblocks the producer, the failure is reported on the next publish
+                    queue.clear();
+                }
+            }
         }
     }
 }
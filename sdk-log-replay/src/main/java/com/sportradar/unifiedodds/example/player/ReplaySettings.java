@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.unifiedodds.example.player;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * The settings of the {@link MessagePlayer} publishing
+ */
+public class ReplaySettings {
+    private final int channelCount;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final double speedFactor;
+    private final long confirmTimeoutMillis;
+
+    private ReplaySettings(Builder builder) {
+        this.channelCount = builder.channelCount;
+        this.batchSize = builder.batchSize;
+        this.queueCapacity = builder.queueCapacity;
+        this.speedFactor = builder.speedFactor;
+        this.confirmTimeoutMillis = builder.confirmTimeoutMillis;
+    }
+
+    /**
+     * Returns a new {@link Builder} initialized with the default settings - a single channel,
+     * each message confirmed separately, published as fast as possible
+     *
+     * @return a new {@link Builder} instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of channels used to publish the messages
+     */
+    public int getChannelCount() {
+        return channelCount;
+    }
+
+    /**
+     * @return the number of messages published on a channel before the publisher confirms are awaited
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the max number of messages waiting to be published on a single channel
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * @return the playback speed relative to the logged message timestamps, 0 if the messages are published
+     * without delays
+     */
+    public double getSpeedFactor() {
+        return speedFactor;
+    }
+
+    /**
+     * @return how long the publisher waits for the confirms of a single batch (in milliseconds)
+     */
+    public long getConfirmTimeoutMillis() {
+        return confirmTimeoutMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplaySettings{" +
+                "channelCount=" + channelCount +
+                ", batchSize=" + batchSize +
+                ", queueCapacity=" + queueCapacity +
+                ", speedFactor=" + speedFactor +
+                ", confirmTimeoutMillis=" + confirmTimeoutMillis +
+                '}';
+    }
+
+    /**
+     * A builder of the {@link ReplaySettings}
+     */
+    public static class Builder {
+        private int channelCount = 1;
+        private int batchSize = 1;
+        private int queueCapacity = 10_000;
+        private double speedFactor = 0;
+        private long confirmTimeoutMillis = 30_000;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of channels used to publish the messages. The messages of the same sport event are always
+         * published on the same channel, so their order is preserved.
+         *
+         * @param channelCount the number of channels (1 - 64)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setChannelCount(int channelCount) {
+            Preconditions.checkArgument(channelCount >= 1 && channelCount <= 64, "channelCount must be between 1 and 64");
+
+            this.channelCount = channelCount;
+            return this;
+        }
+
+        /**
+         * Sets the number of messages published on a channel before the publisher confirms are awaited
+         *
+         * @param batchSize the batch size (1 - 10000)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setBatchSize(int batchSize) {
+            Preconditions.checkArgument(batchSize >= 1 && batchSize <= 10_000, "batchSize must be between 1 and 10000");
+
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the max number of messages waiting to be published on a single channel. Once the queue is full,
+         * the log reading is paused until the broker confirms the published messages.
+         *
+         * @param queueCapacity the queue capacity (at least 1)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setQueueCapacity(int queueCapacity) {
+            Preconditions.checkArgument(queueCapacity >= 1, "queueCapacity must be positive");
+
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the playback speed relative to the logged message timestamps, e.g. 1 reproduces the logged timing,
+         * 10 plays the logs ten times faster and 0 publishes the messages without delays
+         *
+         * @param speedFactor the speed factor (0 or positive)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setSpeedFactor(double speedFactor) {
+            Preconditions.checkArgument(speedFactor >= 0, "speedFactor must not be negative");
+
+            this.speedFactor = speedFactor;
+            return this;
+        }
+
+        /**
+         * Sets how long the publisher waits for the confirms of a single batch
+         *
+         * @param confirmTimeoutMillis the timeout in milliseconds (at least 1)
+         * @return the current {@link Builder} instance
+         */
+        public Builder setConfirmTimeoutMillis(long confirmTimeoutMillis) {
+            Preconditions.checkArgument(confirmTimeoutMillis >= 1, "confirmTimeoutMillis must be positive");
+
+            this.confirmTimeoutMillis = confirmTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * @return the built {@link ReplaySettings}
+         */
+        public ReplaySettings build() {
+            return new ReplaySettings(this);
+        }
+    }
+}